@@ -0,0 +1,95 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import com.teambiund.bander.auth_server.auth.event.events.CreatedUserEvent;
+import com.teambiund.bander.auth_server.auth.event.events.EmailConfirmRequest;
+import com.teambiund.bander.auth_server.auth.event.events.UserConsentChangedEvent;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * 이벤트 직렬화 비용 비교 - 기존 JsonSerializer(타입 헤더 포함) vs CompactEventSerializer
+ *
+ * <p>이벤트당 바이트 수는 Setup 에서 출력, CPU 비용은 ns/op, 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=EventSerializerBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class EventSerializerBenchmark {
+  private static final String TOPIC = "user-consent-changed";
+
+  @Param({"json", "compact"})
+  public String format;
+
+  @Param({"created-user", "email-confirm", "consent-changed"})
+  public String event;
+
+  private Serializer<Object> serializer;
+  private Deserializer<Object> deserializer;
+  private Object message;
+  private byte[] encoded;
+  private RecordHeaders headers;
+
+  @Setup
+  public void setUp() {
+    message =
+        switch (event) {
+          case "created-user" -> new CreatedUserEvent("738291045562351616", "GOOGLE");
+          case "email-confirm" -> new EmailConfirmRequest("someone@example.com", "482913");
+          case "consent-changed" ->
+              new UserConsentChangedEvent(
+                  "738291045562351616", "MARKETING", true, "2025-10-18T12:34:56.789");
+          default -> throw new IllegalArgumentException(event);
+        };
+    if (format.equals("json")) {
+      serializer = new JsonSerializer<>();
+      JsonDeserializer<Object> json = new JsonDeserializer<>();
+      json.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+      deserializer = json;
+    } else {
+      serializer = new CompactEventSerializer();
+      deserializer = new CompactEventDeserializer();
+    }
+    headers = new RecordHeaders();
+    encoded = serializer.serialize(TOPIC, headers, message);
+    int headerBytes = 0;
+    for (var header : headers) {
+      headerBytes += header.key().length() + header.value().length;
+    }
+    System.out.printf(
+        "%n[%s/%s] bytes/event: value=%d, headers=%d%n",
+        format, event, encoded.length, headerBytes);
+  }
+
+  /** 발행 경로: 이벤트 → 바이트 (JSON 은 타입 헤더도 기록) */
+  @Benchmark
+  public byte[] serialize() {
+    return serializer.serialize(TOPIC, new RecordHeaders(), message);
+  }
+
+  /** 소비 경로: 바이트 → 이벤트 (JsonDeserializer 가 타입 헤더를 지우므로 레코드마다 헤더 복사) */
+  @Benchmark
+  public Object deserialize() {
+    return deserializer.deserialize(TOPIC, new RecordHeaders(headers.toArray()), encoded);
+  }
+}
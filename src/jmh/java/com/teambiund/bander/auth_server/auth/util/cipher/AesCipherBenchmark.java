@@ -0,0 +1,90 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이메일 1건 AES 암호화/복호화 비용 - 호출마다 Cipher.getInstance/init 하던 이전 방식(perCall*)과 스레드별 Cipher 재사용(cached*),
+ * 100건 일괄 처리(encryptAll100)를 비교
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=AesCipherBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesCipherBenchmark {
+
+  private static final String KEY = "benchmark-aes-encryption-key";
+  private static final String EMAIL = "benchmark-user@example.com";
+
+  private AESCipherStrategy cipher;
+  private SecretKeySpec secretKey;
+  private String encrypted;
+  private List<String> emails;
+
+  @Setup
+  public void setUp() throws Exception {
+    cipher = new AESCipherStrategy(KEY);
+    secretKey =
+        new SecretKeySpec(
+            MessageDigest.getInstance("SHA-256").digest(KEY.getBytes(StandardCharsets.UTF_8)),
+            "AES");
+    encrypted = cipher.encrypt(EMAIL);
+    emails = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      emails.add("user" + i + "@example.com");
+    }
+  }
+
+  /** 이전 구현: 호출마다 Cipher 생성 + 초기화 */
+  @Benchmark
+  public String perCallEncrypt() throws Exception {
+    Cipher instance = Cipher.getInstance("AES/ECB/PKCS5Padding");
+    instance.init(Cipher.ENCRYPT_MODE, secretKey);
+    return Base64.getEncoder()
+        .encodeToString(instance.doFinal(EMAIL.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Benchmark
+  public String perCallDecrypt() throws Exception {
+    Cipher instance = Cipher.getInstance("AES/ECB/PKCS5Padding");
+    instance.init(Cipher.DECRYPT_MODE, secretKey);
+    return new String(
+        instance.doFinal(Base64.getDecoder().decode(encrypted)), StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String cachedEncrypt() {
+    return cipher.encrypt(EMAIL);
+  }
+
+  @Benchmark
+  public String cachedDecrypt() {
+    return cipher.decrypt(encrypted);
+  }
+
+  /** 100건 일괄 암호화 (건당 비용 = 결과 / 100) */
+  @Benchmark
+  public List<String> encryptAll100() {
+    return cipher.encryptAll(emails);
+  }
+}
@@ -0,0 +1,65 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 로그인 1회(비밀번호 검증) 지연 시간과 처리량 비교 - 같은 보안 수준으로 권장되는 설정끼리 비교 (OWASP Password Storage Cheat Sheet)
+ *
+ * <ul>
+ *   <li>pbkdf2-65536: 현재 기본값
+ *   <li>pbkdf2-600000: PBKDF2-HMAC-SHA256 권장값
+ *   <li>argon2id-m19456-t2: Argon2id 권장값 (m=19MiB, t=2, p=1)
+ *   <li>argon2id-m47104-t1: 같은 수준의 대안 (m=46MiB, t=1, p=1)
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=PasswordHashBenchmark} - Threads 는 PasswordHashingExecutor
+ * 기본값처럼 코어 수에 맞춰 조정 ({@code -t})
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(4)
+public class PasswordHashBenchmark {
+
+  private static final String PASSWORD = "Password123!";
+
+  @Param({"pbkdf2-65536", "pbkdf2-600000", "argon2id-m19456-t2", "argon2id-m47104-t1"})
+  public String config;
+
+  private CipherStrategy cipher;
+  private String storedHash;
+
+  @Setup
+  public void setUp() {
+    cipher =
+        switch (config) {
+          case "pbkdf2-65536" -> new PBKDF2CipherStrategy(65536);
+          case "pbkdf2-600000" -> new PBKDF2CipherStrategy(600_000);
+          case "argon2id-m19456-t2" -> new Argon2idCipherStrategy(19456, 2, 1);
+          case "argon2id-m47104-t1" -> new Argon2idCipherStrategy(47104, 1, 1);
+          default -> throw new IllegalArgumentException(config);
+        };
+    storedHash = cipher.encrypt(PASSWORD);
+  }
+
+  /** 로그인 경로: 저장된 해시로 비밀번호 검증 */
+  @Benchmark
+  public boolean login() {
+    return cipher.matches(PASSWORD, storedHash);
+  }
+}
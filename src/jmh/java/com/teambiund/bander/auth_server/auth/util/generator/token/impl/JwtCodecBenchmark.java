@@ -0,0 +1,94 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 기존 Map/String 기반 JWT 구현({@link LegacyJWTTokenUtil})과 {@link JwtCodec} 비교.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=JwtCodecBenchmark} ({@code gc} 프로파일러가 기본으로 켜져 있어
+ * {@code gc.alloc.rate.norm} 으로 호출당 할당 바이트도 함께 확인할 수 있다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtCodecBenchmark {
+
+  private static final String SECRET =
+      "bench-jwt-secret-key-for-benchmark-purpose-only-min-256-bits-required";
+  private static final String USER_ID = "228398453472505856";
+  private static final String DEVICE_ID = "a1b2";
+
+  private LegacyJWTTokenUtil legacy;
+  private JwtCodec codec;
+  private String legacyToken;
+  private String codecToken;
+  private long iat;
+  private long exp;
+
+  @Setup
+  public void setUp() {
+    legacy = new LegacyJWTTokenUtil(SECRET, 60, 60 * 24);
+    codec = new JwtCodec(SECRET.getBytes(StandardCharsets.UTF_8));
+    iat = Instant.now().getEpochSecond();
+    exp = iat + 3600;
+    legacyToken = legacy.generateAccessToken(USER_ID, Role.USER, DEVICE_ID);
+    codecToken = codec.encode(USER_ID, Role.USER.name(), DEVICE_ID, iat, exp);
+  }
+
+  @Benchmark
+  public String signLegacy() {
+    return legacy.generateAccessToken(USER_ID, Role.USER, DEVICE_ID);
+  }
+
+  @Benchmark
+  public String signCodec() {
+    return codec.encode(USER_ID, Role.USER.name(), DEVICE_ID, iat, exp);
+  }
+
+  @Benchmark
+  public boolean verifyLegacy() {
+    return legacy.isValid(legacyToken);
+  }
+
+  @Benchmark
+  public boolean verifyCodec() {
+    return codec.decodeVerified(codecToken, iat, 30) != null;
+  }
+
+  /** 기존 refresh 경로: isValid + extractUserId + extractDeviceId (토큰을 세 번 디코딩) */
+  @Benchmark
+  public Object refreshPathLegacy() {
+    if (!legacy.isValid(legacyToken)) return null;
+    String userId = legacy.extractUserId(legacyToken);
+    String deviceId = legacy.extractDeviceId(legacyToken);
+    return userId.length() + deviceId.length();
+  }
+
+  /** 단일 파싱 refresh 경로: decodeVerified 한 번 */
+  @Benchmark
+  public Object refreshPathSingleParse() {
+    return codec.decodeVerified(codecToken, iat, 30);
+  }
+
+  @Benchmark
+  public String extractUserIdLegacy() {
+    return legacy.extractUserId(legacyToken);
+  }
+
+  @Benchmark
+  public String extractUserIdCodec() {
+    return codec.readStringClaim(codecToken, "sub");
+  }
+}
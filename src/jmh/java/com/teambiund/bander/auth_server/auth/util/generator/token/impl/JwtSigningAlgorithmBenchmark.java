@@ -0,0 +1,63 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 서명 알고리즘별 {@link JwtCodec} 발급/검증 비용 비교 (HS256 대비 ES256, EdDSA).
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=JwtSigningAlgorithmBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class JwtSigningAlgorithmBenchmark {
+
+  private static final String SECRET =
+      "bench-jwt-secret-key-for-benchmark-purpose-only-min-256-bits-required";
+  private static final String USER_ID = "228398453472505856";
+  private static final String DEVICE_ID = "a1b2";
+
+  @Param({"HS256", "ES256", "EdDSA"})
+  public String algorithm;
+
+  private JwtCodec codec;
+  private String token;
+  private long iat;
+  private long exp;
+
+  @Setup
+  public void setUp() {
+    JwtSigner signer =
+        HmacJwtSigner.ALGORITHM.equals(algorithm)
+            ? new HmacJwtSigner(SECRET.getBytes(StandardCharsets.UTF_8))
+            : AsymmetricJwtSigner.generate(algorithm, "bench");
+    codec = new JwtCodec(signer, List.of());
+    iat = Instant.now().getEpochSecond();
+    exp = iat + 3600;
+    token = codec.encode(USER_ID, Role.USER.name(), DEVICE_ID, iat, exp);
+  }
+
+  @Benchmark
+  public String sign() {
+    return codec.encode(USER_ID, Role.USER.name(), DEVICE_ID, iat, exp);
+  }
+
+  @Benchmark
+  public Object verify() {
+    return codec.decodeVerified(token, iat, 30);
+  }
+}
@@ -0,0 +1,25 @@
+package com.teambiund.bander.auth_server.auth.config;
+
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/** 사용자 캐시 무효화 구독 - 다른 인스턴스가 발행한 무효화 메시지로 near cache 제거 (auth.cache.enabled=false 면 등록 안 함) */
+@Configuration
+@ConditionalOnProperty(name = "auth.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class AuthCacheConfig {
+
+  @Bean
+  public RedisMessageListenerContainer authViewInvalidationListener(
+      RedisConnectionFactory redisConnectionFactory, AuthViewCache authViewCache) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(
+        authViewCache, new ChannelTopic(AuthViewCache.INVALIDATION_CHANNEL));
+    return container;
+  }
+}
@@ -1,8 +1,16 @@
 package com.teambiund.bander.auth_server.auth.config;
 
 import com.teambiund.bander.auth_server.auth.util.cipher.AESCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.Argon2idCipherStrategy;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.DelegatingPasswordCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
+import com.teambiund.bander.auth_server.auth.util.cipher.ExecutorBoundCipherStrategy;
 import com.teambiund.bander.auth_server.auth.util.cipher.PBKDF2CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.PasswordHashingExecutor;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,11 +18,14 @@ import org.springframework.context.annotation.Configuration;
 /**
  * 암호화 전략 설정 (Strategy Pattern) - 모든 암호화 전략을 중앙에서 관리 - CipherStrategy 기반 통합 설계
  *
- * <p>전략 목록: 1. AESCipherStrategy: 대칭키 암호화 (전화번호, 이메일 등) 2. PBKDF2CipherStrategy: 단방향 해시 (비밀번호 등)
+ * <p>전략 목록: 1. AESCipherStrategy: 대칭키 암호화 (전화번호, 이메일 등) 2. PBKDF2CipherStrategy: 단방향 해시 (비밀번호 등) 3.
+ * Argon2idCipherStrategy: 메모리 하드 단방향 해시 (비밀번호) 4. passwordCipherStrategy: 저장 해시 접두사로 PBKDF2/Argon2id 를
+ * 골라 검증하는 비밀번호 전용 전략 (서비스는 이 빈을 사용)
  *
  * <p>보안 권장사항: 1. application.yml 또는 환경변수에 암호화 키 설정 2. 프로덕션 환경에서는 KMS(Key Management Service) 사용 권장
  * 3. 암호화 키는 절대 코드에 하드코딩하지 말 것
  */
+@Slf4j
 @Configuration
 public class CipherConfig {
 
@@ -26,12 +37,73 @@ public class CipherConfig {
     return new AESCipherStrategy(encryptionKey);
   }
 
+  /**
+   * EmailBlindIndex 빈 등록 - 이메일 조회용 HMAC-SHA256 블라인드 인덱스 - 전용 키(security.email.blind-index-key)가 없으면
+   * AES 키에서 파생 (한 번 정한 키는 바꾸지 말 것: 바꾸면 모든 email_hash 재계산 필요)
+   */
+  @Bean
+  public EmailBlindIndex emailBlindIndex(
+      @Value("${security.email.blind-index-key:}") String blindIndexKey,
+      @Value("${security.aes.encryption-key:default-aes-encryption-key-change-in-production}")
+          String encryptionKey) {
+    if (blindIndexKey.isBlank()) {
+      log.warn("security.email.blind-index-key is not set; deriving it from the AES key");
+      return EmailBlindIndex.derivedFrom(encryptionKey);
+    }
+    return new EmailBlindIndex(blindIndexKey);
+  }
+
   /**
    * PBKDF2CipherStrategy 빈 등록 - PBKDF2WithHmacSHA256 단방향 해시 전략 - 비밀번호, API 키 등 보안 데이터 해싱에 사용 -
-   * BCrypt 대안으로 더 빠르고 안정적
+   * BCrypt 대안으로 더 빠르고 안정적 - 해싱은 PasswordHashingExecutor 전용 스레드에서 실행 (요청 스레드 CPU 점유 방지)
+   *
+   * <p>반복 횟수: iterations 가 지정되면 그 값, target-latency 가 지정되면 기동 시 측정, 둘 다 없으면 65,536회
    */
   @Bean("pbkdf2CipherStrategy")
-  public CipherStrategy pbkdf2CipherStrategy() {
-    return new PBKDF2CipherStrategy();
+  public CipherStrategy pbkdf2CipherStrategy(
+      PasswordHashingExecutor passwordHashingExecutor,
+      @Value("${security.password.pbkdf2.iterations:0}") int iterations,
+      @Value("${security.password.pbkdf2.target-latency:}") Duration targetLatency,
+      @Value("${security.password.pbkdf2.min-iterations:65536}") int minIterations,
+      @Value("${security.password.pbkdf2.max-iterations:4194304}") int maxIterations) {
+    int resolved = iterations;
+    if (resolved <= 0 && targetLatency != null) {
+      resolved = PBKDF2CipherStrategy.calibrate(targetLatency, minIterations, maxIterations);
+      log.info("PBKDF2 iterations calibrated to {} for target latency {}", resolved, targetLatency);
+    }
+    if (resolved <= 0) {
+      resolved = PBKDF2CipherStrategy.DEFAULT_ITERATIONS;
+    }
+    return new ExecutorBoundCipherStrategy(
+        new PBKDF2CipherStrategy(resolved), passwordHashingExecutor);
+  }
+
+  /**
+   * Argon2idCipherStrategy 빈 등록 - 메모리/반복/병렬도 설정 가능 (기본값 OWASP 권장 m=19MiB, t=2, p=1) - 해싱은
+   * PasswordHashingExecutor 전용 스레드에서 실행 (스레드 수 x memory-kib 가 동시 사용 메모리 상한)
+   */
+  @Bean("argon2CipherStrategy")
+  public CipherStrategy argon2CipherStrategy(
+      PasswordHashingExecutor passwordHashingExecutor,
+      @Value("${security.password.argon2.memory-kib:19456}") int memoryKiB,
+      @Value("${security.password.argon2.iterations:2}") int iterations,
+      @Value("${security.password.argon2.parallelism:1}") int parallelism) {
+    return new ExecutorBoundCipherStrategy(
+        new Argon2idCipherStrategy(memoryKiB, iterations, parallelism), passwordHashingExecutor);
+  }
+
+  /**
+   * 비밀번호 해시 전략 빈 등록 - 새 해시는 security.password.algorithm (pbkdf2 | argon2id) 으로 생성 - 검증은 저장된 해시 접두사로
+   * 알고리즘 선택 (기존 PBKDF2 행도 계속 검증) - 다른 알고리즘의 해시는 로그인 시 재해싱으로 전환
+   */
+  @Bean("passwordCipherStrategy")
+  public CipherStrategy passwordCipherStrategy(
+      @Qualifier("pbkdf2CipherStrategy") CipherStrategy pbkdf2CipherStrategy,
+      @Qualifier("argon2CipherStrategy") CipherStrategy argon2CipherStrategy,
+      @Value("${security.password.algorithm:pbkdf2}") String algorithm) {
+    return new DelegatingPasswordCipherStrategy(
+        DelegatingPasswordCipherStrategy.Algorithm.of(algorithm),
+        pbkdf2CipherStrategy,
+        argon2CipherStrategy);
   }
 }
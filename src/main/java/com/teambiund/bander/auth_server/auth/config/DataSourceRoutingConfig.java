@@ -0,0 +1,85 @@
+package com.teambiund.bander.auth_server.auth.config;
+
+import com.teambiund.bander.auth_server.auth.datasource.ReadWriteRoutingDataSource;
+import com.teambiund.bander.auth_server.auth.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * primary / replica 커넥션 풀을 따로 두고 readOnly 트랜잭션을 replica 로 보내는 설정 (datasource.routing.enabled=true)
+ *
+ * <p>primary 는 spring.datasource.*, replica 는 datasource.replica.* (계정은 생략 시 primary 와 같음). 두 풀 모두 빈으로
+ * 등록되므로 hikaricp.* 지표가 pool 태그(풀 이름)별로 나온다. 비활성화 시 spring.datasource 하나(MaxScale)만 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties properties,
+      @Value("${datasource.replica.url}") String url,
+      @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+      @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+    HikariDataSource replica =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    replica.setPoolName("AuthHikariPool-replica");
+    replica.setReadOnly(true);
+    return replica;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${datasource.replica.lag-query:SHOW SLAVE STATUS}") String lagQuery,
+      @Value("${datasource.replica.max-lag:PT1S}") Duration maxLag,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    ReplicaLagMonitor monitor =
+        new ReplicaLagMonitor(
+            replica, lagQuery, maxLag, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    monitor.check();
+    return monitor;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ReplicaLagMonitor replicaLagMonitor,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new LazyConnectionDataSourceProxy(
+        new ReadWriteRoutingDataSource(
+            primary,
+            replica,
+            replicaLagMonitor,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+  }
+}
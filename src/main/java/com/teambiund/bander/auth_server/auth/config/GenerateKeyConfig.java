@@ -1,36 +1,45 @@
 package com.teambiund.bander.auth_server.auth.config;
 
-import com.teambiund.bander.auth_server.auth.event.publish.EmailConfirmRequestEventPub;
-import com.teambiund.bander.auth_server.auth.event.publish.EventPublisher;
-import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
-import com.teambiund.bander.auth_server.auth.service.update.EmailConfirm;
-import com.teambiund.bander.auth_server.auth.service.update.impl.EmailConfirmImpl;
-import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
-import com.teambiund.bander.auth_server.auth.util.generator.generate_code.EmailCodeGenerator;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
+import com.teambiund.bander.auth_server.auth.util.generator.key.impl.BlockKeyProvider;
 import com.teambiund.bander.auth_server.auth.util.generator.key.impl.Snowflake;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.teambiund.bander.auth_server.auth.util.generator.key.impl.SnowflakeNodeLease;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
 
 @Configuration
 public class GenerateKeyConfig {
 
+  /**
+   * Snowflake 노드 ID - snowflake.node-id 가 지정되면 고정값, 아니면 Redis 임대 (인스턴스 간 노드 ID 충돌 방지)
+   */
   @Bean
-  public KeyProvider keyGenerator() {
-    return new Snowflake();
+  public SnowflakeNodeLease snowflakeNodeLease(
+      StringRedisTemplate stringRedisTemplate,
+      @Value("${snowflake.node-id:-1}") long nodeId,
+      @Value("${snowflake.lease.ttl:PT30S}") Duration ttl,
+      @Value("${snowflake.lease.safety-margin:PT5S}") Duration safetyMargin) {
+    if (nodeId >= 0) {
+      return SnowflakeNodeLease.fixed(nodeId);
+    }
+    return new SnowflakeNodeLease(stringRedisTemplate, ttl, safetyMargin);
   }
 
+  /**
+   * 애플리케이션 전체에서 하나만 사용하는 ID 생성기 - snowflake.block-size 가 1 이상이면 스레드별로 미리 예약한 블록에서 발급
+   */
   @Bean
-  public EmailConfirm emailConfirm(
-      StringRedisTemplate stringRedisTemplate,
-      KafkaTemplate<String, Object> kafkaTemplate,
-      AuthRepository authRepository,
-      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher) {
-    return new EmailConfirmImpl(
-        new EmailCodeGenerator(authRepository, stringRedisTemplate, emailCipher),
-        new EmailConfirmRequestEventPub(new EventPublisher(kafkaTemplate)));
+  public KeyProvider keyGenerator(
+      SnowflakeNodeLease snowflakeNodeLease,
+      @Value("${snowflake.block-size:0}") int blockSize,
+      @Value("${snowflake.block-max-age:PT1S}") Duration blockMaxAge) {
+    Snowflake snowflake = new Snowflake(snowflakeNodeLease::nodeId);
+    if (blockSize > 0) {
+      return new BlockKeyProvider(snowflake, blockSize, blockMaxAge);
+    }
+    return snowflake;
   }
 }
@@ -0,0 +1,9 @@
+package com.teambiund.bander.auth_server.auth.config;
+
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {}
@@ -1,27 +1,99 @@
 package com.teambiund.bander.auth_server.auth.config;
 
+import com.teambiund.bander.auth_server.auth.util.redis.CircuitBreakingLettuceConnectionFactory;
+import com.teambiund.bander.auth_server.auth.util.redis.RedisCircuitBreaker;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis 연결 설정 - spring.data.redis.* 로 standalone / sentinel(sentinel.master, sentinel.nodes) / cluster
+ * (cluster.nodes) 중 하나를 선택
+ *
+ * <p>연결 팩토리는 둘: 기본(primary)은 모든 쓰기와 정확해야 하는 읽기, replica 는 조금 늦어도 되는 읽기(사용자 조회 캐시)에 사용하며
+ * auth.redis.replica.read-from 에 따라 replica 로 보낸다 (replica 가 없으면 primary). 두 팩토리 모두 Lettuce 공유 연결 하나로
+ * 명령을 multiplex 한다 - 이 코드베이스에는 전용 연결이 필요한 blocking 명령/트랜잭션이 없다.
+ *
+ * <p>장애 대응: 모든 명령(async 포함)에 command timeout 적용, 연결이 끊긴 동안은 큐에 쌓지 않고 바로 실패, 장애가 이어지면 회로
+ * 차단기({@link RedisCircuitBreaker})가 잠시 호출 자체를 막는다. 명령 지연은 lettuce.command.completion /
+ * firstresponse 로 actuator 에 histogram 과 함께 노출된다.
+ */
 @Configuration
+@EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig {
+  public static final String REPLICA_TEMPLATE = "replicaRedisTemplate";
 
-  // application.yml(또는 properties)에 설정된 값을 주입받습니다.
-  @Value("${spring.data.redis.host}")
-  private String host;
+  @Value("${auth.redis.request-queue-size:10000}")
+  private int requestQueueSize;
 
-  @Value("${spring.data.redis.port}")
-  private int port;
+  @Value("${auth.redis.circuit-breaker.failure-threshold:20}")
+  private int failureThreshold;
 
-  /** Redis 서버와의 연결을 생성하는 ConnectionFactory Bean 입니다. Lettuce는 Netty 기반의 고성능 Redis 클라이언트입니다. */
+  @Value("${auth.redis.circuit-breaker.window:PT10S}")
+  private Duration failureWindow;
+
+  @Value("${auth.redis.circuit-breaker.open-duration:PT5S}")
+  private Duration openDuration;
+
+  /** Lettuce 명령 지연 지표 - Boot 기본값(percentile 없음)을 대신해 histogram 과 p50/p95/p99 를 함께 기록 */
+  @Bean
+  public MicrometerOptions micrometerOptions(
+      @Value("${auth.redis.metrics.histogram:true}") boolean histogram) {
+    return MicrometerOptions.builder()
+        .histogram(histogram)
+        .targetPercentiles(new double[] {0.5, 0.95, 0.99})
+        .minLatency(Duration.ofNanos(100_000))
+        .maxLatency(Duration.ofSeconds(5))
+        .build();
+  }
+
+  /** 기본 연결 - 쓰기와 정확해야 하는 읽기 */
   @Bean
-  public RedisConnectionFactory redisConnectionFactory() {
-    return new LettuceConnectionFactory(host, port);
+  public CircuitBreakingLettuceConnectionFactory redisConnectionFactory(
+      RedisProperties properties,
+      ObjectProvider<ClientResources> clientResources,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return connectionFactory(
+        properties, clientResources.getIfAvailable(), null, breaker("primary", meterRegistry));
+  }
+
+  /** replica 연결 - 복제 지연만큼 늦은 값을 읽어도 되는 곳에서만 사용 (이름으로 지정할 때만 주입) */
+  @Bean(defaultCandidate = false)
+  public CircuitBreakingLettuceConnectionFactory replicaRedisConnectionFactory(
+      RedisProperties properties,
+      ObjectProvider<ClientResources> clientResources,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${auth.redis.replica.read-from:replicaPreferred}") String readFrom) {
+    return connectionFactory(
+        properties,
+        clientResources.getIfAvailable(),
+        ReadFrom.valueOf(readFrom), breaker("replica", meterRegistry));
   }
 
   /**
@@ -29,13 +101,127 @@ public class RedisConfig {
    * 가정하여 StringRedisTemplate을 등록합니다.
    */
   @Bean
-  public StringRedisTemplate redisTemplate() {
+  public StringRedisTemplate redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    return stringTemplate(redisConnectionFactory);
+  }
+
+  @Bean(name = REPLICA_TEMPLATE, defaultCandidate = false)
+  public StringRedisTemplate replicaRedisTemplate(
+      @Qualifier("replicaRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
+    return stringTemplate(connectionFactory);
+  }
+
+  private StringRedisTemplate stringTemplate(RedisConnectionFactory connectionFactory) {
     StringRedisTemplate redisTemplate = new StringRedisTemplate();
-    redisTemplate.setConnectionFactory(redisConnectionFactory());
+    redisTemplate.setConnectionFactory(connectionFactory);
 
     redisTemplate.setKeySerializer(new StringRedisSerializer());
     redisTemplate.setValueSerializer(new StringRedisSerializer());
 
     return redisTemplate;
   }
+
+  private RedisCircuitBreaker breaker(String name, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new RedisCircuitBreaker(
+        name,
+        failureThreshold,
+        failureWindow,
+        openDuration,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        System::currentTimeMillis);
+  }
+
+  private CircuitBreakingLettuceConnectionFactory connectionFactory(
+      RedisProperties properties,
+      ClientResources clientResources,
+      ReadFrom readFrom,
+      RedisCircuitBreaker circuitBreaker) {
+    LettuceClientConfigurationBuilder builder =
+        LettuceClientConfiguration.builder().clientOptions(clientOptions(properties));
+    if (clientResources != null) {
+      // Redis 자동 설정이 없는 테스트 slice 에서는 Lettuce 가 자체 ClientResources 를 만들고 닫음
+      builder.clientResources(clientResources);
+    }
+    if (properties.getTimeout() != null) {
+      builder.commandTimeout(properties.getTimeout());
+    }
+    if (properties.getLettuce().getShutdownTimeout() != null) {
+      builder.shutdownTimeout(properties.getLettuce().getShutdownTimeout());
+    }
+    if (properties.getClientName() != null) {
+      builder.clientName(properties.getClientName());
+    }
+    if (properties.getSsl().isEnabled()) {
+      builder.useSsl();
+    }
+    if (readFrom != null) {
+      builder.readFrom(readFrom);
+    }
+    return new CircuitBreakingLettuceConnectionFactory(
+        redisConfiguration(properties), builder.build(), circuitBreaker);
+  }
+
+  private ClientOptions clientOptions(RedisProperties properties) {
+    ClientOptions.Builder builder;
+    if (properties.getCluster() != null) {
+      RedisProperties.Lettuce.Cluster.Refresh refresh =
+          properties.getLettuce().getCluster().getRefresh();
+      ClusterTopologyRefreshOptions.Builder topology =
+          ClusterTopologyRefreshOptions.builder()
+              .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+      if (refresh.getPeriod() != null) {
+        topology.enablePeriodicRefresh(refresh.getPeriod());
+      }
+      if (refresh.isAdaptive()) {
+        // MOVED/ASK, 재연결 등으로 토폴로지 변경을 감지하면 바로 갱신 (failover 후 잘못된 노드로 보내는 시간 단축)
+        topology.enableAllAdaptiveRefreshTriggers();
+      }
+      builder = ClusterClientOptions.builder().topologyRefreshOptions(topology.build());
+    } else {
+      builder = ClientOptions.builder();
+    }
+    SocketOptions.Builder socket = SocketOptions.builder().keepAlive(true);
+    if (properties.getConnectTimeout() != null) {
+      socket.connectTimeout(properties.getConnectTimeout());
+    }
+    return builder
+        .socketOptions(socket.build())
+        // async 명령에도 command timeout 적용 (기본은 동기 호출만)
+        .timeoutOptions(TimeoutOptions.enabled())
+        // 재연결 중 명령을 큐에 쌓아 두지 않고 바로 실패 - 요청 스레드가 재연결을 기다리지 않도록
+        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+        .requestQueueSize(requestQueueSize)
+        .build();
+  }
+
+  private static RedisConfiguration redisConfiguration(RedisProperties properties) {
+    RedisProperties.Sentinel sentinel = properties.getSentinel();
+    if (sentinel != null) {
+      RedisSentinelConfiguration config = new RedisSentinelConfiguration();
+      config.master(sentinel.getMaster());
+      sentinel.getNodes().forEach(node -> config.sentinel(RedisNode.fromString(node)));
+      config.setSentinelUsername(sentinel.getUsername());
+      config.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+      config.setUsername(properties.getUsername());
+      config.setPassword(RedisPassword.of(properties.getPassword()));
+      config.setDatabase(properties.getDatabase());
+      return config;
+    }
+    RedisProperties.Cluster cluster = properties.getCluster();
+    if (cluster != null) {
+      RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+      if (cluster.getMaxRedirects() != null) {
+        config.setMaxRedirects(cluster.getMaxRedirects());
+      }
+      config.setUsername(properties.getUsername());
+      config.setPassword(RedisPassword.of(properties.getPassword()));
+      return config;
+    }
+    RedisStandaloneConfiguration config =
+        new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+    config.setUsername(properties.getUsername());
+    config.setPassword(RedisPassword.of(properties.getPassword()));
+    config.setDatabase(properties.getDatabase());
+    return config;
+  }
 }
@@ -1,16 +1,25 @@
 package com.teambiund.bander.auth_server.auth.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambiund.bander.auth_server.auth.controller.swagger.AuthControllerSwagger;
+import com.teambiund.bander.auth_server.auth.dto.request.AuthBatchRequest;
+import com.teambiund.bander.auth_server.auth.dto.response.AuthBatchResponse;
 import com.teambiund.bander.auth_server.auth.dto.response.SimpleAuthResponse;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.service.auth_service.AuthService;
+import jakarta.validation.Valid;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,7 +27,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/auth")
 public class AuthController implements AuthControllerSwagger {
 
+  private static final byte[] NEW_LINE = {'\n'};
+
   private final AuthService authService;
+  private final ObjectMapper objectMapper;
 
   @Override
   @GetMapping("{userId}")
@@ -26,4 +38,28 @@ public class AuthController implements AuthControllerSwagger {
       throws CustomException {
     return ResponseEntity.ok(authService.getAuth(userId));
   }
+
+  @Override
+  @PostMapping(value = "batch", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<AuthBatchResponse> getAuths(@Valid @RequestBody AuthBatchRequest request)
+      throws CustomException {
+    return ResponseEntity.ok(authService.getAuths(request.getUserIds()));
+  }
+
+  /** NDJSON - 사용자 한 줄씩, 마지막 줄은 {"missing":[...]} */
+  @PostMapping(value = "batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamAuths(
+      @Valid @RequestBody AuthBatchRequest request) throws CustomException {
+    AuthBatchResponse response = authService.getAuths(request.getUserIds());
+    StreamingResponseBody body =
+        out -> {
+          for (SimpleAuthResponse user : response.getUsers()) {
+            out.write(objectMapper.writeValueAsBytes(user));
+            out.write(NEW_LINE);
+          }
+          out.write(objectMapper.writeValueAsBytes(Map.of("missing", response.getMissing())));
+          out.write(NEW_LINE);
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
 }
@@ -0,0 +1,31 @@
+package com.teambiund.bander.auth_server.auth.controller;
+
+import com.teambiund.bander.auth_server.auth.controller.swagger.JwksControllerSwagger;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenUtil;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController implements JwksControllerSwagger {
+
+  /** 키 교체 시 이전 키를 이 시간 이상 유지해야 다운스트림 캐시가 새 kid 를 받아간다. */
+  private static final CacheControl JWKS_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+  private final TokenUtil tokenUtil;
+
+  @Override
+  @GetMapping("/.well-known/jwks.json")
+  public ResponseEntity<String> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(JWKS_CACHE_CONTROL)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(tokenUtil.publicJwks());
+  }
+}
@@ -1,5 +1,7 @@
 package com.teambiund.bander.auth_server.auth.controller.swagger;
 
+import com.teambiund.bander.auth_server.auth.dto.request.AuthBatchRequest;
+import com.teambiund.bander.auth_server.auth.dto.response.AuthBatchResponse;
 import com.teambiund.bander.auth_server.auth.dto.response.SimpleAuthResponse;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,4 +50,41 @@ public interface AuthControllerSwagger {
   ResponseEntity<SimpleAuthResponse> getAuth(
       @Parameter(description = "조회할 사용자 ID", required = true, example = "12345") String userId)
       throws CustomException;
+
+  @Operation(
+      summary = "사용자 인증 정보 일괄 조회",
+      description =
+          "여러 사용자 ID를 한 번에 조회합니다. 목록 화면처럼 여러 사용자를 확인할 때 ID마다 호출하지 않고 사용합니다. "
+              + "요청당 최대 ID 수는 auth.batch.max-size(기본 100)이며, 없는 사용자는 missing 으로 반환합니다. "
+              + "Accept: application/x-ndjson 이면 사용자 한 줄씩, 마지막 줄에 {\"missing\":[...]} 를 반환합니다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AuthBatchResponse.class),
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                    {
+                      "users": [
+                        {
+                          "userId": "12345",
+                          "status": "ACTIVE",
+                          "provider": "SYSTEM"
+                        }
+                      ],
+                      "missing": ["99999"]
+                    }
+                    """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "ID 목록이 비었거나 최대 개수 초과 (BATCH_SIZE_EXCEEDED)",
+            content = @Content(mediaType = "application/json"))
+      })
+  ResponseEntity<AuthBatchResponse> getAuths(AuthBatchRequest request) throws CustomException;
 }
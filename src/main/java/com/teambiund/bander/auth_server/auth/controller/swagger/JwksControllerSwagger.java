@@ -0,0 +1,30 @@
+package com.teambiund.bander.auth_server.auth.controller.swagger;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "JWKS", description = "토큰 검증용 공개키 API")
+public interface JwksControllerSwagger {
+
+  @Operation(
+      summary = "JWT 공개키 조회 (JWKS)",
+      description =
+          "ES256/EdDSA 서명 모드에서 토큰 검증에 사용할 공개키 목록을 반환합니다. 다른 서비스는 토큰 헤더의 kid 로 키를 골라"
+              + " 인증 서버 호출 없이 직접 검증할 수 있습니다. HS256 모드에서는 빈 목록을 반환합니다. 응답은 5분간 캐시 가능합니다.")
+  @ApiResponse(
+      responseCode = "200",
+      description = "공개키 목록",
+      content =
+          @Content(
+              mediaType = "application/json",
+              examples =
+                  @ExampleObject(
+                      value =
+                          "{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\",\"x\":\"...\",\"y\":\"...\","
+                              + "\"use\":\"sig\",\"alg\":\"ES256\",\"kid\":\"2025-01\"}]}")))
+  ResponseEntity<String> jwks();
+}
@@ -61,7 +61,9 @@ public interface LoginControllerSwagger {
 
   @Operation(
       summary = "토큰 갱신",
-      description = "Refresh 토큰을 사용하여 새로운 Access 토큰과 Refresh 토큰을 발급받습니다.")
+      description =
+          "Refresh 토큰을 사용하여 새로운 Access 토큰과 Refresh 토큰을 발급받습니다. 사용한 Refresh 토큰은 무효화되며, 이미 사용한 토큰이"
+              + " 다시 오면 해당 기기의 로그인이 해제됩니다.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -85,11 +87,15 @@ public interface LoginControllerSwagger {
                     """))),
         @ApiResponse(
             responseCode = "401",
-            description = "유효하지 않은 Refresh 토큰",
+            description = "폐기된 Refresh 토큰 (REVOKED_TOKEN) 또는 재사용 감지로 기기 세션 폐기 (REFRESH_TOKEN_REUSED)",
             content = @Content(mediaType = "application/json")),
         @ApiResponse(
             responseCode = "403",
             description = "계정 상태 이상 (정지, 탈퇴 등)",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(
+            responseCode = "503",
+            description = "세션 저장소 장애 (SESSION_STORE_UNAVAILABLE), Retry-After 후 재시도",
             content = @Content(mediaType = "application/json"))
       })
   LoginResponse refreshToken(
@@ -0,0 +1,7 @@
+package com.teambiund.bander.auth_server.auth.datasource;
+
+/** 라우팅 대상 - PRIMARY(쓰기/일관 읽기), REPLICA(readOnly 트랜잭션) */
+public enum DataSourceRoute {
+  PRIMARY,
+  REPLICA
+}
@@ -0,0 +1,34 @@
+package com.teambiund.bander.auth_server.auth.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 라우팅 힌트 - readOnly 트랜잭션이라도 primary 에서 읽어야 하는 구간 지정
+ *
+ * <p>커넥션은 첫 쿼리 시점에 결정되므로, 이미 replica 커넥션을 잡은 바깥 트랜잭션 안에서 호출하면 효과가 없다. 트랜잭션을 시작하기 전(예:
+ * repository 호출 바깥)에 감싸야 한다.
+ */
+public final class DataSourceRoutingContext {
+  private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+  private DataSourceRoutingContext() {}
+
+  /** reader 안의 조회를 primary 로 보냄 (중첩 호출 가능) */
+  public static <T> T onPrimary(Supplier<T> reader) {
+    Boolean previous = PRIMARY_REQUIRED.get();
+    PRIMARY_REQUIRED.set(Boolean.TRUE);
+    try {
+      return reader.get();
+    } finally {
+      if (previous == null) {
+        PRIMARY_REQUIRED.remove();
+      } else {
+        PRIMARY_REQUIRED.set(previous);
+      }
+    }
+  }
+
+  public static boolean isPrimaryRequired() {
+    return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+  }
+}
@@ -0,0 +1,65 @@
+package com.teambiund.bander.auth_server.auth.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource
+ *
+ * <p>readOnly 여부는 트랜잭션 시작 후에 정해지므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 시점에 커넥션을 고르게 한다.
+ * 다음 경우에는 readOnly 라도 primary 를 쓴다.
+ *
+ * <ul>
+ *   <li>복제 지연이 max-lag 를 넘었거나 replica 확인 실패 ({@link ReplicaLagMonitor})
+ *   <li>{@link DataSourceRoutingContext#onPrimary} 구간 (read-your-writes, 인증 판단 등)
+ * </ul>
+ *
+ * <p>지표: datasource.routing{route=primary|replica} - 실제로 커넥션을 얻은 횟수
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  private final ReplicaLagMonitor lagMonitor;
+  private final Map<DataSourceRoute, Counter> routed = new EnumMap<>(DataSourceRoute.class);
+
+  public ReadWriteRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaLagMonitor lagMonitor,
+      MeterRegistry registry) {
+    this.lagMonitor = lagMonitor;
+    setTargetDataSources(
+        Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    for (DataSourceRoute route : DataSourceRoute.values()) {
+      routed.put(
+          route,
+          Counter.builder("datasource.routing")
+              .description("Connections obtained per route")
+              .tag("route", route.name().toLowerCase(Locale.ROOT))
+              .register(registry));
+    }
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    DataSourceRoute route = currentRoute();
+    routed.get(route).increment();
+    return route;
+  }
+
+  DataSourceRoute currentRoute() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        && !DataSourceRoutingContext.isPrimaryRequired()
+        && lagMonitor.isReplicaUsable()) {
+      return DataSourceRoute.REPLICA;
+    }
+    return DataSourceRoute.PRIMARY;
+  }
+}
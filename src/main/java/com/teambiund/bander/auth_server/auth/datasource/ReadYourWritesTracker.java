@@ -0,0 +1,50 @@
+package com.teambiund.bander.auth_server.auth.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * read-your-writes 보장 - 사용자를 변경한 뒤 window 동안은 그 사용자 조회를 primary 로 보냄
+ *
+ * <p>변경 기록은 사용자 캐시 무효화(AuthViewCache.evict, 다른 인스턴스는 무효화 메시지)와 같은 시점에 남긴다. window 는 평소 복제 지연보다
+ * 길게 잡는다 (지연이 max-lag 를 넘으면 어차피 모든 읽기가 primary 로 감).
+ */
+@Component
+public class ReadYourWritesTracker {
+  private final Cache<String, Boolean> recentWrites;
+
+  public ReadYourWritesTracker(
+      @Value("${datasource.routing.read-your-writes-window:PT2S}") Duration window) {
+    this.recentWrites =
+        Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(window).build();
+  }
+
+  public void recordWrite(String userId) {
+    if (userId != null) {
+      recentWrites.put(userId, Boolean.TRUE);
+    }
+  }
+
+  public boolean isRecentlyWritten(String userId) {
+    return userId != null && recentWrites.getIfPresent(userId) != null;
+  }
+
+  public <T> T readFor(String userId, Supplier<T> reader) {
+    return isRecentlyWritten(userId) ? DataSourceRoutingContext.onPrimary(reader) : reader.get();
+  }
+
+  /** userIds 중 하나라도 window 안에 변경됐으면 primary 에서 조회 */
+  public <T> T readFor(Collection<String> userIds, Supplier<T> reader) {
+    for (String userId : userIds) {
+      if (isRecentlyWritten(userId)) {
+        return DataSourceRoutingContext.onPrimary(reader);
+      }
+    }
+    return reader.get();
+  }
+}
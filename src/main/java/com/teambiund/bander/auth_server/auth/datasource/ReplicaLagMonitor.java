@@ -0,0 +1,103 @@
+package com.teambiund.bander.auth_server.auth.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 복제 지연 감시 - 지연이 max-lag 를 넘거나 확인에 실패하면 replica 를 사용하지 않음
+ *
+ * <p>lag-query 결과의 Seconds_Behind_Master 컬럼(없으면 첫 컬럼)을 초 단위 지연으로 읽는다. 값이 NULL 이면 복제가 멈춘 것으로 보고,
+ * 행이 없으면(복제 구성이 아닌 서버) 지연 0 으로 본다. lag-query 를 비우면 확인하지 않는다 (로컬 H2 등).
+ *
+ * <p>지표: datasource.replica.lag (초, 확인 실패 시 -1), datasource.replica.usable (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+  static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+  private final JdbcTemplate replica;
+  private final String lagQuery;
+  private final long maxLagSeconds;
+
+  private volatile long lagSeconds = -1;
+  private volatile boolean usable;
+
+  public ReplicaLagMonitor(
+      DataSource replica, String lagQuery, Duration maxLag, MeterRegistry registry) {
+    this.replica = new JdbcTemplate(replica);
+    this.replica.setQueryTimeout(2);
+    this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+    this.maxLagSeconds = maxLag.toSeconds();
+    Gauge.builder("datasource.replica.lag", this, m -> m.lagSeconds)
+        .description("Replication lag of the read replica in seconds (-1 when unknown)")
+        .baseUnit("seconds")
+        .register(registry);
+    Gauge.builder("datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+        .description("Whether readOnly transactions are routed to the replica")
+        .register(registry);
+  }
+
+  public boolean isReplicaUsable() {
+    return usable;
+  }
+
+  public long getLagSeconds() {
+    return lagSeconds;
+  }
+
+  /** 주기적 확인 - 생성 직후에도 한 번 호출해 기동 중 replica 장애를 반영 */
+  @Scheduled(
+      initialDelayString = "${datasource.replica.lag-check-interval:PT1S}",
+      fixedDelayString = "${datasource.replica.lag-check-interval:PT1S}")
+  public void check() {
+    Long lag;
+    try {
+      lag = lagQuery.isEmpty() ? Long.valueOf(0) : replica.query(lagQuery, this::readLag);
+    } catch (DataAccessException e) {
+      update(-1, false, e.getMessage());
+      return;
+    }
+    if (lag == null) {
+      update(-1, false, "replication stopped");
+    } else {
+      update(lag, lag <= maxLagSeconds, "lag " + lag + "s");
+    }
+  }
+
+  private Long readLag(ResultSet rs) throws SQLException {
+    if (!rs.next()) {
+      return 0L;
+    }
+    ResultSetMetaData metaData = rs.getMetaData();
+    int column = 1;
+    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+      if (LAG_COLUMN.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+        column = i;
+        break;
+      }
+    }
+    long value = rs.getLong(column);
+    return rs.wasNull() ? null : value;
+  }
+
+  private void update(long lag, boolean nowUsable, String reason) {
+    this.lagSeconds = lag;
+    if (usable != nowUsable) {
+      if (nowUsable) {
+        log.info("replica 읽기 재개: {}", reason);
+      } else {
+        log.warn("replica 읽기 중단, primary 로 조회: {}", reason);
+      }
+    }
+    this.usable = nowUsable;
+  }
+}
@@ -0,0 +1,16 @@
+package com.teambiund.bander.auth_server.auth.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthBatchRequest {
+  @NotEmpty(message = "조회할 사용자 ID 는 필수입니다")
+  private List<String> userIds;
+}
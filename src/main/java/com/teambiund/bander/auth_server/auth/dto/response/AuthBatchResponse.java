@@ -0,0 +1,15 @@
+package com.teambiund.bander.auth_server.auth.dto.response;
+
+import java.util.List;
+import lombok.*;
+
+@Data
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuthBatchResponse {
+  private List<SimpleAuthResponse> users; // 요청 순서, 중복 ID 는 한 번만
+  private List<String> missing; // 존재하지 않는 사용자 ID
+}
@@ -1,6 +1,7 @@
 package com.teambiund.bander.auth_server.auth.entity;
 
 import com.teambiund.bander.auth_server.auth.entity.consentsname.ConsentsTable;
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
 import com.teambiund.bander.auth_server.auth.enums.Provider;
 import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
@@ -10,6 +11,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Table(name = "auth")
 @Entity
@@ -21,12 +25,18 @@ import lombok.*;
 public class Auth {
 
   @Id
+  @JdbcType(SnowflakeIdJdbcType.class)
   @Column(name = "id")
   private String id; // shard key
 
   @Column(name = "email")
   private String email;
 
+  @Column(name = "email_hash", length = 43)
+  @JdbcTypeCode(SqlTypes.CHAR)
+  @Nullable
+  private String emailHash; // 이메일 블라인드 인덱스 (EmailBlindIndex), 조회 전용
+
   @Column(name = "provider")
   @Enumerated(EnumType.STRING)
   private Provider provider;
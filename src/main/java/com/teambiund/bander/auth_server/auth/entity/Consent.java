@@ -1,9 +1,11 @@
 package com.teambiund.bander.auth_server.auth.entity;
 
 import com.teambiund.bander.auth_server.auth.entity.consentsname.ConsentsTable;
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.annotations.JdbcType;
 
 @Table(name = "consent")
 @Entity
@@ -13,7 +15,9 @@ import lombok.*;
 @Getter
 @Setter
 public class Consent {
-  @Id private String id;
+  @Id
+  @JdbcType(SnowflakeIdJdbcType.class)
+  private String id;
 
   @ManyToOne
   @JoinColumn(name = "user_id")
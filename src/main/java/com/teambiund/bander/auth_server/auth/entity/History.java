@@ -1,8 +1,10 @@
 package com.teambiund.bander.auth_server.auth.entity;
 
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.annotations.JdbcType;
 
 @Table(name = "history")
 @Entity
@@ -13,6 +15,7 @@ import lombok.*;
 @AllArgsConstructor
 public class History {
   @Id
+  @JdbcType(SnowflakeIdJdbcType.class)
   @Column(name = "id")
   private String id;
 
@@ -1,9 +1,11 @@
 package com.teambiund.bander.auth_server.auth.entity;
 
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.annotations.JdbcType;
 
 @Table(name = "suspend")
 @Entity
@@ -14,6 +16,7 @@ import lombok.*;
 @Builder
 public class Suspend {
   @Id
+  @JdbcType(SnowflakeIdJdbcType.class)
   @Column(name = "id")
   private String id;
 
@@ -0,0 +1,14 @@
+package com.teambiund.bander.auth_server.auth.entity.type;
+
+/**
+ * Snowflake ID 컬럼의 물리 타입 - auth.id 와 이를 참조하는 FK, 자식 테이블 PK
+ *
+ * <p>자바 엔티티와 REST API 에서는 항상 문자열 ID 를 사용하고, 바인딩 시점에만 컬럼 타입에 맞춰 변환한다 ({@link
+ * SnowflakeIdJdbcType}).
+ */
+public enum KeyColumnType {
+  /** VARCHAR(255) - 기존 스키마 */
+  VARCHAR,
+  /** BIGINT - 숫자 Snowflake ID (인덱스 8바이트, 정수 비교) */
+  BIGINT
+}
@@ -0,0 +1,86 @@
+package com.teambiund.bander.auth_server.auth.entity.type;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+/**
+ * 문자열 Snowflake ID 용 JdbcType - 컬럼이 BIGINT 면 setLong, VARCHAR 면 setString 으로 바인딩
+ *
+ * <p>BIGINT 컬럼에 문자열을 바인딩하면 MySQL 은 double 로 비교해 큰 Snowflake ID(2^53 초과)가 서로 같다고 판단할 수 있으므로, 컬럼
+ * 타입과 같은 타입으로 바인딩해야 한다. 조회는 두 타입 모두 getString 으로 읽는다.
+ *
+ * <p>컬럼 타입은 기동 시 KeyColumnTypeResolver 가 감지해 설정하며, 바인딩마다 읽으므로 전환(cutover) 후 재감지 시 바로 반영된다.
+ */
+public class SnowflakeIdJdbcType extends VarcharJdbcType {
+
+  private static volatile KeyColumnType columnType = KeyColumnType.VARCHAR;
+
+  public static KeyColumnType getColumnType() {
+    return columnType;
+  }
+
+  public static void setColumnType(KeyColumnType type) {
+    columnType = type;
+  }
+
+  /**
+   * JdbcTemplate 등 직접 SQL 에 넘길 ID 파라미터 - BIGINT 모드면 Long
+   *
+   * <p>빈 문자열은 keyset 시작점으로 보고 BIGINT 모드에서는 0 을 반환 (Snowflake ID 는 항상 양수)
+   */
+  public static Object toParameter(String id) {
+    if (columnType != KeyColumnType.BIGINT) {
+      return id;
+    }
+    return id == null || id.isEmpty() ? 0L : toLong(id);
+  }
+
+  /** BIGINT 모드에서 숫자가 아닌 ID (구버전 데이터, 잘못된 요청 값) 는 잘못된 사용자로 처리 */
+  static long toLong(String id) {
+    try {
+      return Long.parseLong(id);
+    } catch (NumberFormatException e) {
+      throw new CustomException(AuthErrorCode.INVALID_USER);
+    }
+  }
+
+  @Override
+  public String getFriendlyName() {
+    return "SNOWFLAKE_ID";
+  }
+
+  @Override
+  public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
+    return new BasicBinder<>(javaType, this) {
+      @Override
+      protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+          throws SQLException {
+        String id = javaType.unwrap(value, String.class, options);
+        if (columnType == KeyColumnType.BIGINT) {
+          st.setLong(index, toLong(id));
+        } else {
+          st.setString(index, id);
+        }
+      }
+
+      @Override
+      protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+          throws SQLException {
+        String id = javaType.unwrap(value, String.class, options);
+        if (columnType == KeyColumnType.BIGINT) {
+          st.setLong(name, toLong(id));
+        } else {
+          st.setString(name, id);
+        }
+      }
+    };
+  }
+}
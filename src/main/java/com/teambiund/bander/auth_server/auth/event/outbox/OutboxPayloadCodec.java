@@ -0,0 +1,60 @@
+package com.teambiund.bander.auth_server.auth.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambiund.bander.auth_server.auth.event.serialization.EventSchema;
+import com.teambiund.bander.auth_server.auth.event.serialization.EventSchemas;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox payload 변환 - 이벤트를 JSON 으로 직렬화한 뒤 AES 로 암호화해 저장하고, 릴레이 시 허용된 이벤트 타입으로만 복원
+ *
+ * <p>인증 코드 요청(EmailConfirmRequest, SmsConfirmRequest)처럼 이메일/전화번호와 코드가 담긴 이벤트가 event_outbox 에 평문으로
+ * 남지 않도록 payload 컬럼을 암호화한다. 복원 타입은 {@link EventSchemas#ALL} 에 등록된 이벤트로 제한한다 (payload_type 값으로 임의
+ * 클래스를 로드하지 않도록). 암호화 도입 전에 기록된 평문 JSON 행('{' 로 시작)은 그대로 읽는다.
+ */
+@Component
+public class OutboxPayloadCodec {
+  private final ObjectMapper objectMapper;
+  private final CipherStrategy cipher;
+  private final Map<String, Class<?>> allowedTypes;
+
+  public OutboxPayloadCodec(
+      ObjectMapper objectMapper, @Qualifier("aesCipherStrategy") CipherStrategy cipher) {
+    this.objectMapper = objectMapper;
+    this.cipher = cipher;
+    this.allowedTypes =
+        EventSchemas.ALL.stream()
+            .<Class<?>>map(EventSchema::type)
+            .distinct()
+            .collect(Collectors.toUnmodifiableMap(Class::getName, Function.identity()));
+  }
+
+  /** 저장할 payload - 허용되지 않은 타입이거나 직렬화에 실패하면 IllegalArgumentException */
+  public String encode(Object message) {
+    String type = message.getClass().getName();
+    if (!allowedTypes.containsKey(type)) {
+      throw new IllegalArgumentException("outbox 에 허용되지 않은 이벤트 타입: " + type);
+    }
+    try {
+      return cipher.encrypt(objectMapper.writeValueAsString(message));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("이벤트 직렬화 실패: " + type, e);
+    }
+  }
+
+  /** 기록 당시 타입으로 복원 - 허용되지 않은 타입이면 IllegalArgumentException */
+  public Object decode(String payloadType, String payload) throws JsonProcessingException {
+    Class<?> type = allowedTypes.get(payloadType);
+    if (type == null) {
+      throw new IllegalArgumentException("outbox 에 허용되지 않은 이벤트 타입: " + payloadType);
+    }
+    String json = payload.startsWith("{") ? payload : cipher.decrypt(payload);
+    return objectMapper.readValue(json, type);
+  }
+}
@@ -0,0 +1,226 @@
+package com.teambiund.bander.auth_server.auth.event.outbox;
+
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxStore.Backlog;
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxStore.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * outbox 릴레이 - event_outbox 의 발행 대기 이벤트를 batch 로 Kafka 에 발행하고 발행 완료 표시
+ *
+ * <p>처리: id 순으로 batch-size 건 조회 → 모두 send 후 flush (producer 의 linger/batch/압축이 한 번에 적용) → 결과를 id 순으로
+ * 확인하여 첫 실패 전까지만 published_at 기록, 첫 실패 건은 attempts 증가, 그 뒤 건은 표시하지 않고 다음 실행에 실패 건과 함께 다시
+ * 보낸다 (이미 나간 건은 중복). max-attempts 를 넘은 이벤트는 더 보내지 않고 dead 로 집계한다 (이후 이벤트를 막지 않도록 건너뜀). 발행
+ * 후 표시 전에 죽어도 다시 보내므로 at-least-once (소비 측은 중복에 안전해야 함).
+ *
+ * <p>정리: 발행 완료 이벤트는 retention, dead 이벤트는 dead-retention 이 지나면 삭제 (조사할 시간을 두되 암호화된 개인정보를 계속
+ * 보관하지 않도록).
+ *
+ * <p>여러 인스턴스 중 ShedLock 을 잡은 하나만 실행한다. 메시지 키(사용자 ID 등, EventPublisher 에서 지정)가 같은 이벤트는
+ * 같은 파티션으로 가므로 키별로 기록 순서가 유지된다 (실패 후 재발행 시 앞서 나간 뒤 이벤트가 다시 올 수 있음). 키가 없는 이벤트끼리,
+ * 서로 다른 키 사이의 순서는 보장하지 않는다. 한 번 실행은 max-run-time 안에서 대기 이벤트가 없을 때까지 반복.
+ *
+ * <p>지표: outbox.pending, outbox.lag (가장 오래된 대기 이벤트의 나이, 초), outbox.dead,
+ * outbox.published{result=success|failed} - 대기/지연 지표는 릴레이를 실행한 인스턴스에서 갱신된다.
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+  private final OutboxStore outboxStore;
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final OutboxPayloadCodec payloadCodec;
+  private final boolean enabled;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration sendTimeout;
+  private final Duration maxRunTime;
+  private final Duration retention;
+  private final Duration deadRetention;
+
+  private final Counter published;
+  private final Counter failed;
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong lagSeconds = new AtomicLong();
+  private final AtomicLong dead = new AtomicLong();
+
+  @Autowired
+  public OutboxRelay(
+      OutboxStore outboxStore,
+      KafkaTemplate<String, Object> kafkaTemplate,
+      OutboxPayloadCodec payloadCodec,
+      @Value("${event.outbox.relay.enabled:true}") boolean enabled,
+      @Value("${event.outbox.relay.batch-size:200}") int batchSize,
+      @Value("${event.outbox.relay.max-attempts:10}") int maxAttempts,
+      @Value("${event.outbox.relay.send-timeout:PT10S}") Duration sendTimeout,
+      @Value("${event.outbox.relay.max-run-time:PT20S}") Duration maxRunTime,
+      @Value("${event.outbox.retention:P1D}") Duration retention,
+      @Value("${event.outbox.dead-retention:P7D}") Duration deadRetention,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        outboxStore,
+        kafkaTemplate,
+        payloadCodec,
+        enabled,
+        batchSize,
+        maxAttempts,
+        sendTimeout,
+        maxRunTime,
+        retention,
+        deadRetention,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public OutboxRelay(
+      OutboxStore outboxStore,
+      KafkaTemplate<String, Object> kafkaTemplate,
+      OutboxPayloadCodec payloadCodec,
+      boolean enabled,
+      int batchSize,
+      int maxAttempts,
+      Duration sendTimeout,
+      Duration maxRunTime,
+      Duration retention,
+      Duration deadRetention,
+      MeterRegistry registry) {
+    this.outboxStore = outboxStore;
+    this.kafkaTemplate = kafkaTemplate;
+    this.payloadCodec = payloadCodec;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.sendTimeout = sendTimeout;
+    this.maxRunTime = maxRunTime;
+    this.retention = retention;
+    this.deadRetention = deadRetention;
+    this.published =
+        Counter.builder("outbox.published").tag("result", "success").register(registry);
+    this.failed = Counter.builder("outbox.published").tag("result", "failed").register(registry);
+    Gauge.builder("outbox.pending", pending, AtomicLong::get)
+        .description("Outbox events waiting to be published")
+        .register(registry);
+    Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get)
+        .description("Age of the oldest unpublished outbox event")
+        .baseUnit("seconds")
+        .register(registry);
+    Gauge.builder("outbox.dead", dead, AtomicLong::get)
+        .description("Outbox events that exceeded max attempts")
+        .register(registry);
+  }
+
+  @Scheduled(
+      initialDelayString = "${event.outbox.relay.interval:PT1S}",
+      fixedDelayString = "${event.outbox.relay.interval:PT1S}")
+  @SchedulerLock(name = "eventOutboxRelay", lockAtMostFor = "1m")
+  public void run() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      relay();
+      LocalDateTime now = LocalDateTime.now();
+      outboxStore.deletePublishedBefore(now.minus(retention));
+      outboxStore.deleteDeadBefore(maxAttempts, now.minus(deadRetention));
+    } catch (DataAccessException e) {
+      log.warn("outbox 릴레이 실패, 다음 주기에 재시도: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 대기 이벤트가 없거나 max-run-time 이 지날 때까지 batch 발행
+   *
+   * @return 발행에 성공한 이벤트 수
+   */
+  public int relay() {
+    int total = 0;
+    long deadline = System.nanoTime() + maxRunTime.toNanos();
+    while (true) {
+      List<OutboxEvent> batch = outboxStore.findPending(maxAttempts, batchSize);
+      if (batch.isEmpty()) {
+        break;
+      }
+      int sent = publish(batch);
+      total += sent;
+      // 실패가 있으면 (브로커 장애 등) 뒤 이벤트가 앞지르지 않도록 다음 주기까지 대기
+      if (sent < batch.size() || batch.size() < batchSize || System.nanoTime() >= deadline) {
+        break;
+      }
+    }
+    refreshBacklog();
+    return total;
+  }
+
+  private int publish(List<OutboxEvent> batch) {
+    List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+    for (OutboxEvent event : batch) {
+      futures.add(send(event));
+    }
+    kafkaTemplate.flush();
+
+    // 첫 실패 전까지만 완료 표시 - 뒤 이벤트를 완료로 두면 재시도된 앞 이벤트보다 먼저 소비된 것으로 굳어짐
+    List<Long> succeeded = new ArrayList<>();
+    Long failedId = null;
+    long deadline = System.nanoTime() + sendTimeout.toNanos();
+    for (int i = 0; i < batch.size() && failedId == null; i++) {
+      OutboxEvent event = batch.get(i);
+      try {
+        futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        succeeded.add(event.id());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failedId = event.id();
+      } catch (Exception e) {
+        log.warn(
+            "outbox 이벤트 발행 실패: id={}, topic={}, {}", event.id(), event.topic(), e.getMessage());
+        failedId = event.id();
+      }
+    }
+    if (!succeeded.isEmpty()) {
+      outboxStore.markPublished(succeeded);
+    }
+    if (failedId != null) {
+      outboxStore.markFailed(List.of(failedId));
+      failed.increment();
+    }
+    published.increment(succeeded.size());
+    return succeeded.size();
+  }
+
+  private CompletableFuture<?> send(OutboxEvent event) {
+    try {
+      // 기록 당시 타입으로 복원하여 기존과 같은 직렬화(타입 헤더 포함)로 발행
+      Object message = payloadCodec.decode(event.payloadType(), event.payload());
+      return kafkaTemplate.send(event.topic(), event.key(), message);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private void refreshBacklog() {
+    Backlog backlog = outboxStore.backlog(maxAttempts);
+    pending.set(backlog.pending());
+    dead.set(backlog.dead());
+    LocalDateTime oldest = backlog.oldestCreatedAt();
+    lagSeconds.set(
+        oldest == null
+            ? 0
+            : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+  }
+}
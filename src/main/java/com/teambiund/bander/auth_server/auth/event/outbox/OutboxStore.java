@@ -0,0 +1,94 @@
+package com.teambiund.bander.auth_server.auth.event.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** 이벤트 outbox 저장소 - event_outbox 테이블 접근 (기록은 호출 측 트랜잭션에 참여) */
+@Component
+@RequiredArgsConstructor
+public class OutboxStore {
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 발행 대기 이벤트 한 건 - key 는 Kafka 메시지 키 (없으면 null) */
+  public record OutboxEvent(
+      long id, String topic, String key, String payloadType, String payload) {}
+
+  /** 발행 대기 현황 - 대기 건수, 가장 오래된 대기 이벤트 생성 시각, 발행 포기(최대 시도 초과) 건수 */
+  public record Backlog(long pending, LocalDateTime oldestCreatedAt, long dead) {}
+
+  public void append(String topic, String key, String payloadType, String payload) {
+    jdbcTemplate.update(
+        "INSERT INTO event_outbox (topic, message_key, payload_type, payload, created_at, attempts)"
+            + " VALUES (?, ?, ?, ?, ?, 0)",
+        topic,
+        key,
+        payloadType,
+        payload,
+        Timestamp.valueOf(LocalDateTime.now()));
+  }
+
+  /** 발행 대기 이벤트를 기록 순서(id)대로 조회 */
+  public List<OutboxEvent> findPending(int maxAttempts, int limit) {
+    return jdbcTemplate.query(
+        "SELECT id, topic, message_key, payload_type, payload FROM event_outbox"
+            + " WHERE published_at IS NULL AND attempts < ? ORDER BY id LIMIT ?",
+        (rs, rowNum) ->
+            new OutboxEvent(
+                rs.getLong("id"),
+                rs.getString("topic"),
+                rs.getString("message_key"),
+                rs.getString("payload_type"),
+                rs.getString("payload")),
+        maxAttempts,
+        limit);
+  }
+
+  public void markPublished(List<Long> ids) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    jdbcTemplate.batchUpdate(
+        "UPDATE event_outbox SET published_at = ? WHERE id = ?",
+        ids.stream().map(id -> new Object[] {now, id}).toList());
+  }
+
+  public void markFailed(List<Long> ids) {
+    jdbcTemplate.batchUpdate(
+        "UPDATE event_outbox SET attempts = attempts + 1 WHERE id = ?",
+        ids.stream().map(id -> new Object[] {id}).toList());
+  }
+
+  /** 보관 기간이 지난 발행 완료 이벤트 삭제 */
+  public int deletePublishedBefore(LocalDateTime before) {
+    return jdbcTemplate.update(
+        "DELETE FROM event_outbox WHERE published_at < ?", Timestamp.valueOf(before));
+  }
+
+  /** 보관 기간이 지난 발행 포기(최대 시도 초과) 이벤트 삭제 */
+  public int deleteDeadBefore(int maxAttempts, LocalDateTime before) {
+    return jdbcTemplate.update(
+        "DELETE FROM event_outbox WHERE published_at IS NULL AND attempts >= ? AND created_at < ?",
+        maxAttempts,
+        Timestamp.valueOf(before));
+  }
+
+  public Backlog backlog(int maxAttempts) {
+    return jdbcTemplate.queryForObject(
+        "SELECT SUM(CASE WHEN attempts < ? THEN 1 ELSE 0 END) AS pending,"
+            + " MIN(CASE WHEN attempts < ? THEN created_at END) AS oldest,"
+            + " SUM(CASE WHEN attempts >= ? THEN 1 ELSE 0 END) AS dead"
+            + " FROM event_outbox WHERE published_at IS NULL",
+        (rs, rowNum) -> {
+          Timestamp oldest = rs.getTimestamp("oldest");
+          return new Backlog(
+              rs.getLong("pending"),
+              oldest == null ? null : oldest.toLocalDateTime(),
+              rs.getLong("dead"));
+        },
+        maxAttempts,
+        maxAttempts,
+        maxAttempts);
+  }
+}
@@ -12,6 +12,6 @@ public class CreateProfileRequestEventPub {
   private final String TOPIC = "user-created";
 
   public void createProfileRequestPub(CreatedUserEvent req) {
-    eventPublisher.publish(TOPIC, req);
+    eventPublisher.publish(TOPIC, req.getUserId(), req);
   }
 }
@@ -1,16 +1,32 @@
 package com.teambiund.bander.auth_server.auth.event.publish;
 
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxPayloadCodec;
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * 이벤트 발행 - Kafka 로 바로 보내지 않고 event_outbox 에 기록 (payload 는 암호화, {@link OutboxPayloadCodec})
+ *
+ * <p>호출 측 트랜잭션 안이면 같은 트랜잭션으로 커밋되므로, 롤백된 변경의 이벤트는 나가지 않고 커밋된 변경의 이벤트는 브로커 장애와 무관하게
+ * 남는다. 실제 발행은 OutboxRelay 가 담당 (요청 지연이 브로커 상태에 좌우되지 않음).
+ */
 @Service
 @RequiredArgsConstructor
 public class EventPublisher {
-  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final OutboxStore outboxStore;
+  private final OutboxPayloadCodec payloadCodec;
 
   public void publish(String topic, Object message) {
-    // JsonSerializer가 자동으로 직렬화하므로 객체를 직접 전송
-    kafkaTemplate.send(topic, message);
+    publish(topic, null, message);
+  }
+
+  /**
+   * 키를 지정한 발행 - 같은 키의 이벤트는 같은 파티션으로 가서 기록 순서대로 소비된다
+   *
+   * @param key 집계(사용자 등) ID, null 이면 파티션을 가리지 않음
+   */
+  public void publish(String topic, String key, Object message) {
+    outboxStore.append(topic, key, message.getClass().getName(), payloadCodec.encode(message));
   }
 }
@@ -12,6 +12,6 @@ public class PhoneNumberVerifiedEventPub {
   private static final String TOPIC = "phone-number-verified";
 
   public void publish(PhoneNumberVerifiedEvent event) {
-    eventPublisher.publish(TOPIC, event);
+    eventPublisher.publish(TOPIC, event.getUserId(), event);
   }
 }
\ No newline at end of file
@@ -12,6 +12,6 @@ public class UserConsentChangedEventPub {
   private static final String TOPIC = "user-consent-changed";
 
   public void publish(UserConsentChangedEvent event) {
-    eventPublisher.publish(TOPIC, event);
+    eventPublisher.publish(TOPIC, event.getUserId(), event);
   }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * {@link CompactEventSerializer} 의 역직렬화기 - 첫 바이트가 magic 이면 메시지의 스키마 ID 로, 아니면 JSON 으로 읽는다
+ *
+ * <p>JSON 은 '{' 로 시작하므로 magic(0x0) 과 겹치지 않아 전환 기간에 두 형식이 섞여도 읽을 수 있다.
+ */
+public class CompactEventDeserializer implements Deserializer<Object> {
+  private final EventSchemaRegistry registry;
+  private final JsonDeserializer<Object> fallback = new JsonDeserializer<>();
+
+  public CompactEventDeserializer() {
+    this(EventSchemas.defaultRegistry());
+  }
+
+  public CompactEventDeserializer(EventSchemaRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    fallback.configure(configs, isKey);
+  }
+
+  @Override
+  public Object deserialize(String topic, byte[] data) {
+    return deserialize(topic, null, data);
+  }
+
+  @Override
+  public Object deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (data.length == 0 || data[0] != CompactEventSerializer.MAGIC) {
+      return headers == null
+          ? fallback.deserialize(topic, data)
+          : fallback.deserialize(topic, headers, data);
+    }
+    EventBinaryInput in = new EventBinaryInput(data, 1);
+    return registry.byId(in.readInt()).read(in);
+  }
+
+  @Override
+  public void close() {
+    fallback.close();
+  }
+}
@@ -0,0 +1,64 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * 스키마 기반 바이너리 직렬화기 - 필드 이름/타입 헤더 없이 값만 싣는다
+ *
+ * <p>형식: magic(0x0) + 스키마 ID(4바이트 big-endian) + 스키마 순서대로의 필드 값. 스키마가 없는 타입은 기존
+ * JsonSerializer 로 보낸다 (타입 헤더 포함). 소비 측은 {@link CompactEventDeserializer} 로 두 형식을 모두 읽을 수
+ * 있다.
+ *
+ * <p>사용: spring.kafka.producer.value-serializer 에 이 클래스를 지정
+ */
+public class CompactEventSerializer implements Serializer<Object> {
+  static final byte MAGIC = 0x0;
+
+  private final EventSchemaRegistry registry;
+  private final JsonSerializer<Object> fallback = new JsonSerializer<>();
+
+  public CompactEventSerializer() {
+    this(EventSchemas.defaultRegistry());
+  }
+
+  public CompactEventSerializer(EventSchemaRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    fallback.configure(configs, isKey);
+  }
+
+  @Override
+  public byte[] serialize(String topic, Object data) {
+    return serialize(topic, null, data);
+  }
+
+  @Override
+  public byte[] serialize(String topic, Headers headers, Object data) {
+    if (data == null) {
+      return null;
+    }
+    Optional<EventSchemaRegistry.Registered> registered = registry.latest(data.getClass());
+    if (registered.isEmpty()) {
+      return headers == null
+          ? fallback.serialize(topic, data)
+          : fallback.serialize(topic, headers, data);
+    }
+    EventBinaryOutput out = new EventBinaryOutput(64);
+    out.writeByte(MAGIC);
+    out.writeInt(registered.get().id());
+    registered.get().schema().write(data, out);
+    return out.toByteArray();
+  }
+
+  @Override
+  public void close() {
+    fallback.close();
+  }
+}
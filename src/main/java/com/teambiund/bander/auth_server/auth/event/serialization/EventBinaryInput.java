@@ -0,0 +1,66 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.errors.SerializationException;
+
+/** 이벤트 디코딩 커서 - 범위를 벗어나면 SerializationException */
+final class EventBinaryInput {
+  private final byte[] data;
+  private int position;
+
+  EventBinaryInput(byte[] data, int offset) {
+    this.data = data;
+    this.position = offset;
+  }
+
+  int readByte() {
+    require(1);
+    return data[position++] & 0xFF;
+  }
+
+  int readInt() {
+    require(4);
+    return (data[position++] & 0xFF) << 24
+        | (data[position++] & 0xFF) << 16
+        | (data[position++] & 0xFF) << 8
+        | (data[position++] & 0xFF);
+  }
+
+  int readVarInt() {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new SerializationException("잘못된 varint");
+  }
+
+  String readNullableString() {
+    int length = readVarInt();
+    if (length == 0) {
+      return null;
+    }
+    require(length - 1);
+    String value = new String(data, position, length - 1, StandardCharsets.UTF_8);
+    position += length - 1;
+    return value;
+  }
+
+  Boolean readNullableBoolean() {
+    return switch (readByte()) {
+      case 0 -> null;
+      case 1 -> false;
+      case 2 -> true;
+      default -> throw new SerializationException("잘못된 boolean 값");
+    };
+  }
+
+  private void require(int length) {
+    if (length < 0 || position + length > data.length) {
+      throw new SerializationException("이벤트 데이터가 잘렸음");
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/** 이벤트 인코딩 버퍼 - 필요한 만큼만 늘어나는 byte 배열 */
+final class EventBinaryOutput {
+  private byte[] buffer;
+  private int size;
+
+  EventBinaryOutput(int initialCapacity) {
+    this.buffer = new byte[initialCapacity];
+  }
+
+  void writeByte(int value) {
+    ensure(1);
+    buffer[size++] = (byte) value;
+  }
+
+  void writeInt(int value) {
+    ensure(4);
+    buffer[size++] = (byte) (value >>> 24);
+    buffer[size++] = (byte) (value >>> 16);
+    buffer[size++] = (byte) (value >>> 8);
+    buffer[size++] = (byte) value;
+  }
+
+  void writeVarInt(int value) {
+    ensure(5);
+    while ((value & ~0x7F) != 0) {
+      buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[size++] = (byte) value;
+  }
+
+  void writeNullableString(String value) {
+    if (value == null) {
+      writeVarInt(0);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(bytes.length + 1);
+    ensure(bytes.length);
+    System.arraycopy(bytes, 0, buffer, size, bytes.length);
+    size += bytes.length;
+  }
+
+  void writeNullableBoolean(Boolean value) {
+    writeByte(value == null ? 0 : value ? 2 : 1);
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, size);
+  }
+
+  private void ensure(int extra) {
+    if (size + extra > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 바이너리 스키마 한 버전 - 필드 순서와 타입만으로 인코딩 (필드 이름/타입 헤더를 싣지 않음)
+ *
+ * <p>인코딩: 문자열은 varint(UTF-8 길이 + 1) + 바이트 (0 은 null), Boolean 은 1바이트 (0 null, 1 false, 2 true).
+ * 필드를 추가할 때는 새 버전을 만들어 끝에 붙인다 - 이전 버전 스키마 ID 로 쓰인 메시지는 이전 필드만 읽고 나머지는 null 로 남는다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public final class EventSchema<T> {
+  private final Class<T> type;
+  private final int version;
+  private final Supplier<T> factory;
+  private final List<Field<T>> fields;
+
+  private EventSchema(Class<T> type, int version, Supplier<T> factory, List<Field<T>> fields) {
+    this.type = type;
+    this.version = version;
+    this.factory = factory;
+    this.fields = List.copyOf(fields);
+  }
+
+  public static <T> Builder<T> of(Class<T> type, int version, Supplier<T> factory) {
+    return new Builder<>(type, version, factory);
+  }
+
+  public Class<T> type() {
+    return type;
+  }
+
+  public int version() {
+    return version;
+  }
+
+  /** 스키마 정의 식별 - 같은 정의를 다시 등록하면 같은 ID 를 받도록 */
+  public String fingerprint() {
+    return type.getName()
+        + "@"
+        + version
+        + fields.stream().map(f -> f.name() + ":" + f.kind()).collect(Collectors.joining(",", "(", ")"));
+  }
+
+  void write(Object event, EventBinaryOutput out) {
+    T typed = type.cast(event);
+    for (Field<T> field : fields) {
+      field.write(typed, out);
+    }
+  }
+
+  T read(EventBinaryInput in) {
+    T event = factory.get();
+    for (Field<T> field : fields) {
+      field.read(event, in);
+    }
+    return event;
+  }
+
+  private enum Kind {
+    STRING,
+    BOOLEAN
+  }
+
+  private record Field<T>(
+      String name, Kind kind, Function<T, Object> getter, BiConsumer<T, Object> setter) {
+
+    void write(T event, EventBinaryOutput out) {
+      Object value = getter.apply(event);
+      switch (kind) {
+        case STRING -> out.writeNullableString((String) value);
+        case BOOLEAN -> out.writeNullableBoolean((Boolean) value);
+      }
+    }
+
+    void read(T event, EventBinaryInput in) {
+      Object value =
+          switch (kind) {
+            case STRING -> in.readNullableString();
+            case BOOLEAN -> in.readNullableBoolean();
+          };
+      setter.accept(event, value);
+    }
+  }
+
+  public static final class Builder<T> {
+    private final Class<T> type;
+    private final int version;
+    private final Supplier<T> factory;
+    private final List<Field<T>> fields = new ArrayList<>();
+
+    private Builder(Class<T> type, int version, Supplier<T> factory) {
+      this.type = type;
+      this.version = version;
+      this.factory = factory;
+    }
+
+    public Builder<T> string(String name, Function<T, String> getter, BiConsumer<T, String> setter) {
+      fields.add(new Field<>(name, Kind.STRING, getter::apply, (e, v) -> setter.accept(e, (String) v)));
+      return this;
+    }
+
+    public Builder<T> bool(String name, Function<T, Boolean> getter, BiConsumer<T, Boolean> setter) {
+      fields.add(
+          new Field<>(name, Kind.BOOLEAN, getter::apply, (e, v) -> setter.accept(e, (Boolean) v)));
+      return this;
+    }
+
+    public EventSchema<T> build() {
+      return new EventSchema<>(type, version, factory, fields);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * 로컬 스키마 레지스트리 - 외부 schema registry 대신 프로세스 안에서 스키마 ID 를 부여/조회
+ *
+ * <p>ID 는 등록 순서대로 1부터 부여되므로 producer 와 consumer 가 같은 순서로 등록해야 같은 ID 를 얻는다 ({@link
+ * EventSchemas} 의 목록은 뒤에 추가만 할 것). 같은 정의를 다시 등록하면 기존 ID 를 돌려준다.
+ *
+ * <p>등록만 잠금으로 직렬화하고, 레코드마다 호출되는 조회(byId/latest)는 잠금 없이 읽는다.
+ */
+public class EventSchemaRegistry {
+  private final Map<Integer, EventSchema<?>> byId = new ConcurrentHashMap<>();
+  private final Map<String, Integer> idByFingerprint = new HashMap<>();
+  private final Map<Class<?>, Registered> latestByType = new ConcurrentHashMap<>();
+  private int nextId = 1;
+
+  /** 스키마 등록 - 타입별로 version 이 가장 높은 스키마가 쓰기용이 된다 */
+  public synchronized int register(EventSchema<?> schema) {
+    Integer existing = idByFingerprint.get(schema.fingerprint());
+    if (existing != null) {
+      return existing;
+    }
+    int id = nextId++;
+    byId.put(id, schema);
+    idByFingerprint.put(schema.fingerprint(), id);
+    Registered latest = latestByType.get(schema.type());
+    if (latest == null || latest.schema().version() < schema.version()) {
+      latestByType.put(schema.type(), new Registered(id, schema));
+    }
+    return id;
+  }
+
+  /** 읽기용 스키마 조회 - 메시지에 실린 ID 그대로 */
+  public EventSchema<?> byId(int id) {
+    EventSchema<?> schema = byId.get(id);
+    if (schema == null) {
+      throw new SerializationException("등록되지 않은 이벤트 스키마 ID: " + id);
+    }
+    return schema;
+  }
+
+  /** 쓰기용 스키마 조회 - 타입의 최신 버전 */
+  public Optional<Registered> latest(Class<?> type) {
+    return Optional.ofNullable(latestByType.get(type));
+  }
+
+  public record Registered(int id, EventSchema<?> schema) {}
+}
@@ -0,0 +1,71 @@
+package com.teambiund.bander.auth_server.auth.event.serialization;
+
+import com.teambiund.bander.auth_server.auth.event.events.CreatedUserEvent;
+import com.teambiund.bander.auth_server.auth.event.events.EmailConfirmRequest;
+import com.teambiund.bander.auth_server.auth.event.events.PhoneNumberVerifiedEvent;
+import com.teambiund.bander.auth_server.auth.event.events.SmsConfirmRequest;
+import com.teambiund.bander.auth_server.auth.event.events.UserConsentChangedEvent;
+import java.util.List;
+
+/**
+ * Kafka 로 발행하는 이벤트의 바이너리 스키마 정의
+ *
+ * <p>목록 순서가 곧 스키마 ID 이므로 기존 항목을 바꾸거나 지우지 말고 새 버전을 뒤에 추가한다.
+ */
+public final class EventSchemas {
+
+  public static final List<EventSchema<?>> ALL =
+      List.of(
+          EventSchema.of(CreatedUserEvent.class, 1, CreatedUserEvent::new)
+              .string("userId", CreatedUserEvent::getUserId, CreatedUserEvent::setUserId)
+              .string("provider", CreatedUserEvent::getProvider, CreatedUserEvent::setProvider)
+              .build(),
+          EventSchema.of(EmailConfirmRequest.class, 1, EmailConfirmRequest::new)
+              .string("email", EmailConfirmRequest::getEmail, EmailConfirmRequest::setEmail)
+              .string("code", EmailConfirmRequest::getCode, EmailConfirmRequest::setCode)
+              .build(),
+          EventSchema.of(SmsConfirmRequest.class, 1, SmsConfirmRequest::new)
+              .string(
+                  "phoneNumber", SmsConfirmRequest::getPhoneNumber, SmsConfirmRequest::setPhoneNumber)
+              .string("code", SmsConfirmRequest::getCode, SmsConfirmRequest::setCode)
+              .build(),
+          EventSchema.of(PhoneNumberVerifiedEvent.class, 1, PhoneNumberVerifiedEvent::new)
+              .string(
+                  "userId", PhoneNumberVerifiedEvent::getUserId, PhoneNumberVerifiedEvent::setUserId)
+              .string(
+                  "phoneNumber",
+                  PhoneNumberVerifiedEvent::getPhoneNumber,
+                  PhoneNumberVerifiedEvent::setPhoneNumber)
+              .build(),
+          EventSchema.of(UserConsentChangedEvent.class, 1, UserConsentChangedEvent::new)
+              .string(
+                  "userId", UserConsentChangedEvent::getUserId, UserConsentChangedEvent::setUserId)
+              .string(
+                  "consentId",
+                  UserConsentChangedEvent::getConsentId,
+                  UserConsentChangedEvent::setConsentId)
+              .bool(
+                  "consented",
+                  UserConsentChangedEvent::getConsented,
+                  UserConsentChangedEvent::setConsented)
+              .string(
+                  "changedAt",
+                  UserConsentChangedEvent::getChangedAt,
+                  UserConsentChangedEvent::setChangedAt)
+              .build());
+
+  private static final EventSchemaRegistry DEFAULT_REGISTRY = createRegistry();
+
+  private EventSchemas() {}
+
+  /** Kafka 가 직렬화기를 클래스 이름으로 생성하므로 프로세스 공용 레지스트리를 둔다 */
+  public static EventSchemaRegistry defaultRegistry() {
+    return DEFAULT_REGISTRY;
+  }
+
+  public static EventSchemaRegistry createRegistry() {
+    EventSchemaRegistry registry = new EventSchemaRegistry();
+    ALL.forEach(registry::register);
+    return registry;
+  }
+}
@@ -60,6 +60,22 @@ public enum AuthErrorCode implements ErrorCodeType {
       "REQUIRED_CONSENT_CANNOT_BE_REVOKED",
       "Required consent cannot be revoked",
       HttpStatus.BAD_REQUEST),
+  PASSWORD_HASHING_BUSY(
+      "PASSWORD_HASHING_BUSY",
+      "Too many password requests, retry shortly",
+      HttpStatus.SERVICE_UNAVAILABLE),
+  BATCH_SIZE_EXCEEDED("BATCH_SIZE_EXCEEDED", "Too many ids in one request", HttpStatus.BAD_REQUEST),
+  TOO_MANY_REQUESTS(
+      "TOO_MANY_REQUESTS", "Too many attempts, retry later", HttpStatus.TOO_MANY_REQUESTS),
+  REVOKED_TOKEN("REVOKED_TOKEN", "Refresh token revoked", HttpStatus.UNAUTHORIZED),
+  REFRESH_TOKEN_REUSED(
+      "REFRESH_TOKEN_REUSED",
+      "Refresh token reuse detected, session revoked",
+      HttpStatus.UNAUTHORIZED),
+  SESSION_STORE_UNAVAILABLE(
+      "SESSION_STORE_UNAVAILABLE",
+      "Session store unavailable, retry shortly",
+      HttpStatus.SERVICE_UNAVAILABLE),
   ;
 
   private final String errCode;
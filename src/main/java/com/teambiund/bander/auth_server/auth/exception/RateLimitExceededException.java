@@ -0,0 +1,15 @@
+package com.teambiund.bander.auth_server.auth.exception;
+
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import lombok.Getter;
+
+/** 시도 횟수 제한 초과 - 429 와 함께 Retry-After(초)로 다시 시도할 수 있는 시점을 알려줌 */
+@Getter
+public class RateLimitExceededException extends CustomException {
+  private final long retryAfterSeconds;
+
+  public RateLimitExceededException(long retryAfterSeconds) {
+    super(AuthErrorCode.TOO_MANY_REQUESTS);
+    this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+  }
+}
@@ -0,0 +1,89 @@
+package com.teambiund.bander.auth_server.auth.repository;
+
+import com.teambiund.bander.auth_server.auth.entity.Auth;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평문 이메일로 Auth 를 찾는 조회기 - 블라인드 인덱스(email_hash) 유니크 인덱스 한 번 탐색
+ *
+ * <p>레거시 조회 (security.email.legacy-lookup, 기본 true): 인덱스가 아직 채워지지 않은 행을 위해 인덱스 미스 시 AES 암호문 →
+ * 평문 순으로 email 컬럼을 추가 조회한다. 기존 행의 인덱스 채우기가 끝나면 꺼서 미스당 추가 쿼리를 없앤다.
+ */
+@Component
+public class AuthEmailLookup {
+  private final AuthRepository authRepository;
+  private final CipherStrategy emailCipher;
+  private final EmailBlindIndex emailBlindIndex;
+  private volatile boolean legacyLookupEnabled;
+
+  public AuthEmailLookup(
+      AuthRepository authRepository,
+      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher,
+      EmailBlindIndex emailBlindIndex,
+      @Value("${security.email.legacy-lookup:true}") boolean legacyLookupEnabled) {
+    this.authRepository = authRepository;
+    this.emailCipher = emailCipher;
+    this.emailBlindIndex = emailBlindIndex;
+    this.legacyLookupEnabled = legacyLookupEnabled;
+  }
+
+  public Optional<Auth> findByEmail(String email) {
+    return find(email, authRepository::findByEmailHash, authRepository::findByEmail);
+  }
+
+  public Optional<LoginCredential> findCredentialByEmail(String email) {
+    return find(
+        email, authRepository::findCredentialByEmailHash, authRepository::findCredentialByEmail);
+  }
+
+  public Optional<Auth> findByEmailWithWithdraw(String email) {
+    return find(
+        email, authRepository::findByEmailHashWithWithdraw, authRepository::findByEmailWithWithdraw);
+  }
+
+  public boolean existsByEmail(String email) {
+    if (authRepository.existsByEmailHash(emailBlindIndex.of(email))) {
+      return true;
+    }
+    if (!legacyLookupEnabled) {
+      return false;
+    }
+    return authRepository.existsByEmail(emailCipher.encrypt(email))
+        || authRepository.existsByEmail(email);
+  }
+
+  /** 이메일 저장 - 암호문과 블라인드 인덱스를 함께 설정 (둘 중 하나만 바꾸면 조회가 어긋남) */
+  public void assignEmail(Auth auth, String email) {
+    auth.setEmail(emailCipher.encrypt(email));
+    auth.setEmailHash(emailBlindIndex.of(email));
+  }
+
+  public boolean isLegacyLookupEnabled() {
+    return legacyLookupEnabled;
+  }
+
+  /** 레거시 조회 전환 - 인덱스 채우기 완료 후 재기동 없이 끌 수 있도록 런타임 변경 허용 */
+  public void setLegacyLookupEnabled(boolean legacyLookupEnabled) {
+    this.legacyLookupEnabled = legacyLookupEnabled;
+  }
+
+  private <T> Optional<T> find(
+      String email,
+      Function<String, Optional<T>> byEmailHash,
+      Function<String, Optional<T>> byStoredEmail) {
+    Optional<T> found = byEmailHash.apply(emailBlindIndex.of(email));
+    if (found.isPresent() || !legacyLookupEnabled) {
+      return found;
+    }
+    // 인덱스 미적용 행: 암호화 저장 → 평문 저장 순 (하위 호환성)
+    return byStoredEmail
+        .apply(emailCipher.encrypt(email))
+        .or(() -> byStoredEmail.apply(email));
+  }
+}
@@ -2,6 +2,8 @@ package com.teambiund.bander.auth_server.auth.repository;
 
 import com.teambiund.bander.auth_server.auth.entity.Auth;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -34,6 +36,36 @@ public interface AuthRepository extends JpaRepository<Auth, String> {
   @Query("select a from Auth a left join fetch a.withdraw where a.email = :email")
   Optional<Auth> findByEmailWithWithdraw(@Param("email") String email);
 
+  // 로그인 조회 - id, 비밀번호 해시, 상태, 권한만 조회 (Auth/LoginStatus 엔티티를 만들지 않음)
+  @Query(
+      "select a.id as id, a.password as password, a.status as status, a.userRole as userRole"
+          + " from Auth a where a.emailHash = :emailHash")
+  Optional<LoginCredential> findCredentialByEmailHash(@Param("emailHash") String emailHash);
+
+  @Query(
+      "select a.id as id, a.password as password, a.status as status, a.userRole as userRole"
+          + " from Auth a where a.email = :email")
+  Optional<LoginCredential> findCredentialByEmail(@Param("email") String email);
+
+  @Query(
+      "select a.id as id, a.password as password, a.status as status, a.userRole as userRole"
+          + " from Auth a where a.id = :id")
+  Optional<LoginCredential> findCredentialById(@Param("id") String id);
+
+  // 블라인드 인덱스(email_hash) 조회 - 유니크 인덱스 한 번 탐색
+  Optional<Auth> findByEmailHash(String emailHash);
+
+  @Query("select a from Auth a left join fetch a.withdraw where a.emailHash = :emailHash")
+  Optional<Auth> findByEmailHashWithWithdraw(@Param("emailHash") String emailHash);
+
+  boolean existsByEmailHash(String emailHash);
+
+  // 일괄 조회 - 조회 응답에 필요한 컬럼만 IN 한 번으로 조회 (역방향 OneToOne 추가 조회 없음)
+  @Query(
+      "select a.id as id, a.status as status, a.provider as provider, a.createdAt as createdAt,"
+          + " a.updatedAt as updatedAt, a.phoneNumber as phoneNumber from Auth a where a.id in :ids")
+  List<AuthSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+
   void deleteByDeletedAtBefore(LocalDateTime deletedAtBefore);
 
   boolean existsByEmail(String email);
@@ -0,0 +1,20 @@
+package com.teambiund.bander.auth_server.auth.repository;
+
+import com.teambiund.bander.auth_server.auth.enums.Provider;
+import com.teambiund.bander.auth_server.auth.enums.Status;
+import java.time.LocalDateTime;
+
+/** 사용자 조회 응답용 컬럼 projection ({@link AuthRepository#findSummariesByIdIn}) */
+public interface AuthSummary {
+  String getId();
+
+  Status getStatus();
+
+  Provider getProvider();
+
+  LocalDateTime getCreatedAt();
+
+  LocalDateTime getUpdatedAt();
+
+  String getPhoneNumber();
+}
@@ -0,0 +1,99 @@
+package com.teambiund.bander.auth_server.auth.repository;
+
+import com.teambiund.bander.auth_server.auth.entity.type.KeyColumnType;
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
+import jakarta.annotation.PostConstruct;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Locale;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snowflake ID 컬럼 타입 결정 - snowflake.id-column-type 이 auto 면 auth.id 컬럼 메타데이터로 감지
+ *
+ * <p>auto 모드에서는 주기적으로 다시 감지해 VARCHAR → BIGINT 전환(테이블 교체) 후 재기동 없이 바인딩 타입을 바꾼다. varchar/bigint 로
+ * 고정하면 감지하지 않는다.
+ */
+@Slf4j
+@Component
+public class KeyColumnTypeResolver {
+  private final DataSource dataSource;
+  private final String configured;
+
+  public KeyColumnTypeResolver(
+      DataSource dataSource, @Value("${snowflake.id-column-type:auto}") String configured) {
+    this.dataSource = dataSource;
+    this.configured = configured.trim().toLowerCase(Locale.ROOT);
+  }
+
+  @PostConstruct
+  public void init() {
+    switch (configured) {
+      case "varchar" -> apply(KeyColumnType.VARCHAR);
+      case "bigint" -> apply(KeyColumnType.BIGINT);
+      case "auto" -> refresh();
+      default ->
+          throw new IllegalArgumentException(
+              "snowflake.id-column-type must be auto, varchar or bigint: " + configured);
+    }
+  }
+
+  /** auto 모드 재감지 - 감지 실패 시 현재 타입 유지 */
+  @Scheduled(
+      initialDelayString = "${snowflake.id-column-type-check-interval:PT30S}",
+      fixedDelayString = "${snowflake.id-column-type-check-interval:PT30S}")
+  public void refresh() {
+    if (!"auto".equals(configured)) {
+      return;
+    }
+    try {
+      KeyColumnType detected = detect();
+      if (detected != null) {
+        apply(detected);
+      }
+    } catch (MetaDataAccessException e) {
+      log.warn("auth.id 컬럼 타입 감지 실패, 현재 타입 유지: {}", e.getMessage());
+    }
+  }
+
+  KeyColumnType detect() throws MetaDataAccessException {
+    return JdbcUtils.extractDatabaseMetaData(
+        dataSource,
+        metaData -> {
+          String table = identifier(metaData, "auth");
+          String column = identifier(metaData, "id");
+          String catalog = metaData.getConnection().getCatalog();
+          String schema = metaData.getConnection().getSchema();
+          try (ResultSet rs = metaData.getColumns(catalog, schema, table, column)) {
+            if (!rs.next()) {
+              return null;
+            }
+            return switch (rs.getInt("DATA_TYPE")) {
+              case Types.BIGINT, Types.INTEGER, Types.NUMERIC, Types.DECIMAL ->
+                  KeyColumnType.BIGINT;
+              default -> KeyColumnType.VARCHAR;
+            };
+          }
+        });
+  }
+
+  private static String identifier(DatabaseMetaData metaData, String name)
+      throws SQLException {
+    return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+  }
+
+  private void apply(KeyColumnType type) {
+    if (SnowflakeIdJdbcType.getColumnType() != type) {
+      log.info("Snowflake ID 컬럼 타입: {} -> {}", SnowflakeIdJdbcType.getColumnType(), type);
+      SnowflakeIdJdbcType.setColumnType(type);
+    }
+  }
+}
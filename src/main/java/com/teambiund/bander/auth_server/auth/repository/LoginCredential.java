@@ -0,0 +1,15 @@
+package com.teambiund.bander.auth_server.auth.repository;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+import com.teambiund.bander.auth_server.auth.enums.Status;
+
+/** 로그인 판단에 필요한 컬럼 projection - 엔티티/연관 로딩 없이 auth 한 행만 조회 */
+public interface LoginCredential {
+  String getId();
+
+  String getPassword();
+
+  Status getStatus();
+
+  Role getUserRole();
+}
@@ -1,13 +1,23 @@
 package com.teambiund.bander.auth_server.auth.service.auth_service;
 
+import com.teambiund.bander.auth_server.auth.dto.response.AuthBatchResponse;
 import com.teambiund.bander.auth_server.auth.dto.response.SimpleAuthResponse;
 import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
-import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache.AuthView;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,43 +26,75 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
   private final AuthRepository authRepository;
-  private final CipherStrategy emailCipher;
+  private final AuthEmailLookup authEmailLookup;
+  private final AuthViewCache authViewCache;
+  private final int maxBatchSize;
 
   public AuthService(
       AuthRepository authRepository,
-      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher) {
+      AuthEmailLookup authEmailLookup,
+      AuthViewCache authViewCache,
+      @Value("${auth.batch.max-size:100}") int maxBatchSize) {
     this.authRepository = authRepository;
-    this.emailCipher = emailCipher;
+    this.authEmailLookup = authEmailLookup;
+    this.authViewCache = authViewCache;
+    this.maxBatchSize = maxBatchSize;
   }
 
-  @Transactional(readOnly = true)
+  // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미스 시 findById 자체 readOnly 트랜잭션)
   public SimpleAuthResponse getAuth(String userId) throws CustomException {
-    return authRepository
-        .findById(userId)
-        .map(SimpleAuthResponse::from)
+    return authViewCache
+        .get(userId, this::loadView)
+        .map(AuthView::toResponse)
         .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
   }
 
-  @Transactional(readOnly = true)
   public boolean hasPhoneNumber(String userId) {
-    return authRepository
-        .findById(userId)
-        .map(auth -> auth.getPhoneNumber() != null && !auth.getPhoneNumber().isBlank())
-        .orElse(false);
+    return authViewCache.get(userId, this::loadView).map(AuthView::hasPhoneNumber).orElse(false);
+  }
+
+  /** 일괄 조회 - 캐시 미스만 IN 쿼리 한 번으로 조회, 결과는 요청 순서(중복 제거) */
+  public AuthBatchResponse getAuths(List<String> userIds) throws CustomException {
+    Set<String> ids = new LinkedHashSet<>(userIds);
+    ids.remove(null);
+    if (ids.size() > maxBatchSize) {
+      throw new CustomException(AuthErrorCode.BATCH_SIZE_EXCEEDED);
+    }
+    Map<String, AuthView> found = authViewCache.getAll(ids, this::loadViews);
+
+    List<SimpleAuthResponse> users = new ArrayList<>(found.size());
+    List<String> missing = new ArrayList<>();
+    for (String id : ids) {
+      AuthView view = found.get(id);
+      if (view != null) {
+        users.add(view.toResponse());
+      } else {
+        missing.add(id);
+      }
+    }
+    return AuthBatchResponse.builder().users(users).missing(missing).build();
+  }
+
+  private Optional<AuthView> loadView(String userId) {
+    return authRepository.findById(userId).map(AuthView::from);
+  }
+
+  private Map<String, AuthView> loadViews(Set<String> userIds) {
+    return authRepository.findSummariesByIdIn(userIds).stream()
+        .map(AuthView::from)
+        .collect(Collectors.toMap(AuthView::userId, Function.identity()));
   }
 
   @Transactional
   public void changeRole(String email, Role newRole) {
-    String encryptedEmail = emailCipher.encrypt(email);
-
     var auth =
-        authRepository
-            .findByEmail(encryptedEmail)
-            .or(() -> authRepository.findByEmail(email)) // 하위 호환성
+        authEmailLookup
+            .findByEmail(email)
             .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
 
     auth.setUserRole(newRole);
     authRepository.save(auth);
+    authViewCache.evict(auth.getId());
 
     log.info("Role changed for user: {} -> {}", email, newRole);
   }
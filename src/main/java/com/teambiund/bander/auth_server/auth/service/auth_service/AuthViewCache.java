@@ -0,0 +1,387 @@
+package com.teambiund.bander.auth_server.auth.service.auth_service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambiund.bander.auth_server.auth.config.RedisConfig;
+import com.teambiund.bander.auth_server.auth.dto.response.SimpleAuthResponse;
+import com.teambiund.bander.auth_server.auth.datasource.ReadYourWritesTracker;
+import com.teambiund.bander.auth_server.auth.entity.Auth;
+import com.teambiund.bander.auth_server.auth.enums.Provider;
+import com.teambiund.bander.auth_server.auth.enums.Status;
+import com.teambiund.bander.auth_server.auth.repository.AuthSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 조회 캐시 (2단계) - 다른 서비스가 거의 모든 요청마다 호출하는 getAuth / hasPhoneNumber 용
+ *
+ * <p>구성: - 1단계 near cache (인스턴스 로컬 Caffeine, 짧은 TTL) - 2단계 Redis (auth:view:{userId}, 인스턴스 공유) - 둘 다 없으면
+ * DB 조회 후 두 단계에 저장
+ *
+ * <p>무효화: 쓰기 서비스가 {@link #evict(String)} 호출 → 트랜잭션 커밋 후 Redis 키 삭제 + auth:view:invalidate 채널로 발행 → 모든
+ * 인스턴스가 near cache 에서 제거. 커밋 전 읽은 값이 뒤늦게 저장되는 경쟁은 TTL 로 제한한다. 무효화된 사용자는
+ * read-your-writes window 동안 primary 에서 다시 읽는다 ({@link ReadYourWritesTracker}).
+ *
+ * <p>Redis 조회는 replica 연결로 보낸다 (near cache 보다 짧은 복제 지연은 이미 허용 범위). 단 read-your-writes window 안의 사용자는
+ * primary Redis 에서 읽는다 - 삭제 직후 replica 에 남은 이전 값이 다시 near cache 에 들어가지 않도록.
+ *
+ * <p>지표: near cache 는 cache.gets{cache="authView"}, Redis 단계는 auth.view.cache{result=hit|miss|error}
+ */
+@Slf4j
+@Component
+public class AuthViewCache implements MessageListener {
+  public static final String INVALIDATION_CHANNEL = "auth:view:invalidate";
+  static final String KEY_PREFIX = "auth:view:";
+  static final String CACHE_NAME = "authView";
+
+  private final StringRedisTemplate redisTemplate;
+  private final StringRedisTemplate replicaRedisTemplate;
+  private final ReadYourWritesTracker readYourWrites;
+  private final boolean enabled;
+  private final Duration redisTtl;
+  private final Cache<String, AuthView> nearCache;
+
+  private final Counter redisHits;
+  private final Counter redisMisses;
+  private final Counter redisErrors;
+
+  @Autowired
+  public AuthViewCache(
+      StringRedisTemplate redisTemplate,
+      @Qualifier(RedisConfig.REPLICA_TEMPLATE) StringRedisTemplate replicaRedisTemplate,
+      ReadYourWritesTracker readYourWrites,
+      @Value("${auth.cache.enabled:true}") boolean enabled,
+      @Value("${auth.cache.near-max-size:100000}") long nearMaxSize,
+      @Value("${auth.cache.near-ttl:PT30S}") Duration nearTtl,
+      @Value("${auth.cache.redis-ttl:PT10M}") Duration redisTtl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        redisTemplate,
+        replicaRedisTemplate,
+        readYourWrites,
+        enabled,
+        nearMaxSize,
+        nearTtl,
+        redisTtl,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public AuthViewCache(
+      StringRedisTemplate redisTemplate,
+      StringRedisTemplate replicaRedisTemplate,
+      ReadYourWritesTracker readYourWrites,
+      boolean enabled,
+      long nearMaxSize,
+      Duration nearTtl,
+      Duration redisTtl,
+      MeterRegistry registry) {
+    this.redisTemplate = redisTemplate;
+    this.replicaRedisTemplate = replicaRedisTemplate;
+    this.readYourWrites = readYourWrites;
+    this.enabled = enabled;
+    this.redisTtl = redisTtl;
+    this.nearCache =
+        Caffeine.newBuilder()
+            .maximumSize(nearMaxSize)
+            .expireAfterWrite(nearTtl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(registry, nearCache, CACHE_NAME);
+    this.redisHits = redisCounter(registry, "hit");
+    this.redisMisses = redisCounter(registry, "miss");
+    this.redisErrors = redisCounter(registry, "error");
+  }
+
+  private static Counter redisCounter(MeterRegistry registry, String result) {
+    return Counter.builder("auth.view.cache")
+        .description("Redis tier lookups of the user view cache")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** 캐시 조회 - near → Redis → loader(DB) 순, 없는 사용자는 캐시하지 않음 */
+  public Optional<AuthView> get(String userId, Function<String, Optional<AuthView>> loader) {
+    if (!enabled || userId == null) {
+      return load(userId, loader);
+    }
+    AuthView view = nearCache.getIfPresent(userId);
+    if (view != null) {
+      return Optional.of(view);
+    }
+    view = readRedis(userId);
+    if (view == null) {
+      Optional<AuthView> loaded = load(userId, loader);
+      if (loaded.isEmpty()) {
+        return loaded;
+      }
+      view = loaded.get();
+      writeRedis(userId, view);
+    }
+    nearCache.put(userId, view);
+    return Optional.of(view);
+  }
+
+  /**
+   * 일괄 조회 - near → Redis MGET → loader(DB IN 한 번) 순, DB 결과는 파이프라인으로 Redis 에 저장
+   *
+   * @return 찾은 사용자만 담긴 map (없는 ID 는 키가 없음)
+   */
+  public Map<String, AuthView> getAll(
+      Collection<String> userIds, Function<Set<String>, Map<String, AuthView>> loader) {
+    if (!enabled) {
+      return loadAll(new LinkedHashSet<>(userIds), loader);
+    }
+    Map<String, AuthView> result = new HashMap<>(nearCache.getAllPresent(userIds));
+    List<String> remaining = userIds.stream().filter(id -> !result.containsKey(id)).toList();
+    if (remaining.isEmpty()) {
+      return result;
+    }
+    Set<String> missed = new LinkedHashSet<>(remaining);
+    readRedis(remaining)
+        .forEach(
+            (userId, view) -> {
+              result.put(userId, view);
+              nearCache.put(userId, view);
+              missed.remove(userId);
+            });
+    if (!missed.isEmpty()) {
+      Map<String, AuthView> loaded = loadAll(missed, loader);
+      result.putAll(loaded);
+      nearCache.putAll(loaded);
+      writeRedis(loaded);
+    }
+    return result;
+  }
+
+  /**
+   * 사용자 변경 후 무효화 - 트랜잭션 안이면 커밋 후, 아니면 즉시
+   *
+   * <p>캐시를 끈 경우에도 read-your-writes 기록은 남긴다 (직후 조회가 지연된 replica 에서 읽히지 않도록).
+   */
+  public void evict(String userId) {
+    if (userId == null) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              evictNow(userId);
+            }
+          });
+    } else {
+      evictNow(userId);
+    }
+  }
+
+  /** 다른 인스턴스의 무효화 메시지 수신 (자신이 보낸 메시지 포함) */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String userId = new String(message.getBody(), StandardCharsets.UTF_8);
+    readYourWrites.recordWrite(userId);
+    nearCache.invalidate(userId);
+  }
+
+  // 변경 직후 사용자는 primary 에서 조회 (replica 의 이전 값이 다시 캐시되는 것 방지)
+  private Optional<AuthView> load(String userId, Function<String, Optional<AuthView>> loader) {
+    return readYourWrites.readFor(userId, () -> loader.apply(userId));
+  }
+
+  private Map<String, AuthView> loadAll(
+      Set<String> userIds, Function<Set<String>, Map<String, AuthView>> loader) {
+    return readYourWrites.readFor(userIds, () -> loader.apply(userIds));
+  }
+
+  private void evictNow(String userId) {
+    readYourWrites.recordWrite(userId);
+    if (!enabled) {
+      return;
+    }
+    nearCache.invalidate(userId);
+    try {
+      redisTemplate.delete(KEY_PREFIX + userId);
+      redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId);
+    } catch (DataAccessException e) {
+      // 다른 인스턴스의 near cache 는 near-ttl 안에 만료, Redis 값은 redis-ttl 안에 만료
+      log.warn("사용자 캐시 무효화 실패: userId={}, {}", userId, e.getMessage());
+    }
+  }
+
+  private AuthView readRedis(String userId) {
+    try {
+      StringRedisTemplate reader =
+          readYourWrites.isRecentlyWritten(userId) ? redisTemplate : replicaRedisTemplate;
+      String value = reader.opsForValue().get(KEY_PREFIX + userId);
+      AuthView view = value == null ? null : AuthView.decode(userId, value);
+      (view == null ? redisMisses : redisHits).increment();
+      return view;
+    } catch (DataAccessException e) {
+      redisErrors.increment();
+      log.debug("사용자 캐시 Redis 조회 실패, DB 조회: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private Map<String, AuthView> readRedis(List<String> userIds) {
+    Map<String, AuthView> found = new HashMap<>();
+    try {
+      StringRedisTemplate reader =
+          userIds.stream().anyMatch(readYourWrites::isRecentlyWritten)
+              ? redisTemplate
+              : replicaRedisTemplate;
+      List<String> values =
+          reader.opsForValue().multiGet(userIds.stream().map(id -> KEY_PREFIX + id).toList());
+      for (int i = 0; i < userIds.size(); i++) {
+        String value = values == null ? null : values.get(i);
+        AuthView view = value == null ? null : AuthView.decode(userIds.get(i), value);
+        if (view != null) {
+          found.put(userIds.get(i), view);
+        }
+      }
+      redisHits.increment(found.size());
+      redisMisses.increment(userIds.size() - found.size());
+    } catch (DataAccessException e) {
+      redisErrors.increment();
+      log.debug("사용자 캐시 Redis 일괄 조회 실패, DB 조회: {}", e.getMessage());
+    }
+    return found;
+  }
+
+  private void writeRedis(Map<String, AuthView> views) {
+    if (views.isEmpty()) {
+      return;
+    }
+    Expiration expiration = Expiration.from(redisTtl);
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                views.forEach(
+                    (userId, view) ->
+                        connection
+                            .stringCommands()
+                            .set(
+                                RedisSerializer.string().serialize(KEY_PREFIX + userId),
+                                RedisSerializer.string().serialize(view.encode()),
+                                expiration,
+                                SetOption.upsert()));
+                return null;
+              });
+    } catch (DataAccessException e) {
+      redisErrors.increment();
+      log.debug("사용자 캐시 Redis 일괄 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  private void writeRedis(String userId, AuthView view) {
+    try {
+      redisTemplate.opsForValue().set(KEY_PREFIX + userId, view.encode(), redisTtl);
+    } catch (DataAccessException e) {
+      redisErrors.increment();
+      log.debug("사용자 캐시 Redis 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 캐시에 담는 사용자 요약 - SimpleAuthResponse 필드 + 전화번호 등록 여부
+   *
+   * <p>Redis 값 형식: status|provider|createdAt|updatedAt|phone(0/1), null 은 빈 문자열
+   */
+  public record AuthView(
+      String userId,
+      Status status,
+      Provider provider,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      boolean hasPhoneNumber) {
+
+    public static AuthView from(Auth auth) {
+      return new AuthView(
+          auth.getId(),
+          auth.getStatus(),
+          auth.getProvider(),
+          auth.getCreatedAt(),
+          auth.getUpdatedAt(),
+          auth.getPhoneNumber() != null && !auth.getPhoneNumber().isBlank());
+    }
+
+    public static AuthView from(AuthSummary summary) {
+      return new AuthView(
+          summary.getId(),
+          summary.getStatus(),
+          summary.getProvider(),
+          summary.getCreatedAt(),
+          summary.getUpdatedAt(),
+          summary.getPhoneNumber() != null && !summary.getPhoneNumber().isBlank());
+    }
+
+    public SimpleAuthResponse toResponse() {
+      return SimpleAuthResponse.builder()
+          .userId(userId)
+          .status(status)
+          .provider(provider)
+          .createdAt(createdAt)
+          .updatedAt(updatedAt)
+          .build();
+    }
+
+    String encode() {
+      return String.join(
+          "|",
+          status == null ? "" : status.name(),
+          provider == null ? "" : provider.name(),
+          createdAt == null ? "" : createdAt.toString(),
+          updatedAt == null ? "" : updatedAt.toString(),
+          hasPhoneNumber ? "1" : "0");
+    }
+
+    /** 형식이 다르면(배포 중 구버전 값 등) null - 캐시 미스로 처리 */
+    static AuthView decode(String userId, String value) {
+      String[] parts = value.split("\\|", -1);
+      if (parts.length != 5) {
+        return null;
+      }
+      try {
+        return new AuthView(
+            userId,
+            parts[0].isEmpty() ? null : Status.valueOf(parts[0]),
+            parts[1].isEmpty() ? null : Provider.valueOf(parts[1]),
+            parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+            parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]),
+            "1".equals(parts[4]));
+      } catch (RuntimeException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@ import com.teambiund.bander.auth_server.auth.service.consent.ConsentManagementSe
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -39,14 +40,23 @@ public class ConsentManagementServiceImpl implements ConsentManagementService {
   public void saveConsent(Auth auth, List<ConsentRequest> requests) throws CustomException {
     List<ConsentRequest> consents = requests.stream().filter(ConsentRequest::isConsented).toList();
 
+    List<ConsentsTable> consentTables = new ArrayList<>(consents.size());
     for (ConsentRequest request : consents) {
       // consentId로 ConsentsTable 조회
       ConsentsTable consentTable = consentsAllMaps.get(request.getConsentId());
       if (consentTable == null) {
         throw new CustomException(AuthErrorCode.CONSENT_NOT_VALID);
       }
-      // ID와 시간은 Service에서 생성하여 주입
-      auth.addConsentWithTable(keyProvider.generateKey(), consentTable, LocalDateTime.now());
+      consentTables.add(consentTable);
+    }
+
+    if (!consentTables.isEmpty()) {
+      // ID와 시간은 Service에서 생성하여 주입 (ID는 검증 후 한 번에 발급)
+      List<String> consentIds = keyProvider.generateKeys(consentTables.size());
+      LocalDateTime consentedAt = LocalDateTime.now();
+      for (int i = 0; i < consentTables.size(); i++) {
+        auth.addConsentWithTable(consentIds.get(i), consentTables.get(i), consentedAt);
+      }
     }
 
     // CascadeType.ALL과 dirty checking으로 인해 auth의 consent 컬렉션 자동 저장됨
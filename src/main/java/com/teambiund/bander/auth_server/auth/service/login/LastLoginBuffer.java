@@ -0,0 +1,178 @@
+package com.teambiund.bander.auth_server.auth.service.login;
+
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막 로그인 시각 쓰기 버퍼 - 로그인마다 UPDATE 하지 않고 사용자별로 최신 값만 모아 주기적으로 일괄 반영
+ *
+ * <p>반영: login_status 를 JDBC batch UPDATE (더 최신 값만 덮어씀) → 행이 없는 사용자(레거시)는 batch INSERT. Auth 엔티티를
+ * 거치지 않으므로 낙관적 락 version 이 바뀌지 않는다. 반영에 실패한 값은 버퍼에 남겨 다음 주기에 다시 시도하고, 종료 시 남은 값을 한 번
+ * 더 반영한다 (비정상 종료 시 최대 flush-interval 동안의 기록 유실 허용).
+ *
+ * <p>DB 장애가 이어져 대기 사용자가 max-pending 을 넘으면 요청 스레드에서 반영하지 않고 가장 오래된 값부터 버려 90% 로 줄인다 (dropped 로
+ * 집계). 정리는 한 스레드만 하고 나머지는 기다리지 않고 지나간다.
+ *
+ * <p>지표: auth.login.last_login.pending (대기 사용자 수),
+ * auth.login.last_login.flushed{result=updated|inserted|failed|dropped}
+ */
+@Slf4j
+@Component
+public class LastLoginBuffer {
+  // 다른 인스턴스가 더 최신 값을 먼저 반영했으면 유지
+  private static final String UPDATE =
+      "UPDATE login_status SET last_login = CASE WHEN last_login IS NULL OR last_login < ?"
+          + " THEN ? ELSE last_login END WHERE user_id = ?";
+  // 탈퇴 등으로 auth 행이 없으면 넣지 않음 (FK)
+  private static final String INSERT_MISSING =
+      "INSERT INTO login_status (user_id, last_login) SELECT id, ? FROM auth a WHERE a.id = ?"
+          + " AND NOT EXISTS (SELECT 1 FROM login_status s WHERE s.user_id = a.id)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int maxPending;
+  private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+  private final ReentrantLock shedding = new ReentrantLock();
+
+  private final Counter updated;
+  private final Counter inserted;
+  private final Counter failed;
+  private final Counter dropped;
+
+  @Autowired
+  public LastLoginBuffer(
+      JdbcTemplate jdbcTemplate,
+      @Value("${auth.login.last-login.max-pending:100000}") int maxPending,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(jdbcTemplate, maxPending, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public LastLoginBuffer(JdbcTemplate jdbcTemplate, int maxPending, MeterRegistry registry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.maxPending = maxPending;
+    this.updated = flushed(registry, "updated");
+    this.inserted = flushed(registry, "inserted");
+    this.failed = flushed(registry, "failed");
+    this.dropped = flushed(registry, "dropped");
+    Gauge.builder("auth.login.last_login.pending", pending, Map::size)
+        .description("Users whose last login time is waiting to be written")
+        .register(registry);
+  }
+
+  private static Counter flushed(MeterRegistry registry, String result) {
+    return Counter.builder("auth.login.last_login.flushed").tag("result", result).register(registry);
+  }
+
+  /** 로그인 기록 - 같은 사용자는 최신 시각 하나로 합쳐짐 */
+  public void record(String userId, LocalDateTime loginAt) {
+    pending.merge(userId, loginAt, (a, b) -> a.isAfter(b) ? a : b);
+    if (pending.size() > maxPending && shedding.tryLock()) {
+      try {
+        shedOldest();
+      } finally {
+        shedding.unlock();
+      }
+    }
+  }
+
+  /** 오래된 로그인 시각부터 버려 max-pending 의 90% 로 줄임 */
+  private void shedOldest() {
+    int excess = pending.size() - (maxPending - maxPending / 10);
+    if (excess <= 0) {
+      return;
+    }
+    List<Map.Entry<String, LocalDateTime>> entries = new ArrayList<>(pending.entrySet());
+    entries.sort(Map.Entry.comparingByValue());
+    int removed = 0;
+    for (int i = 0; i < excess && i < entries.size(); i++) {
+      Map.Entry<String, LocalDateTime> e = entries.get(i);
+      if (pending.remove(e.getKey(), e.getValue())) {
+        removed++;
+      }
+    }
+    dropped.increment(removed);
+    log.warn("마지막 로그인 시각 대기 {}건 초과, 오래된 값 {}건을 버림", maxPending, removed);
+  }
+
+  int pendingCount() {
+    return pending.size();
+  }
+
+  @Scheduled(
+      initialDelayString = "${auth.login.last-login.flush-interval:PT5S}",
+      fixedDelayString = "${auth.login.last-login.flush-interval:PT5S}")
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    List<Map.Entry<String, LocalDateTime>> batch = new ArrayList<>(pending.entrySet());
+    try {
+      write(batch);
+    } catch (DataAccessException e) {
+      failed.increment(batch.size());
+      log.warn("마지막 로그인 시각 반영 실패, 다음 주기에 재시도: {}건, {}", batch.size(), e.getMessage());
+      return;
+    }
+    // 반영하는 동안 새로 들어온(더 최신) 값은 남겨 둠
+    batch.forEach(e -> pending.remove(e.getKey(), e.getValue()));
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private void write(List<Map.Entry<String, LocalDateTime>> batch) {
+    int[] updateCounts =
+        jdbcTemplate.batchUpdate(
+            UPDATE,
+            batch.stream()
+                .map(
+                    e -> {
+                      Timestamp loginAt = Timestamp.valueOf(e.getValue());
+                      return new Object[] {
+                        loginAt, loginAt, SnowflakeIdJdbcType.toParameter(e.getKey())
+                      };
+                    })
+                .toList());
+
+    // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 행이 있는지 알 수 없으므로 INSERT 대상에 포함 (NOT EXISTS 로 중복 방지)
+    List<Object[]> missing = new ArrayList<>();
+    for (int i = 0; i < batch.size(); i++) {
+      if (updateCounts[i] == 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+        Map.Entry<String, LocalDateTime> e = batch.get(i);
+        missing.add(
+            new Object[] {
+              Timestamp.valueOf(e.getValue()), SnowflakeIdJdbcType.toParameter(e.getKey())
+            });
+      }
+    }
+    int insertedRows = 0;
+    if (!missing.isEmpty()) {
+      for (int count : jdbcTemplate.batchUpdate(INSERT_MISSING, missing)) {
+        insertedRows += Math.max(count, 0);
+      }
+    }
+    updated.increment(batch.size() - missing.size());
+    inserted.increment(insertedRows);
+  }
+}
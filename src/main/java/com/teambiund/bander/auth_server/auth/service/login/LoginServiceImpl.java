@@ -1,18 +1,23 @@
 package com.teambiund.bander.auth_server.auth.service.login;
 
+import com.teambiund.bander.auth_server.auth.datasource.DataSourceRoutingContext;
 import com.teambiund.bander.auth_server.auth.dto.response.LoginResponse;
 import com.teambiund.bander.auth_server.auth.entity.Auth;
-import com.teambiund.bander.auth_server.auth.entity.LoginStatus;
 import com.teambiund.bander.auth_server.auth.enums.AppType;
 import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.repository.LoginCredential;
 import com.teambiund.bander.auth_server.auth.repository.LoginStatusRepository;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
 import com.teambiund.bander.auth_server.auth.util.generator.token.TokenUtil;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimiter;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -20,56 +25,73 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class LoginServiceImpl implements LoginService {
+  private static final int MAX_DEVICE_ID_ATTEMPTS = 3;
+
   private final LoginStatusRepository loginStatusRepository;
   private final AuthRepository authRepository;
   private final KeyProvider keyProvider;
   private final CipherStrategy passwordEncoder;
   private final TokenUtil tokenUtil;
-  private final CipherStrategy emailCipher;
+  private final AuthEmailLookup authEmailLookup;
+  private final PasswordRehashService passwordRehashService;
+  private final LastLoginBuffer lastLoginBuffer;
+  private final RateLimiter rateLimiter;
+  private final RefreshTokenSessionService refreshTokenSessions;
 
   public LoginServiceImpl(
       LoginStatusRepository loginStatusRepository,
       AuthRepository authRepository,
       KeyProvider keyProvider,
-      @Qualifier("pbkdf2CipherStrategy") CipherStrategy passwordEncoder,
+      @Qualifier("passwordCipherStrategy") CipherStrategy passwordEncoder,
       TokenUtil tokenUtil,
-      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher) {
+      AuthEmailLookup authEmailLookup,
+      PasswordRehashService passwordRehashService,
+      LastLoginBuffer lastLoginBuffer,
+      RateLimiter rateLimiter,
+      RefreshTokenSessionService refreshTokenSessions) {
     this.loginStatusRepository = loginStatusRepository;
     this.authRepository = authRepository;
     this.keyProvider = keyProvider;
     this.passwordEncoder = passwordEncoder;
     this.tokenUtil = tokenUtil;
-    this.emailCipher = emailCipher;
+    this.authEmailLookup = authEmailLookup;
+    this.passwordRehashService = passwordRehashService;
+    this.lastLoginBuffer = lastLoginBuffer;
+    this.rateLimiter = rateLimiter;
+    this.refreshTokenSessions = refreshTokenSessions;
   }
 
   @Override
   public LoginResponse login(String email, String password, AppType appType) {
-    String encryptedEmail = emailCipher.encrypt(email);
-    Auth auth =
-        authRepository
-            .findByEmailWithLoginStatus(encryptedEmail)
-            .or(
-                () ->
-                    authRepository.findByEmailWithLoginStatus(
-                        email)) // Backward-compatibility for legacy plaintext rows
+    // 시도 횟수 초과면 DB 조회/비밀번호 해시 전에 거절
+    rateLimiter.acquire(RateLimitProperties.LOGIN, email);
+
+    // 인증 판단(비밀번호, 상태)은 복제 지연 없이 primary 에서 조회 - 필요한 컬럼만 projection 으로
+    LoginCredential credential =
+        DataSourceRoutingContext.onPrimary(() -> authEmailLookup.findCredentialByEmail(email))
             .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
-    if (!passwordEncoder.matches(password, auth.getPassword())) {
+    if (!passwordEncoder.matches(password, credential.getPassword())) {
       throw new CustomException(AuthErrorCode.PASSWORD_MISMATCH);
     }
 
     // AppType에 따른 접근 권한 검증
-    validateAppTypeAccess(auth.getUserRole(), appType);
+    validateAppTypeAccess(credential.getUserRole(), appType);
 
-    return generateResponse(auth);
+    LoginResponse response =
+        generateResponse(credential.getId(), credential.getStatus(), credential.getUserRole());
+    passwordRehashService.rehashIfNeeded(credential.getId(), credential.getPassword(), password);
+    return response;
   }
 
   @Override
   public LoginResponse refreshToken(String refreshToken, String deviceId, AppType appType) {
-    if (!tokenUtil.isValid(refreshToken)) {
-      throw new CustomException(AuthErrorCode.EXPIRED_TOKEN);
-    }
-    String userId = tokenUtil.extractUserId(refreshToken);
-    String deviceIdFromToken = tokenUtil.extractDeviceId(refreshToken);
+    // 서명/만료 검증과 클레임 파싱을 한 번에 수행 (토큰을 한 번만 디코딩)
+    TokenClaims claims =
+        tokenUtil
+            .verify(refreshToken)
+            .orElseThrow(() -> new CustomException(AuthErrorCode.EXPIRED_TOKEN));
+    String userId = claims.userId();
+    String deviceIdFromToken = claims.deviceId();
     if (userId == null || deviceIdFromToken == null) {
       throw new CustomException(AuthErrorCode.INVALID_TOKEN);
     }
@@ -78,15 +100,21 @@ public class LoginServiceImpl implements LoginService {
       throw new CustomException(AuthErrorCode.INVALID_DEVICE_ID);
     }
 
-    Auth auth =
-        authRepository
-            .findByIdWithLoginStatus(userId)
+    LoginCredential credential =
+        DataSourceRoutingContext.onPrimary(() -> authRepository.findCredentialById(userId))
             .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
 
     // AppType에 따른 접근 권한 검증
-    validateAppTypeAccess(auth.getUserRole(), appType);
+    validateAppTypeAccess(credential.getUserRole(), appType);
+    checkStatus(credential.getStatus());
 
-    return generateResponse(auth);
+    // 같은 기기 세션의 토큰을 새로 발급하고 세션의 현재 토큰을 교체 - 예전 토큰이면 세션 폐기
+    long issuedAt = refreshTokenSessions.now();
+    LoginResponse response = issueTokens(userId, credential.getUserRole(), deviceIdFromToken);
+    refreshTokenSessions.rotate(claims, refreshToken, response.getRefreshToken(), issuedAt);
+
+    lastLoginBuffer.record(userId, LocalDateTime.now());
+    return response;
   }
 
   private void validateAppTypeAccess(Role userRole, AppType appType) {
@@ -99,10 +127,32 @@ public class LoginServiceImpl implements LoginService {
     // GENERAL 앱: USER, GUEST, PLACE_OWNER 모두 허용 (별도 검증 불필요)
   }
 
-  private LoginResponse generateResponse(Auth auth) {
+  private LoginResponse generateResponse(String userId, Status status, Role userRole) {
+    checkStatus(status);
+
+    LoginResponse response = null;
+    for (int attempt = 0; response == null; attempt++) {
+      if (attempt == MAX_DEVICE_ID_ATTEMPTS) {
+        throw new IllegalStateException("기기 ID 생성 실패: " + userId);
+      }
+      String deviceId = UUID.randomUUID().toString().substring(0, 4);
+      long issuedAt = refreshTokenSessions.now();
+      LoginResponse issued = issueTokens(userId, userRole, deviceId);
+      // 같은 사용자의 다른 기기 세션과 ID 가 겹치면 다시 생성
+      if (refreshTokenSessions.open(userId, deviceId, issued.getRefreshToken(), issuedAt)) {
+        response = issued;
+      }
+    }
+
+    // 마지막 로그인 시각은 버퍼에 모아 주기적으로 일괄 반영 (Auth 를 저장하지 않으므로 version 변화 없음)
+    lastLoginBuffer.record(userId, LocalDateTime.now());
+
+    return response;
+  }
 
-    if (!auth.getStatus().equals(Status.ACTIVE)) {
-      switch (auth.getStatus()) {
+  private void checkStatus(Status status) {
+    if (!status.equals(Status.ACTIVE)) {
+      switch (status) {
         case SLEEPING:
           throw new CustomException(AuthErrorCode.USER_IS_SLEEPING);
         case BLOCKED:
@@ -115,47 +165,21 @@ public class LoginServiceImpl implements LoginService {
           break;
       }
     }
+  }
 
-    String deviceId = UUID.randomUUID().toString().substring(0, 4);
-    String accessToken = tokenUtil.generateAccessToken(auth.getId(), auth.getUserRole(), deviceId);
-    String refreshToken =
-        tokenUtil.generateRefreshToken(auth.getId(), auth.getUserRole(), deviceId);
+  private LoginResponse issueTokens(String userId, Role userRole, String deviceId) {
+    String accessToken = tokenUtil.generateAccessToken(userId, userRole, deviceId);
+    String refreshToken = tokenUtil.generateRefreshToken(userId, userRole, deviceId);
 
     var response = new LoginResponse();
     response.setAccessToken(accessToken);
     response.setRefreshToken(refreshToken);
     response.setDeviceId(deviceId);
-
-    // LoginStatus 생성 또는 업데이트
-    if (auth.getLoginStatus() == null) {
-      // LoginStatus가 없는 경우 (기존 사용자 데이터 또는 테스트) 새로 생성
-      LoginStatus loginStatus = LoginStatus.builder().build();
-      auth.setLoginStatus(loginStatus);
-    }
-    auth.getLoginStatus().setLastLogin(LocalDateTime.now());
-
-    // CascadeType.ALL로 인해 auth만 save하면 loginStatus도 자동 저장됨
-    authRepository.save(auth);
-
     return response;
   }
 
   @Override
   public LoginResponse generateLoginResponse(Auth auth) {
-    if (!auth.getStatus().equals(Status.ACTIVE)) {
-      switch (auth.getStatus()) {
-        case SLEEPING:
-          throw new CustomException(AuthErrorCode.USER_IS_SLEEPING);
-        case BLOCKED:
-          throw new CustomException(AuthErrorCode.USER_IS_BLOCKED);
-        case SUSPENDED:
-          throw new CustomException(AuthErrorCode.USER_IS_SUSPENDED);
-        case DELETED:
-          throw new CustomException(AuthErrorCode.USER_IS_DELETED);
-        default:
-          break;
-      }
-    }
-    return generateResponse(auth);
+    return generateResponse(auth.getId(), auth.getStatus(), auth.getUserRole());
   }
 }
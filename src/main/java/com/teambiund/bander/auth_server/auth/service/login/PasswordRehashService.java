@@ -0,0 +1,87 @@
+package com.teambiund.bander.auth_server.auth.service.login;
+
+import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.PasswordHashingExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그인 시 투명 재해싱 - 저장된 비밀번호 해시의 비용(반복 횟수)이 현재 설정과 다르면, 로그인에 성공한 평문으로 새 해시를 만들어 저장
+ *
+ * <p>일괄 마이그레이션 없이 배포별로 해싱 비용을 조정할 수 있다. 재해싱은 PasswordHashingExecutor 에서 비동기로 실행되며, 대기열이 가득
+ * 차 있으면 다음 로그인으로 미룬다 (로그인 응답 시간에 영향 없음).
+ */
+@Slf4j
+@Service
+public class PasswordRehashService {
+
+  private final AuthRepository authRepository;
+  private final CipherStrategy passwordEncoder;
+  private final PasswordHashingExecutor hashingExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter rehashed;
+  private final Counter skipped;
+
+  public PasswordRehashService(
+      AuthRepository authRepository,
+      @Qualifier("passwordCipherStrategy") CipherStrategy passwordEncoder,
+      PasswordHashingExecutor hashingExecutor,
+      PlatformTransactionManager transactionManager,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.authRepository = authRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.hashingExecutor = hashingExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    this.rehashed = Counter.builder("password.rehash").tag("result", "updated").register(registry);
+    this.skipped = Counter.builder("password.rehash").tag("result", "skipped").register(registry);
+  }
+
+  /**
+   * 필요한 경우 백그라운드 재해싱 예약 - 비밀번호 검증에 성공한 뒤에만 호출할 것
+   *
+   * @param authId 사용자 ID
+   * @param storedHash 검증에 사용된 저장 해시
+   * @param rawPassword 검증에 성공한 평문 비밀번호
+   */
+  public void rehashIfNeeded(String authId, String storedHash, String rawPassword) {
+    if (storedHash == null || !passwordEncoder.needsRehash(storedHash)) {
+      return;
+    }
+    if (!hashingExecutor.submit(() -> rehash(authId, storedHash, rawPassword))) {
+      skipped.increment();
+    }
+  }
+
+  /** 그 사이 비밀번호가 바뀌었으면 (저장 해시가 다르면) 덮어쓰지 않음 */
+  void rehash(String authId, String storedHash, String rawPassword) {
+    try {
+      String newHash = passwordEncoder.encrypt(rawPassword);
+      Boolean updated =
+          transactionTemplate.execute(
+              status ->
+                  authRepository
+                      .findById(authId)
+                      .filter(auth -> storedHash.equals(auth.getPassword()))
+                      .map(
+                          auth -> {
+                            auth.setPassword(newHash);
+                            authRepository.save(auth);
+                            return true;
+                          })
+                      .orElse(false));
+      (Boolean.TRUE.equals(updated) ? rehashed : skipped).increment();
+    } catch (RuntimeException e) {
+      skipped.increment();
+      log.warn("Password rehash failed for user {}: {}", authId, e.getMessage());
+    }
+  }
+}
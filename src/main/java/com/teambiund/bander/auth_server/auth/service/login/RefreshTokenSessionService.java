@@ -0,0 +1,267 @@
+package com.teambiund.bander.auth_server.auth.service.login;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.service.scheduled.RefreshTokenBackupService;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.Issued;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.RotateResult;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.Session;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리프레시 토큰 세션 - 서명만으로 검증하던 리프레시 토큰을 사용자+기기 세션에 묶어 재발급마다 교체(rotation)하고, 예전 토큰의 재사용을
+ * 감지하면 그 family 를 폐기 (Redis 폐기 표시 + 스냅샷 폐기 기록, 둘 다 복구를 막음)
+ *
+ * <p>검증과 교체는 Redis 호출 한 번 ({@link RefreshTokenStore}). Redis 에 세션이 없으면 스냅샷({@link
+ * RefreshTokenBackupService})에서 한 번 복구해 다시 시도한다 - Redis 가 비워져도 로그인이 유지된다. 교체를 확인할 수 없으면(Redis
+ * 장애) 예전 토큰을 받아들이지 않고 503 으로 재시도를 요청한다. 로그인 시 세션을 Redis 에 쓰지 못하면 스냅샷에 바로 기록한다.
+ *
+ * <p>세션 도입 전에 발급된 토큰은 Redis 에도 스냅샷에도 세션이 없다. iat 가 auth.refresh-token.adopt-issued-before(도입 배포
+ * 시각) 이전이고 그 기기의 스냅샷/폐기 기록이 전혀 없으면 제시된 토큰으로 세션을 만든 뒤 교체한다 (adopted) - 배포 직후 첫 재발급에서 모든
+ * 사용자가 로그아웃되지 않도록. 설정하지 않으면 이런 토큰은 REVOKED_TOKEN 이다.
+ *
+ * <p>직전 토큰이 auth.refresh-token.reuse-grace 안에 다시 오면(동시 요청, 응답 유실 후 재시도) family 를 폐기하지 않고 그 요청의 새
+ * 토큰으로 교체한다 (grace). 세션은 마지막 응답의 토큰만 이어가고, 유예 중에는 탈취된 직전 토큰도 재사용으로 감지되지 않는다 ({@link
+ * RefreshTokenStore}).
+ *
+ * <p>사용자당 세션은 auth.refresh-token.max-sessions 개까지 - 넘으면 가장 오래된 기기 세션을 지우고(그 기기는 다시 로그인해야 함)
+ * 스냅샷에서도 지운다. 스냅샷 복구도 최근 세션만 최대 수만큼 되살린다.
+ *
+ * <p>auth.refresh-token.enabled=false 면 세션을 쓰지 않고 서명/만료 검증만 한다.
+ *
+ * <p>지표: auth.refresh_token.rotation{result=rotated|restored|adopted|grace|reused|revoked}
+ */
+@Slf4j
+@Service
+public class RefreshTokenSessionService {
+  private final RefreshTokenStore store;
+  private final RefreshTokenBackupService backup;
+  private final boolean enabled;
+  private final long ttlSeconds;
+  private final long adoptIssuedBefore;
+  private final int maxSessions;
+  private final long reuseGraceSeconds;
+  private final LongSupplier clock;
+
+  private final Counter rotated;
+  private final Counter restored;
+  private final Counter adopted;
+  private final Counter grace;
+  private final Counter reused;
+  private final Counter revoked;
+
+  @Autowired
+  public RefreshTokenSessionService(
+      RefreshTokenStore store,
+      RefreshTokenBackupService backup,
+      @Value("${auth.refresh-token.enabled:true}") boolean enabled,
+      @Value("${security.jwt.refresh-token-expire-time}") long ttlMinutes,
+      @Value("${auth.refresh-token.adopt-issued-before:}") String adoptIssuedBefore,
+      @Value("${auth.refresh-token.max-sessions:10}") int maxSessions,
+      @Value("${auth.refresh-token.reuse-grace:PT10S}") Duration reuseGrace,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        store,
+        backup,
+        enabled,
+        Duration.ofMinutes(ttlMinutes),
+        adoptIssuedBefore.isBlank() ? 0 : Instant.parse(adoptIssuedBefore).getEpochSecond(),
+        maxSessions,
+        reuseGrace,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        () -> System.currentTimeMillis() / 1000);
+    if (enabled && adoptIssuedBefore.isBlank()) {
+      log.warn("auth.refresh-token.adopt-issued-before 미설정 - 세션 도입 전에 발급된 리프레시 토큰은 재발급되지 않음");
+    }
+  }
+
+  /**
+   * @param adoptIssuedBefore 이 시각(epoch 초) 이전에 발급되고 세션 기록이 없는 토큰은 세션을 만들어 받아들임, 0 이면 받아들이지 않음
+   * @param maxSessions 사용자당 최대 기기 세션 수
+   * @param reuseGrace 직전 토큰을 재사용으로 보지 않는 교체 후 시간
+   */
+  public RefreshTokenSessionService(
+      RefreshTokenStore store,
+      RefreshTokenBackupService backup,
+      boolean enabled,
+      Duration ttl,
+      long adoptIssuedBefore,
+      int maxSessions,
+      Duration reuseGrace,
+      MeterRegistry registry,
+      LongSupplier clock) {
+    this.store = store;
+    this.backup = backup;
+    this.enabled = enabled;
+    this.ttlSeconds = ttl.toSeconds();
+    this.adoptIssuedBefore = adoptIssuedBefore;
+    this.maxSessions = maxSessions;
+    this.reuseGraceSeconds = reuseGrace.toSeconds();
+    this.clock = clock;
+    this.rotated = rotation(registry, "rotated");
+    this.restored = rotation(registry, "restored");
+    this.adopted = rotation(registry, "adopted");
+    this.grace = rotation(registry, "grace");
+    this.reused = rotation(registry, "reused");
+    this.revoked = rotation(registry, "revoked");
+  }
+
+  private static Counter rotation(MeterRegistry registry, String result) {
+    return Counter.builder("auth.refresh_token.rotation").tag("result", result).register(registry);
+  }
+
+  /** 토큰 발급 직전 시각 (epoch 초) - 세션의 iat 로 쓰며 토큰의 실제 iat 보다 늦지 않음 */
+  public long now() {
+    return clock.getAsLong();
+  }
+
+  /**
+   * 로그인 - 기기 세션 생성
+   *
+   * @param issuedAt 토큰 발급 직전 {@link #now()}
+   * @return false 면 같은 사용자에게 같은 기기 ID 의 세션이 있으므로 기기 ID 를 바꿔 다시 발급해야 함
+   */
+  public boolean open(String userId, String deviceId, String refreshToken, long issuedAt) {
+    if (!enabled) {
+      return true;
+    }
+    long expiresAt = issuedAt + ttlSeconds;
+    try {
+      if (!issue(userId, deviceId, refreshToken, issuedAt, expiresAt)) {
+        return false;
+      }
+    } catch (DataAccessException e) {
+      // Redis 에 쓰지 못해도 로그인은 성공시키고, 재발급 시 스냅샷에서 복구되도록 바로 기록
+      log.warn("리프레시 토큰 세션 Redis 저장 실패, 스냅샷에 바로 기록: {}, {}", userId, e.getMessage());
+      backup.save(
+          userId,
+          new Session(deviceId, RefreshTokenStore.hash(refreshToken), issuedAt, expiresAt, false));
+      return true;
+    }
+    backup.markChanged(userId, deviceId);
+    return true;
+  }
+
+  /**
+   * 재발급 - 제시된 토큰이 세션의 현재 토큰이면 새 토큰으로 교체
+   *
+   * @param presented 서명/만료 검증을 마친 제시된 토큰의 클레임
+   * @param issuedAt 새 토큰 발급 직전 {@link #now()}
+   * @throws CustomException 세션이 없거나 폐기되었으면 REVOKED_TOKEN, 재사용이면 REFRESH_TOKEN_REUSED (세션 폐기), Redis
+   *     장애면 SESSION_STORE_UNAVAILABLE
+   */
+  public void rotate(TokenClaims presented, String presentedToken, String newToken, long issuedAt) {
+    if (!enabled) {
+      return;
+    }
+    String userId = presented.userId();
+    String deviceId = presented.deviceId();
+    RotateResult result;
+    try {
+      result = rotateOnce(presented, presentedToken, newToken, issuedAt);
+      if (result == RotateResult.MISSING && restore(userId)) {
+        result = rotateOnce(presented, presentedToken, newToken, issuedAt);
+      }
+      if (result == RotateResult.MISSING && adopt(presented, presentedToken)) {
+        result = rotateOnce(presented, presentedToken, newToken, issuedAt);
+      }
+    } catch (DataAccessException e) {
+      log.warn("리프레시 토큰 세션 확인 실패: {}, {}", userId, e.getMessage());
+      throw new CustomException(AuthErrorCode.SESSION_STORE_UNAVAILABLE);
+    }
+
+    switch (result) {
+      case ROTATED -> {
+        rotated.increment();
+        backup.markChanged(userId, deviceId);
+      }
+      case GRACE -> {
+        grace.increment();
+        backup.markChanged(userId, deviceId);
+        log.info("재사용 유예 안의 직전 리프레시 토큰으로 교체: userId={}, deviceId={}", userId, deviceId);
+      }
+      case REUSED -> {
+        reused.increment();
+        backup.forget(userId, deviceId, now(), issuedAt + ttlSeconds);
+        log.warn("리프레시 토큰 재사용 감지, 기기 세션 폐기: userId={}, deviceId={}", userId, deviceId);
+        throw new CustomException(AuthErrorCode.REFRESH_TOKEN_REUSED);
+      }
+      case MISSING, REVOKED -> {
+        revoked.increment();
+        throw new CustomException(AuthErrorCode.REVOKED_TOKEN);
+      }
+    }
+  }
+
+  private RotateResult rotateOnce(
+      TokenClaims presented, String presentedToken, String newToken, long issuedAt) {
+    return store.rotate(
+        presented.userId(),
+        presented.deviceId(),
+        presentedToken,
+        presented.issuedAt(),
+        newToken,
+        issuedAt,
+        issuedAt + ttlSeconds,
+        now(),
+        reuseGraceSeconds);
+  }
+
+  /** 세션 생성 - 최대 수를 넘어 지운 세션은 스냅샷에서도 지우도록 표시 */
+  private boolean issue(
+      String userId, String deviceId, String token, long issuedAt, long expiresAt) {
+    Issued issued = store.issue(userId, deviceId, token, issuedAt, expiresAt, now(), maxSessions);
+    if (!issued.evicted().isEmpty()) {
+      backup.evict(userId, issued.evicted(), now());
+      log.info("최대 세션 수 초과로 오래된 기기 세션 삭제: userId={}, deviceIds={}", userId, issued.evicted());
+    }
+    return issued.issued();
+  }
+
+  /** 스냅샷의 세션을 Redis 에 복구 (최근 발급된 세션부터 최대 수만큼) @return 하나라도 복구했으면 true */
+  private boolean restore(String userId) {
+    List<Session> sessions = backup.load(userId, now());
+    if (sessions.size() > maxSessions) {
+      sessions =
+          sessions.stream()
+              .sorted(Comparator.comparingLong(Session::issuedAt).reversed())
+              .limit(maxSessions)
+              .toList();
+    }
+    if (sessions.isEmpty() || store.restore(userId, sessions, now()) == 0) {
+      return false;
+    }
+    restored.increment();
+    log.info("리프레시 토큰 세션 스냅샷에서 복구: {}, {}건", userId, sessions.size());
+    return true;
+  }
+
+  /** 세션 도입 전에 발급된 토큰이면 그 토큰으로 세션 생성 @return 생성했으면(또는 그 사이 생겼으면) true */
+  private boolean adopt(TokenClaims presented, String presentedToken) {
+    String userId = presented.userId();
+    String deviceId = presented.deviceId();
+    // 한 번이라도 세션/폐기 기록이 있었던 기기는 도입 전 토큰이 아님 (폐기된 family 를 되살리지 않도록)
+    if (presented.issuedAt() >= adoptIssuedBefore || backup.isTracked(userId, deviceId)) {
+      return false;
+    }
+    issue(userId, deviceId, presentedToken, presented.issuedAt(), presented.expiresAt());
+    adopted.increment();
+    log.info("세션 도입 전 리프레시 토큰으로 세션 생성: userId={}, deviceId={}", userId, deviceId);
+    return true;
+  }
+}
@@ -0,0 +1,360 @@
+package com.teambiund.bander.auth_server.auth.service.scheduled;
+
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
+import com.teambiund.bander.auth_server.auth.service.scheduled.MigrationCheckpointStore.Checkpoint;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이메일 블라인드 인덱스 백그라운드 마이그레이션 - email_hash 가 없는 auth 행을 PK keyset 청크 단위로 변환
+ *
+ * <p>처리: - 평문 이메일 행은 AES 암호화 + 인덱스 저장, 암호화된 행은 복호화해 인덱스만 채움 - 청크 반영과 체크포인트 저장을 한 트랜잭션으로
+ * 커밋 (중단 후 재시작 시 이어서 진행) - 청크 사이 pause 만큼 쉬고, 한 번 실행은 max-run-time 안에서만 진행 (ShedLock 보유 시간 안)
+ *
+ * <p>완료: 한 패스에서 변환한 행이 없고 email_hash 가 없는 행도 남지 않았으면 완료로 기록하고 AuthEmailLookup 의 레거시
+ * 조회(암호문/평문 추가 쿼리)를 끈다. 재기동 시에도 체크포인트를 보고 바로 끈다. 복호화할 수 없거나 인덱스가 충돌해 건너뛴 행이 남아 있으면
+ * 그 행들이 조회되도록 레거시 조회를 유지하고, 남은 id 를 경고로 남긴 뒤 다음 실행에서 처음부터 다시 확인한다
+ * (email.migration.remaining 이 0 이 아니면 수동 조치 필요).
+ */
+@Slf4j
+@Service
+public class EmailIndexMigration {
+  static final String NAME = "email-blind-index";
+
+  private static final String SELECT_CHUNK =
+      "SELECT id, email FROM auth WHERE email_hash IS NULL AND id > ? ORDER BY id LIMIT ?";
+  private static final String COUNT_REMAINING =
+      "SELECT COUNT(*) FROM auth WHERE email_hash IS NULL";
+  private static final String SELECT_REMAINING_IDS =
+      "SELECT id FROM auth WHERE email_hash IS NULL ORDER BY id LIMIT ?";
+  // 경고 로그에 남길 남은 행 id 최대 수
+  private static final int REMAINING_IDS_LOGGED = 100;
+  // 읽은 뒤 다른 요청이 이메일을 바꿨으면 갱신하지 않음 (JPA 낙관적 락 버전도 함께 증가)
+  private static final String UPDATE_ROW =
+      "UPDATE auth SET email = ?, email_hash = ?, version = COALESCE(version, 0) + 1"
+          + " WHERE id = ? AND email = ? AND email_hash IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final MigrationCheckpointStore checkpointStore;
+  private final AuthEmailLookup authEmailLookup;
+  private final CipherStrategy emailCipher;
+  private final EmailBlindIndex emailBlindIndex;
+  private final boolean enabled;
+  private final int batchSize;
+  private final Duration pause;
+  private final Duration maxRunTime;
+
+  private final Counter migratedRows;
+  private final Counter skippedRows;
+  private final Counter conflictRows;
+  private final Timer chunkTimer;
+  private final AtomicLong remaining = new AtomicLong(-1);
+  private final AtomicLong completed = new AtomicLong();
+
+  @Autowired
+  public EmailIndexMigration(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MigrationCheckpointStore checkpointStore,
+      AuthEmailLookup authEmailLookup,
+      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher,
+      EmailBlindIndex emailBlindIndex,
+      @Value("${security.email.migration.enabled:true}") boolean enabled,
+      @Value("${security.email.migration.batch-size:500}") int batchSize,
+      @Value("${security.email.migration.pause:PT0.1S}") Duration pause,
+      @Value("${security.email.migration.max-run-time:PT10M}") Duration maxRunTime,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        jdbcTemplate,
+        transactionManager,
+        checkpointStore,
+        authEmailLookup,
+        emailCipher,
+        emailBlindIndex,
+        enabled,
+        batchSize,
+        pause,
+        maxRunTime,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public EmailIndexMigration(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      MigrationCheckpointStore checkpointStore,
+      AuthEmailLookup authEmailLookup,
+      CipherStrategy emailCipher,
+      EmailBlindIndex emailBlindIndex,
+      boolean enabled,
+      int batchSize,
+      Duration pause,
+      Duration maxRunTime,
+      MeterRegistry registry) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batch-size must be positive: " + batchSize);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.checkpointStore = checkpointStore;
+    this.authEmailLookup = authEmailLookup;
+    this.emailCipher = emailCipher;
+    this.emailBlindIndex = emailBlindIndex;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.pause = pause;
+    this.maxRunTime = maxRunTime;
+
+    this.migratedRows = rows(registry, "migrated");
+    this.skippedRows = rows(registry, "skipped");
+    this.conflictRows = rows(registry, "conflict");
+    this.chunkTimer = Timer.builder("email.migration.chunk").tag("name", NAME).register(registry);
+    Gauge.builder("email.migration.remaining", remaining, AtomicLong::get)
+        .tag("name", NAME)
+        .register(registry);
+    Gauge.builder("email.migration.completed", completed, AtomicLong::get)
+        .tag("name", NAME)
+        .register(registry);
+  }
+
+  private static Counter rows(MeterRegistry registry, String result) {
+    return Counter.builder("email.migration.rows")
+        .tag("name", NAME)
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** 기동 시 이미 완료된 마이그레이션이면 레거시 조회를 바로 끔 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void restoreState() {
+    try {
+      if (checkpointStore.load(NAME).isCompleted()) {
+        markCompleted();
+      }
+    } catch (DataAccessException e) {
+      log.warn("이메일 인덱스 마이그레이션 체크포인트 조회 실패, 레거시 조회 유지: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${security.email.migration.initial-delay:PT1M}",
+      fixedDelayString = "${security.email.migration.interval:PT5M}")
+  @SchedulerLock(name = "emailBlindIndexMigration", lockAtMostFor = "30m", lockAtLeastFor = "10s")
+  public void run() {
+    if (!enabled || completed.get() == 1) {
+      return;
+    }
+    log.info("스케쥴 권한 획득 이메일 블라인드 인덱스 마이그레이션을 시작합니다.");
+    migrate();
+  }
+
+  /**
+   * max-run-time 동안 청크를 변환 (최소 한 청크)
+   *
+   * @return 마이그레이션 완료 여부 (건너뛴 행이 남아 있으면 false)
+   */
+  public boolean migrate() {
+    Checkpoint checkpoint = checkpointStore.load(NAME);
+    if (checkpoint.isCompleted()) {
+      markCompleted();
+      return true;
+    }
+    remaining.set(jdbcTemplate.queryForObject(COUNT_REMAINING, Long.class));
+    long deadline = System.nanoTime() + maxRunTime.toNanos();
+    do {
+      List<Row> rows =
+          jdbcTemplate.query(
+              SELECT_CHUNK,
+              (rs, rowNum) -> new Row(rs.getString("id"), rs.getString("email")),
+              SnowflakeIdJdbcType.toParameter(checkpoint.getLastKey()),
+              batchSize);
+      if (rows.isEmpty()) {
+        if (finishPass(checkpoint)) {
+          return completed.get() == 1;
+        }
+        continue;
+      }
+      chunkTimer.record(() -> migrateChunk(checkpoint, rows));
+    } while (System.nanoTime() < deadline && sleep(pause));
+
+    log.info(
+        "이메일 인덱스 마이그레이션 중단 지점 저장: lastKey={}, migrated={}, skipped={}",
+        checkpoint.getLastKey(),
+        checkpoint.getMigrated(),
+        checkpoint.getSkipped());
+    return false;
+  }
+
+  /**
+   * 패스 끝 - 이번 패스에 변환이 없었으면 완료(남은 행이 없을 때만) 또는 이번 실행 종료, 있었으면 처음부터 확인 패스 (그 사이 구버전
+   * 인스턴스가 쓴 행 대비)
+   *
+   * @return 이번 실행을 끝낼지 여부
+   */
+  private boolean finishPass(Checkpoint checkpoint) {
+    boolean idle = checkpoint.getPassMigrated() == 0;
+    if (idle) {
+      long left = jdbcTemplate.queryForObject(COUNT_REMAINING, Long.class);
+      remaining.set(left);
+      if (left == 0) {
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        checkpointStore.save(checkpoint);
+        markCompleted();
+        log.info(
+            "이메일 인덱스 마이그레이션 완료: migrated={}, skipped={}",
+            checkpoint.getMigrated(),
+            checkpoint.getSkipped());
+        return true;
+      }
+      log.warn(
+          "이메일 인덱스를 채우지 못한 행 {}건이 남아 레거시 조회를 유지합니다 (복호화 불가/인덱스 충돌, 수동 확인 필요): ids={}",
+          left,
+          jdbcTemplate.queryForList(SELECT_REMAINING_IDS, String.class, REMAINING_IDS_LOGGED));
+    }
+    checkpoint.setLastKey("");
+    checkpoint.setPassMigrated(0);
+    checkpoint.setSkipped(0);
+    checkpointStore.save(checkpoint);
+    return idle;
+  }
+
+  private void migrateChunk(Checkpoint checkpoint, List<Row> rows) {
+    List<Object[]> updates = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      Object[] update = convert(row);
+      if (update != null) {
+        updates.add(update);
+      }
+    }
+    int undecryptable = rows.size() - updates.size();
+    String lastKey = rows.get(rows.size() - 1).id();
+
+    int migrated;
+    int conflicts = 0;
+    try {
+      migrated =
+          transactionTemplate.execute(
+              status -> {
+                int count = countUpdated(jdbcTemplate.batchUpdate(UPDATE_ROW, updates));
+                advance(checkpoint, lastKey, count, rows.size() - count);
+                return count;
+              });
+    } catch (DataIntegrityViolationException e) {
+      // 같은 이메일을 가진 다른 행이 이미 인덱스를 가짐 (중복 계정) - 행 단위로 다시 반영하고 충돌 행만 건너뜀
+      int[] outcome = new int[2];
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            for (Object[] update : updates) {
+              try {
+                outcome[0] += countUpdated(new int[] {jdbcTemplate.update(UPDATE_ROW, update)});
+              } catch (DataIntegrityViolationException conflict) {
+                outcome[1]++;
+                log.warn("이메일 인덱스 충돌로 건너뜀: id={}", update[2]);
+              }
+            }
+            advance(checkpoint, lastKey, outcome[0], rows.size() - outcome[0]);
+          });
+      migrated = outcome[0];
+      conflicts = outcome[1];
+    }
+
+    migratedRows.increment(migrated);
+    conflictRows.increment(conflicts);
+    skippedRows.increment(rows.size() - migrated - conflicts);
+    remaining.addAndGet(-migrated);
+    if (undecryptable > 0) {
+      log.warn("복호화할 수 없는 이메일 {}건을 건너뜀 (lastKey={})", undecryptable, lastKey);
+    }
+  }
+
+  private void advance(Checkpoint checkpoint, String lastKey, int migrated, int skipped) {
+    checkpoint.setLastKey(lastKey);
+    checkpoint.setMigrated(checkpoint.getMigrated() + migrated);
+    checkpoint.setPassMigrated(checkpoint.getPassMigrated() + migrated);
+    checkpoint.setSkipped(checkpoint.getSkipped() + skipped);
+    checkpointStore.save(checkpoint);
+  }
+
+  /** UPDATE 파라미터 (새 이메일, 인덱스, id, 읽은 이메일) - 평문/복호화 결과가 없으면 null */
+  private Object[] convert(Row row) {
+    String stored = row.email();
+    String plain;
+    if (stored.indexOf('@') >= 0) {
+      plain = stored; // Base64 암호문에는 '@' 가 없으므로 평문 행
+    } else {
+      try {
+        plain = emailCipher.decrypt(stored);
+      } catch (CustomException e) {
+        return null;
+      }
+    }
+    if (plain == null || plain.isEmpty()) {
+      return null;
+    }
+    return new Object[] {
+      emailCipher.encrypt(plain),
+      emailBlindIndex.of(plain),
+      SnowflakeIdJdbcType.toParameter(row.id()),
+      stored
+    };
+  }
+
+  private static int countUpdated(int[] results) {
+    int count = 0;
+    for (int result : results) {
+      if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void markCompleted() {
+    completed.set(1);
+    remaining.set(0);
+    authEmailLookup.setLegacyLookupEnabled(false);
+  }
+
+  private static boolean sleep(Duration pause) {
+    if (pause.isZero() || pause.isNegative()) {
+      return true;
+    }
+    try {
+      Thread.sleep(pause.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private record Row(String id, String email) {}
+}
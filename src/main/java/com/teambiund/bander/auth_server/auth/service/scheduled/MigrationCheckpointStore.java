@@ -0,0 +1,87 @@
+package com.teambiund.bander.auth_server.auth.service.scheduled;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/** 배치 마이그레이션 체크포인트 저장소 - migration_checkpoint 테이블에 이름별 keyset 위치와 누적 건수 기록 */
+@Component
+@RequiredArgsConstructor
+public class MigrationCheckpointStore {
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 체크포인트 조회 - 없으면 처음부터 시작하는 빈 체크포인트 반환 */
+  public Checkpoint load(String name) {
+    return jdbcTemplate
+        .query(
+            "SELECT last_key, migrated, skipped, pass_migrated, completed_at"
+                + " FROM migration_checkpoint WHERE name = ?",
+            (rs, rowNum) -> {
+              Timestamp completedAt = rs.getTimestamp("completed_at");
+              return new Checkpoint(
+                  name,
+                  rs.getString("last_key"),
+                  rs.getLong("migrated"),
+                  rs.getLong("skipped"),
+                  rs.getLong("pass_migrated"),
+                  completedAt == null ? null : completedAt.toLocalDateTime());
+            },
+            name)
+        .stream()
+        .findFirst()
+        .orElseGet(() -> new Checkpoint(name, "", 0, 0, 0, null));
+  }
+
+  /** 체크포인트 저장 (호출 측 트랜잭션에 참여 - 청크 반영과 함께 커밋) */
+  public void save(Checkpoint checkpoint) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    Timestamp completedAt =
+        checkpoint.getCompletedAt() == null ? null : Timestamp.valueOf(checkpoint.getCompletedAt());
+    int updated =
+        jdbcTemplate.update(
+            "UPDATE migration_checkpoint SET last_key = ?, migrated = ?, skipped = ?,"
+                + " pass_migrated = ?, completed_at = ?, updated_at = ? WHERE name = ?",
+            checkpoint.getLastKey(),
+            checkpoint.getMigrated(),
+            checkpoint.getSkipped(),
+            checkpoint.getPassMigrated(),
+            completedAt,
+            now,
+            checkpoint.getName());
+    if (updated == 0) {
+      jdbcTemplate.update(
+          "INSERT INTO migration_checkpoint"
+              + " (name, last_key, migrated, skipped, pass_migrated, completed_at, updated_at)"
+              + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+          checkpoint.getName(),
+          checkpoint.getLastKey(),
+          checkpoint.getMigrated(),
+          checkpoint.getSkipped(),
+          checkpoint.getPassMigrated(),
+          completedAt,
+          now);
+    }
+  }
+
+  @Getter
+  @Setter
+  @AllArgsConstructor
+  public static class Checkpoint {
+    private final String name;
+    private String lastKey; // 마지막으로 처리한 PK (keyset 시작점)
+    private long migrated; // 누적 변환 건수
+    // 현재 패스에서 건너뛴 건수 (복호화 불가, 인덱스 충돌, 동시 변경) - 완료 후엔 인덱스 없이 남은 행 수
+    private long skipped;
+    private long passMigrated; // 현재 패스에서 변환한 건수 (0 인 패스가 끝나면 완료)
+    private LocalDateTime completedAt;
+
+    public boolean isCompleted() {
+      return completedAt != null;
+    }
+  }
+}
@@ -1,5 +1,344 @@
 package com.teambiund.bander.auth_server.auth.service.scheduled;
 
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.Session;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.SessionRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리프레시 토큰 세션 스냅샷 - Redis 의 세션을 주기적으로 refresh_token_session 에 일괄 반영해 Redis 가 비워져도(FLUSH, 장애 후
+ * 빈 노드로 failover) 로그인이 유지되게 한다
+ *
+ * <p>세션이 바뀔 때마다(생성, 재발급) 기기 단위로 표시만 해 두고, flush-interval 마다 표시된 세션의 현재 값을 파이프라인 HGET 으로 읽어
+ * JDBC batch 로 덮어쓴다. Redis 에 없는 세션은 건드리지 않는다 (Redis 가 비워진 것과 구분할 수 없으므로 - 만료된 행은 복구 시 제외되고
+ * 매일 정리). 반영에 실패한 세션은 다음 주기에 다시 시도하고 종료 시 한 번 더 반영한다. 비정상 종료나 Redis 유실 시 최대
+ * flush-interval 동안의 재발급은 스냅샷에 없을 수 있는데, 복구된 세션은 스냅샷 이후 발급된 토큰을 한 번 받아들이므로({@link
+ * RefreshTokenStore}) 사용자는 그대로 재발급할 수 있다.
+ *
+ * <p>표시된 세션이 max-pending 을 넘으면 요청 스레드에서 반영하지 않고 새 표시를 버린다 (dropped 로 집계). 버려진 세션은 다음 변경 때
+ * 다시 표시되고, 그 전에 Redis 가 비워지면 스냅샷의 이전 값으로 복구된다 (위와 같이 재발급 가능).
+ *
+ * <p>재사용 감지로 폐기한 세션은 같은 주기에 폐기 기록(refresh_token_revocation)으로 반영한다 ({@link #forget}). 복구용 조회({@link
+ * #load})는 폐기 기록보다 먼저 발급된 세션을 제외하므로, 반영 순서(다른 인스턴스가 폐기 전 값을 늦게 덮어써도)나 삭제 실패와 관계없이 폐기된
+ * family 는 복구되지 않는다. 아직 반영되지 않은 이 인스턴스의 폐기도 조회 시 제외한다. 폐기 기록은 family 의 마지막 토큰 만료 후 정리한다.
+ *
+ * <p>사용자당 최대 세션 수를 넘어 Redis 에서 지운 세션은 같은 주기에 스냅샷 행도 지운다 ({@link #evict}) - 스냅샷도 사용자당 최대 세션
+ * 수 근처로 유지되고, Redis 가 비워져도 지운 세션이 복구되지 않는다. 반영 전에는 이 인스턴스의 조회에서 제외한다.
+ *
+ * <p>지표: auth.refresh_token.snapshot.pending,
+ * auth.refresh_token.snapshot{result=saved|deleted|failed|dropped}
+ */
+@Slf4j
+@Service
 public class RefreshTokenBackupService {
-  // TODO : 일정 시간마다 레디스에서 리프레시 토큰들을 디비에 저장 <- 로그인 한번하고 기간 지나서 리프레시 토큰으로 요청줬을때 토큰확인
+  private static final String DELETE =
+      "DELETE FROM refresh_token_session WHERE user_id = ? AND device_id = ?";
+  private static final String INSERT =
+      "INSERT INTO refresh_token_session"
+          + " (user_id, device_id, token_hash, issued_at, expires_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String SELECT_LIVE =
+      "SELECT s.device_id, s.token_hash, s.issued_at, s.expires_at FROM refresh_token_session s"
+          + " WHERE s.user_id = ? AND s.expires_at > ? AND NOT EXISTS ("
+          + "SELECT 1 FROM refresh_token_revocation r WHERE r.user_id = s.user_id"
+          + " AND r.device_id = s.device_id AND r.revoked_at >= s.issued_at)";
+  private static final String SELECT_TRACKED =
+      "SELECT (SELECT COUNT(*) FROM refresh_token_session WHERE user_id = ? AND device_id = ?)"
+          + " + (SELECT COUNT(*) FROM refresh_token_revocation"
+          + " WHERE user_id = ? AND device_id = ?)";
+  private static final String DELETE_EXPIRED =
+      "DELETE FROM refresh_token_session WHERE expires_at <= ?";
+  private static final String DELETE_REVOCATION =
+      "DELETE FROM refresh_token_revocation WHERE user_id = ? AND device_id = ?";
+  private static final String INSERT_REVOCATION =
+      "INSERT INTO refresh_token_revocation (user_id, device_id, revoked_at, expires_at)"
+          + " VALUES (?, ?, ?, ?)";
+  private static final String DELETE_EXPIRED_REVOCATIONS =
+      "DELETE FROM refresh_token_revocation WHERE expires_at <= ?";
+
+  private final RefreshTokenStore store;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactions;
+  private final int maxPending;
+  private final Set<SessionRef> pending = ConcurrentHashMap.newKeySet();
+  private final Map<SessionRef, Revocation> revoked = new ConcurrentHashMap<>();
+  private final Map<SessionRef, Long> evicted = new ConcurrentHashMap<>();
+
+  private final Counter saved;
+  private final Counter deleted;
+  private final Counter failed;
+  private final Counter dropped;
+
+  @Autowired
+  public RefreshTokenBackupService(
+      RefreshTokenStore store,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${auth.refresh-token.snapshot.max-pending:100000}") int maxPending,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        store,
+        jdbcTemplate,
+        transactionManager,
+        maxPending,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public RefreshTokenBackupService(
+      RefreshTokenStore store,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      int maxPending,
+      MeterRegistry registry) {
+    this.store = store;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactions = new TransactionTemplate(transactionManager);
+    this.maxPending = maxPending;
+    this.saved = snapshot(registry, "saved");
+    this.deleted = snapshot(registry, "deleted");
+    this.failed = snapshot(registry, "failed");
+    this.dropped = snapshot(registry, "dropped");
+    Gauge.builder("auth.refresh_token.snapshot.pending", pending, Set::size)
+        .description("Refresh token sessions changed in Redis but not yet written to the database")
+        .register(registry);
+  }
+
+  private static Counter snapshot(MeterRegistry registry, String result) {
+    return Counter.builder("auth.refresh_token.snapshot").tag("result", result).register(registry);
+  }
+
+  /** 세션 변경 표시 - 다음 주기에 Redis 의 현재 값으로 반영 (max-pending 을 넘으면 버림) */
+  public void markChanged(String userId, String deviceId) {
+    SessionRef ref = new SessionRef(userId, deviceId);
+    if (pending.size() >= maxPending && !pending.contains(ref)) {
+      // DB/Redis 장애가 이어져 쌓이기만 하는 경우 - 요청 스레드에서 반영하지 않음
+      dropped.increment();
+      return;
+    }
+    pending.add(ref);
+  }
+
+  /** 세션을 바로 기록 - Redis 에 쓰지 못했을 때 스냅샷만으로도 재발급할 수 있도록 */
+  public void save(String userId, Session session) {
+    transactions.executeWithoutResult(
+        status -> {
+          jdbcTemplate.update(DELETE, SnowflakeIdJdbcType.toParameter(userId), session.deviceId());
+          jdbcTemplate.update(INSERT, insertArgs(userId, session, LocalDateTime.now()));
+        });
+  }
+
+  /**
+   * 재사용 감지로 폐기된 세션 표시 - 다음 주기에 폐기 기록으로 반영 (개수 제한 없음, 버리지 않음)
+   *
+   * @param revokedAt 폐기 시각 (epoch 초) - 이보다 먼저 발급된 스냅샷 세션은 복구하지 않음
+   * @param expiresAt family 의 마지막 토큰 만료 (epoch 초) - 이후 폐기 기록 정리
+   */
+  public void forget(String userId, String deviceId, long revokedAt, long expiresAt) {
+    SessionRef ref = new SessionRef(userId, deviceId);
+    revoked.merge(ref, new Revocation(revokedAt, expiresAt), Revocation::latest);
+    pending.remove(ref);
+  }
+
+  /**
+   * 최대 세션 수를 넘어 Redis 에서 지운 세션 표시 - 다음 주기에 스냅샷 행 삭제 (개수 제한 없음, 버리지 않음)
+   *
+   * @param evictedAt 지운 시각 (epoch 초) - 반영 전까지 이보다 먼저 발급된 스냅샷 세션은 복구하지 않음
+   */
+  public void evict(String userId, List<String> deviceIds, long evictedAt) {
+    for (String deviceId : deviceIds) {
+      SessionRef ref = new SessionRef(userId, deviceId);
+      evicted.merge(ref, evictedAt, Math::max);
+      pending.remove(ref);
+    }
+  }
+
+  /** 스냅샷의 살아 있는 세션 (Redis 복구용) - 폐기 기록보다 먼저 발급된 세션은 제외 */
+  public List<Session> load(String userId, long now) {
+    List<Session> sessions =
+        jdbcTemplate.query(
+            SELECT_LIVE,
+            (rs, i) ->
+                new Session(
+                    rs.getString("device_id"),
+                    rs.getString("token_hash"),
+                    rs.getLong("issued_at"),
+                    rs.getLong("expires_at"),
+                    true),
+            SnowflakeIdJdbcType.toParameter(userId),
+            now);
+    if (revoked.isEmpty() && evicted.isEmpty()) {
+      return sessions;
+    }
+    // 아직 반영하지 않은 이 인스턴스의 폐기/삭제
+    List<Session> live = new ArrayList<>(sessions.size());
+    for (Session session : sessions) {
+      SessionRef ref = new SessionRef(userId, session.deviceId());
+      Revocation revocation = revoked.get(ref);
+      Long evictedAt = evicted.get(ref);
+      if ((revocation == null || revocation.revokedAt() < session.issuedAt())
+          && (evictedAt == null || evictedAt < session.issuedAt())) {
+        live.add(session);
+      }
+    }
+    return live;
+  }
+
+  /** 스냅샷이나 폐기 기록이 (만료된 것 포함) 하나라도 있는 기기 - 세션 도입 전 토큰 판별용 */
+  public boolean isTracked(String userId, String deviceId) {
+    if (revoked.containsKey(new SessionRef(userId, deviceId))) {
+      return true;
+    }
+    Object user = SnowflakeIdJdbcType.toParameter(userId);
+    Long rows =
+        jdbcTemplate.queryForObject(SELECT_TRACKED, Long.class, user, deviceId, user, deviceId);
+    return rows != null && rows > 0;
+  }
+
+  int pendingCount() {
+    return pending.size() + revoked.size() + evicted.size();
+  }
+
+  @Scheduled(
+      initialDelayString = "${auth.refresh-token.snapshot.flush-interval:PT30S}",
+      fixedDelayString = "${auth.refresh-token.snapshot.flush-interval:PT30S}")
+  public synchronized void flush() {
+    if (pending.isEmpty() && revoked.isEmpty() && evicted.isEmpty()) {
+      return;
+    }
+    Map<SessionRef, Revocation> forgotten = new HashMap<>(revoked);
+    Map<SessionRef, Long> dropping = new HashMap<>(evicted);
+    // 폐기된 세션은 현재 값을 반영하지 않음 (폐기 기록만)
+    List<SessionRef> batch = new ArrayList<>(pending.size());
+    for (SessionRef ref : pending) {
+      if (!forgotten.containsKey(ref)) {
+        batch.add(ref);
+      }
+    }
+    // 반영하는 동안 다시 바뀐 세션은 새로 표시되어 다음 주기에 반영됨
+    pending.removeAll(batch);
+    forgotten.forEach(revoked::remove);
+    dropping.forEach(evicted::remove);
+    try {
+      write(batch, store.find(batch), forgotten, dropping.keySet());
+    } catch (DataAccessException e) {
+      pending.addAll(batch);
+      forgotten.forEach((ref, revocation) -> revoked.merge(ref, revocation, Revocation::latest));
+      dropping.forEach((ref, evictedAt) -> evicted.merge(ref, evictedAt, Math::max));
+      int size = batch.size() + forgotten.size() + dropping.size();
+      failed.increment(size);
+      log.warn("리프레시 토큰 세션 스냅샷 실패, 다음 주기에 재시도: {}건, {}", size, e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  /** 만료된 스냅샷 정리 */
+  @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+  @SchedulerLock(
+      name = "deleteExpiredRefreshTokenSessions",
+      lockAtMostFor = "10m",
+      lockAtLeastFor = "1m")
+  public void deleteExpired() {
+    long now = Instant.now().getEpochSecond();
+    int rows = jdbcTemplate.update(DELETE_EXPIRED, now);
+    int revocations = jdbcTemplate.update(DELETE_EXPIRED_REVOCATIONS, now);
+    log.info("만료된 리프레시 토큰 세션 스냅샷 정리: {}건, 폐기 기록 {}건", rows, revocations);
+  }
+
+  private void write(
+      List<SessionRef> batch,
+      List<Session> sessions,
+      Map<SessionRef, Revocation> forgotten,
+      Set<SessionRef> dropping) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> deletes = new ArrayList<>(batch.size() + forgotten.size() + dropping.size());
+    List<Object[]> inserts = new ArrayList<>(batch.size());
+    List<Object[]> revocationKeys = new ArrayList<>(forgotten.size());
+    List<Object[]> revocations = new ArrayList<>(forgotten.size());
+    forgotten.forEach(
+        (ref, revocation) -> {
+          Object[] key = {SnowflakeIdJdbcType.toParameter(ref.userId()), ref.deviceId()};
+          deletes.add(key);
+          revocationKeys.add(key);
+          revocations.add(
+              new Object[] {key[0], key[1], revocation.revokedAt(), revocation.expiresAt()});
+        });
+    // 삭제가 먼저 실행되므로 같은 기기 ID 로 새로 만든 세션(batch)은 그대로 남음
+    for (SessionRef ref : dropping) {
+      deletes.add(new Object[] {SnowflakeIdJdbcType.toParameter(ref.userId()), ref.deviceId()});
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      Session session = sessions.get(i);
+      if (session != null) {
+        SessionRef ref = batch.get(i);
+        // 행이 있든 없든 같은 결과가 되도록 지우고 넣음 (DB 별 upsert 문법에 의존하지 않음)
+        deletes.add(new Object[] {SnowflakeIdJdbcType.toParameter(ref.userId()), ref.deviceId()});
+        inserts.add(insertArgs(ref.userId(), session, now));
+      }
+    }
+    if (deletes.isEmpty()) {
+      return;
+    }
+    transactions.executeWithoutResult(
+        status -> {
+          jdbcTemplate.batchUpdate(DELETE, deletes);
+          if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, inserts);
+          }
+          if (!revocations.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_REVOCATION, revocationKeys);
+            jdbcTemplate.batchUpdate(INSERT_REVOCATION, revocations);
+          }
+        });
+    saved.increment(inserts.size());
+    deleted.increment(forgotten.size() + dropping.size());
+  }
+
+  private static Object[] insertArgs(String userId, Session session, LocalDateTime now) {
+    return new Object[] {
+      SnowflakeIdJdbcType.toParameter(userId),
+      session.deviceId(),
+      session.tokenHash(),
+      session.issuedAt(),
+      session.expiresAt(),
+      Timestamp.valueOf(now)
+    };
+  }
+
+  /** 폐기 기록 - 폐기 시각, family 의 마지막 토큰 만료 (epoch 초) */
+  private record Revocation(long revokedAt, long expiresAt) {
+
+    static Revocation latest(Revocation a, Revocation b) {
+      return new Revocation(
+          Math.max(a.revokedAt(), b.revokedAt()), Math.max(a.expiresAt(), b.expiresAt()));
+    }
+  }
 }
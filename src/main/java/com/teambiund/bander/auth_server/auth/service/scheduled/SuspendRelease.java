@@ -4,6 +4,7 @@ import com.teambiund.bander.auth_server.auth.entity.Suspend;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.repository.SuspendRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SuspendRelease {
   private final SuspendRepository suspendRepository;
   private final AuthRepository authRepository;
+  private final AuthViewCache authViewCache;
 
   /** 정지기간이 끝난 유저 정지 해제 - 연관관계를 활용하여 N+1 문제 해결 - orphanRemoval=true 설정으로 Suspend 엔티티 자동 삭제 */
   @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
@@ -42,6 +44,7 @@ public class SuspendRelease {
           // orphanRemoval=true로 인해 suspensions 컬렉션에서 제거하면 Suspend도 자동 삭제됨
           auth.getSuspensions().remove(suspend);
           authRepository.save(auth);
+          authViewCache.evict(auth.getId());
         });
   }
 }
@@ -7,6 +7,7 @@ import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
@@ -21,30 +22,27 @@ public class SignupStoreService {
   private final AuthRepository authRepository;
   private final KeyProvider keyProvider;
   private final CipherStrategy passwordEncoder;
-  private final CipherStrategy emailCipher;
+  private final AuthEmailLookup authEmailLookup;
 
   public SignupStoreService(
       AuthRepository authRepository,
       KeyProvider keyProvider,
-      @Qualifier("pbkdf2CipherStrategy") CipherStrategy passwordEncoder,
-      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher) {
+      @Qualifier("passwordCipherStrategy") CipherStrategy passwordEncoder,
+      AuthEmailLookup authEmailLookup) {
     this.authRepository = authRepository;
     this.keyProvider = keyProvider;
     this.passwordEncoder = passwordEncoder;
-    this.emailCipher = emailCipher;
+    this.authEmailLookup = authEmailLookup;
   }
 
   public Auth signup(String email, String password) throws CustomException {
-    String encryptedEmail = emailCipher.encrypt(email);
-    if (authRepository.findByEmail(encryptedEmail).isPresent()
-        || authRepository.findByEmail(email).isPresent()) {
+    if (authEmailLookup.findByEmail(email).isPresent()) {
       throw new CustomException(AuthErrorCode.EMAIL_ALREADY_EXISTS);
     }
 
     Auth auth =
         Auth.builder()
             .id(keyProvider.generateKey())
-            .email(encryptedEmail)
             .password(passwordEncoder.encrypt(password))
             .provider(Provider.SYSTEM)
             .createdAt(LocalDateTime.now())
@@ -52,6 +50,8 @@ public class SignupStoreService {
             .userRole(Role.USER)
             .build();
 
+    authEmailLookup.assignEmail(auth, email);
+
     // LoginStatus 생성 및 양방향 관계 설정
     LoginStatus loginStatus = LoginStatus.builder().build();
     auth.setLoginStatus(loginStatus);
@@ -61,22 +61,21 @@ public class SignupStoreService {
   }
 
   public Auth signupFromOtherProvider(String email, Provider provider) {
-    String encryptedEmail = emailCipher.encrypt(email);
-    if (authRepository.findByEmail(encryptedEmail).isPresent()
-        || authRepository.findByEmail(email).isPresent()) {
+    if (authEmailLookup.findByEmail(email).isPresent()) {
       throw new CustomException(AuthErrorCode.EMAIL_ALREADY_EXISTS);
     }
 
     Auth auth =
         Auth.builder()
             .id(keyProvider.generateKey())
-            .email(encryptedEmail)
             .provider(provider)
             .createdAt(LocalDateTime.now())
             .status(Status.ACTIVE)
             .userRole(Role.USER)
             .build();
 
+    authEmailLookup.assignEmail(auth, email);
+
     // LoginStatus 생성 및 양방향 관계 설정
     LoginStatus loginStatus = LoginStatus.builder().build();
     auth.setLoginStatus(loginStatus);
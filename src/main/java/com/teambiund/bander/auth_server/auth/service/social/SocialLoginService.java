@@ -11,7 +11,7 @@ import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
 import com.teambiund.bander.auth_server.auth.oauth.AppleOAuthClient;
 import com.teambiund.bander.auth_server.auth.oauth.GoogleOAuthClient;
 import com.teambiund.bander.auth_server.auth.oauth.KakaoOAuthClient;
-import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.service.login.LoginService;
 import com.teambiund.bander.auth_server.auth.service.signup.SignupService;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +28,7 @@ public class SocialLoginService {
   private final KakaoOAuthClient kakaoOAuthClient;
   private final AppleOAuthClient appleOAuthClient;
   private final GoogleOAuthClient googleOAuthClient;
-  private final AuthRepository authRepository;
+  private final AuthEmailLookup authEmailLookup;
   private final SignupService signupService;
   private final LoginService loginService;
 
@@ -54,7 +54,7 @@ public class SocialLoginService {
   }
 
   private LoginResponse processLogin(String email, Provider provider) {
-    Auth auth = authRepository.findByEmail(email).orElse(null);
+    Auth auth = authEmailLookup.findByEmail(email).orElse(null);
 
     if (auth == null) {
       log.info("신규 사용자 회원가입 처리: email={}, provider={}", email, provider);
@@ -8,6 +8,7 @@ import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.repository.SuspendRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.service.suspension.SuspensionManagementService;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import java.time.LocalDate;
@@ -24,6 +25,7 @@ public class SuspensionManagementServiceImpl implements SuspensionManagementServ
   private final SuspendRepository suspendRepository;
   private final AuthRepository authRepository;
   private final KeyProvider keyProvider;
+  private final AuthViewCache authViewCache;
 
   public void release(String userId) throws CustomException {
     Auth suspended =
@@ -34,6 +36,7 @@ public class SuspensionManagementServiceImpl implements SuspensionManagementServ
       throw new CustomException(AuthErrorCode.USER_NOT_SUSPENDED);
     suspended.setStatus(Status.ACTIVE);
     authRepository.save(suspended);
+    authViewCache.evict(userId);
   }
 
   /** 사용자 정지 처리 - Auth 엔티티의 편의 메서드를 사용하여 양방향 연관관계 설정 - Cascade 설정으로 Suspend 엔티티 자동 저장 */
@@ -70,5 +73,6 @@ public class SuspensionManagementServiceImpl implements SuspensionManagementServ
 
     // CascadeType.ALL로 인해 auth만 save하면 suspend도 자동 저장됨
     authRepository.save(suspended);
+    authViewCache.evict(userId);
   }
 }
@@ -0,0 +1,12 @@
+package com.teambiund.bander.auth_server.auth.service.update;
+
+import java.time.LocalDateTime;
+
+/** 변경 이력 한 건 - history 테이블 한 행 (ID 는 생성 시점에 발급되어 재반영 시 중복 판정에 사용) */
+public record HistoryRecord(
+    String id,
+    String userId,
+    String updatedColumn,
+    String beforeValue,
+    String afterValue,
+    LocalDateTime updatedAt) {}
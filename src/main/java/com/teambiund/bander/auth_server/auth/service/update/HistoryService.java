@@ -1,37 +1,44 @@
 package com.teambiund.bander.auth_server.auth.service.update;
 
 import com.teambiund.bander.auth_server.auth.dto.request.HistoryRequest;
-import com.teambiund.bander.auth_server.auth.entity.History;
-import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class HistoryService {
-  private final AuthRepository authRepository;
   private final KeyProvider keyProvider;
+  private final HistoryWriter historyWriter;
 
-  /** 이력 생성 - Auth 엔티티의 편의 메서드를 사용하여 양방향 연관관계 설정 - Cascade 설정으로 History 엔티티 자동 저장 */
+  /**
+   * 이력 생성 - Auth.history 컬렉션을 로딩/저장하지 않고 HistoryWriter 에 추가 (batch INSERT 는 별도 스레드)
+   *
+   * <p>트랜잭션 안이면 커밋 후에 추가하여, 롤백된 변경의 이력은 남지 않도록 한다.
+   */
   public void createHistory(HistoryRequest req) {
-    History history =
-        History.builder()
-            .id(keyProvider.generateKey())
-            .beforeColumnValue(req.getBeforeValue())
-            .afterColumnValue(req.getAfterValue())
-            .updatedColumn(req.getUpdatedColumn())
-            .updatedAt(LocalDateTime.now())
-            .build();
+    HistoryRecord record =
+        new HistoryRecord(
+            keyProvider.generateKey(),
+            req.getAuth().getId(),
+            req.getUpdatedColumn(),
+            req.getBeforeValue(),
+            req.getAfterValue(),
+            LocalDateTime.now());
 
-    // 편의 메서드 사용 - 양방향 연관관계 설정
-    req.getAuth().addHistory(history);
-
-    // CascadeType.ALL로 인해 auth만 save하면 history도 자동 저장됨
-    // 단, Auth가 이미 영속 상태라면 별도 save 불필요 (변경 감지로 자동 반영)
-    authRepository.save(req.getAuth());
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              historyWriter.append(record);
+            }
+          });
+    } else {
+      historyWriter.append(record);
+    }
   }
 }
@@ -0,0 +1,163 @@
+package com.teambiund.bander.auth_server.auth.service.update;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이력 로컬 WAL - DB 반영 전까지 이력을 파일에 한 줄(JSON)씩 남겨 프로세스가 죽어도 재기동 시 다시 반영
+ *
+ * <p>active.wal 에 추가(fsync) → 반영 주기마다 segment-N.wal 로 봉인 → 봉인된 구간이 모두 DB 에 반영되면 삭제. 마지막 줄이 쓰다 만
+ * 상태(비정상 종료)면 건너뛴다.
+ */
+@Slf4j
+public class HistoryWal implements AutoCloseable {
+  private static final String ACTIVE = "active.wal";
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".wal";
+
+  private final ObjectMapper objectMapper =
+      JsonMapper.builder()
+          .findAndAddModules()
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+  private final Path dir;
+  private final Path active;
+  private FileChannel channel;
+  private long nextSegment;
+
+  public HistoryWal(Path dir) {
+    this.dir = dir;
+    this.active = dir.resolve(ACTIVE);
+    try {
+      Files.createDirectories(dir);
+      this.nextSegment =
+          sealedSegments().stream().mapToLong(HistoryWal::segmentNumber).max().orElse(0) + 1;
+    } catch (IOException e) {
+      throw new UncheckedIOException("history WAL 디렉터리를 열 수 없음: " + dir, e);
+    }
+  }
+
+  /** 재기동 시 복구 - 이전 실행에서 반영하지 못한 이력 (active 도 봉인 후 읽음) */
+  public synchronized List<HistoryRecord> recover() {
+    seal();
+    return readSealed();
+  }
+
+  /** 봉인된 구간의 이력 전체 - 아직 삭제되지 않은(반영이 확인되지 않은) 이력 */
+  public synchronized List<HistoryRecord> readSealed() {
+    List<HistoryRecord> records = new ArrayList<>();
+    for (Path segment : sealedSegments()) {
+      try {
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+          if (line.isBlank()) {
+            continue;
+          }
+          try {
+            records.add(objectMapper.readValue(line, HistoryRecord.class));
+          } catch (JsonProcessingException e) {
+            log.warn("history WAL 손상된 줄 건너뜀: {}", segment.getFileName());
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return records;
+  }
+
+  /** 추가 후 디스크 동기화까지 마쳐야 반환 */
+  public synchronized void append(HistoryRecord record) {
+    try {
+      if (channel == null) {
+        channel =
+            FileChannel.open(
+                active,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+      }
+      ByteBuffer buffer =
+          ByteBuffer.wrap(
+              (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("history WAL 기록 실패", e);
+    }
+  }
+
+  /** 지금까지 추가된 이력을 봉인 - 이후 추가는 새 active 파일로 */
+  public synchronized void seal() {
+    try {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+      if (Files.exists(active) && Files.size(active) > 0) {
+        Files.move(active, dir.resolve(SEGMENT_PREFIX + nextSegment++ + SEGMENT_SUFFIX));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("history WAL 봉인 실패", e);
+    }
+  }
+
+  /** 봉인된 구간 삭제 - 봉인 이전 이력이 모두 DB 에 반영된 뒤에만 호출 */
+  public synchronized void deleteSealed() {
+    for (Path segment : sealedSegments()) {
+      try {
+        Files.deleteIfExists(segment);
+      } catch (IOException e) {
+        log.warn("history WAL 구간 삭제 실패 (다음 복구 시 중복으로 건너뜀): {}", segment.getFileName());
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    } catch (IOException e) {
+      log.warn("history WAL 닫기 실패: {}", e.getMessage());
+    }
+  }
+
+  private List<Path> sealedSegments() {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files
+          .filter(
+              p -> {
+                String name = p.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+              })
+          .sorted((a, b) -> Long.compare(segmentNumber(a), segmentNumber(b)))
+          .toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static long segmentNumber(Path segment) {
+    String name = segment.getFileName().toString();
+    return Long.parseLong(
+        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+}
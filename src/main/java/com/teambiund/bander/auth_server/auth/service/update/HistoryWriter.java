@@ -0,0 +1,252 @@
+package com.teambiund.bander.auth_server.auth.service.update;
+
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이력 write-behind 기록기 - 요청 스레드는 대기열에 추가만 하고, 스케줄러가 모아서 JDBC batch INSERT
+ *
+ * <p>Auth.history 컬렉션을 로딩하거나 Auth 를 저장하지 않는다 (이력 수와 무관한 비용). WAL(auth.history.wal.enabled)을 켜면
+ * 대기열 추가 전에 로컬 파일에 먼저 기록하여, 반영 전에 프로세스가 죽어도 재기동 시 다시 반영한다. 재반영으로 같은 ID 가 다시 들어오면
+ * 중복으로 건너뛴다.
+ *
+ * <p>반영 실패(DB 장애 등) 시 다음 주기에 재시도. 사용자가 삭제되어 FK 를 만족하지 못하는 이력은 버린다.
+ *
+ * <p>대기열이 max-pending 에 차면 요청 스레드는 반영을 기다리지 않는다. WAL 을 켠 경우 넘친 이력은 WAL 에만 남기고(spilled) 다음
+ * 주기에 봉인된 구간을 다시 읽어 반영하므로 메모리는 늘지 않고 이력도 버리지 않는다. 장애가 길어져 미반영 이력이 max-pending 을 넘으면
+ * 메모리에서 내리고 WAL 에서 다시 읽는다. WAL 이 없으면 버릴 수 없으므로 대기열에 계속 두고(retained) 경고를 남긴다.
+ *
+ * <p>지표: history.writer.pending, history.writer.written{result=inserted|duplicate|dropped|failed},
+ * history.writer.overflow{result=spilled|retained}
+ */
+@Slf4j
+@Component
+public class HistoryWriter {
+  private static final String INSERT =
+      "INSERT INTO history (id, user_id, updated_column, before_column_value, after_column_value,"
+          + " updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxPending;
+  private final HistoryWal wal;
+  private final Object appendLock = new Object();
+  private final Queue<HistoryRecord> queue = new ConcurrentLinkedQueue<>();
+  // 대기열에서 꺼냈지만 아직 반영하지 못한 이력 (flush 스레드만 접근)
+  private final List<HistoryRecord> unwritten = new ArrayList<>();
+  // 대기열/미반영 목록에 없이 WAL 에만 있는 이력 수 (appendLock 안에서 변경)
+  private volatile int onlyInWal;
+
+  private final Counter inserted;
+  private final Counter duplicate;
+  private final Counter dropped;
+  private final Counter failed;
+  private final Counter spilled;
+  private final Counter retained;
+
+  @Autowired
+  public HistoryWriter(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${auth.history.writer.batch-size:500}") int batchSize,
+      @Value("${auth.history.writer.max-pending:10000}") int maxPending,
+      @Value("${auth.history.wal.enabled:false}") boolean walEnabled,
+      @Value("${auth.history.wal.dir:./history-wal}") String walDir,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        jdbcTemplate,
+        transactionManager,
+        batchSize,
+        maxPending,
+        walEnabled ? new HistoryWal(Path.of(walDir)) : null,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  public HistoryWriter(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      int batchSize,
+      int maxPending,
+      HistoryWal wal,
+      MeterRegistry registry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxPending = maxPending;
+    this.wal = wal;
+    this.inserted = written(registry, "inserted");
+    this.duplicate = written(registry, "duplicate");
+    this.dropped = written(registry, "dropped");
+    this.failed = written(registry, "failed");
+    this.spilled = overflow(registry, "spilled");
+    this.retained = overflow(registry, "retained");
+    Gauge.builder("history.writer.pending", this, HistoryWriter::pendingCount)
+        .description("History records waiting to be inserted")
+        .register(registry);
+
+    if (wal != null) {
+      List<HistoryRecord> recovered = wal.recover();
+      if (!recovered.isEmpty()) {
+        log.info("history WAL 복구: {}건 재반영 예정", recovered.size());
+        unwritten.addAll(recovered);
+      }
+    }
+  }
+
+  private static Counter written(MeterRegistry registry, String result) {
+    return Counter.builder("history.writer.written").tag("result", result).register(registry);
+  }
+
+  private static Counter overflow(MeterRegistry registry, String result) {
+    return Counter.builder("history.writer.overflow")
+        .description("History records appended while the queue was at max-pending")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** 이력 추가 - WAL 을 켠 경우 파일 동기화까지 마친 뒤 반환. 반영은 기다리지 않음 */
+  public void append(HistoryRecord record) {
+    int queued;
+    synchronized (appendLock) {
+      if (wal != null) {
+        wal.append(record);
+      }
+      queued = queue.size();
+      if (wal != null && queued >= maxPending) {
+        // 대기열은 늘리지 않고 WAL 에만 남김 - 다음 주기에 봉인된 구간에서 다시 읽어 반영
+        onlyInWal++;
+        spilled.increment();
+        return;
+      }
+      queue.add(record);
+    }
+    if (queued >= maxPending) {
+      retained.increment();
+      if (queued == maxPending) {
+        log.warn("이력 대기열이 max-pending({})에 도달, WAL 이 없어 메모리에 계속 보관", maxPending);
+      }
+    }
+  }
+
+  public int pendingCount() {
+    return queue.size() + unwritten.size() + onlyInWal;
+  }
+
+  @Scheduled(
+      initialDelayString = "${auth.history.writer.flush-interval:PT1S}",
+      fixedDelayString = "${auth.history.writer.flush-interval:PT1S}")
+  public synchronized void flush() {
+    synchronized (appendLock) {
+      // 봉인한 WAL 구간과 꺼낸 이력이 정확히 일치하도록 같은 잠금 안에서
+      if (wal != null) {
+        wal.seal();
+      }
+      if (onlyInWal > 0) {
+        // 봉인된 구간에 대기열/미반영 이력까지 모두 들어 있으므로 구간 전체로 대체
+        queue.clear();
+        unwritten.clear();
+        unwritten.addAll(wal.readSealed());
+        onlyInWal = 0;
+      } else {
+        HistoryRecord record;
+        while ((record = queue.poll()) != null) {
+          unwritten.add(record);
+        }
+      }
+    }
+    if (unwritten.isEmpty()) {
+      return;
+    }
+
+    try {
+      while (!unwritten.isEmpty()) {
+        List<HistoryRecord> batch = unwritten.subList(0, Math.min(batchSize, unwritten.size()));
+        write(batch);
+        batch.clear();
+      }
+    } catch (DataAccessException e) {
+      failed.increment(unwritten.size());
+      log.warn("이력 반영 실패, 다음 주기에 재시도: {}건, {}", unwritten.size(), e.getMessage());
+      if (wal != null && unwritten.size() > maxPending) {
+        // 장애가 길어지면 메모리에서 내리고 다음 주기에 WAL 에서 다시 읽음
+        synchronized (appendLock) {
+          onlyInWal += unwritten.size();
+          unwritten.clear();
+        }
+      }
+      return;
+    }
+    if (wal != null) {
+      wal.deleteSealed();
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    flush();
+    if (wal != null) {
+      wal.close();
+    }
+  }
+
+  private void write(List<HistoryRecord> batch) {
+    try {
+      // 한 트랜잭션으로 묶어 실패 시 일부만 들어가지 않도록
+      transactionTemplate.executeWithoutResult(
+          status ->
+              jdbcTemplate.batchUpdate(
+                  INSERT, batch.stream().map(HistoryWriter::params).toList()));
+      inserted.increment(batch.size());
+    } catch (DataIntegrityViolationException e) {
+      // WAL 재반영 중복 또는 삭제된 사용자 - 한 건씩 다시 넣어 문제 행만 건너뜀
+      batch.forEach(this::writeOne);
+    }
+  }
+
+  private void writeOne(HistoryRecord record) {
+    try {
+      jdbcTemplate.update(INSERT, params(record));
+      inserted.increment();
+    } catch (DuplicateKeyException e) {
+      duplicate.increment();
+    } catch (DataIntegrityViolationException e) {
+      dropped.increment();
+      log.warn(
+          "이력 반영 불가, 버림: id={}, userId={}, {}", record.id(), record.userId(), e.getMessage());
+    }
+  }
+
+  private static Object[] params(HistoryRecord record) {
+    return new Object[] {
+      SnowflakeIdJdbcType.toParameter(record.id()),
+      SnowflakeIdJdbcType.toParameter(record.userId()),
+      record.updatedColumn(),
+      record.beforeValue(),
+      record.afterValue(),
+      record.updatedAt() == null ? null : Timestamp.valueOf(record.updatedAt())
+    };
+  }
+}
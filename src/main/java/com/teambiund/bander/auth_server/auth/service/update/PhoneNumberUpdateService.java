@@ -5,6 +5,7 @@ import com.teambiund.bander.auth_server.auth.event.events.PhoneNumberUpdateReque
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -17,12 +18,15 @@ public class PhoneNumberUpdateService {
 
   private final AuthRepository authRepository;
   private final CipherStrategy phoneNumberCipher;
+  private final AuthViewCache authViewCache;
 
   public PhoneNumberUpdateService(
       AuthRepository authRepository,
-      @Qualifier("aesCipherStrategy") CipherStrategy phoneNumberCipher) {
+      @Qualifier("aesCipherStrategy") CipherStrategy phoneNumberCipher,
+      AuthViewCache authViewCache) {
     this.authRepository = authRepository;
     this.phoneNumberCipher = phoneNumberCipher;
+    this.authViewCache = authViewCache;
   }
 
   /**
@@ -41,5 +45,6 @@ public class PhoneNumberUpdateService {
     // 전화번호 암호화 후 저장
     auth.setPhoneNumber(phoneNumberCipher.encrypt(req.getPhoneNumber()));
     authRepository.save(auth);
+    authViewCache.evict(auth.getId());
   }
 }
@@ -6,7 +6,9 @@ import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -18,17 +20,20 @@ public class UpdateService {
   private final AuthRepository authRepository;
   private final HistoryService historyService;
   private final CipherStrategy passwordEncoder;
-  private final CipherStrategy emailCipher;
+  private final AuthEmailLookup authEmailLookup;
+  private final AuthViewCache authViewCache;
 
   public UpdateService(
       AuthRepository authRepository,
       HistoryService historyService,
-      @Qualifier("pbkdf2CipherStrategy") CipherStrategy passwordEncoder,
-      @Qualifier("aesCipherStrategy") CipherStrategy emailCipher) {
+      @Qualifier("passwordCipherStrategy") CipherStrategy passwordEncoder,
+      AuthEmailLookup authEmailLookup,
+      AuthViewCache authViewCache) {
     this.authRepository = authRepository;
     this.historyService = historyService;
     this.passwordEncoder = passwordEncoder;
-    this.emailCipher = emailCipher;
+    this.authEmailLookup = authEmailLookup;
+    this.authViewCache = authViewCache;
   }
 
   public void updateEmail(String userId, String newEmail) throws CustomException {
@@ -38,19 +43,16 @@ public class UpdateService {
             .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
     changeEmail(auth, newEmail);
     authRepository.save(auth);
+    authViewCache.evict(userId); // 상태가 UNCONFIRMED 로 바뀜
     changeEmailHistory(auth);
   }
 
   public void changePassword(String email, String newPassword, String passConfirm)
       throws CustomException {
-    String encryptedEmail = emailCipher.encrypt(email);
     Auth auth =
-        authRepository
-            .findByEmailWithHistory(encryptedEmail)
-            .or(
-                () ->
-                    authRepository.findByEmailWithHistory(
-                        email)) // Backward-compatibility for legacy plaintext rows
+        // 이력은 HistoryWriter 가 따로 추가하므로 history 컬렉션을 로딩하지 않음
+        authEmailLookup
+            .findByEmail(email)
             .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
 
     changePassword(auth, newPassword);
@@ -79,8 +81,7 @@ public class UpdateService {
   }
 
   private Auth changeEmail(Auth auth, String newEmail) {
-    String encryptedEmail = emailCipher.encrypt(newEmail);
-    auth.setEmail(encryptedEmail);
+    authEmailLookup.assignEmail(auth, newEmail);
     auth.setStatus(Status.UNCONFIRMED);
     return auth;
   }
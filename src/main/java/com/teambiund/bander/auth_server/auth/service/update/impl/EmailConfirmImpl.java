@@ -2,42 +2,56 @@ package com.teambiund.bander.auth_server.auth.service.update.impl;
 
 import com.teambiund.bander.auth_server.auth.event.events.EmailConfirmRequest;
 import com.teambiund.bander.auth_server.auth.event.publish.EmailConfirmRequestEventPub;
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.service.update.EmailConfirm;
-import com.teambiund.bander.auth_server.auth.util.generator.generate_code.EmailCodeGenerator;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore.VerifyResult;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationChannel;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationCodeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class EmailConfirmImpl implements EmailConfirm {
 
-  public final EmailCodeGenerator emailCodeGenerator;
-  public final EmailConfirmRequestEventPub emailConfirmRequestEventPub;
+  private final VerificationCodeService verificationCodeService;
+  private final EmailConfirmRequestEventPub emailConfirmRequestEventPub;
+  private final AuthEmailLookup authEmailLookup;
 
-  // TODO : KAFKA EVENT PUBLISHING
   @Override
   public boolean confirmEmail(String code, String email) {
-    return emailCodeGenerator.checkCode(code, email);
+    return verificationCodeService.verify(VerificationChannel.EMAIL, email, code)
+        == VerifyResult.VERIFIED;
   }
 
   @Override
   public Boolean resendEmail(String email) {
-    if (emailCodeGenerator.resendEmail(email)) {
-      generateCode(email);
-      return true;
-    } else {
+    if (verificationCodeService.exists(VerificationChannel.EMAIL, email)) {
       return false;
     }
+    generateCode(email);
+    return true;
   }
 
   @Override
   public void generateCode(String email) {
-    String code = emailCodeGenerator.generateCode(email);
+    if (authEmailLookup.existsByEmail(email)) {
+      throw new CustomException(AuthErrorCode.EMAIL_ALREADY_EXISTS);
+    }
+    String code = verificationCodeService.issue(VerificationChannel.EMAIL, email);
     emailConfirmRequestEventPub.emailConfirmReq(new EmailConfirmRequest(email, code));
   }
 
   @Override
   public boolean checkedConfirmedEmail(String email) {
-    return emailCodeGenerator.checkCode("confirmed", email);
+    if (!verificationCodeService.consumeConfirmed(VerificationChannel.EMAIL, email)) {
+      log.info("이메일 확인 작업을 하지 않은 유저입니다 : {}", email);
+      throw new CustomException(AuthErrorCode.NOT_CONFIRMED_EMAIL);
+    }
+    return true;
   }
 }
@@ -7,7 +7,9 @@ import com.teambiund.bander.auth_server.auth.event.publish.PhoneNumberVerifiedEv
 import com.teambiund.bander.auth_server.auth.event.publish.SmsConfirmRequestEventPub;
 import com.teambiund.bander.auth_server.auth.service.update.PhoneNumberUpdateService;
 import com.teambiund.bander.auth_server.auth.service.update.SmsConfirmService;
-import com.teambiund.bander.auth_server.auth.util.generator.generate_code.SmsCodeGenerator;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore.VerifyResult;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationChannel;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationCodeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,21 +19,25 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class SmsConfirmServiceImpl implements SmsConfirmService {
 
-  private final SmsCodeGenerator smsCodeGenerator;
+  private final VerificationCodeService verificationCodeService;
   private final SmsConfirmRequestEventPub smsConfirmRequestEventPub;
   private final PhoneNumberVerifiedEventPub phoneNumberVerifiedEventPub;
   private final PhoneNumberUpdateService phoneNumberUpdateService;
 
   @Override
   public void generateCode(String userId, String phoneNumber) {
-    String code = smsCodeGenerator.generateCode(userId, phoneNumber);
-    smsConfirmRequestEventPub.publish(new SmsConfirmRequest(phoneNumber, code));
-    log.info("SMS 인증 코드 이벤트 발행 완료 - userId: {}", userId);
+    publishCode(
+        userId,
+        phoneNumber,
+        verificationCodeService.issue(VerificationChannel.SMS, subject(userId, phoneNumber)));
   }
 
   @Override
   public boolean confirmSms(String userId, String phoneNumber, String code) {
-    boolean isValid = smsCodeGenerator.checkCode(userId, phoneNumber, code);
+    VerifyResult result =
+        verificationCodeService.verify(VerificationChannel.SMS, subject(userId, phoneNumber), code);
+    log.info("SMS 인증 코드 확인 - userId: {}, result: {}", userId, result);
+    boolean isValid = result == VerifyResult.VERIFIED;
 
     if (isValid) {
       // 인증 성공 시 전화번호 암호화 저장
@@ -43,17 +49,24 @@ public class SmsConfirmServiceImpl implements SmsConfirmService {
 
   @Override
   public boolean resendSms(String userId, String phoneNumber) {
-    if (smsCodeGenerator.canResend(userId, phoneNumber)) {
-      generateCode(userId, phoneNumber);
-      return true;
-    }
-
-    // 기존 코드가 있으면 삭제 후 재발신
-    smsCodeGenerator.deleteCode(userId, phoneNumber);
-    generateCode(userId, phoneNumber);
+    // 기존 코드가 있으면 새 코드로 교체 후 재발신
+    publishCode(
+        userId,
+        phoneNumber,
+        verificationCodeService.reissue(VerificationChannel.SMS, subject(userId, phoneNumber)));
     return true;
   }
 
+  private void publishCode(String userId, String phoneNumber, String code) {
+    smsConfirmRequestEventPub.publish(new SmsConfirmRequest(phoneNumber, code));
+    log.info("SMS 인증 코드 이벤트 발행 완료 - userId: {}", userId);
+  }
+
+  // challenge 대상 - 사용자와 번호 조합
+  private static String subject(String userId, String phoneNumber) {
+    return userId + ":" + phoneNumber;
+  }
+
   @Override
   public void savePhoneNumber(String userId, String phoneNumber) {
     PhoneNumberUpdateRequest req = new PhoneNumberUpdateRequest(userId, phoneNumber);
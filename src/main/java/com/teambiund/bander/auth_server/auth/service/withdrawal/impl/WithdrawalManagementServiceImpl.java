@@ -2,10 +2,10 @@ package com.teambiund.bander.auth_server.auth.service.withdrawal.impl;
 
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.service.withdrawal.WithdrawalManagementService;
-import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,12 +13,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class WithdrawalManagementServiceImpl implements WithdrawalManagementService {
   private final AuthRepository authRepository;
-  private final CipherStrategy emailCipher;
+  private final AuthEmailLookup authEmailLookup;
+  private final AuthViewCache authViewCache;
 
   public WithdrawalManagementServiceImpl(
-      AuthRepository authRepository, @Qualifier("aesCipherStrategy") CipherStrategy emailCipher) {
+      AuthRepository authRepository,
+      AuthEmailLookup authEmailLookup,
+      AuthViewCache authViewCache) {
     this.authRepository = authRepository;
-    this.emailCipher = emailCipher;
+    this.authEmailLookup = authEmailLookup;
+    this.authViewCache = authViewCache;
   }
 
   /** 회원 탈퇴 처리 - Auth 엔티티의 편의 메서드를 사용하여 탈퇴 처리 - Cascade 설정으로 Withdraw 엔티티 자동 저장 */
@@ -33,15 +37,14 @@ public class WithdrawalManagementServiceImpl implements WithdrawalManagementServ
 
     // CascadeType.ALL로 인해 auth만 save하면 withdraw도 자동 저장됨
     authRepository.save(auth);
+    authViewCache.evict(userId);
   }
 
   /** 회원 탈퇴 철회 - Auth 엔티티의 편의 메서드를 사용하여 탈퇴 철회 - orphanRemoval=true 설정으로 Withdraw 엔티티 자동 삭제 */
   public void withdrawRetraction(String email) throws CustomException {
-    String encryptedEmail = emailCipher.encrypt(email);
     var auth =
-        authRepository
-            .findByEmailWithWithdraw(encryptedEmail)
-            .or(() -> authRepository.findByEmailWithWithdraw(email))
+        authEmailLookup
+            .findByEmailWithWithdraw(email)
             .orElseThrow(() -> new CustomException(AuthErrorCode.USER_NOT_FOUND));
 
     if (auth.getWithdraw() == null) {
@@ -53,5 +56,6 @@ public class WithdrawalManagementServiceImpl implements WithdrawalManagementServ
 
     // orphanRemoval=true로 인해 withdraw 참조 제거 시 자동 삭제됨
     authRepository.save(auth);
+    authViewCache.evict(auth.getId());
   }
 }
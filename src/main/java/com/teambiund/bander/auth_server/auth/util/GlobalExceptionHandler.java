@@ -1,8 +1,10 @@
 package com.teambiund.bander.auth_server.auth.util;
 
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.RateLimitExceededException;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -13,9 +15,24 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+  /** 503 응답 시 클라이언트 재시도 간격(초) */
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<?> handleRateLimitExceeded(RateLimitExceededException ex) {
+    return ResponseEntity.status(ex.getStatus())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(ex.getMessage());
+  }
+
   @ExceptionHandler(CustomException.class)
   public ResponseEntity<?> handleCustomException(CustomException ex) {
 
+    if (ex.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+      return ResponseEntity.status(ex.getStatus())
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .body(ex.getMessage());
+    }
     return ResponseEntity.status(ex.getStatus()).body(ex.getMessage());
   }
 
@@ -3,16 +3,21 @@ package com.teambiund.bander.auth_server.auth.util.cipher;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 
 /**
  * AES-256 대칭키 암호화 전략 - 복호화 가능 (isReversible = true) - 전화번호, 이메일 등 복호화가 필요한 개인정보에 사용
  *
- * <p>특징: - AES/ECB/PKCS5Padding 알고리즘 - SHA-256으로 키 파생 - Base64 인코딩
+ * <p>특징: - AES/ECB/PKCS5Padding 알고리즘 - SHA-256으로 키 파생 - Base64 인코딩 - 스레드마다 초기화된 Cipher 를 재사용
+ * (호출마다 getInstance/init 하지 않음, doFinal 후 초기 상태로 돌아가므로 IV 없는 ECB 는 그대로 재사용 가능)
  *
  * <p>사용 예: - 전화번호 암호화/복호화 - 이메일 암호화/복호화 - 주소 암호화/복호화
  */
@@ -22,6 +27,8 @@ public class AESCipherStrategy implements CipherStrategy {
   private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
 
   private final SecretKeySpec secretKey;
+  private final ThreadLocal<Cipher> encryptCipher;
+  private final ThreadLocal<Cipher> decryptCipher;
 
   /**
    * 생성자
@@ -30,6 +37,12 @@ public class AESCipherStrategy implements CipherStrategy {
    */
   public AESCipherStrategy(String encryptionKey) {
     this.secretKey = generateKey(encryptionKey);
+    this.encryptCipher =
+        ThreadLocal.withInitial(
+            () -> newCipher(Cipher.ENCRYPT_MODE, AuthErrorCode.ENCRYPTION_ERROR));
+    this.decryptCipher =
+        ThreadLocal.withInitial(
+            () -> newCipher(Cipher.DECRYPT_MODE, AuthErrorCode.DECRYPTION_ERROR));
   }
 
   @Override
@@ -37,15 +50,7 @@ public class AESCipherStrategy implements CipherStrategy {
     if (plainText == null || plainText.isEmpty()) {
       return null;
     }
-
-    try {
-      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-      cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-      byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-      return Base64.getEncoder().encodeToString(encrypted);
-    } catch (Exception e) {
-      throw new CustomException(AuthErrorCode.ENCRYPTION_ERROR);
-    }
+    return encrypt(encryptCipher.get(), plainText);
   }
 
   @Override
@@ -53,15 +58,30 @@ public class AESCipherStrategy implements CipherStrategy {
     if (encryptedText == null || encryptedText.isEmpty()) {
       return null;
     }
+    return decrypt(decryptCipher.get(), encryptedText);
+  }
 
-    try {
-      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-      cipher.init(Cipher.DECRYPT_MODE, secretKey);
-      byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
-      return new String(decrypted, StandardCharsets.UTF_8);
-    } catch (Exception e) {
-      throw new CustomException(AuthErrorCode.DECRYPTION_ERROR);
+  /** 일괄 암호화 - 스레드의 Cipher 를 한 번만 꺼내 전체 목록에 사용 */
+  @Override
+  public List<String> encryptAll(Collection<String> plainTexts) {
+    Cipher cipher = encryptCipher.get();
+    List<String> result = new ArrayList<>(plainTexts.size());
+    for (String plainText : plainTexts) {
+      result.add(plainText == null || plainText.isEmpty() ? null : encrypt(cipher, plainText));
+    }
+    return result;
+  }
+
+  /** 일괄 복호화 - 스레드의 Cipher 를 한 번만 꺼내 전체 목록에 사용 (하나라도 실패하면 예외) */
+  @Override
+  public List<String> decryptAll(Collection<String> encryptedTexts) {
+    Cipher cipher = decryptCipher.get();
+    List<String> result = new ArrayList<>(encryptedTexts.size());
+    for (String encryptedText : encryptedTexts) {
+      result.add(
+          encryptedText == null || encryptedText.isEmpty() ? null : decrypt(cipher, encryptedText));
     }
+    return result;
   }
 
   @Override
@@ -76,6 +96,37 @@ public class AESCipherStrategy implements CipherStrategy {
     return true; // AES는 복호화 가능
   }
 
+  private String encrypt(Cipher cipher, String plainText) {
+    try {
+      byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(encrypted);
+    } catch (GeneralSecurityException e) {
+      // 실패한 Cipher 의 상태를 신뢰할 수 없으므로 다음 호출에서 새로 초기화
+      encryptCipher.remove();
+      throw new CustomException(AuthErrorCode.ENCRYPTION_ERROR);
+    }
+  }
+
+  private String decrypt(Cipher cipher, String encryptedText) {
+    try {
+      byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(encryptedText));
+      return new String(decrypted, StandardCharsets.UTF_8);
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      decryptCipher.remove();
+      throw new CustomException(AuthErrorCode.DECRYPTION_ERROR);
+    }
+  }
+
+  private Cipher newCipher(int mode, AuthErrorCode errorCode) {
+    try {
+      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      cipher.init(mode, secretKey);
+      return cipher;
+    } catch (GeneralSecurityException e) {
+      throw new CustomException(errorCode);
+    }
+  }
+
   /**
    * 문자열 키를 AES-256 키로 변환
    *
@@ -0,0 +1,207 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+/**
+ * Argon2id 단방향 해시 전략 - 메모리 하드 함수로 GPU/ASIC 공격 비용을 높임 - 복호화 불가능 (isReversible = false)
+ *
+ * <p>특징: - Argon2id (RFC 9106), BouncyCastle 구현 사용 - Salt 자동 생성 (16바이트) - 메모리/반복/병렬도 설정 가능 (기본값: OWASP
+ * 권장 m=19MiB, t=2, p=1) - 해시 길이: 256비트 (32바이트)
+ *
+ * <p>저장 형식 (PHC 문자열): $argon2id$v=19$m=[KiB],t=[반복],p=[병렬도]$[salt]$[hash] - 파라미터가 행마다 기록되므로 설정을 바꿔도
+ * 기존 해시는 그대로 검증되고 {@link #needsRehash} 로 재해싱 대상을 찾을 수 있다.
+ *
+ * <p>해시 1회에 memoryKiB 만큼 메모리를 쓰므로 PasswordHashingExecutor 의 스레드 수가 동시 사용 메모리 상한이 된다.
+ */
+public class Argon2idCipherStrategy implements CipherStrategy {
+
+  public static final String PREFIX = "$argon2id$";
+
+  public static final int DEFAULT_MEMORY_KIB = 19 * 1024;
+  public static final int DEFAULT_ITERATIONS = 2;
+  public static final int DEFAULT_PARALLELISM = 1;
+
+  private static final int SALT_LENGTH = 16;
+  private static final int HASH_LENGTH = 32;
+
+  private static final Base64.Encoder B64_ENCODER = Base64.getEncoder().withoutPadding();
+  private static final Base64.Decoder B64_DECODER = Base64.getDecoder();
+
+  private final int memoryKiB;
+  private final int iterations;
+  private final int parallelism;
+  private final SecureRandom random = new SecureRandom();
+
+  public Argon2idCipherStrategy() {
+    this(DEFAULT_MEMORY_KIB, DEFAULT_ITERATIONS, DEFAULT_PARALLELISM);
+  }
+
+  /**
+   * @param memoryKiB 해시 1회에 사용할 메모리 (KiB)
+   * @param iterations 반복 횟수 (time cost)
+   * @param parallelism 병렬도 (lane 수)
+   */
+  public Argon2idCipherStrategy(int memoryKiB, int iterations, int parallelism) {
+    if (iterations < 1 || parallelism < 1 || memoryKiB < 8 * parallelism) {
+      throw new IllegalArgumentException(
+          "Invalid Argon2id parameters: m="
+              + memoryKiB
+              + ", t="
+              + iterations
+              + ", p="
+              + parallelism);
+    }
+    this.memoryKiB = memoryKiB;
+    this.iterations = iterations;
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public String encrypt(String plainText) {
+    if (plainText == null || plainText.isEmpty()) {
+      return null;
+    }
+
+    try {
+      byte[] salt = new byte[SALT_LENGTH];
+      random.nextBytes(salt);
+      byte[] hash = argon2(plainText, salt, memoryKiB, iterations, parallelism, HASH_LENGTH);
+
+      return PREFIX
+          + "v=19$m="
+          + memoryKiB
+          + ",t="
+          + iterations
+          + ",p="
+          + parallelism
+          + "$"
+          + B64_ENCODER.encodeToString(salt)
+          + "$"
+          + B64_ENCODER.encodeToString(hash);
+    } catch (Exception e) {
+      throw new CustomException(AuthErrorCode.ENCRYPTION_ERROR);
+    }
+  }
+
+  @Override
+  public String decrypt(String encryptedText) {
+    throw new UnsupportedOperationException(
+        "Argon2id is a one-way hash function. Decryption is not supported. Use matches() instead.");
+  }
+
+  @Override
+  public boolean matches(String plainText, String encryptedText) {
+    if (plainText == null || encryptedText == null) {
+      return false;
+    }
+
+    try {
+      Parsed parsed = Parsed.of(encryptedText);
+      if (parsed == null) {
+        return false;
+      }
+      byte[] testHash =
+          argon2(
+              plainText,
+              parsed.salt,
+              parsed.memoryKiB,
+              parsed.iterations,
+              parsed.parallelism,
+              parsed.hash.length);
+
+      // 상수 시간 비교 (timing attack 방지)
+      return slowEquals(parsed.hash, testHash);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  /** 저장된 해시의 m/t/p 가 현재 설정과 다르면 true */
+  @Override
+  public boolean needsRehash(String encryptedText) {
+    Parsed parsed = encryptedText == null ? null : Parsed.of(encryptedText);
+    if (parsed == null) {
+      return false;
+    }
+    return parsed.memoryKiB != memoryKiB
+        || parsed.iterations != iterations
+        || parsed.parallelism != parallelism;
+  }
+
+  @Override
+  public boolean isReversible() {
+    return false;
+  }
+
+  private static byte[] argon2(
+      String password, byte[] salt, int memoryKiB, int iterations, int parallelism, int length) {
+    Argon2Parameters params =
+        new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+            .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+            .withSalt(salt)
+            .withMemoryAsKB(memoryKiB)
+            .withIterations(iterations)
+            .withParallelism(parallelism)
+            .build();
+    Argon2BytesGenerator generator = new Argon2BytesGenerator();
+    generator.init(params);
+    byte[] out = new byte[length];
+    generator.generateBytes(password.getBytes(StandardCharsets.UTF_8), out);
+    return out;
+  }
+
+  /** 상수 시간 비교 (timing attack 방지) */
+  private static boolean slowEquals(byte[] a, byte[] b) {
+    int diff = a.length ^ b.length;
+    for (int i = 0; i < a.length && i < b.length; i++) {
+      diff |= a[i] ^ b[i];
+    }
+    return diff == 0;
+  }
+
+  /** $argon2id$v=19$m=..,t=..,p=..$salt$hash 파싱 결과 */
+  private record Parsed(int memoryKiB, int iterations, int parallelism, byte[] salt, byte[] hash) {
+
+    private static Parsed of(String encoded) {
+      if (!encoded.startsWith(PREFIX)) {
+        return null;
+      }
+      String[] parts = encoded.substring(PREFIX.length()).split("\\$");
+      if (parts.length != 4 || !parts[0].equals("v=19")) {
+        return null;
+      }
+      int m = -1;
+      int t = -1;
+      int p = -1;
+      try {
+        for (String param : parts[1].split(",")) {
+          int eq = param.indexOf('=');
+          if (eq < 0) {
+            return null;
+          }
+          int value = Integer.parseInt(param.substring(eq + 1));
+          switch (param.substring(0, eq)) {
+            case "m" -> m = value;
+            case "t" -> t = value;
+            case "p" -> p = value;
+            default -> {
+              return null;
+            }
+          }
+        }
+        if (m < 1 || t < 1 || p < 1) {
+          return null;
+        }
+        return new Parsed(m, t, p, B64_DECODER.decode(parts[2]), B64_DECODER.decode(parts[3]));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package com.teambiund.bander.auth_server.auth.util.cipher;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 암호화 전략 인터페이스 (Strategy Pattern) - 다양한 암호화 방식을 추상화 - 대칭키 암호화 (AES): 전화번호, 이메일 등 복호화가 필요한 데이터 - 단방향
  * 해시 (BCrypt): 비밀번호 등 복호화가 불필요한 데이터
@@ -26,6 +30,35 @@ public interface CipherStrategy {
    */
   String decrypt(String encryptedText);
 
+  /**
+   * 일괄 암호화 - 관리자 내보내기, 마이그레이션 등 대량 경로용
+   *
+   * @param plainTexts 평문 목록
+   * @return 입력 순서대로의 암호문 목록 (각 원소는 encrypt 와 같은 결과)
+   */
+  default List<String> encryptAll(Collection<String> plainTexts) {
+    List<String> result = new ArrayList<>(plainTexts.size());
+    for (String plainText : plainTexts) {
+      result.add(encrypt(plainText));
+    }
+    return result;
+  }
+
+  /**
+   * 일괄 복호화 - 관리자 내보내기, 마이그레이션 등 대량 경로용
+   *
+   * @param encryptedTexts 암호문 목록
+   * @return 입력 순서대로의 평문 목록 (각 원소는 decrypt 와 같은 결과)
+   * @throws UnsupportedOperationException 단방향 해시인 경우
+   */
+  default List<String> decryptAll(Collection<String> encryptedTexts) {
+    List<String> result = new ArrayList<>(encryptedTexts.size());
+    for (String encryptedText : encryptedTexts) {
+      result.add(decrypt(encryptedText));
+    }
+    return result;
+  }
+
   /**
    * 검증 (단방향 해시용) - 비밀번호처럼 복호화가 불필요하고 검증만 필요한 경우
    *
@@ -35,6 +68,16 @@ public interface CipherStrategy {
    */
   boolean matches(String plainText, String encryptedText);
 
+  /**
+   * 재해싱 필요 여부 (단방향 해시용) - 저장된 해시가 현재 설정과 다른 비용으로 만들어진 경우 true
+   *
+   * @param encryptedText 저장된 해시
+   * @return 현재 설정으로 다시 해싱해야 하면 true
+   */
+  default boolean needsRehash(String encryptedText) {
+    return false;
+  }
+
   /**
    * 복호화 가능 여부
    *
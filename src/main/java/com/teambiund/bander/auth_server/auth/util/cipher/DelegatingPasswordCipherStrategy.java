@@ -0,0 +1,86 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+import java.util.Locale;
+
+/**
+ * 비밀번호 해시 전략 위임자 - 새 해시는 선택한 알고리즘으로 만들고, 검증은 저장된 해시의 접두사로 알고리즘을 골라 수행
+ *
+ * <p>접두사 규칙: - "$argon2id$" 로 시작: Argon2id - 그 외 ([iterations]:[salt]:[hash]): PBKDF2 (접두사 도입 전 기존 행)
+ *
+ * <p>현재 알고리즘이 아닌 해시는 {@link #needsRehash} 가 true 를 반환하므로, 로그인 시 재해싱(PasswordRehashService)으로 점진적으로
+ * 옮겨간다.
+ */
+public class DelegatingPasswordCipherStrategy implements CipherStrategy {
+
+  public enum Algorithm {
+    PBKDF2,
+    ARGON2ID;
+
+    /** 설정값(pbkdf2, argon2id, argon2) 해석 */
+    public static Algorithm of(String name) {
+      return switch (name.trim().toLowerCase(Locale.ROOT)) {
+        case "pbkdf2" -> PBKDF2;
+        case "argon2id", "argon2" -> ARGON2ID;
+        default -> throw new IllegalArgumentException("Unsupported password algorithm: " + name);
+      };
+    }
+
+    /** 저장된 해시의 알고리즘 */
+    static Algorithm ofHash(String encryptedText) {
+      return encryptedText.startsWith(Argon2idCipherStrategy.PREFIX) ? ARGON2ID : PBKDF2;
+    }
+  }
+
+  private final Algorithm current;
+  private final CipherStrategy pbkdf2;
+  private final CipherStrategy argon2id;
+
+  /**
+   * @param current 새 해시에 사용할 알고리즘
+   * @param pbkdf2 PBKDF2 전략
+   * @param argon2id Argon2id 전략
+   */
+  public DelegatingPasswordCipherStrategy(
+      Algorithm current, CipherStrategy pbkdf2, CipherStrategy argon2id) {
+    this.current = current;
+    this.pbkdf2 = pbkdf2;
+    this.argon2id = argon2id;
+  }
+
+  @Override
+  public String encrypt(String plainText) {
+    return strategy(current).encrypt(plainText);
+  }
+
+  @Override
+  public String decrypt(String encryptedText) {
+    throw new UnsupportedOperationException(
+        "Password hashes are one-way. Decryption is not supported. Use matches() instead.");
+  }
+
+  @Override
+  public boolean matches(String plainText, String encryptedText) {
+    if (plainText == null || encryptedText == null) {
+      return false;
+    }
+    return strategy(Algorithm.ofHash(encryptedText)).matches(plainText, encryptedText);
+  }
+
+  @Override
+  public boolean needsRehash(String encryptedText) {
+    if (encryptedText == null) {
+      return false;
+    }
+    Algorithm algorithm = Algorithm.ofHash(encryptedText);
+    return algorithm != current || strategy(algorithm).needsRehash(encryptedText);
+  }
+
+  @Override
+  public boolean isReversible() {
+    return false;
+  }
+
+  private CipherStrategy strategy(Algorithm algorithm) {
+    return algorithm == Algorithm.ARGON2ID ? argon2id : pbkdf2;
+  }
+}
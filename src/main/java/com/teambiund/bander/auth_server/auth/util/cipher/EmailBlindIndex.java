@@ -0,0 +1,84 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 이메일 블라인드 인덱스 - 암호화된 이메일 컬럼 대신 조회에 쓰는 결정적 키드 해시 (HMAC-SHA256)
+ *
+ * <p>특징: - 결과는 base64url(패딩 없음) 43자 고정 길이 → auth.email_hash 유니크 인덱스 한 번 탐색으로 조회 - 키 없이는 사전 대입으로
+ * 이메일을 역추적할 수 없음 - 조회가 암호문 동등 비교에 의존하지 않으므로 이메일 암호화를 랜덤화 모드로 바꿀 수 있음
+ *
+ * <p>주의: - 입력은 정규화하지 않음 (가입 시 입력 그대로 암호화해 비교하던 기존 일치 기준 유지) - 키를 바꾸면 모든 인덱스를 다시 계산해야 하므로
+ * 암호화 키와 분리해 고정 보관
+ */
+public class EmailBlindIndex {
+
+  /** 인덱스 문자열 길이 (32바이트 HMAC 의 base64url 인코딩) */
+  public static final int LENGTH = 43;
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final String DERIVATION_LABEL = "auth.email.blind-index";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final SecretKeySpec key;
+  private final ThreadLocal<Mac> mac;
+
+  /**
+   * 생성자
+   *
+   * @param indexKey 블라인드 인덱스 전용 키 (환경변수에서 주입)
+   */
+  public EmailBlindIndex(String indexKey) {
+    this(indexKey.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private EmailBlindIndex(byte[] keyBytes) {
+    if (keyBytes.length == 0) {
+      throw new IllegalArgumentException("Blind index key must not be empty");
+    }
+    this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    this.mac = ThreadLocal.withInitial(this::newMac);
+  }
+
+  /**
+   * 전용 키가 없을 때 암호화 키에서 용도 라벨로 파생한 키를 사용 (암호화 키 자체를 인덱스 키로 재사용하지 않음)
+   *
+   * @param encryptionKey 이메일 암호화 키
+   */
+  public static EmailBlindIndex derivedFrom(String encryptionKey) {
+    try {
+      Mac kdf = Mac.getInstance(ALGORITHM);
+      kdf.init(new SecretKeySpec(encryptionKey.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+      return new EmailBlindIndex(kdf.doFinal(DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to derive blind index key", e);
+    }
+  }
+
+  /**
+   * 이메일의 블라인드 인덱스 계산
+   *
+   * @param email 평문 이메일
+   * @return 43자 인덱스 (입력이 비어 있으면 null)
+   */
+  public String of(String email) {
+    if (email == null || email.isEmpty()) {
+      return null;
+    }
+    return ENCODER.encodeToString(mac.get().doFinal(email.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private Mac newMac() {
+    try {
+      Mac instance = Mac.getInstance(ALGORITHM);
+      instance.init(key);
+      return instance;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+/**
+ * 단방향 해시 전략 데코레이터 - encrypt/matches 를 {@link PasswordHashingExecutor} 에서 실행
+ *
+ * <p>서비스 코드는 기존처럼 CipherStrategy 만 사용하고, 해싱이 어느 스레드에서 실행되는지는 CipherConfig 에서 결정한다.
+ */
+public class ExecutorBoundCipherStrategy implements CipherStrategy {
+
+  private final CipherStrategy delegate;
+  private final PasswordHashingExecutor executor;
+
+  public ExecutorBoundCipherStrategy(CipherStrategy delegate, PasswordHashingExecutor executor) {
+    this.delegate = delegate;
+    this.executor = executor;
+  }
+
+  @Override
+  public String encrypt(String plainText) {
+    return executor.execute(() -> delegate.encrypt(plainText));
+  }
+
+  @Override
+  public String decrypt(String encryptedText) {
+    return delegate.decrypt(encryptedText);
+  }
+
+  @Override
+  public boolean matches(String plainText, String encryptedText) {
+    return executor.execute(() -> delegate.matches(plainText, encryptedText));
+  }
+
+  @Override
+  public boolean needsRehash(String encryptedText) {
+    return delegate.needsRehash(encryptedText);
+  }
+
+  @Override
+  public boolean isReversible() {
+    return delegate.isReversible();
+  }
+}
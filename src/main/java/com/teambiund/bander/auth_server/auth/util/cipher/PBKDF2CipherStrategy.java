@@ -5,6 +5,7 @@ import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
+import java.time.Duration;
 import java.util.Base64;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
@@ -13,17 +14,68 @@ import javax.crypto.spec.PBEKeySpec;
  * PBKDF2WithHmacSHA256 단방향 해시 전략 - BCrypt의 대안으로 사용 - 복호화 불가능 (isReversible = false) - 비밀번호 등 복호화가
  * 불필요한 보안 데이터에 사용
  *
- * <p>특징: - PBKDF2WithHmacSHA256 알고리즘 사용 - Salt 자동 생성 (32바이트) - 반복 횟수: 65,536회 (OWASP 권장) - 해시 길이:
- * 256비트 (32바이트)
+ * <p>특징: - PBKDF2WithHmacSHA256 알고리즘 사용 - Salt 자동 생성 (32바이트) - 반복 횟수: 기본 65,536회 (OWASP 권장), 배포별 설정
+ * 또는 {@link #calibrate} 로 하드웨어에 맞게 결정 - 해시 길이: 256비트 (32바이트)
+ *
+ * <p>반복 횟수는 저장 형식 [iterations]:[salt]:[hash] 에 행마다 기록되므로 비용을 바꿔도 기존 해시는 그대로 검증되고,
+ * {@link #needsRehash} 로 다른 비용의 해시를 찾아 로그인 시 재해싱할 수 있다.
  *
  * <p>사용 예: - 비밀번호 저장/검증 - API 키 저장/검증
  */
 public class PBKDF2CipherStrategy implements CipherStrategy {
 
   private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
-  private static final int ITERATIONS = 65536; // OWASP 권장 최소값
+  public static final int DEFAULT_ITERATIONS = 65536; // OWASP 권장 최소값
   private static final int SALT_LENGTH = 32; // 32 bytes (256 bits)
   private static final int HASH_LENGTH = 256; // 256 bits
+  private static final int CALIBRATION_SAMPLE_ITERATIONS = 16384;
+  private static final int CALIBRATION_ROUNDS = 3;
+
+  private final int iterations;
+
+  public PBKDF2CipherStrategy() {
+    this(DEFAULT_ITERATIONS);
+  }
+
+  public PBKDF2CipherStrategy(int iterations) {
+    if (iterations <= 0) {
+      throw new IllegalArgumentException("iterations must be positive: " + iterations);
+    }
+    this.iterations = iterations;
+  }
+
+  /**
+   * 현재 하드웨어에서 해시 1회가 목표 시간 이내가 되는 반복 횟수 측정
+   *
+   * <p>인스턴스마다 측정값이 조금씩 달라도 같은 값이 나오도록 2의 거듭제곱으로 내림한다 (인스턴스 간 재해싱 반복 방지).
+   *
+   * @param targetLatency 해시 1회 목표 시간
+   * @param minIterations 하한 (현재 보안 수준 이하로 내려가지 않도록)
+   * @param maxIterations 상한
+   */
+  public static int calibrate(Duration targetLatency, int minIterations, int maxIterations) {
+    char[] password = "calibration-password".toCharArray();
+    byte[] salt = new byte[SALT_LENGTH];
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) { // JIT 워밍업
+      pbkdf2(password, salt, CALIBRATION_SAMPLE_ITERATIONS, HASH_LENGTH);
+    }
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+      long start = System.nanoTime();
+      pbkdf2(password, salt, CALIBRATION_SAMPLE_ITERATIONS, HASH_LENGTH);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    double nanosPerIteration = (double) Math.max(best, 1) / CALIBRATION_SAMPLE_ITERATIONS;
+    long estimate = (long) (targetLatency.toNanos() / nanosPerIteration);
+    int powerOfTwo =
+        Integer.highestOneBit((int) Math.min(Math.max(estimate, 1), Integer.MAX_VALUE));
+    return Math.max(minIterations, Math.min(maxIterations, powerOfTwo));
+  }
+
+  /** 새 해시에 사용하는 반복 횟수 */
+  public int getIterations() {
+    return iterations;
+  }
 
   @Override
   public String encrypt(String plainText) {
@@ -38,11 +90,11 @@ public class PBKDF2CipherStrategy implements CipherStrategy {
       random.nextBytes(salt);
 
       // 해시 생성
-      byte[] hash = pbkdf2(plainText.toCharArray(), salt, ITERATIONS, HASH_LENGTH);
+      byte[] hash = pbkdf2(plainText.toCharArray(), salt, iterations, HASH_LENGTH);
 
       // Salt와 Hash를 결합하여 Base64 인코딩
       // 형식: [iterations]:[salt]:[hash]
-      return ITERATIONS
+      return iterations
           + ":"
           + Base64.getEncoder().encodeToString(salt)
           + ":"
@@ -85,13 +137,30 @@ public class PBKDF2CipherStrategy implements CipherStrategy {
     }
   }
 
+  /** 저장된 해시의 반복 횟수가 현재 설정과 다르면 true (형식이 잘못된 해시는 판단하지 않음) */
+  @Override
+  public boolean needsRehash(String encryptedText) {
+    if (encryptedText == null) {
+      return false;
+    }
+    int separator = encryptedText.indexOf(':');
+    if (separator <= 0) {
+      return false;
+    }
+    try {
+      return Integer.parseInt(encryptedText.substring(0, separator)) != iterations;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
   @Override
   public boolean isReversible() {
     return false; // PBKDF2는 복호화 불가능
   }
 
   /** PBKDF2 해시 생성 */
-  private byte[] pbkdf2(char[] password, byte[] salt, int iterations, int bits) {
+  private static byte[] pbkdf2(char[] password, byte[] salt, int iterations, int bits) {
     try {
       PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, bits);
       SecretKeyFactory skf = SecretKeyFactory.getInstance(ALGORITHM);
@@ -0,0 +1,179 @@
+package com.teambiund.bander.auth_server.auth.util.cipher;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해싱 전용 실행기 - PBKDF2 같은 CPU 집약 작업을 Tomcat 요청 스레드에서 분리
+ *
+ * <p>특징: - 코어 수 크기의 고정 스레드 풀 + 고정 크기 대기열 - 대기열이 가득 차면 즉시 거절 (503 + Retry-After) - 요청 스레드는 결과를 기다리는
+ * 동안 CPU 를 쓰지 않으므로 로그인 폭주 중에도 헬스체크 등 가벼운 요청이 처리됨
+ *
+ * <p>해싱(PBKDF2 등)은 인터럽트를 확인하지 않아 실행 중에는 중단할 수 없다. 그래서 과부하는 대기열 크기로 막고(새 작업 거절), 제한 시간이
+ * 지나면 아직 시작하지 않은 작업만 취소한다 - 호출자가 포기한 작업이 나중에 CPU 를 쓰지 않도록. 대기열 대기 시간이 제한 시간보다 짧도록
+ * queue-capacity 를 정한다 (대략 queue-capacity / threads × 해싱 시간).
+ *
+ * <p>메트릭: - executor.* (name=passwordHashing): 대기열 길이, 활성 스레드 수 등 - password.hash.wait: 대기열 대기 시간 -
+ * password.hash.duration: 해싱 소요 시간 - password.hash.rejected: 포화로 거절된 요청 수
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+  static final String EXECUTOR_NAME = "passwordHashing";
+
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Timer waitTimer;
+  private final Timer hashTimer;
+  private final Counter rejected;
+
+  @Autowired
+  public PasswordHashingExecutor(
+      @Value("${security.password.hash.threads:0}") int threads,
+      @Value("${security.password.hash.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password.hash.timeout:PT5S}") Duration timeout,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        threads,
+        queueCapacity,
+        timeout,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  /**
+   * @param threads 해싱 스레드 수, 0 이하이면 사용 가능한 코어 수
+   * @param queueCapacity 스레드가 모두 사용 중일 때 대기할 수 있는 작업 수
+   * @param timeout 대기 + 해싱 최대 시간, 초과 시 포화로 간주 (시작 전 작업은 취소, 실행 중 작업은 끝까지 실행)
+   */
+  public PasswordHashingExecutor(
+      int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+    int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    this.executor =
+        new ThreadPoolExecutor(
+            size,
+            size,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.executor.prestartAllCoreThreads();
+    this.timeout = timeout;
+    this.waitTimer = Timer.builder("password.hash.wait").register(meterRegistry);
+    this.hashTimer = Timer.builder("password.hash.duration").register(meterRegistry);
+    this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+  }
+
+  /**
+   * 해싱 작업을 전용 스레드에서 실행하고 결과를 기다림
+   *
+   * @throws CustomException PASSWORD_HASHING_BUSY - 대기열 포화 또는 제한 시간 초과
+   */
+  public <T> T execute(Supplier<T> task) {
+    if (Thread.currentThread() instanceof HashingThread) {
+      return task.get(); // 해싱 스레드 안에서의 중첩 호출은 그대로 실행 (대기열 교착 방지)
+    }
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                  return task.get();
+                } finally {
+                  hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new CustomException(AuthErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    try {
+      return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // 대기열에 있으면 실행되지 않고 버려짐. 이미 실행 중이면 인터럽트해도 멈추지 않으므로 끝나게 둠
+      future.cancel(false);
+      rejected.increment();
+      log.warn("Password hashing timed out after {}", timeout);
+      throw new CustomException(AuthErrorCode.PASSWORD_HASHING_BUSY);
+    } catch (InterruptedException e) {
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new CustomException(AuthErrorCode.PASSWORD_HASHING_BUSY);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) throw runtime;
+      if (cause instanceof Error error) throw error;
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * 결과를 기다리지 않는 백그라운드 작업 제출 (재해싱 등)
+   *
+   * @return 대기열이 가득 차 작업을 버렸으면 false
+   */
+  public boolean submit(Runnable task) {
+    try {
+      executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  /** 현재 대기열에 쌓인 작업 수 */
+  public int queueDepth() {
+    return executor.getQueue().size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private static final class HashingThreadFactory implements ThreadFactory {
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread t = new HashingThread(r, "password-hash-" + sequence.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    }
+  }
+
+  private static final class HashingThread extends Thread {
+    private HashingThread(Runnable r, String name) {
+      super(r, name);
+    }
+  }
+}
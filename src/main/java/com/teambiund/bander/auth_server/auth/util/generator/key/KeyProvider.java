@@ -1,5 +1,7 @@
 package com.teambiund.bander.auth_server.auth.util.generator.key;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -7,5 +9,24 @@ public interface KeyProvider {
 
   String generateKey();
 
-  Long generateLongKey();
+  long generateLongKey();
+
+  /** ID 여러 개를 한 번에 발급 (기본 구현은 하나씩 발급, 구현체가 한 번에 예약하도록 재정의) */
+  default long[] generateLongKeys(int count) {
+    long[] keys = new long[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = generateLongKey();
+    }
+    return keys;
+  }
+
+  /** 문자열 ID 여러 개를 한 번에 발급 - 동의 일괄 저장, 배치 적재 등 */
+  default List<String> generateKeys(int count) {
+    long[] keys = generateLongKeys(count);
+    List<String> result = new ArrayList<>(count);
+    for (long key : keys) {
+      result.add(Long.toString(key));
+    }
+    return result;
+  }
 }
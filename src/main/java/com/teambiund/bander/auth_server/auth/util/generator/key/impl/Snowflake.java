@@ -1,26 +1,30 @@
 package com.teambiund.bander.auth_server.auth.util.generator.key.impl;
 
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
-import java.util.concurrent.ThreadLocalRandom;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Primary;
-import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
  * Snowflake ID Generator - Time-ordered 64-bit unique ID - Custom epoch - Supports multiple nodes
  *
+ * <p>Lock-free: the last (timestamp, sequence) pair is packed into a single {@link AtomicLong} and
+ * advanced with CAS. When the sequence of the current millisecond is exhausted, or the wall clock
+ * moves backwards, the generator borrows the next logical millisecond instead of waiting, so
+ * {@link #nextId()} never blocks and IDs stay strictly increasing per node. The logical clock
+ * falls back in line with the wall clock as soon as the wall clock passes it again.
+ *
+ * <p>Node ID: supplied by the caller (fixed configuration or {@link SnowflakeNodeLease}); it is
+ * read on every call so a re-acquired lease takes effect immediately.
+ *
  * <p>Author: MyungJoo Date: 2025-06-17
  */
-@Component
-@Primary
-@RequiredArgsConstructor
 public class Snowflake implements KeyProvider {
 
   // ===== Bit Allocation =====
   private static final int NODE_ID_BITS = 10;
-  private static final int SEQUENCE_BITS = 12;
+  static final int SEQUENCE_BITS = 12;
 
-  private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+  public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
   private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
 
   private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
@@ -28,51 +32,75 @@ public class Snowflake implements KeyProvider {
 
   // ===== Custom Epoch: 2024-01-01T00:00:00Z =====
   private static final long CUSTOM_EPOCH = 1704067200000L;
-  private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
+
   // ===== Instance Variables =====
-  private final long nodeId = ThreadLocalRandom.current().nextLong(maxNodeId + 1);
-  private long lastTimestamp = -1L;
-  private long sequence = 0L;
+  private final LongSupplier nodeId;
+  private final LongSupplier clock;
+  // (timestamp - CUSTOM_EPOCH) << SEQUENCE_BITS | sequence of the last issued ID
+  private final AtomicLong state = new AtomicLong(-1L);
 
-  /** Generate next unique ID */
-  public synchronized long nextId() {
-    long currentTimestamp = currentTime();
+  public Snowflake(long nodeId) {
+    this(constant(nodeId));
+  }
 
-    // Clock rollback handling
-    if (currentTimestamp < lastTimestamp) {
-      // Option 1: wait for time to catch up (soft fail)
-      currentTimestamp = waitNextMillis(lastTimestamp);
+  public Snowflake(LongSupplier nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  /** Custom clock (epoch millis) - for tests and simulations of clock skew */
+  public Snowflake(LongSupplier nodeId, LongSupplier clock) {
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  private static LongSupplier constant(long nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
     }
+    return () -> nodeId;
+  }
+
+  /** Generate next unique ID */
+  public long nextId() {
+    return compose(reserve(1));
+  }
 
-    if (currentTimestamp == lastTimestamp) {
-      sequence = (sequence + 1) & MAX_SEQUENCE;
-      if (sequence == 0) {
-        // Sequence overflow: wait for next millisecond
-        currentTimestamp = waitNextMillis(currentTimestamp);
+  /**
+   * Reserve {@code count} consecutive IDs with a single CAS and return the packed state of the
+   * first one; the block is {@code [first, first + count)} in packed (timestamp, sequence) space.
+   * Incrementing a packed state whose sequence is exhausted rolls into the next millisecond with
+   * sequence 0, which is exactly the borrowing rule, so a block may span several milliseconds.
+   */
+  long reserve(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive");
+    }
+    while (true) {
+      long last = state.get();
+      long now = (clock.getAsLong() - CUSTOM_EPOCH) << SEQUENCE_BITS;
+      // new millisecond starts at sequence 0; same or rolled-back millisecond continues from last
+      long first = Math.max(now, last + 1);
+      if (state.compareAndSet(last, first + count - 1)) {
+        return first;
       }
-    } else {
-      sequence = 0;
     }
+  }
 
-    lastTimestamp = currentTimestamp;
-
-    return ((currentTimestamp - CUSTOM_EPOCH) << TIMESTAMP_SHIFT)
-        | (nodeId << NODE_ID_SHIFT)
-        | sequence;
+  /** Build the ID for a packed (timestamp, sequence) state with the current node ID */
+  long compose(long packed) {
+    return ((packed >> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+        | ((nodeId.getAsLong() & MAX_NODE_ID) << NODE_ID_SHIFT)
+        | (packed & MAX_SEQUENCE);
   }
 
-  /** Busy-wait for next millisecond */
-  private long waitNextMillis(long lastTimestamp) {
-    long timestamp = currentTime();
-    while (timestamp <= lastTimestamp) {
-      Thread.yield(); // Reduce CPU waste
-      timestamp = currentTime();
-    }
-    return timestamp;
+  /** Current wall clock in packed form (sequence 0) - used to age out pre-allocated blocks */
+  long packedNow() {
+    return (clock.getAsLong() - CUSTOM_EPOCH) << SEQUENCE_BITS;
   }
 
-  private long currentTime() {
-    return System.currentTimeMillis();
+  /** Node ID bits of an ID produced by this generator */
+  public static long nodeIdOf(long id) {
+    return (id >> NODE_ID_SHIFT) & MAX_NODE_ID;
   }
 
   @Override
@@ -81,7 +109,21 @@ public class Snowflake implements KeyProvider {
   }
 
   @Override
-  public Long generateLongKey() {
+  public long generateLongKey() {
     return nextId();
   }
+
+  /** Bulk IDs from one reservation (one CAS regardless of {@code count}) */
+  @Override
+  public long[] generateLongKeys(int count) {
+    long[] ids = new long[count];
+    if (count == 0) {
+      return ids;
+    }
+    long first = reserve(count);
+    for (int i = 0; i < count; i++) {
+      ids[i] = compose(first + i);
+    }
+    return ids;
+  }
 }
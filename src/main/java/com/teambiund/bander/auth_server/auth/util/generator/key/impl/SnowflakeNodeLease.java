@@ -0,0 +1,187 @@
+package com.teambiund.bander.auth_server.auth.util.generator.key.impl;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Snowflake 노드 ID 임대 - 인스턴스마다 겹치지 않는 노드 ID(0~1023)를 Redis 키로 임대해 사용
+ *
+ * <p>동작: - 호스트 이름 해시 위치부터 snowflake:node:{id} 를 SET NX PX 로 차례로 시도해 처음 비어 있는 ID 를 차지 - renew-interval
+ * 마다 소유자 확인 후 TTL 연장 (Lua), 임대를 잃었으면 새 ID 를 다시 임대 - 종료 시 소유자일 때만 키 삭제
+ *
+ * <p>임대 만료 보호: 마지막으로 임대/연장에 성공한 시각부터 TTL - safety-margin 이 지나면 {@link #nodeId()} 가 예외를 던져 ID 발급을
+ * 거부한다. Redis 장애로 연장하지 못하는 동안 키가 만료되어 다른 인스턴스가 같은 노드 ID 를 임대하면 PK 가 중복될 수 있기 때문이다. 시각은
+ * Redis 호출 직전에 기록하므로 실제 키 만료보다 항상 이르다. 다음 연장이 성공하면(또는 새 ID 를 임대하면) 다시 발급한다.
+ *
+ * <p>고정 모드: snowflake.node-id 를 지정하면 Redis 없이 그 값을 사용 (테스트, 단일 인스턴스, 수동 배정 환경)
+ */
+@Slf4j
+public class SnowflakeNodeLease {
+  static final String KEY_PREFIX = "snowflake:node:";
+
+  private static final RedisScript<Long> RENEW =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then"
+              + " return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+          Long.class);
+  private static final RedisScript<Long> RELEASE =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then"
+              + " return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration ttl;
+  private final String owner;
+  private final Duration safetyMargin;
+  private final LongSupplier clock;
+  private final int preferredNodeId;
+  private volatile long nodeId;
+  // 이 시각(epoch ms)까지만 현재 노드 ID 로 발급
+  private volatile long validUntil;
+
+  /** 고정 노드 ID */
+  private SnowflakeNodeLease(long nodeId) {
+    this.redisTemplate = null;
+    this.ttl = null;
+    this.owner = null;
+    this.safetyMargin = null;
+    this.clock = null;
+    this.preferredNodeId = (int) nodeId;
+    this.nodeId = nodeId;
+    this.validUntil = Long.MAX_VALUE;
+  }
+
+  /**
+   * Redis 임대 - 생성 시 바로 노드 ID 를 임대 (빈 ID 가 없거나 Redis 오류면 기동 실패)
+   *
+   * @param ttl 임대 유지 시간 (renew-interval 의 3배 이상 권장)
+   * @param safetyMargin 키 만료 전 발급을 멈출 여유 (인스턴스 간 시계 오차, GC 정지보다 크게)
+   */
+  public SnowflakeNodeLease(
+      StringRedisTemplate redisTemplate, Duration ttl, Duration safetyMargin) {
+    this(redisTemplate, ttl, safetyMargin, hostName(), System::currentTimeMillis);
+  }
+
+  /** 임대 시작 위치와 소유자 표시에 쓸 인스턴스 이름을 직접 지정 (safety-margin 은 TTL 의 1/6) */
+  public SnowflakeNodeLease(StringRedisTemplate redisTemplate, Duration ttl, String hostName) {
+    this(redisTemplate, ttl, ttl.dividedBy(6), hostName, System::currentTimeMillis);
+  }
+
+  /** 시계(epoch ms)까지 직접 지정 - 임대 만료 테스트용 */
+  public SnowflakeNodeLease(
+      StringRedisTemplate redisTemplate,
+      Duration ttl,
+      Duration safetyMargin,
+      String hostName,
+      LongSupplier clock) {
+    if (safetyMargin.isNegative() || safetyMargin.compareTo(ttl) >= 0) {
+      throw new IllegalArgumentException("safetyMargin must be between 0 and ttl");
+    }
+    this.redisTemplate = redisTemplate;
+    this.ttl = ttl;
+    this.safetyMargin = safetyMargin;
+    this.clock = clock;
+    this.owner = hostName + ":" + UUID.randomUUID();
+    this.preferredNodeId = Math.floorMod(hostName.hashCode(), (int) Snowflake.MAX_NODE_ID + 1);
+    this.nodeId = acquire();
+  }
+
+  public static SnowflakeNodeLease fixed(long nodeId) {
+    if (nodeId < 0 || nodeId > Snowflake.MAX_NODE_ID) {
+      throw new IllegalArgumentException("nodeId must be between 0 and " + Snowflake.MAX_NODE_ID);
+    }
+    return new SnowflakeNodeLease(nodeId);
+  }
+
+  /**
+   * 현재 노드 ID
+   *
+   * @throws IllegalStateException 임대가 만료되었을 수 있어 (마지막 연장 후 TTL - safety-margin 경과) 이 노드 ID 로 발급할 수 없음
+   */
+  public long nodeId() {
+    long until = validUntil;
+    if (until != Long.MAX_VALUE && clock.getAsLong() > until) {
+      throw new IllegalStateException(
+          "Snowflake node id lease not renewed in time (nodeId=" + nodeId + "), refusing IDs");
+    }
+    return nodeId;
+  }
+
+  /**
+   * 임대 연장 - 잃었으면 새 노드 ID 임대 (Redis 오류 시 현재 ID 유지, 다음 주기에 재시도 - 그 사이 유효 시각이 지나면 발급 거부)
+   */
+  @Scheduled(
+      initialDelayString = "${snowflake.lease.renew-interval:PT10S}",
+      fixedDelayString = "${snowflake.lease.renew-interval:PT10S}")
+  public void renew() {
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      long started = clock.getAsLong();
+      Long renewed =
+          redisTemplate.execute(
+              RENEW, List.of(KEY_PREFIX + nodeId), owner, String.valueOf(ttl.toMillis()));
+      if (renewed != null && renewed == 1) {
+        validUntil = leaseEnd(started);
+      } else {
+        long previous = nodeId;
+        nodeId = acquire();
+        log.warn("Snowflake node id lease lost: {} -> {}", previous, nodeId);
+      }
+    } catch (DataAccessException | IllegalStateException e) {
+      log.error("Snowflake node id lease renewal failed (nodeId={}): {}", nodeId, e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void release() {
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + nodeId), owner);
+    } catch (DataAccessException e) {
+      log.warn("Snowflake node id lease release failed (nodeId={}): {}", nodeId, e.getMessage());
+    }
+  }
+
+  /** 비어 있는 노드 ID 임대 - 성공하면 유효 시각도 함께 갱신 */
+  private long acquire() {
+    int size = (int) Snowflake.MAX_NODE_ID + 1;
+    for (int i = 0; i < size; i++) {
+      int candidate = (preferredNodeId + i) % size;
+      long started = clock.getAsLong();
+      if (Boolean.TRUE.equals(
+          redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + candidate, owner, ttl))) {
+        validUntil = leaseEnd(started);
+        log.info("Snowflake node id {} leased by {}", candidate, owner);
+        return candidate;
+      }
+    }
+    throw new IllegalStateException("No free Snowflake node id");
+  }
+
+  private long leaseEnd(long started) {
+    return started + ttl.toMillis() - safetyMargin.toMillis();
+  }
+
+  private static String hostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      return "unknown";
+    }
+  }
+}
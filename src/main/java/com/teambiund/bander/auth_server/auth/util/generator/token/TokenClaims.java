@@ -0,0 +1,16 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+
+/**
+ * Immutable view of the claims of a token whose signature and expiration were already verified by
+ * {@link TokenUtil#verify(String)}. Callers can read every claim without decoding the token again.
+ *
+ * @param userId subject ({@code sub}); may be null when the issuer omitted it
+ * @param role granted role; null when absent or not a known {@link Role}
+ * @param deviceId device identifier the token is bound to; may be null
+ * @param issuedAt {@code iat} in epoch seconds, 0 when absent
+ * @param expiresAt {@code exp} in epoch seconds
+ */
+public record TokenClaims(
+    String userId, Role role, String deviceId, long issuedAt, long expiresAt) {}
@@ -1,6 +1,7 @@
 package com.teambiund.bander.auth_server.auth.util.generator.token;
 
 import com.teambiund.bander.auth_server.auth.enums.Role;
+import java.util.Optional;
 
 /**
  * TokenProvider defines the contract for issuing and validating JWT (or token-like) strings used by
@@ -35,6 +36,16 @@ public interface TokenUtil {
    */
   boolean isValid(String token);
 
+  /**
+   * Verify signature and expiration once and return every claim of the token. Prefer this over
+   * {@link #isValid(String)} followed by the {@code extract*} methods, which decode the token again
+   * on each call.
+   *
+   * @param token JWT string
+   * @return verified claims, or empty when the token is malformed, tampered with or expired
+   */
+  Optional<TokenClaims> verify(String token);
+
   /**
    * Extract the user id (subject) from a token without throwing.
    *
@@ -60,4 +71,12 @@ public interface TokenUtil {
   String extractDeviceId(String token);
 
   long extractExpiration(String token);
+
+  /**
+   * Public verification keys as a JWKS document (RFC 7517), so other services can verify tokens
+   * locally. Shared-secret (HS256) keys are never included.
+   *
+   * @return JSON of the form {@code {"keys":[...]}}, with an empty array in HS256-only mode
+   */
+  String publicJwks();
 }
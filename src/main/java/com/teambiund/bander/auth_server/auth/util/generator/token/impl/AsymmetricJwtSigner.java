@@ -0,0 +1,250 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ES256 (ECDSA P-256) or EdDSA (Ed25519) key. Only the public half is published, so downstream
+ * services can verify tokens locally from the JWKS document instead of calling this server or
+ * sharing the HS256 secret.
+ *
+ * <p>ES256 signatures are produced directly in the JWS {@code R || S} form ({@code
+ * SHA256withECDSAinP1363Format}) rather than converted from DER.
+ */
+final class AsymmetricJwtSigner implements JwtSigner {
+
+  enum Algorithm {
+    ES256("ES256", "SHA256withECDSAinP1363Format", "EC"),
+    EDDSA("EdDSA", "Ed25519", "Ed25519");
+
+    private final String jws;
+    private final String signature;
+    private final String keyFactory;
+
+    Algorithm(String jws, String signature, String keyFactory) {
+      this.jws = jws;
+      this.signature = signature;
+      this.keyFactory = keyFactory;
+    }
+
+    /** Accepts the JWS names ({@code ES256}, {@code EdDSA}) and {@code Ed25519}, ignoring case. */
+    static Algorithm of(String name) {
+      return switch (name.trim().toUpperCase(Locale.ROOT)) {
+        case "ES256" -> ES256;
+        case "EDDSA", "ED25519" -> EDDSA;
+        default -> throw new IllegalArgumentException("Unsupported JWT algorithm: " + name);
+      };
+    }
+  }
+
+  private static final int SIGNATURE_LENGTH = 64;
+  private static final int COORDINATE_LENGTH = 32;
+
+  private final Algorithm algorithm;
+  private final String keyId;
+  private final PrivateKey privateKey;
+  private final PublicKey publicKey;
+  private final ThreadLocal<Signature> signer;
+  private final ThreadLocal<Signature> verifier;
+
+  private AsymmetricJwtSigner(
+      Algorithm algorithm, String keyId, PrivateKey privateKey, PublicKey publicKey) {
+    checkKeyType(algorithm, publicKey);
+    this.algorithm = algorithm;
+    this.keyId = keyId;
+    this.privateKey = privateKey;
+    this.publicKey = publicKey;
+    this.signer = privateKey == null ? null : ThreadLocal.withInitial(this::newSigner);
+    this.verifier = ThreadLocal.withInitial(this::newVerifier);
+    if (privateKey != null) newSigner(); // fail fast on startup instead of on the first login
+    newVerifier();
+  }
+
+  /** Signing key from Base64 (or PEM) encoded PKCS#8 private and X.509 public keys. */
+  static AsymmetricJwtSigner of(
+      String algorithm, String keyId, String privateKey, String publicKey) {
+    Algorithm alg = Algorithm.of(algorithm);
+    try {
+      KeyFactory factory = KeyFactory.getInstance(alg.keyFactory);
+      return new AsymmetricJwtSigner(
+          alg,
+          keyId,
+          factory.generatePrivate(new PKCS8EncodedKeySpec(decodeKey(privateKey))),
+          factory.generatePublic(new X509EncodedKeySpec(decodeKey(publicKey))));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Invalid " + alg.jws + " key pair for kid " + keyId, e);
+    }
+  }
+
+  /** Verification-only key; the algorithm is taken from the key type. */
+  static AsymmetricJwtSigner verifier(String keyId, String publicKey) {
+    byte[] encoded = decodeKey(publicKey);
+    for (Algorithm alg : Algorithm.values()) {
+      try {
+        PublicKey key =
+            KeyFactory.getInstance(alg.keyFactory).generatePublic(new X509EncodedKeySpec(encoded));
+        return new AsymmetricJwtSigner(alg, keyId, null, key);
+      } catch (GeneralSecurityException | IllegalArgumentException ignored) {
+        // try the next key type
+      }
+    }
+    throw new IllegalStateException("Unsupported JWT verification key for kid " + keyId);
+  }
+
+  /** Fresh in-memory key pair; tokens signed with it do not survive a restart. */
+  static AsymmetricJwtSigner generate(String algorithm, String keyId) {
+    Algorithm alg = Algorithm.of(algorithm);
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance(alg.keyFactory);
+      if (alg == Algorithm.ES256) generator.initialize(new ECGenParameterSpec("secp256r1"));
+      KeyPair pair = generator.generateKeyPair();
+      return new AsymmetricJwtSigner(alg, keyId, pair.getPrivate(), pair.getPublic());
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to generate " + alg.jws + " key pair", e);
+    }
+  }
+
+  @Override
+  public String algorithm() {
+    return algorithm.jws;
+  }
+
+  @Override
+  public String keyId() {
+    return keyId;
+  }
+
+  @Override
+  public int signatureLength() {
+    return SIGNATURE_LENGTH;
+  }
+
+  @Override
+  public boolean canSign() {
+    return signer != null;
+  }
+
+  @Override
+  public boolean sign(byte[] data, int len, byte[] signature) {
+    if (signer == null) return false;
+    Signature s = signer.get();
+    try {
+      s.update(data, 0, len);
+      return s.sign(signature, 0, SIGNATURE_LENGTH) == SIGNATURE_LENGTH;
+    } catch (GeneralSecurityException e) {
+      signer.remove();
+      return false;
+    }
+  }
+
+  @Override
+  public boolean verify(byte[] data, int len, byte[] signature) {
+    Signature s = verifier.get();
+    try {
+      s.update(data, 0, len);
+      return s.verify(signature, 0, SIGNATURE_LENGTH);
+    } catch (GeneralSecurityException | IllegalArgumentException e) {
+      verifier.remove();
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> publicJwk() {
+    Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+    Map<String, Object> jwk = new LinkedHashMap<>();
+    if (algorithm == Algorithm.ES256) {
+      ECPublicKey ec = (ECPublicKey) publicKey;
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("x", b64.encodeToString(unsigned(ec.getW().getAffineX())));
+      jwk.put("y", b64.encodeToString(unsigned(ec.getW().getAffineY())));
+    } else {
+      // the raw Ed25519 public key is the trailing 32 bytes of its X.509 encoding
+      byte[] encoded = publicKey.getEncoded();
+      jwk.put("kty", "OKP");
+      jwk.put("crv", "Ed25519");
+      jwk.put(
+          "x",
+          b64.encodeToString(
+              Arrays.copyOfRange(encoded, encoded.length - COORDINATE_LENGTH, encoded.length)));
+    }
+    jwk.put("use", "sig");
+    jwk.put("alg", algorithm.jws);
+    if (keyId != null) jwk.put("kid", keyId);
+    return jwk;
+  }
+
+  // ---------------------- helpers ----------------------
+
+  private Signature newSigner() {
+    try {
+      Signature s = Signature.getInstance(algorithm.signature);
+      s.initSign(privateKey);
+      return s;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to initialise " + algorithm.signature, e);
+    }
+  }
+
+  private Signature newVerifier() {
+    try {
+      Signature s = Signature.getInstance(algorithm.signature);
+      s.initVerify(publicKey);
+      return s;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to initialise " + algorithm.signature, e);
+    }
+  }
+
+  private static void checkKeyType(Algorithm algorithm, PublicKey key) {
+    boolean ok =
+        switch (algorithm) {
+          case ES256 ->
+              key instanceof ECPublicKey ec && ec.getParams().getCurve().getField().getFieldSize()
+                  == 256;
+          case EDDSA ->
+              key instanceof EdECPublicKey ed
+                  && ed.getParams() instanceof NamedParameterSpec spec
+                  && "Ed25519".equalsIgnoreCase(spec.getName());
+        };
+    if (!ok) {
+      throw new IllegalArgumentException(
+          "Key " + key.getAlgorithm() + " cannot be used for " + algorithm.jws);
+    }
+  }
+
+  /** Accepts plain Base64 DER as well as PEM with armor lines. */
+  private static byte[] decodeKey(String key) {
+    if (key == null || key.isBlank()) {
+      throw new IllegalStateException("JWT key material is missing");
+    }
+    String body = key.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+    return Base64.getDecoder().decode(body);
+  }
+
+  private static byte[] unsigned(BigInteger v) {
+    byte[] raw = v.toByteArray();
+    byte[] out = new byte[COORDINATE_LENGTH];
+    int copy = Math.min(raw.length, COORDINATE_LENGTH);
+    System.arraycopy(raw, raw.length - copy, out, COORDINATE_LENGTH - copy, copy);
+    return out;
+  }
+}
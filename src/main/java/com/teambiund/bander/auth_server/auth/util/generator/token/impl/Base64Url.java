@@ -0,0 +1,120 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Offset-based, allocation-free Base64URL (RFC 4648 §5, no padding) codec. {@link java.util.Base64}
+ * only works on whole arrays, which forces a copy of every token segment; the JWT codec needs to
+ * encode and decode sub-ranges of a reusable scratch buffer instead.
+ */
+final class Base64Url {
+
+  private static final byte[] ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+          .getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] REVERSE = new byte[128];
+
+  static {
+    Arrays.fill(REVERSE, (byte) -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      REVERSE[ALPHABET[i]] = (byte) i;
+    }
+  }
+
+  private Base64Url() {}
+
+  /** Number of characters needed to encode {@code len} bytes without padding. */
+  static int encodedLength(int len) {
+    return (len / 3) * 4 + (len % 3 == 0 ? 0 : len % 3 + 1);
+  }
+
+  /** Upper bound of bytes produced by decoding {@code len} characters. */
+  static int decodedLength(int len) {
+    return (len / 4) * 3 + (len % 4 == 0 ? 0 : len % 4 - 1);
+  }
+
+  /**
+   * Encode {@code src[srcOff, srcOff + len)} into {@code dst} starting at {@code dstOff}.
+   *
+   * @return number of bytes written
+   */
+  static int encode(byte[] src, int srcOff, int len, byte[] dst, int dstOff) {
+    int sp = srcOff;
+    int dp = dstOff;
+    int end = srcOff + len - len % 3;
+    while (sp < end) {
+      int bits = (src[sp++] & 0xff) << 16 | (src[sp++] & 0xff) << 8 | (src[sp++] & 0xff);
+      dst[dp++] = ALPHABET[(bits >>> 18) & 0x3f];
+      dst[dp++] = ALPHABET[(bits >>> 12) & 0x3f];
+      dst[dp++] = ALPHABET[(bits >>> 6) & 0x3f];
+      dst[dp++] = ALPHABET[bits & 0x3f];
+    }
+    int rem = len % 3;
+    if (rem == 1) {
+      int b0 = src[sp] & 0xff;
+      dst[dp++] = ALPHABET[b0 >> 2];
+      dst[dp++] = ALPHABET[(b0 << 4) & 0x3f];
+    } else if (rem == 2) {
+      int b0 = src[sp] & 0xff;
+      int b1 = src[sp + 1] & 0xff;
+      dst[dp++] = ALPHABET[b0 >> 2];
+      dst[dp++] = ALPHABET[(b0 << 4) & 0x3f | (b1 >> 4)];
+      dst[dp++] = ALPHABET[(b1 << 2) & 0x3f];
+    }
+    return dp - dstOff;
+  }
+
+  /**
+   * Decode {@code src[srcOff, srcOff + len)} into {@code dst} starting at {@code dstOff}.
+   *
+   * @return number of bytes written, or -1 when the input is not valid unpadded Base64URL
+   */
+  static int decode(byte[] src, int srcOff, int len, byte[] dst, int dstOff) {
+    if (len % 4 == 1) return -1;
+    int sp = srcOff;
+    int dp = dstOff;
+    int end = srcOff + len - len % 4;
+    while (sp < end) {
+      int c0 = value(src[sp++]);
+      int c1 = value(src[sp++]);
+      int c2 = value(src[sp++]);
+      int c3 = value(src[sp++]);
+      if ((c0 | c1 | c2 | c3) < 0) return -1;
+      int bits = c0 << 18 | c1 << 12 | c2 << 6 | c3;
+      dst[dp++] = (byte) (bits >> 16);
+      dst[dp++] = (byte) (bits >> 8);
+      dst[dp++] = (byte) bits;
+    }
+    int rem = len % 4;
+    if (rem >= 2) {
+      int c0 = value(src[sp]);
+      int c1 = value(src[sp + 1]);
+      if ((c0 | c1) < 0) return -1;
+      dst[dp++] = (byte) (c0 << 2 | c1 >> 4);
+      if (rem == 3) {
+        int c2 = value(src[sp + 2]);
+        if (c2 < 0) return -1;
+        dst[dp++] = (byte) (c1 << 4 | c2 >> 2);
+      }
+    }
+    return dp - dstOff;
+  }
+
+  /**
+   * Whether the unused low bits of the last character of {@code src[srcOff, srcOff + len)} are zero,
+   * i.e. the text is the only encoding of the bytes it decodes to.
+   */
+  static boolean isCanonical(byte[] src, int srcOff, int len) {
+    int rem = len % 4;
+    if (rem < 2) return true;
+    int last = value(src[srcOff + len - 1]);
+    int unusedMask = rem == 2 ? 0x0f : 0x03;
+    return last >= 0 && (last & unusedMask) == 0;
+  }
+
+  private static int value(byte c) {
+    return c < 0 ? -1 : REVERSE[c];
+  }
+}
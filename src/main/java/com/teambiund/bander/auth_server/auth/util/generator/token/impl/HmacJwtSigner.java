@@ -0,0 +1,95 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/** HS256 with the shared {@code security.jwt.secret}. Never published in the JWKS document. */
+final class HmacJwtSigner implements JwtSigner {
+
+  static final String ALGORITHM = "HS256";
+  private static final String JCA_ALGORITHM = "HmacSHA256";
+  private static final int SIGNATURE_LENGTH = 32;
+
+  private final SecretKeySpec key;
+  private final ThreadLocal<Engine> engine;
+
+  HmacJwtSigner(byte[] secret) {
+    this.key = new SecretKeySpec(secret, JCA_ALGORITHM);
+    this.engine = ThreadLocal.withInitial(() -> new Engine(newMac()));
+    newMac(); // fail fast on startup instead of on the first login
+  }
+
+  @Override
+  public String algorithm() {
+    return ALGORITHM;
+  }
+
+  @Override
+  public String keyId() {
+    return null;
+  }
+
+  @Override
+  public int signatureLength() {
+    return SIGNATURE_LENGTH;
+  }
+
+  @Override
+  public boolean canSign() {
+    return true;
+  }
+
+  @Override
+  public boolean sign(byte[] data, int len, byte[] signature) {
+    return engine.get().mac(data, len, signature);
+  }
+
+  /** Constant-time comparison against the recomputed MAC. */
+  @Override
+  public boolean verify(byte[] data, int len, byte[] signature) {
+    Engine e = engine.get();
+    if (!e.mac(data, len, e.expected)) return false;
+    int diff = 0;
+    for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+      diff |= e.expected[i] ^ signature[i];
+    }
+    return diff == 0;
+  }
+
+  @Override
+  public Map<String, Object> publicJwk() {
+    return null;
+  }
+
+  private Mac newMac() {
+    try {
+      Mac mac = Mac.getInstance(JCA_ALGORITHM);
+      mac.init(key);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to initialise " + JCA_ALGORITHM, e);
+    }
+  }
+
+  private static final class Engine {
+    private final Mac mac;
+    private final byte[] expected = new byte[SIGNATURE_LENGTH];
+
+    private Engine(Mac mac) {
+      this.mac = mac;
+    }
+
+    private boolean mac(byte[] data, int len, byte[] out) {
+      try {
+        mac.update(data, 0, len);
+        mac.doFinal(out, 0);
+        return true;
+      } catch (GeneralSecurityException e) {
+        mac.reset();
+        return false;
+      }
+    }
+  }
+}
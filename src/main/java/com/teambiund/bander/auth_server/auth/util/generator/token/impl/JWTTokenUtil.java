@@ -1,151 +1,124 @@
 package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teambiund.bander.auth_server.auth.enums.Role;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
 import com.teambiund.bander.auth_server.auth.util.generator.token.TokenUtil;
+import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Base64;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
+@Slf4j
 public class JWTTokenUtil implements TokenUtil {
 
+  static final long EXPIRATION_LEEWAY_SECONDS = 30;
+
   @Value("${security.jwt.access-token-expire-time}")
   private Long accessTokenTTL;
 
   @Value("${security.jwt.refresh-token-expire-time}")
   private Long refreshTokenTTL;
 
-  @Value("${security.jwt.secret}")
+  @Value("${security.jwt.secret:}")
   private String jwtSecret;
 
-  private static String base64UrlEncode(byte[] bytes) {
-    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
-  }
+  /** {@code HS256} (shared secret), {@code ES256} or {@code EdDSA}. */
+  @Value("${security.jwt.algorithm:HS256}")
+  private String algorithm = HmacJwtSigner.ALGORITHM;
+
+  @Value("${security.jwt.key-id:}")
+  private String keyId;
+
+  /** Base64 PKCS#8 (PEM accepted) private key of the asymmetric signing key. */
+  @Value("${security.jwt.private-key:}")
+  private String privateKey;
+
+  /** Base64 X.509 (PEM accepted) public key of the asymmetric signing key. */
+  @Value("${security.jwt.public-key:}")
+  private String publicKey;
+
+  /** {@code kid=base64 X.509 public key} entries of rotated keys still accepted for verification. */
+  @Value("${security.jwt.previous-public-keys:}")
+  private String[] previousPublicKeys = new String[0];
+
+  /** In asymmetric mode, keep accepting HS256 tokens issued before the switch. */
+  @Value("${security.jwt.accept-hs256:true}")
+  private boolean acceptHs256 = true;
 
-  private static byte[] base64UrlDecode(String str) {
-    return Base64.getUrlDecoder().decode(str);
+  private final VerifiedTokenCache verifiedTokenCache;
+
+  private JwtCodec codec;
+  private String publicJwks;
+
+  public JWTTokenUtil(VerifiedTokenCache verifiedTokenCache) {
+    this.verifiedTokenCache = verifiedTokenCache;
   }
 
-  // Minimal JSON builder to avoid adding dependencies
-  private static String toJson(Map<String, Object> map) {
-    StringBuilder sb = new StringBuilder();
-    sb.append('{');
-    boolean first = true;
-    for (Map.Entry<String, Object> entry : map.entrySet()) {
-      if (!first) sb.append(',');
-      first = false;
-      sb.append('"').append(escape(entry.getKey())).append('"').append(':');
-      Object v = entry.getValue();
-      if (v == null) {
-        sb.append("null");
-      } else if (v instanceof Number || v instanceof Boolean) {
-        sb.append(v.toString());
-      } else {
-        sb.append('"').append(escape(v.toString())).append('"');
-      }
+  /** Build the signing/verification keys once instead of on every sign/verify call. */
+  @PostConstruct
+  public void init() {
+    boolean hmac = HmacJwtSigner.ALGORITHM.equalsIgnoreCase(algorithm.trim());
+    boolean hasSecret = jwtSecret != null && !jwtSecret.isBlank();
+    if (hmac && !hasSecret) {
+      throw new IllegalStateException("security.jwt.secret is required for HS256");
     }
-    sb.append('}');
-    return sb.toString();
-  }
 
-  // Minimal JSON parser for flat objects with string/number/boolean/null values
-  private static Map<String, Object> parseJsonObject(String json) {
-    Map<String, Object> map = new HashMap<>();
-    if (json == null) return map;
-    String s = json.trim();
-    if (s.length() < 2 || s.charAt(0) != '{' || s.charAt(s.length() - 1) != '}') return map;
-    s = s.substring(1, s.length() - 1).trim();
-    if (s.isEmpty()) return map;
-    int i = 0;
-    while (i < s.length()) {
-      // parse key
-      if (s.charAt(i) != '"') break;
-      int keyStart = ++i;
-      StringBuilder keySb = new StringBuilder();
-      boolean escaped = false;
-      for (; i < s.length(); i++) {
-        char c = s.charAt(i);
-        if (escaped) {
-          keySb.append(c);
-          escaped = false;
-        } else if (c == '\\') {
-          escaped = true;
-        } else if (c == '"') {
-          i++;
-          break;
-        } else {
-          keySb.append(c);
-        }
-      }
-      // skip colon
-      while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-      if (i >= s.length() || s.charAt(i) != ':') break;
-      i++;
-      while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-      // parse value
-      Object value;
-      if (i < s.length() && s.charAt(i) == '"') {
-        // string
-        i++;
-        StringBuilder valSb = new StringBuilder();
-        boolean esc = false;
-        for (; i < s.length(); i++) {
-          char c = s.charAt(i);
-          if (esc) {
-            valSb.append(c);
-            esc = false;
-          } else if (c == '\\') {
-            esc = true;
-          } else if (c == '"') {
-            i++;
-            break;
-          } else {
-            valSb.append(c);
-          }
+    JwtSigner signer = hmac ? hmacSigner() : asymmetricSigner();
+    List<JwtSigner> verifiers = new ArrayList<>();
+    if (!hmac) {
+      for (String entry : previousPublicKeys) {
+        if (entry.isBlank()) continue;
+        int eq = entry.indexOf('=');
+        if (eq <= 0) {
+          throw new IllegalStateException(
+              "security.jwt.previous-public-keys entries must be kid=publicKey");
         }
-        value = valSb.toString();
-      } else {
-        // literal (number, boolean, null)
-        int start = i;
-        while (i < s.length() && ",}".indexOf(s.charAt(i)) == -1) i++;
-        String literal = s.substring(start, i).trim();
-        if (literal.equals("null")) {
-          value = null;
-        } else if (literal.equals("true") || literal.equals("false")) {
-          value = Boolean.valueOf(literal);
-        } else {
-          try {
-            if (literal.contains(".") || literal.contains("e") || literal.contains("E")) {
-              value = Double.valueOf(literal);
-            } else {
-              value = Long.valueOf(literal);
-            }
-          } catch (NumberFormatException ex) {
-            value = literal;
-          }
-        }
-      }
-      map.put(keySb.toString(), value);
-      // skip spaces and comma
-      while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-      if (i < s.length() && s.charAt(i) == ',') {
-        i++;
-        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        verifiers.add(
+            AsymmetricJwtSigner.verifier(entry.substring(0, eq).trim(), entry.substring(eq + 1)));
       }
+      if (acceptHs256 && hasSecret) verifiers.add(hmacSigner());
     }
-    return map;
+    this.codec = new JwtCodec(signer, verifiers);
+    this.publicJwks = toJwks(codec.keys());
   }
 
-  private static String escape(String s) {
-    return s.replace("\\", "\\\\").replace("\"", "\\\"");
+  private JwtSigner hmacSigner() {
+    return new HmacJwtSigner(jwtSecret.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private JwtSigner asymmetricSigner() {
+    String kid = keyId == null || keyId.isBlank() ? null : keyId.trim();
+    if (privateKey == null || privateKey.isBlank()) {
+      log.warn(
+          "No security.jwt.private-key configured, generated an in-memory {} key. Tokens will not"
+              + " verify on other instances or after a restart.",
+          algorithm);
+      return AsymmetricJwtSigner.generate(
+          algorithm, kid != null ? kid : UUID.randomUUID().toString());
+    }
+    return AsymmetricJwtSigner.of(algorithm, kid, privateKey, publicKey);
+  }
+
+  private static String toJwks(List<JwtSigner> keys) {
+    List<Map<String, Object>> jwks =
+        keys.stream().map(JwtSigner::publicJwk).filter(Objects::nonNull).toList();
+    try {
+      return new ObjectMapper().writeValueAsString(Map.of("keys", jwks));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to build JWKS", e);
+    }
   }
 
   @Override
@@ -161,38 +134,36 @@ public class JWTTokenUtil implements TokenUtil {
   // ---------------------- Decode & Validate ----------------------
   @Override
   public boolean isValid(String token) {
-    try {
-      String[] parts = splitToken(token);
-      String unsigned = parts[0] + "." + parts[1];
-      String expectedSig = sign(unsigned, jwtSecret);
-      if (!constantTimeEquals(expectedSig, parts[2])) return false;
-      Map<String, Object> payload = parsePayload(parts[1]);
-      Object expObj = payload.get("exp");
-      if (expObj instanceof Number) {
-        long exp = ((Number) expObj).longValue() + 30;
-        long now = Instant.now().getEpochSecond();
-        return now < exp;
-      }
-      return false;
-    } catch (Exception e) {
-      return false;
-    }
+    return verifyClaims(token) != null;
+  }
+
+  @Override
+  public Optional<TokenClaims> verify(String token) {
+    return Optional.ofNullable(verifyClaims(token));
+  }
+
+  /** Repeated presentations of the same token are answered from {@link VerifiedTokenCache}. */
+  private TokenClaims verifyClaims(String token) {
+    return verifiedTokenCache.get(
+        token,
+        t -> codec.decodeVerified(t, Instant.now().getEpochSecond(), EXPIRATION_LEEWAY_SECONDS));
   }
 
   @Override
   public String extractUserId(String token) {
-    Map<String, Object> payload = safePayload(token);
-    Object sub = payload.get("sub");
-    return sub != null ? sub.toString() : null;
+    TokenClaims cached = verifiedTokenCache.getIfPresent(token);
+    if (cached != null) return cached.userId();
+    return codec.readStringClaim(token, "sub");
   }
 
   @Override
   public Role extractRole(String token) {
-    Map<String, Object> payload = safePayload(token);
-    Object role = payload.get("role");
+    TokenClaims cached = verifiedTokenCache.getIfPresent(token);
+    if (cached != null) return cached.role();
+    String role = codec.readStringClaim(token, "role");
     if (role == null) return null;
     try {
-      return Role.valueOf(role.toString());
+      return Role.valueOf(role);
     } catch (IllegalArgumentException e) {
       return null;
     }
@@ -200,95 +171,30 @@ public class JWTTokenUtil implements TokenUtil {
 
   @Override
   public String extractDeviceId(String token) {
-    Map<String, Object> payload = safePayload(token);
-    Object deviceId = payload.get("deviceId");
-    return deviceId != null ? deviceId.toString() : null;
+    TokenClaims cached = verifiedTokenCache.getIfPresent(token);
+    if (cached != null) return cached.deviceId();
+    return codec.readStringClaim(token, "deviceId");
   }
 
   @Override
   public long extractExpiration(String token) {
-    Map<String, Object> payload = safePayload(token);
-    Object expObj = payload.get("exp");
-    if (expObj instanceof Number) {
-      long exp = ((Number) expObj).longValue();
-      long now = Instant.now().getEpochSecond();
-      return (exp - now);
-    }
-    return 0;
-  }
-
-  private Map<String, Object> safePayload(String token) {
-    try {
-      String[] parts = splitToken(token);
-      return parsePayload(parts[1]);
-    } catch (Exception e) {
-      return new HashMap<>();
-    }
-  }
-
-  private String[] splitToken(String token) {
-    if (token == null) throw new IllegalArgumentException("token is null");
-    String[] parts = token.split("\\.");
-    if (parts.length != 3) throw new IllegalArgumentException("invalid JWT format");
-    return parts;
-  }
-
-  private Map<String, Object> parsePayload(String payloadB64) {
-    byte[] jsonBytes = base64UrlDecode(payloadB64);
-    String json = new String(jsonBytes, StandardCharsets.UTF_8);
-    return parseJsonObject(json);
+    TokenClaims cached = verifiedTokenCache.getIfPresent(token);
+    long exp = cached != null ? cached.expiresAt() : codec.readLongClaim(token, "exp");
+    if (exp == JwtCodec.NO_VALUE) return 0;
+    long now = Instant.now().getEpochSecond();
+    return (exp - now);
   }
 
-  private boolean constantTimeEquals(String a, String b) {
-    if (a == null || b == null) return false;
-    if (a.length() != b.length()) return false;
-    int result = 0;
-    for (int i = 0; i < a.length(); i++) {
-      result |= a.charAt(i) ^ b.charAt(i);
-    }
-    return result == 0;
+  @Override
+  public String publicJwks() {
+    return publicJwks;
   }
 
   // ---------------------- Build (Encode) ----------------------
   private String buildToken(String userId, Role role, Duration ttl, String deviceId) {
     long iat = Instant.now().getEpochSecond();
-    long exp = Instant.now().plus(ttl).getEpochSecond();
-
-    Map<String, Object> header = new HashMap<>();
-    header.put("alg", "HS256");
-    header.put("typ", "JWT");
-
-    Map<String, Object> payload = new HashMap<>();
-    payload.put("sub", userId);
-    payload.put("role", role != null ? role.name() : null);
-    payload.put("deviceId", deviceId);
-    payload.put("iat", iat);
-    payload.put("exp", exp);
-
-    String headerJson = toJson(header);
-    String payloadJson = toJson(payload);
-
-    String headerEncoded = base64UrlEncode(headerJson.getBytes(StandardCharsets.UTF_8));
-    String payloadEncoded = base64UrlEncode(payloadJson.getBytes(StandardCharsets.UTF_8));
-
-    String unsignedToken = headerEncoded + "." + payloadEncoded;
-    String signature = sign(unsignedToken, jwtSecret);
-
-    return unsignedToken + "." + signature;
-  }
-
-  private String sign(String data, String secret) {
-    try {
-      Mac mac = Mac.getInstance("HmacSHA256");
-      SecretKeySpec keySpec =
-          new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-      mac.init(keySpec);
-      byte[] sig = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-      return base64UrlEncode(sig);
-    } catch (Exception e) {
-      // Fallback to unsigned token if signing fails (should not happen)
-      return "";
-    }
+    long exp = iat + ttl.getSeconds();
+    return codec.encode(userId, role != null ? role.name() : null, deviceId, iat, exp);
   }
 
   private String generateDeviceId() {
@@ -0,0 +1,579 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JWT encoder/verifier that works directly on bytes.
+ *
+ * <p>Signing is delegated to a {@link JwtSigner} (HS256, ES256 or EdDSA) which keeps its own
+ * per-thread JCA engine; every thread also keeps scratch buffers here, so signing and verifying a
+ * token does not allocate anything but the resulting token {@code String} (and the claim {@code
+ * String}s that are actually requested). The header of each key never changes and is kept as a
+ * precomputed Base64URL constant.
+ *
+ * <p>Verification picks the key by the token header: tokens issued by this codec match one of the
+ * precomputed headers byte for byte, anything else (e.g. tokens of the previous implementation,
+ * which ordered the header differently) is matched by its {@code alg} and {@code kid}. A token is
+ * only ever verified with a key of the algorithm its header names.
+ *
+ * <p>The payload is written/read as a flat JSON object of string, number, boolean and null values,
+ * which is all this server ever puts into a token. Strings are escaped the same way the previous
+ * map-based implementation did ({@code \} and {@code "} only), so tokens issued before this codec
+ * keep verifying and decoding identically.
+ */
+final class JwtCodec {
+
+  /** Absent/unreadable numeric claim marker. */
+  static final long NO_VALUE = Long.MIN_VALUE;
+
+  /** Tokens larger than this are rejected instead of growing the per-thread buffers. */
+  static final int MAX_TOKEN_LENGTH = 8 * 1024;
+
+  /** Longest raw signature of the supported algorithms (ES256 {@code R || S}, Ed25519). */
+  private static final int MAX_SIGNATURE_LENGTH = 64;
+
+  // slots of TokenClaims fields in Scratch.claimIndex
+  private static final int SUB = 0;
+  private static final int ROLE = 1;
+  private static final int DEVICE_ID = 2;
+  private static final int IAT = 3;
+  private static final int EXP = 4;
+
+  private static final byte[] KEY_SUB = ascii("sub");
+  private static final byte[] KEY_ROLE = ascii("role");
+  private static final byte[] KEY_DEVICE_ID = ascii("deviceId");
+  private static final byte[] KEY_IAT = ascii("iat");
+  private static final byte[] KEY_EXP = ascii("exp");
+  private static final byte[] KEY_ALG = ascii("alg");
+  private static final byte[] KEY_KID = ascii("kid");
+
+  private final JwtSigner signer;
+  private final byte[] headerB64;
+  private final int signatureB64Length;
+  private final JwtSigner[] verifiers;
+  private final byte[][] verifierHeadersB64;
+  private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+  /** HS256 only, with the header of the previous implementation. */
+  JwtCodec(byte[] secret) {
+    this(new HmacJwtSigner(secret), List.of());
+  }
+
+  /**
+   * @param signer key used for new tokens; it also verifies
+   * @param verifiers additional verification-only keys (rotated keys, legacy HS256 secret)
+   */
+  JwtCodec(JwtSigner signer, List<JwtSigner> verifiers) {
+    if (!signer.canSign()) {
+      throw new IllegalArgumentException("JWT signing key has no private part: " + signer.keyId());
+    }
+    this.signer = signer;
+    this.headerB64 = headerB64(signer);
+    this.signatureB64Length = Base64Url.encodedLength(signer.signatureLength());
+    this.verifiers = new JwtSigner[verifiers.size() + 1];
+    this.verifierHeadersB64 = new byte[this.verifiers.length][];
+    this.verifiers[0] = signer;
+    this.verifierHeadersB64[0] = headerB64;
+    for (int i = 0; i < verifiers.size(); i++) {
+      JwtSigner v = verifiers.get(i);
+      if (v.signatureLength() > MAX_SIGNATURE_LENGTH) {
+        throw new IllegalArgumentException("Unsupported signature length: " + v.algorithm());
+      }
+      this.verifiers[i + 1] = v;
+      this.verifierHeadersB64[i + 1] = headerB64(v);
+    }
+  }
+
+  /** Every key this codec accepts, the signing key first. */
+  List<JwtSigner> keys() {
+    return List.of(verifiers);
+  }
+
+  /** {@code {"alg":..,"typ":"JWT"}} plus {@code kid} when the key has one. */
+  private static byte[] headerB64(JwtSigner key) {
+    StringBuilder json =
+        new StringBuilder("{\"alg\":\"").append(key.algorithm()).append("\",\"typ\":\"JWT\"");
+    if (key.keyId() != null) {
+      json.append(",\"kid\":\"")
+          .append(key.keyId().replace("\\", "\\\\").replace("\"", "\\\""))
+          .append('"');
+    }
+    json.append('}');
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encode(json.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  // ---------------------- Encode ----------------------
+
+  String encode(String sub, String role, String deviceId, long iat, long exp) {
+    Scratch s = scratch.get();
+    int jsonLen = writePayload(s, sub, role, deviceId, iat, exp);
+
+    int tokenLen =
+        headerB64.length + 1 + Base64Url.encodedLength(jsonLen) + 1 + signatureB64Length;
+    byte[] out = s.tokenBuffer(tokenLen);
+    System.arraycopy(headerB64, 0, out, 0, headerB64.length);
+    int p = headerB64.length;
+    out[p++] = '.';
+    p += Base64Url.encode(s.json, 0, jsonLen, out, p);
+
+    if (!signer.sign(out, p, s.signature)) {
+      throw new IllegalStateException("Failed to sign JWT");
+    }
+    out[p++] = '.';
+    p += Base64Url.encode(s.signature, 0, signer.signatureLength(), out, p);
+    return new String(out, 0, p, StandardCharsets.ISO_8859_1);
+  }
+
+  private static int writePayload(
+      Scratch s, String sub, String role, String deviceId, long iat, long exp) {
+    // worst case: every char becomes 3 UTF-8 bytes or an escape pair, plus the fixed skeleton
+    int max =
+        64 + 3 * (length(sub) + length(role) + length(deviceId)) + 2 * 20; // 20 = digits of a long
+    byte[] b = s.jsonBuffer(max);
+    int p = 0;
+    b[p++] = '{';
+    p = writeKey(b, p, KEY_SUB);
+    p = writeString(b, p, sub);
+    b[p++] = ',';
+    p = writeKey(b, p, KEY_ROLE);
+    p = writeString(b, p, role);
+    b[p++] = ',';
+    p = writeKey(b, p, KEY_DEVICE_ID);
+    p = writeString(b, p, deviceId);
+    b[p++] = ',';
+    p = writeKey(b, p, KEY_IAT);
+    p = writeLong(b, p, iat);
+    b[p++] = ',';
+    p = writeKey(b, p, KEY_EXP);
+    p = writeLong(b, p, exp);
+    b[p++] = '}';
+    return p;
+  }
+
+  private static int writeKey(byte[] b, int p, byte[] key) {
+    b[p++] = '"';
+    System.arraycopy(key, 0, b, p, key.length);
+    p += key.length;
+    b[p++] = '"';
+    b[p++] = ':';
+    return p;
+  }
+
+  private static int writeString(byte[] b, int p, String v) {
+    if (v == null) {
+      b[p++] = 'n';
+      b[p++] = 'u';
+      b[p++] = 'l';
+      b[p++] = 'l';
+      return p;
+    }
+    b[p++] = '"';
+    for (int i = 0, n = v.length(); i < n; i++) {
+      char c = v.charAt(i);
+      if (c == '"' || c == '\\') {
+        b[p++] = '\\';
+        b[p++] = (byte) c;
+      } else if (c < 0x80) {
+        b[p++] = (byte) c;
+      } else if (c < 0x800) {
+        b[p++] = (byte) (0xc0 | (c >> 6));
+        b[p++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < n
+          && Character.isLowSurrogate(v.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, v.charAt(++i));
+        b[p++] = (byte) (0xf0 | (cp >> 18));
+        b[p++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        b[p++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        b[p++] = (byte) (0x80 | (cp & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        b[p++] = '?'; // unpaired surrogate, same replacement String.getBytes(UTF_8) uses
+      } else {
+        b[p++] = (byte) (0xe0 | (c >> 12));
+        b[p++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        b[p++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    b[p++] = '"';
+    return p;
+  }
+
+  private static int writeLong(byte[] b, int p, long v) {
+    if (v == Long.MIN_VALUE) {
+      byte[] min = ascii(Long.toString(v));
+      System.arraycopy(min, 0, b, p, min.length);
+      return p + min.length;
+    }
+    if (v < 0) {
+      b[p++] = '-';
+      v = -v;
+    }
+    int start = p;
+    do {
+      b[p++] = (byte) ('0' + (v % 10));
+      v /= 10;
+    } while (v != 0);
+    for (int i = start, j = p - 1; i < j; i++, j--) {
+      byte t = b[i];
+      b[i] = b[j];
+      b[j] = t;
+    }
+    return p;
+  }
+
+  // ---------------------- Decode & Verify ----------------------
+
+  /**
+   * Verify the signature and decode all registered claims in a single pass over the payload.
+   *
+   * @param leewaySeconds clock skew tolerated after {@code exp}
+   * @return claims, or null when the token is malformed, tampered with, has no numeric {@code exp}
+   *     or is expired
+   */
+  TokenClaims decodeVerified(String token, long nowEpochSeconds, long leewaySeconds) {
+    Scratch s = scratch.get();
+    if (!s.load(token) || !verify(s)) return null;
+    int jsonLen = s.decodePayload();
+    if (jsonLen < 0) return null;
+
+    int[] at = s.claimIndex;
+    if (!indexClaims(s.json, jsonLen, at)) return null;
+    long exp = longAt(s.json, jsonLen, at[EXP]);
+    if (exp == NO_VALUE || nowEpochSeconds >= exp + leewaySeconds) return null;
+    long iat = longAt(s.json, jsonLen, at[IAT]);
+    return new TokenClaims(
+        stringAt(s.json, jsonLen, at[SUB]),
+        toRole(stringAt(s.json, jsonLen, at[ROLE])),
+        stringAt(s.json, jsonLen, at[DEVICE_ID]),
+        iat == NO_VALUE ? 0 : iat,
+        exp);
+  }
+
+  private boolean verify(Scratch s) {
+    JwtSigner key = keyFor(s);
+    return key != null && s.verify(key);
+  }
+
+  /** Key named by the loaded token's header, or null when none of ours matches. */
+  private JwtSigner keyFor(Scratch s) {
+    for (int i = 0; i < verifiers.length; i++) {
+      if (s.headerEquals(verifierHeadersB64[i])) return verifiers[i];
+    }
+    int headerLen = s.decodeHeader();
+    if (headerLen < 0) return null;
+    String alg = readString(s.json, headerLen, KEY_ALG);
+    String kid = readString(s.json, headerLen, KEY_KID);
+    for (JwtSigner v : verifiers) {
+      if (v.algorithm().equals(alg) && Objects.equals(v.keyId(), kid)) return v;
+    }
+    return null;
+  }
+
+  /** Read a string claim without verifying the signature; null when absent or malformed. */
+  String readStringClaim(String token, String claim) {
+    Scratch s = scratch.get();
+    if (!s.load(token)) return null;
+    int jsonLen = s.decodePayload();
+    if (jsonLen < 0) return null;
+    return readString(s.json, jsonLen, keyBytes(claim));
+  }
+
+  /** Read a numeric claim without verifying the signature; {@link #NO_VALUE} when absent. */
+  long readLongClaim(String token, String claim) {
+    Scratch s = scratch.get();
+    if (!s.load(token)) return NO_VALUE;
+    int jsonLen = s.decodePayload();
+    if (jsonLen < 0) return NO_VALUE;
+    return readLong(s.json, jsonLen, keyBytes(claim));
+  }
+
+  private static byte[] keyBytes(String claim) {
+    return switch (claim) {
+      case "sub" -> KEY_SUB;
+      case "role" -> KEY_ROLE;
+      case "deviceId" -> KEY_DEVICE_ID;
+      case "iat" -> KEY_IAT;
+      case "exp" -> KEY_EXP;
+      default -> claim.getBytes(StandardCharsets.UTF_8);
+    };
+  }
+
+  // ---------------------- Flat JSON scanning ----------------------
+
+  /** Index of the first byte of the value stored under {@code key}, or -1. */
+  static int findValue(byte[] json, int len, byte[] key) {
+    int i = skipWs(json, 0, len);
+    if (i >= len || json[i] != '{') return -1;
+    i++;
+    while (true) {
+      i = skipWs(json, i, len);
+      if (i >= len || json[i] != '"') return -1;
+      int keyStart = ++i;
+      i = endOfString(json, i, len);
+      if (i < 0) return -1;
+      int keyEnd = i++;
+      i = skipWs(json, i, len);
+      if (i >= len || json[i] != ':') return -1;
+      i = skipWs(json, i + 1, len);
+      if (i >= len) return -1;
+      if (regionEquals(json, keyStart, keyEnd, key)) return i;
+      i = skipValue(json, i, len);
+      if (i < 0 || json[i] == '}') return -1;
+      i++;
+    }
+  }
+
+  /**
+   * Record the value position of every registered claim into {@code at} (-1 when absent). Later
+   * duplicates win, matching the previous map-based parser.
+   *
+   * @return false when the payload is not a single, closed flat JSON object
+   */
+  static boolean indexClaims(byte[] json, int len, int[] at) {
+    Arrays.fill(at, -1);
+    int i = skipWs(json, 0, len);
+    if (i >= len || json[i] != '{') return false;
+    i = skipWs(json, i + 1, len);
+    if (i < len && json[i] == '}') return skipWs(json, i + 1, len) == len;
+    while (true) {
+      if (i >= len || json[i] != '"') return false;
+      int keyStart = ++i;
+      i = endOfString(json, i, len);
+      if (i < 0) return false;
+      int keyEnd = i++;
+      i = skipWs(json, i, len);
+      if (i >= len || json[i] != ':') return false;
+      i = skipWs(json, i + 1, len);
+      if (i >= len) return false;
+      int slot = slotOf(json, keyStart, keyEnd);
+      if (slot >= 0) at[slot] = i;
+      i = skipValue(json, i, len);
+      if (i < 0) return false; // truncated: ran out of input before ',' or '}'
+      if (json[i] == '}') return skipWs(json, i + 1, len) == len;
+      i = skipWs(json, i + 1, len);
+    }
+  }
+
+  private static int slotOf(byte[] json, int start, int end) {
+    if (regionEquals(json, start, end, KEY_SUB)) return SUB;
+    if (regionEquals(json, start, end, KEY_ROLE)) return ROLE;
+    if (regionEquals(json, start, end, KEY_DEVICE_ID)) return DEVICE_ID;
+    if (regionEquals(json, start, end, KEY_IAT)) return IAT;
+    if (regionEquals(json, start, end, KEY_EXP)) return EXP;
+    return -1;
+  }
+
+  /**
+   * Skip the value starting at {@code i}; returns the index of the following ',' or '}', or -1 when
+   * the input ends first.
+   */
+  private static int skipValue(byte[] json, int i, int len) {
+    if (json[i] == '"') {
+      i = endOfString(json, i + 1, len);
+      if (i < 0) return -1;
+      i++;
+    } else {
+      while (i < len && json[i] != ',' && json[i] != '}') i++;
+    }
+    i = skipWs(json, i, len);
+    if (i >= len || (json[i] != ',' && json[i] != '}')) return -1;
+    return i;
+  }
+
+  static String readString(byte[] json, int len, byte[] key) {
+    return stringAt(json, len, findValue(json, len, key));
+  }
+
+  static long readLong(byte[] json, int len, byte[] key) {
+    return longAt(json, len, findValue(json, len, key));
+  }
+
+  static String stringAt(byte[] json, int len, int i) {
+    if (i < 0) return null;
+    if (json[i] != '"') {
+      int end = i;
+      while (end < len && json[end] != ',' && json[end] != '}') end++;
+      String literal = new String(json, i, end - i, StandardCharsets.UTF_8).trim();
+      return literal.equals("null") ? null : literal;
+    }
+    int start = i + 1;
+    int end = endOfString(json, start, len);
+    if (end < 0) return null;
+    boolean plain = true;
+    for (int k = start; k < end; k++) {
+      if (json[k] == '\\' || json[k] < 0) {
+        plain = false;
+        break;
+      }
+    }
+    if (plain) return new String(json, start, end - start, StandardCharsets.ISO_8859_1);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(end - start);
+    for (int k = start; k < end; k++) {
+      if (json[k] == '\\' && k + 1 < end) k++;
+      out.write(json[k]);
+    }
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  static long longAt(byte[] json, int len, int i) {
+    if (i < 0) return NO_VALUE;
+    int start = i;
+    boolean negative = false;
+    if (json[i] == '-') {
+      negative = true;
+      i++;
+    }
+    if (i >= len || json[i] < '0' || json[i] > '9') return NO_VALUE;
+    long v = 0;
+    while (i < len && json[i] >= '0' && json[i] <= '9') {
+      v = v * 10 + (json[i++] - '0');
+    }
+    if (i < len && (json[i] == '.' || json[i] == 'e' || json[i] == 'E')) {
+      int end = i;
+      while (end < len && json[end] != ',' && json[end] != '}') end++;
+      try {
+        return (long)
+            Double.parseDouble(new String(json, start, end - start, StandardCharsets.US_ASCII));
+      } catch (NumberFormatException e) {
+        return NO_VALUE;
+      }
+    }
+    return negative ? -v : v;
+  }
+
+  private static Role toRole(String role) {
+    if (role == null) return null;
+    try {
+      return Role.valueOf(role);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static int endOfString(byte[] json, int i, int len) {
+    while (i < len) {
+      byte c = json[i];
+      if (c == '\\') {
+        i += 2;
+      } else if (c == '"') {
+        return i;
+      } else {
+        i++;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipWs(byte[] json, int i, int len) {
+    while (i < len && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean regionEquals(byte[] json, int start, int end, byte[] key) {
+    if (end - start != key.length) return false;
+    for (int k = 0; k < key.length; k++) {
+      if (json[start + k] != key[k]) return false;
+    }
+    return true;
+  }
+
+  // ---------------------- helpers ----------------------
+
+  private static int length(String s) {
+    return s == null ? 0 : s.length();
+  }
+
+  private static byte[] ascii(String s) {
+    return s.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /** Per-thread reusable buffers. Never shared across threads. */
+  private static final class Scratch {
+    private final byte[] signature = new byte[MAX_SIGNATURE_LENGTH];
+    private byte[] token = new byte[512];
+    private byte[] json = new byte[384];
+    private final int[] claimIndex = new int[5];
+    private int length;
+    private int firstDot;
+    private int secondDot;
+
+    private byte[] tokenBuffer(int size) {
+      if (token.length < size) token = new byte[Math.max(size, token.length * 2)];
+      return token;
+    }
+
+    private byte[] jsonBuffer(int size) {
+      if (json.length < size) json = new byte[Math.max(size, json.length * 2)];
+      return json;
+    }
+
+    /** Copy the (ASCII) token into the scratch buffer and locate the two separators. */
+    private boolean load(String token) {
+      if (token == null) return false;
+      int n = token.length();
+      if (n == 0 || n > MAX_TOKEN_LENGTH) return false;
+      byte[] b = tokenBuffer(n);
+      int dot1 = -1;
+      int dot2 = -1;
+      for (int i = 0; i < n; i++) {
+        char c = token.charAt(i);
+        if (c >= 0x80) return false;
+        if (c == '.') {
+          if (dot1 < 0) dot1 = i;
+          else if (dot2 < 0) dot2 = i;
+          else return false;
+        }
+        b[i] = (byte) c;
+      }
+      if (dot2 < 0) return false;
+      this.length = n;
+      this.firstDot = dot1;
+      this.secondDot = dot2;
+      return true;
+    }
+
+    private boolean headerEquals(byte[] headerB64) {
+      if (firstDot != headerB64.length) return false;
+      for (int i = 0; i < firstDot; i++) {
+        if (token[i] != headerB64[i]) return false;
+      }
+      return true;
+    }
+
+    /**
+     * Verify the signature segment of the loaded token with {@code key}. Only the canonical
+     * encoding of a signature is accepted, so a token has exactly one valid spelling.
+     */
+    private boolean verify(JwtSigner key) {
+      int b64Len = length - secondDot - 1;
+      int sigLen = key.signatureLength();
+      if (b64Len != Base64Url.encodedLength(sigLen)) return false;
+      if (!Base64Url.isCanonical(token, secondDot + 1, b64Len)) return false;
+      if (Base64Url.decode(token, secondDot + 1, b64Len, signature, 0) != sigLen) return false;
+      return key.verify(token, secondDot, signature);
+    }
+
+    private int decodeHeader() {
+      byte[] out = jsonBuffer(Base64Url.decodedLength(firstDot));
+      return Base64Url.decode(token, 0, firstDot, out, 0);
+    }
+
+    private int decodePayload() {
+      int b64Len = secondDot - firstDot - 1;
+      byte[] out = jsonBuffer(Base64Url.decodedLength(b64Len));
+      return Base64Url.decode(token, firstDot + 1, b64Len, out, 0);
+    }
+  }
+}
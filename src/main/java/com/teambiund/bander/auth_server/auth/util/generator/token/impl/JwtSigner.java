@@ -0,0 +1,36 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import java.util.Map;
+
+/**
+ * One JWS key of {@link JwtCodec}: signs and/or verifies the {@code header.payload} bytes of a
+ * token. Implementations are thread-safe and keep their JCA engines per thread, so a call does not
+ * allocate beyond what the provider itself does.
+ */
+interface JwtSigner {
+
+  /** JWS {@code alg} header value. */
+  String algorithm();
+
+  /** JWS {@code kid} header value, or null when tokens of this key carry no {@code kid}. */
+  String keyId();
+
+  /** Length of the raw (not Base64URL encoded) signature. */
+  int signatureLength();
+
+  /** False for verification-only keys (e.g. the public half of a rotated key). */
+  boolean canSign();
+
+  /**
+   * Sign {@code data[0, len)} into {@code signature[0, signatureLength())}.
+   *
+   * @return false when the provider failed
+   */
+  boolean sign(byte[] data, int len, byte[] signature);
+
+  /** Verify {@code signature[0, signatureLength())} over {@code data[0, len)}. */
+  boolean verify(byte[] data, int len, byte[] signature);
+
+  /** Public JWK members of this key, or null when it must never be published (shared secrets). */
+  Map<String, Object> publicJwk();
+}
@@ -0,0 +1,176 @@
+package com.teambiund.bander.auth_server.auth.util.generator.token.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of already verified token claims.
+ *
+ * <p>Mobile clients present the same refresh/access token many times within seconds. Entries are
+ * keyed by the SHA-256 of the whole token, so a repeated presentation skips signature verification
+ * and payload parsing entirely, and a hit can only be the exact token that was verified. Only
+ * successfully verified tokens are cached, each entry expires exactly when the token itself does
+ * ({@code exp} + leeway, capped by {@code max-ttl}) and the total size is bounded, so garbage
+ * tokens cannot grow the cache.
+ *
+ * <p>Hit/miss/eviction/size metrics are published as {@code cache.*{cache="verifiedTokens"}} and
+ * show up under the actuator {@code metrics} endpoint.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "verifiedTokens";
+
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+              throw new IllegalStateException(e);
+            }
+          });
+
+  private static final ThreadLocal<byte[]> TOKEN_BUFFER =
+      ThreadLocal.withInitial(() -> new byte[512]);
+
+  private final Cache<TokenKey, TokenClaims> cache; // null when disabled
+  private final long leewaySeconds;
+
+  @Autowired
+  public VerifiedTokenCache(
+      @Value("${security.jwt.cache.enabled:true}") boolean enabled,
+      @Value("${security.jwt.cache.max-size:100000}") long maxSize,
+      @Value("${security.jwt.cache.max-ttl:PT1H}") Duration maxTtl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(enabled, maxSize, maxTtl, meterRegistry.getIfAvailable());
+  }
+
+  public VerifiedTokenCache(
+      boolean enabled, long maxSize, Duration maxTtl, MeterRegistry meterRegistry) {
+    this(enabled, maxSize, maxTtl, JWTTokenUtil.EXPIRATION_LEEWAY_SECONDS, meterRegistry);
+  }
+
+  VerifiedTokenCache(
+      boolean enabled,
+      long maxSize,
+      Duration maxTtl,
+      long leewaySeconds,
+      MeterRegistry meterRegistry) {
+    this.leewaySeconds = leewaySeconds;
+    if (!enabled) {
+      this.cache = null;
+      return;
+    }
+    long maxTtlNanos = maxTtl.toNanos();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new UntilTokenExpiry(maxTtlNanos))
+            .recordStats()
+            .build();
+    if (meterRegistry != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+  }
+
+  /** Disabled instance: every lookup goes straight to the verifier. */
+  public static VerifiedTokenCache disabled() {
+    return new VerifiedTokenCache(false, 0, Duration.ZERO, 0, null);
+  }
+
+  /**
+   * Return the cached claims of {@code token}, or run {@code verifier} and cache its result when it
+   * is not null. Invalid tokens are never cached.
+   */
+  TokenClaims get(String token, Function<String, TokenClaims> verifier) {
+    if (cache == null) return verifier.apply(token);
+    TokenKey key = TokenKey.of(token);
+    if (key == null) return verifier.apply(token);
+
+    TokenClaims cached = cache.getIfPresent(key);
+    if (cached != null) return cached;
+
+    TokenClaims claims = verifier.apply(token);
+    if (claims != null) {
+      cache.put(key, claims);
+    }
+    return claims;
+  }
+
+  /** Cached claims of an already verified token without verifying on a miss; null on miss. */
+  TokenClaims getIfPresent(String token) {
+    if (cache == null) return null;
+    TokenKey key = TokenKey.of(token);
+    return key == null ? null : cache.getIfPresent(key);
+  }
+
+  /** 256-bit SHA-256 of the whole token, held as four longs instead of a byte[]/String. */
+  private record TokenKey(long h0, long h1, long h2, long h3) {
+
+    /** null (not cacheable) when the token is too long or not ASCII, as no valid JWT is. */
+    static TokenKey of(String token) {
+      if (token == null) return null;
+      int len = token.length();
+      if (len == 0 || len > JwtCodec.MAX_TOKEN_LENGTH) return null;
+
+      byte[] buf = TOKEN_BUFFER.get();
+      if (buf.length < len) {
+        buf = new byte[len];
+        TOKEN_BUFFER.set(buf);
+      }
+      for (int i = 0; i < len; i++) {
+        char c = token.charAt(i);
+        // a narrowing cast would map distinct non-ASCII tokens to the same bytes
+        if (c > 0x7F) return null;
+        buf[i] = (byte) c;
+      }
+      MessageDigest sha = SHA_256.get();
+      sha.update(buf, 0, len);
+      ByteBuffer digest = ByteBuffer.wrap(sha.digest());
+      return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+    }
+  }
+
+  private final class UntilTokenExpiry implements Expiry<TokenKey, TokenClaims> {
+    private final long maxTtlNanos;
+
+    private UntilTokenExpiry(long maxTtlNanos) {
+      this.maxTtlNanos = maxTtlNanos;
+    }
+
+    @Override
+    public long expireAfterCreate(TokenKey key, TokenClaims value, long currentTime) {
+      long remainingSeconds =
+          value.expiresAt() + leewaySeconds - System.currentTimeMillis() / 1000;
+      if (remainingSeconds <= 0) return 0;
+      return Math.min(TimeUnit.SECONDS.toNanos(remainingSeconds), maxTtlNanos);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        TokenKey key, TokenClaims value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        TokenKey key, TokenClaims value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
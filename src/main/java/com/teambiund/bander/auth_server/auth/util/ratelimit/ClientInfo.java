@@ -0,0 +1,31 @@
+package com.teambiund.bander.auth_server.auth.util.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 현재 요청의 클라이언트 식별 정보 - IP 는 컨테이너가 확정한 접속 주소
+ *
+ * <p>게이트웨이 뒤에서는 server.forward-headers-strategy=native 로 Tomcat 이 신뢰하는 프록시
+ * (server.tomcat.remoteip.internal-proxies)를 오른쪽부터 건너뛴 첫 주소를 접속 주소로 둔다. X-Forwarded-For 를 직접 읽지 않는다
+ * (클라이언트가 왼쪽 값을 마음대로 바꿔 새 카운터를 얻을 수 있으므로). 클라이언트가 보내는 기기 ID 도 같은 이유로 기준으로 쓰지 않는다.
+ *
+ * <p>웹 요청 밖(스케줄러, 테스트)에서는 null.
+ */
+public record ClientInfo(String ip) {
+  private static final ClientInfo NONE = new ClientInfo(null);
+
+  public static ClientInfo current() {
+    RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+    if (!(attrs instanceof ServletRequestAttributes servletAttrs)) {
+      return NONE;
+    }
+    return of(servletAttrs.getRequest());
+  }
+
+  static ClientInfo of(HttpServletRequest request) {
+    return new ClientInfo(request.getRemoteAddr());
+  }
+}
@@ -0,0 +1,64 @@
+package com.teambiund.bander.auth_server.auth.util.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시도 횟수 제한 정책 - auth.rate-limit.policies.{정책}.{ip|account}.{limit,window}
+ *
+ * <p>정책마다 기준(ip, 계정)별로 window 동안 limit 회까지 허용. 지정하지 않은 기준은 제한하지 않는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("auth.rate-limit")
+public class RateLimitProperties {
+  public static final String LOGIN = "login";
+  public static final String EMAIL_VERIFY = "email-verify";
+  public static final String SMS_VERIFY = "sms-verify";
+
+  private boolean enabled = true;
+
+  /** 인스턴스 로컬 카운터 최대 수 (넘으면 오래 쓰지 않은 것부터 제거) */
+  private long localMaxKeys = 100_000;
+
+  private Map<String, Policy> policies = defaultPolicies();
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Policy {
+    private Limit ip;
+    private Limit account;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit {
+    private int limit;
+    private Duration window;
+  }
+
+  private static Map<String, Policy> defaultPolicies() {
+    Map<String, Policy> policies = new LinkedHashMap<>();
+    policies.put(
+        LOGIN,
+        new Policy(new Limit(30, Duration.ofMinutes(1)), new Limit(10, Duration.ofMinutes(10))));
+    // 6자리 코드 추측 방지 - 계정(코드)당 시도 수를 작게
+    policies.put(
+        EMAIL_VERIFY,
+        new Policy(new Limit(30, Duration.ofMinutes(1)), new Limit(5, Duration.ofMinutes(10))));
+    policies.put(
+        SMS_VERIFY,
+        new Policy(new Limit(30, Duration.ofMinutes(1)), new Limit(5, Duration.ofMinutes(10))));
+    return policies;
+  }
+}
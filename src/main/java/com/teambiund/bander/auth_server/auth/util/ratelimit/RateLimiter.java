@@ -0,0 +1,226 @@
+package com.teambiund.bander.auth_server.auth.util.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teambiund.bander.auth_server.auth.exception.RateLimitExceededException;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties.Limit;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시도 횟수 제한 - 로그인, 인증 코드 확인 같은 추측 가능한 요청을 IP/계정별 sliding window 로 제한
+ *
+ * <p>판단 순서: 1) 인스턴스 로컬 카운터로 먼저 거절 (이 인스턴스가 허용한 수만으로도 넘었거나, Redis 가 최근 거절한 키) - Redis
+ * 호출 없음 2) 통과하면 모든 기준을 한 파이프라인으로 Redis 에 보내 클러스터 전체 수로 판단 (Lua, 기준당 키 2개를 같은 슬롯에 둠). 거절되면
+ * 429 와 Retry-After. DB 조회와 비밀번호 해시 전에 호출하므로 거절된 요청은 그 비용을 쓰지 않는다.
+ *
+ * <p>Redis 장애 시에는 로컬 판단만으로 허용한다 (로그인 자체가 막히지 않도록). 키에는 값 대신 SHA-256 앞부분을 쓴다 (이메일이 Redis 키에
+ * 남지 않도록).
+ *
+ * <p>지표: auth.rate_limit{policy, result=allowed|rejected_local|rejected_redis|redis_error}
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+  static final String KEY_PREFIX = "rate:";
+
+  /** KEYS: 현재/직전 window 카운터, ARGV: limit, window(ms), 현재 window 경과(ms) - 허용이면 0, 거절이면 재시도까지 ms */
+  private static final DefaultRedisScript<Long> SLIDING_WINDOW =
+      new DefaultRedisScript<>(
+          "local cur = tonumber(redis.call('get', KEYS[1]) or '0')"
+              + " local prev = tonumber(redis.call('get', KEYS[2]) or '0')"
+              + " local window = tonumber(ARGV[2])"
+              + " local elapsed = tonumber(ARGV[3])"
+              + " if cur + prev * (window - elapsed) / window >= tonumber(ARGV[1]) then"
+              + " return window - elapsed end"
+              + " redis.call('incr', KEYS[1])"
+              + " redis.call('pexpire', KEYS[1], window * 2)"
+              + " return 0",
+          Long.class);
+
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+              throw new IllegalStateException(e);
+            }
+          });
+
+  private final StringRedisTemplate redisTemplate;
+  private final RateLimitProperties properties;
+  private final MeterRegistry registry;
+  private final LongSupplier clock;
+  private final Cache<String, SlidingWindow> local;
+
+  @Autowired
+  public RateLimiter(
+      StringRedisTemplate redisTemplate,
+      RateLimitProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        redisTemplate,
+        properties,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        System::currentTimeMillis);
+  }
+
+  public RateLimiter(
+      StringRedisTemplate redisTemplate,
+      RateLimitProperties properties,
+      MeterRegistry registry,
+      LongSupplier clock) {
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+    this.registry = registry;
+    this.clock = clock;
+    this.local =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaxKeys())
+            .expireAfterAccess(longestWindow(properties).multipliedBy(2))
+            .build();
+  }
+
+  /** 현재 요청의 IP 와 계정으로 한 번 시도 - 넘으면 RateLimitExceededException */
+  public void acquire(String policy, String account) {
+    acquire(policy, account, ClientInfo.current());
+  }
+
+  public void acquire(String policyName, String account, ClientInfo client) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    Policy policy = properties.getPolicies().get(policyName);
+    if (policy == null) {
+      return;
+    }
+    long now = clock.getAsLong();
+    List<Check> checks = new ArrayList<>(2);
+    addCheck(checks, policyName, "ip", policy.getIp(), client.ip(), now);
+    addCheck(checks, policyName, "account", policy.getAccount(), account, now);
+    if (checks.isEmpty()) {
+      return;
+    }
+
+    for (Check check : checks) {
+      long wait = check.window().check(check.limit().getLimit(), now);
+      if (wait > 0) {
+        throw reject(policyName, "rejected_local", wait);
+      }
+    }
+
+    List<Long> waits = evaluate(policyName, checks, now);
+    for (int i = 0; i < waits.size(); i++) {
+      long wait = waits.get(i);
+      if (wait > 0) {
+        checks.get(i).window().block(now, wait);
+        throw reject(policyName, "rejected_redis", wait);
+      }
+    }
+    for (Check check : checks) {
+      check.window().record(now);
+    }
+    registry.counter("auth.rate_limit", "policy", policyName, "result", "allowed").increment();
+  }
+
+  private void addCheck(
+      List<Check> checks, String policy, String dimension, Limit limit, String value, long now) {
+    if (limit == null || limit.getLimit() <= 0 || value == null || value.isBlank()) {
+      return;
+    }
+    String key = policy + ":" + dimension + ":" + digest(value);
+    long windowMillis = limit.getWindow().toMillis();
+    SlidingWindow window = local.get(key, k -> new SlidingWindow(windowMillis, now));
+    checks.add(new Check(key, limit, window));
+  }
+
+  /** 기준별 Redis 판단 - 오류 시 모두 허용으로 간주 */
+  private List<Long> evaluate(String policy, List<Check> checks, long now) {
+    try {
+      List<Object> results =
+          redisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  connection -> {
+                    // 같은 연결에서 순서대로 실행되므로 앞의 SCRIPT LOAD 가 뒤 EVALSHA 의 NOSCRIPT 를 막음
+                    byte[] script = bytes(SLIDING_WINDOW.getScriptAsString());
+                    connection.scriptingCommands().scriptLoad(script);
+                    for (Check check : checks) {
+                      long window = check.limit().getWindow().toMillis();
+                      long index = now / window;
+                      connection
+                          .scriptingCommands()
+                          .evalSha(
+                              SLIDING_WINDOW.getSha1(),
+                              ReturnType.INTEGER,
+                              2,
+                              bytes(redisKey(check.key(), index)),
+                              bytes(redisKey(check.key(), index - 1)),
+                              bytes(String.valueOf(check.limit().getLimit())),
+                              bytes(String.valueOf(window)),
+                              bytes(String.valueOf(now % window)));
+                    }
+                    return null;
+                  });
+      List<Long> waits = new ArrayList<>(checks.size());
+      for (Object result : results.subList(1, results.size())) {
+        waits.add(((Number) result).longValue());
+      }
+      return waits;
+    } catch (RuntimeException e) {
+      registry.counter("auth.rate_limit", "policy", policy, "result", "redis_error").increment();
+      log.warn("rate limit Redis 판단 실패, 로컬 판단으로 허용: policy={}, {}", policy, e.getMessage());
+      return List.of();
+    }
+  }
+
+  private RateLimitExceededException reject(String policy, String result, long waitMillis) {
+    registry.counter("auth.rate_limit", "policy", policy, "result", result).increment();
+    return new RateLimitExceededException((waitMillis + 999) / 1000);
+  }
+
+  /** 현재/직전 window 키가 클러스터에서 같은 슬롯에 오도록 hash tag 사용 */
+  private static String redisKey(String key, long windowIndex) {
+    return KEY_PREFIX + "{" + key + "}:" + windowIndex;
+  }
+
+  private static String digest(String value) {
+    byte[] hash = SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 16);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Duration longestWindow(RateLimitProperties properties) {
+    Duration longest = Duration.ofMinutes(1);
+    for (Policy policy : properties.getPolicies().values()) {
+      for (Limit limit : new Limit[] {policy.getIp(), policy.getAccount()}) {
+        if (limit != null && limit.getWindow() != null) {
+          longest = longest.compareTo(limit.getWindow()) >= 0 ? longest : limit.getWindow();
+        }
+      }
+    }
+    return longest;
+  }
+
+  private record Check(String key, Limit limit, SlidingWindow window) {}
+}
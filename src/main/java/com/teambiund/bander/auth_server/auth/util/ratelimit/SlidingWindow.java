@@ -0,0 +1,55 @@
+package com.teambiund.bander.auth_server.auth.util.ratelimit;
+
+/**
+ * 인스턴스 로컬 sliding window 카운터 - 직전 window 수를 경과 비율만큼 줄여 현재 수와 더한 값으로 판단 (Redis 스크립트와 같은 방식)
+ *
+ * <p>Redis 가 거절한 키는 blockedUntil 까지 로컬에서 바로 거절한다.
+ */
+final class SlidingWindow {
+  private final long windowMillis;
+  private long windowIndex;
+  private int current;
+  private int previous;
+  private long blockedUntil;
+
+  SlidingWindow(long windowMillis, long now) {
+    this.windowMillis = windowMillis;
+    this.windowIndex = now / windowMillis;
+  }
+
+  /** 거절해야 하면 재시도까지 남은 밀리초, 아니면 0 */
+  synchronized long check(int limit, long now) {
+    if (now < blockedUntil) {
+      return blockedUntil - now;
+    }
+    roll(now);
+    if (estimate(now) >= limit) {
+      return windowMillis - now % windowMillis;
+    }
+    return 0;
+  }
+
+  synchronized void record(long now) {
+    roll(now);
+    current++;
+  }
+
+  synchronized void block(long now, long millis) {
+    blockedUntil = Math.max(blockedUntil, now + millis);
+  }
+
+  private double estimate(long now) {
+    double elapsed = (double) (now % windowMillis) / windowMillis;
+    return current + previous * (1 - elapsed);
+  }
+
+  private void roll(long now) {
+    long index = now / windowMillis;
+    if (index == windowIndex) {
+      return;
+    }
+    previous = index == windowIndex + 1 ? current : 0;
+    current = 0;
+    windowIndex = index;
+  }
+}
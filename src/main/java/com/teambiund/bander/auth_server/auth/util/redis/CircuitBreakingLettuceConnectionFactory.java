@@ -0,0 +1,62 @@
+package com.teambiund.bander.auth_server.auth.util.redis;
+
+import io.lettuce.core.AbstractRedisClient;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 회로 차단기를 거치는 LettuceConnectionFactory - 연결을 내주기 전에 확인하고, 명령 결과는 Lettuce client 의 CommandListener 로
+ * 차단기에 전달
+ */
+public class CircuitBreakingLettuceConnectionFactory extends LettuceConnectionFactory {
+  private final RedisCircuitBreaker circuitBreaker;
+
+  public CircuitBreakingLettuceConnectionFactory(
+      RedisConfiguration configuration,
+      LettuceClientConfiguration clientConfiguration,
+      RedisCircuitBreaker circuitBreaker) {
+    super(configuration, clientConfiguration);
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  public RedisCircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  @Override
+  protected AbstractRedisClient createClient() {
+    AbstractRedisClient client = super.createClient();
+    client.addListener(circuitBreaker);
+    return client;
+  }
+
+  @Override
+  public RedisConnection getConnection() {
+    if (isClusterAware()) {
+      // getClusterConnection 에서 확인
+      return super.getConnection();
+    }
+    circuitBreaker.acquire();
+    try {
+      return super.getConnection();
+    } catch (RedisConnectionFailureException e) {
+      circuitBreaker.recordFailure(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public RedisClusterConnection getClusterConnection() {
+    circuitBreaker.acquire();
+    try {
+      return super.getClusterConnection();
+    } catch (RedisConnectionFailureException e) {
+      circuitBreaker.recordFailure(e);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.teambiund.bander.auth_server.auth.util.redis;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+/**
+ * Redis 회로 차단기 - 장애(타임아웃, 연결 실패)가 window 안에 failureThreshold 번 나면 openDuration 동안 연결을 내주지 않고 바로 실패
+ *
+ * <p>Redis 가 느려지면 요청마다 command timeout 만큼 스레드가 묶이므로, 열린 동안에는 호출 없이 RedisConnectionFailureException 을
+ * 던져 호출자의 기존 대체 경로(캐시는 DB 조회, 시도 제한은 허용)로 바로 넘어가게 한다. openDuration 이 지나면 반만 열어(half-open) 요청을
+ * 흘려 보내고, 첫 성공이면 닫고 실패면 다시 연다.
+ *
+ * <p>결과는 Lettuce CommandListener 로 모든 명령(동기, async, 파이프라인)에서 받는다. 서버가 오류로 응답한 경우(WRONGTYPE,
+ * NOSCRIPT 등)는 Redis 가 살아 있다는 뜻이므로 장애로 세지 않는다.
+ *
+ * <p>지표: auth.redis.circuit.open{name} (1 열림), auth.redis.circuit.rejected{name}
+ */
+@Slf4j
+public class RedisCircuitBreaker implements CommandListener {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long windowMillis;
+  private final long openMillis;
+  private final LongSupplier clock;
+  private final Counter rejected;
+
+  private volatile State state = State.CLOSED;
+  // 아래는 this 로 보호
+  private long windowStart;
+  private int failures;
+  private long openedAt;
+
+  public RedisCircuitBreaker(
+      String name,
+      int failureThreshold,
+      Duration window,
+      Duration openDuration,
+      MeterRegistry registry,
+      LongSupplier clock) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.windowMillis = window.toMillis();
+    this.openMillis = openDuration.toMillis();
+    this.clock = clock;
+    this.windowStart = clock.getAsLong();
+    Gauge.builder("auth.redis.circuit.open", this, b -> b.state == State.OPEN ? 1 : 0)
+        .description("1 while the Redis circuit breaker rejects calls")
+        .tag("name", name)
+        .register(registry);
+    this.rejected =
+        Counter.builder("auth.redis.circuit.rejected")
+            .description("Redis calls rejected without being sent because the circuit was open")
+            .tag("name", name)
+            .register(registry);
+  }
+
+  /** 열려 있으면 Redis 를 호출하지 않고 실패 */
+  public void acquire() {
+    if (!tryAcquire()) {
+      rejected.increment();
+      throw new RedisConnectionFailureException("Redis circuit open (" + name + ")");
+    }
+  }
+
+  boolean tryAcquire() {
+    if (state != State.OPEN) {
+      return true;
+    }
+    synchronized (this) {
+      if (state == State.OPEN && clock.getAsLong() - openedAt >= openMillis) {
+        state = State.HALF_OPEN;
+        log.info("Redis 회로 half-open - 요청 재개: {}", name);
+      }
+      return state != State.OPEN;
+    }
+  }
+
+  public void recordSuccess() {
+    if (state != State.HALF_OPEN) {
+      return;
+    }
+    synchronized (this) {
+      if (state == State.HALF_OPEN) {
+        state = State.CLOSED;
+        failures = 0;
+        windowStart = clock.getAsLong();
+        log.info("Redis 회로 닫힘 - 정상 복구: {}", name);
+      }
+    }
+  }
+
+  public void recordFailure(Throwable cause) {
+    if (cause instanceof RedisCommandExecutionException) {
+      return;
+    }
+    synchronized (this) {
+      long now = clock.getAsLong();
+      switch (state) {
+        case OPEN -> {}
+        case HALF_OPEN -> open(now, cause);
+        case CLOSED -> {
+          if (now - windowStart >= windowMillis) {
+            windowStart = now;
+            failures = 0;
+          }
+          if (++failures >= failureThreshold) {
+            open(now, cause);
+          }
+        }
+      }
+    }
+  }
+
+  State state() {
+    return state;
+  }
+
+  private void open(long now, Throwable cause) {
+    state = State.OPEN;
+    openedAt = now;
+    log.warn("Redis 회로 열림 ({}ms 동안 호출 차단): {}, {}", openMillis, name, String.valueOf(cause));
+  }
+
+  @Override
+  public void commandSucceeded(CommandSucceededEvent event) {
+    recordSuccess();
+  }
+
+  @Override
+  public void commandFailed(CommandFailedEvent event) {
+    recordFailure(event.getCause());
+  }
+}
@@ -0,0 +1,300 @@
+package com.teambiund.bander.auth_server.auth.util.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 세션 저장소 - 사용자별 해시 하나(refresh:{userId})에 기기별 세션을 필드로 둔다
+ *
+ * <p>필드 값은 "토큰해시 iat exp[ 표시]" 한 줄 (60바이트 이하) 이라 필드 수/값 길이가 Redis 기본 hash-max-listpack-* 안에 들어
+ * listpack 으로 저장된다. 토큰 원문은 저장하지 않고 SHA-256 앞 16바이트만 둔다. 로그인마다 기기 필드가 하나씩 늘어나므로 세션 생성 시
+ * 최대 수를 넘는 만큼 iat 가 가장 오래된 필드(폐기 표시 포함)부터 지운다 - 리프레시 토큰 수명이 길어도 사용자당 필드 수가 제한된다.
+ *
+ * <p>기기 세션 하나가 토큰 family 하나: 로그인 시 만들어지고, 재발급마다 현재 토큰 해시만 새 것으로 바뀐다 (rotation). 이미 바뀐 예전
+ * 토큰이 다시 오면 탈취된 것으로 보고 필드를 폐기 표시("- 폐기시각 exp x")로 바꿔 family 전체(현재 토큰 포함)를 무효화한다. 필드를
+ * 지우지 않고 표시를 남기므로 스냅샷 복구(HSETNX)가 폐기된 세션을 되살리지 못하며, 표시는 family 의 마지막 토큰 만료까지 유지된다. 확인과
+ * 교체는 Lua 스크립트 한 번(HGET 한 번)으로 원자 처리한다.
+ *
+ * <p>교체할 때 직전 토큰 해시 앞 11자를 표시로 남긴다. 동시 요청이나 응답 유실 후 재시도로 직전 토큰이 reuse-grace(교체 시각 = 현재
+ * iat 기준) 안에 다시 오면 재사용으로 보지 않고 그 요청의 새 토큰으로 한 번 더 교체한다 (GRACE) - 세션은 마지막 응답의 토큰만 이어가므로,
+ * 동시에 받은 앞선 응답의 토큰은 나중에 쓰면 재사용으로 감지된다. 유예 중에는 직전 토큰을 가진 쪽도 새 토큰을 받을 수 있으므로 유예를 길게
+ * 잡을수록 재사용 감지가 늦어진다 (탈취 토큰을 교체 직후 몇 초 안에 쓰는 경우만 해당).
+ *
+ * <p>스냅샷에서 복구한 세션(r 표시)은 스냅샷 이후 재발급된 토큰을 알 수 없으므로, 해시가 달라도 저장된 iat 보다 나중에 발급된 토큰이면
+ * 한 번 받아들이고 이후에는 일반 세션처럼 검사한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+  static final String KEY_PREFIX = "refresh:";
+  private static final String REVOKED_MARK = "x";
+
+  /**
+   * 세션 생성 - ['1', 지운 기기 ID...] 저장, ['0'] 같은 기기 ID 의 살아 있는 세션이 있음. 만료된 다른 세션은 함께 정리하고, 새 세션을
+   * 포함해 최대 수를 넘는 만큼 iat 가 오래된 세션부터 지움
+   *
+   * <p>ARGV: 기기 ID, 값, 현재(epoch 초), 새 세션의 남은 수명(초), 사용자당 최대 세션 수
+   */
+  @SuppressWarnings("rawtypes")
+  private static final DefaultRedisScript<List> ISSUE =
+      new DefaultRedisScript<>(
+          "local now = tonumber(ARGV[3])"
+              + " local all = redis.call('hgetall', KEYS[1])"
+              + " local live = {}"
+              + " for i = 1, #all, 2 do"
+              + " local iat, exp = string.match(all[i + 1], '^%S+ (%d+) (%d+)')"
+              + " if not exp or tonumber(exp) <= now then redis.call('hdel', KEYS[1], all[i])"
+              + " elseif all[i] == ARGV[1] then return {'0'}"
+              + " else live[#live + 1] = {tonumber(iat), all[i]} end end"
+              + " local result = {'1'}"
+              + " local over = #live - tonumber(ARGV[5]) + 1"
+              + " if over > 0 then"
+              + " table.sort(live, function(a, b) return a[1] < b[1] end)"
+              + " for i = 1, over do"
+              + " redis.call('hdel', KEYS[1], live[i][2]) result[#result + 1] = live[i][2] end end"
+              + " redis.call('hset', KEYS[1], ARGV[1], ARGV[2])"
+              + " if redis.call('ttl', KEYS[1]) < tonumber(ARGV[4]) then"
+              + " redis.call('expire', KEYS[1], ARGV[4]) end"
+              + " return result",
+          List.class);
+
+  /**
+   * 확인 후 교체 - 0 세션 없음(만료), 1 교체, 2 재사용 감지(폐기 표시), 3 이미 폐기됨, 4 유예 중 직전 토큰으로 교체
+   *
+   * <p>ARGV: 기기 ID, 제시된 토큰 해시, 제시된 토큰 iat, 새 값, 현재(epoch 초), 새 세션의 남은 수명(초), 폐기 표시 값, 재사용 유예(초)
+   */
+  private static final DefaultRedisScript<Long> ROTATE =
+      new DefaultRedisScript<>(
+          "local v = redis.call('hget', KEYS[1], ARGV[1])"
+              + " if not v then return 0 end"
+              + " local h, iat, exp, m = string.match(v, '^(%S+) (%d+) (%d+) ?(%S*)$')"
+              + " if not exp or tonumber(exp) <= tonumber(ARGV[5]) then"
+              + " redis.call('hdel', KEYS[1], ARGV[1]) return 0 end"
+              + " if m == 'x' then return 3 end"
+              + " local prev = string.sub(ARGV[2], 1, 11)"
+              + " local result = 1"
+              + " if h == ARGV[2] or (m == 'r' and tonumber(ARGV[3]) > tonumber(iat)) then"
+              + " redis.call('hset', KEYS[1], ARGV[1], ARGV[4] .. ' ' .. prev)"
+              + " elseif #m > 1 and m == prev"
+              + " and tonumber(ARGV[5]) - tonumber(iat) <= tonumber(ARGV[8]) then"
+              + " redis.call('hset', KEYS[1], ARGV[1], ARGV[4] .. ' ' .. prev) result = 4"
+              + " else redis.call('hset', KEYS[1], ARGV[1], ARGV[7]) result = 2 end"
+              + " if redis.call('ttl', KEYS[1]) < tonumber(ARGV[6]) then"
+              + " redis.call('expire', KEYS[1], ARGV[6]) end"
+              + " return result",
+          Long.class);
+
+  /**
+   * 스냅샷 복구 - Redis 에 없는 기기만 채움 (이미 있거나 그 사이 폐기된 세션은 건드리지 않음) @return 채운 수
+   *
+   * <p>ARGV: 키 수명(초), 이후 기기 ID/값 쌍
+   */
+  private static final DefaultRedisScript<Long> RESTORE =
+      new DefaultRedisScript<>(
+          "local n = 0"
+              + " for i = 2, #ARGV, 2 do n = n + redis.call('hsetnx', KEYS[1], ARGV[i], ARGV[i + 1]) end"
+              + " if n > 0 and redis.call('ttl', KEYS[1]) < tonumber(ARGV[1]) then"
+              + " redis.call('expire', KEYS[1], ARGV[1]) end"
+              + " return n",
+          Long.class);
+
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+              throw new IllegalStateException(e);
+            }
+          });
+
+  public enum RotateResult {
+    MISSING,
+    ROTATED,
+    /** 이미 교체된 토큰이 다시 사용됨 - 세션(family)에 폐기 표시 */
+    REUSED,
+    /** 이전에 재사용 감지로 폐기된 세션 */
+    REVOKED,
+    /** 직전 토큰이 재사용 유예 안에 다시 사용됨 (동시 요청, 재시도) - 폐기하지 않고 교체 */
+    GRACE
+  }
+
+  /**
+   * 기기 세션 하나
+   *
+   * @param tokenHash 현재 유효한 리프레시 토큰의 해시 ({@link #hash(String)})
+   * @param issuedAt 현재 토큰 iat (epoch 초)
+   * @param expiresAt 현재 토큰 exp (epoch 초)
+   * @param restored 스냅샷에서 복구된 뒤 아직 재발급되지 않음
+   */
+  public record Session(
+      String deviceId, String tokenHash, long issuedAt, long expiresAt, boolean restored) {
+
+    String encode() {
+      return tokenHash + ' ' + issuedAt + ' ' + expiresAt + (restored ? " r" : "");
+    }
+
+    /** 형식이 맞지 않거나 폐기 표시면 null (직전 토큰 표시는 버림) */
+    static Session decode(String deviceId, String value) {
+      String[] parts = value.split(" ");
+      if (parts.length < 3 || (parts.length > 3 && REVOKED_MARK.equals(parts[3]))) {
+        return null;
+      }
+      try {
+        return new Session(
+            deviceId,
+            parts[0],
+            Long.parseLong(parts[1]),
+            Long.parseLong(parts[2]),
+            parts.length > 3 && "r".equals(parts[3]));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * 세션 생성 결과
+   *
+   * @param issued false 면 같은 기기 ID 의 세션이 이미 있어 저장하지 않음
+   * @param evicted 최대 세션 수를 넘어 지운 기기 ID (오래된 순)
+   */
+  public record Issued(boolean issued, List<String> evicted) {}
+
+  /** 세션 위치 (스냅샷 대상) */
+  public record SessionRef(String userId, String deviceId) {}
+
+  private final StringRedisTemplate redisTemplate;
+
+  /** 저장용 토큰 해시 - SHA-256 앞 16바이트 base64url */
+  public static String hash(String token) {
+    MessageDigest digest = SHA_256.get();
+    byte[] sha = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(sha, 16));
+  }
+
+  /** 새 기기 세션 - 새 세션을 포함해 maxSessions 를 넘으면 오래된 세션부터 지움 */
+  public Issued issue(
+      String userId,
+      String deviceId,
+      String token,
+      long issuedAt,
+      long expiresAt,
+      long now,
+      int maxSessions) {
+    Session session = new Session(deviceId, hash(token), issuedAt, expiresAt, false);
+    List<?> result =
+        redisTemplate.execute(
+            ISSUE,
+            List.of(key(userId)),
+            deviceId,
+            session.encode(),
+            String.valueOf(now),
+            remaining(expiresAt, now),
+            String.valueOf(maxSessions));
+    List<String> evicted = new ArrayList<>(result.size() - 1);
+    for (int i = 1; i < result.size(); i++) {
+      evicted.add(result.get(i).toString());
+    }
+    return new Issued("1".equals(result.get(0).toString()), evicted);
+  }
+
+  /**
+   * 제시된 토큰이 세션의 현재 토큰이면(또는 reuseGraceSeconds 안에 온 직전 토큰이면) 새 토큰으로 교체, 예전 토큰이면 세션에 폐기 표시
+   * (family 마지막 만료까지 유지)
+   */
+  public RotateResult rotate(
+      String userId,
+      String deviceId,
+      String presentedToken,
+      long presentedIssuedAt,
+      String newToken,
+      long issuedAt,
+      long expiresAt,
+      long now,
+      long reuseGraceSeconds) {
+    Session next = new Session(deviceId, hash(newToken), issuedAt, expiresAt, false);
+    Long result =
+        redisTemplate.execute(
+            ROTATE,
+            List.of(key(userId)),
+            deviceId,
+            hash(presentedToken),
+            String.valueOf(presentedIssuedAt),
+            next.encode(),
+            String.valueOf(now),
+            remaining(expiresAt, now),
+            "- " + now + ' ' + expiresAt + ' ' + REVOKED_MARK,
+            String.valueOf(reuseGraceSeconds));
+    return RotateResult.values()[result.intValue()];
+  }
+
+  /** 스냅샷의 세션을 Redis 에 없는 것만 복구 (restored 표시) @return 복구한 수 */
+  public long restore(String userId, Collection<Session> sessions, long now) {
+    if (sessions.isEmpty()) {
+      return 0;
+    }
+    List<String> args = new ArrayList<>(sessions.size() * 2 + 1);
+    long longest = 0;
+    for (Session s : sessions) {
+      longest = Math.max(longest, s.expiresAt());
+    }
+    args.add(remaining(longest, now));
+    for (Session s : sessions) {
+      args.add(s.deviceId());
+      args.add(new Session(s.deviceId(), s.tokenHash(), s.issuedAt(), s.expiresAt(), true).encode());
+    }
+    return redisTemplate.execute(RESTORE, List.of(key(userId)), args.toArray());
+  }
+
+  /**
+   * 여러 세션의 현재 상태 - 기기별 HGET 을 파이프라인으로 한 번에
+   *
+   * @return 입력 순서대로, 없거나 폐기 표시거나 형식이 맞지 않으면 null
+   */
+  public List<Session> find(List<SessionRef> refs) {
+    if (refs.isEmpty()) {
+      return List.of();
+    }
+    List<Object> values =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  for (SessionRef ref : refs) {
+                    connection
+                        .hashCommands()
+                        .hGet(bytes(key(ref.userId())), bytes(ref.deviceId()));
+                  }
+                  return null;
+                });
+    List<Session> sessions = new ArrayList<>(refs.size());
+    for (int i = 0; i < refs.size(); i++) {
+      Object value = values.get(i);
+      sessions.add(value == null ? null : Session.decode(refs.get(i).deviceId(), value.toString()));
+    }
+    return sessions;
+  }
+
+  static String key(String userId) {
+    return KEY_PREFIX + userId;
+  }
+
+  private static String remaining(long expiresAt, long now) {
+    return String.valueOf(Math.max(1, expiresAt - now));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
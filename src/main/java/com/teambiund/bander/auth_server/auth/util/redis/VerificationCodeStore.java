@@ -0,0 +1,292 @@
+package com.teambiund.bander.auth_server.auth.util.redis;
+
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 코드 저장소 - 발급/검증/확인 소비를 각각 Lua 스크립트 한 번(Redis 왕복 1회)으로 원자 처리
+ *
+ * <p>challenge 하나가 해시 하나: c(코드), n(틀린 횟수), v(검증 완료 표시). 검증에 성공하면 c/n 을 지우고 v=1 로 바꾸며 확인 소비 시
+ * 키를 삭제한다. 틀린 횟수가 maxAttempts 에 닿으면 키를 지워 같은 코드로 더 시도할 수 없게 한다. 조회 후 쓰기를 스크립트 안에서 하므로
+ * 여러 인스턴스가 같은 키를 동시에 다뤄도 코드가 덮어써지거나 두 번 확인되지 않는다.
+ *
+ * <p>단건 명령은 Lettuce async API 로 EVALSHA 를 보내고 (스크립트가 없으면 EVAL 로 재시도) CompletableFuture 를 돌려준다.
+ * 동기 메서드는 command-timeout 까지 기다린다. 여러 건은 파이프라인으로 한 번에 보낸다.
+ */
+@Component
+public class VerificationCodeStore {
+
+  /** 없을 때만 저장 - 1 저장, 0 이미 있음 */
+  private static final DefaultRedisScript<Long> ISSUE =
+      new DefaultRedisScript<>(
+          "if redis.call('exists', KEYS[1]) == 1 then return 0 end"
+              + " redis.call('hset', KEYS[1], 'c', ARGV[1])"
+              + " redis.call('expire', KEYS[1], ARGV[2]) return 1",
+          Long.class);
+
+  /** 기존 challenge 를 지우고 새로 저장 (재발송) */
+  private static final DefaultRedisScript<Long> REISSUE =
+      new DefaultRedisScript<>(
+          "redis.call('del', KEYS[1]) redis.call('hset', KEYS[1], 'c', ARGV[1])"
+              + " redis.call('expire', KEYS[1], ARGV[2]) return 1",
+          Long.class);
+
+  /**
+   * 코드 비교 - 0 없음, 1 불일치(또는 이미 확인됨), 2 확인, 3 시도 횟수 초과(삭제됨)
+   *
+   * <p>ARGV: 코드, 확인 표시 유지 시간(초), 최대 시도 횟수 (0 이하면 제한 없음)
+   */
+  private static final DefaultRedisScript<Long> VERIFY =
+      new DefaultRedisScript<>(
+          "local h = redis.call('hmget', KEYS[1], 'c', 'v')"
+              + " if not h[1] then if h[2] then return 1 end return 0 end"
+              + " if h[1] ~= ARGV[1] then"
+              + " local n = redis.call('hincrby', KEYS[1], 'n', 1)"
+              + " local max = tonumber(ARGV[3])"
+              + " if max > 0 and n >= max then redis.call('del', KEYS[1]) return 3 end"
+              + " return 1 end"
+              + " redis.call('hdel', KEYS[1], 'c', 'n') redis.call('hset', KEYS[1], 'v', '1')"
+              + " redis.call('expire', KEYS[1], ARGV[2]) return 2",
+          Long.class);
+
+  /** 검증을 마친 challenge 만 삭제 - 1 소비, 0 확인되지 않음 */
+  private static final DefaultRedisScript<Long> CONSUME =
+      new DefaultRedisScript<>(
+          "if redis.call('hget', KEYS[1], 'v') == '1' then"
+              + " return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+
+  private static final DefaultRedisScript<Long> EXISTS =
+      new DefaultRedisScript<>("return redis.call('exists', KEYS[1])", Long.class);
+
+  private static final DefaultRedisScript<Long> DELETE =
+      new DefaultRedisScript<>("return redis.call('del', KEYS[1])", Long.class);
+
+  public enum VerifyResult {
+    MISSING,
+    MISMATCH,
+    VERIFIED,
+    /** 틀린 횟수가 한도에 닿아 challenge 가 삭제됨 - 새 코드를 발급받아야 함 */
+    EXHAUSTED
+  }
+
+  private final StringRedisTemplate redisTemplate;
+  private final Duration commandTimeout;
+
+  @Autowired
+  public VerificationCodeStore(
+      StringRedisTemplate redisTemplate,
+      @Value("${verification.code.command-timeout:PT2S}") Duration commandTimeout) {
+    this.redisTemplate = redisTemplate;
+    this.commandTimeout = commandTimeout;
+  }
+
+  public CompletableFuture<Boolean> issueAsync(String key, String code, Duration ttl) {
+    return eval(ISSUE, key, code, seconds(ttl)).thenApply(r -> r == 1);
+  }
+
+  public CompletableFuture<Void> reissueAsync(String key, String code, Duration ttl) {
+    return eval(REISSUE, key, code, seconds(ttl)).thenApply(r -> null);
+  }
+
+  public CompletableFuture<VerifyResult> verifyAsync(
+      String key, String code, Duration confirmedTtl, int maxAttempts) {
+    return eval(VERIFY, key, code, seconds(confirmedTtl), String.valueOf(maxAttempts))
+        .thenApply(r -> VerifyResult.values()[r.intValue()]);
+  }
+
+  public CompletableFuture<Boolean> consumeConfirmedAsync(String key) {
+    return eval(CONSUME, key).thenApply(r -> r == 1);
+  }
+
+  public CompletableFuture<Boolean> existsAsync(String key) {
+    return eval(EXISTS, key).thenApply(r -> r == 1);
+  }
+
+  public CompletableFuture<Boolean> deleteAsync(String key) {
+    return eval(DELETE, key).thenApply(r -> r == 1);
+  }
+
+  /** 코드가 없을 때만 저장 @return 저장 여부 (이미 발급된 코드가 있으면 false) */
+  public boolean issue(String key, String code, Duration ttl) {
+    return await(issueAsync(key, code, ttl));
+  }
+
+  public void reissue(String key, String code, Duration ttl) {
+    await(reissueAsync(key, code, ttl));
+  }
+
+  /** 코드가 일치하면 검증 완료로 바꾸고 confirmedTtl 동안 유지, 틀린 횟수가 maxAttempts 에 닿으면 삭제 */
+  public VerifyResult verify(String key, String code, Duration confirmedTtl, int maxAttempts) {
+    return await(verifyAsync(key, code, confirmedTtl, maxAttempts));
+  }
+
+  /** 검증을 마친 키면 삭제하고 true */
+  public boolean consumeConfirmed(String key) {
+    return await(consumeConfirmedAsync(key));
+  }
+
+  public boolean exists(String key) {
+    return await(existsAsync(key));
+  }
+
+  public boolean delete(String key) {
+    return await(deleteAsync(key));
+  }
+
+  /**
+   * 여러 건 발급 - SCRIPT LOAD 와 EVALSHA 들을 한 파이프라인으로 보냄
+   *
+   * @return 키별 저장 여부 (입력 순서)
+   */
+  public Map<String, Boolean> issueAll(Map<String, String> codes, Duration ttl) {
+    String ttlSeconds = seconds(ttl);
+    List<String> keys = new ArrayList<>(codes.keySet());
+    List<Long> results =
+        pipelined(ISSUE, keys, key -> new String[] {codes.get(key), ttlSeconds});
+    Map<String, Boolean> issued = new LinkedHashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      issued.put(keys.get(i), results.get(i) == 1);
+    }
+    return issued;
+  }
+
+  /** 여러 건 삭제 - 클러스터에서도 슬롯이 섞일 수 있으므로 키별 DEL 을 파이프라인으로 @return 삭제된 수 */
+  public long deleteAll(Collection<String> keys) {
+    return pipelined(DELETE, List.copyOf(keys), key -> new String[0]).stream()
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+
+  private CompletableFuture<Long> eval(
+      DefaultRedisScript<Long> script, String key, String... args) {
+    try {
+      return redisTemplate.execute(
+          (RedisCallback<CompletableFuture<Long>>)
+              connection ->
+                  connection.getNativeConnection()
+                          instanceof RedisClusterAsyncCommands<?, ?> commands
+                      ? evalAsync(commands, script, key, args)
+                      // Lettuce 가 아닌 연결 - 동기 실행
+                      : CompletableFuture.completedFuture(
+                          redisTemplate.execute(script, List.of(key), (Object[]) args)));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletableFuture<Long> evalAsync(
+      RedisClusterAsyncCommands<?, ?> commands,
+      DefaultRedisScript<Long> script,
+      String key,
+      String... args) {
+    RedisClusterAsyncCommands<byte[], byte[]> async =
+        (RedisClusterAsyncCommands<byte[], byte[]>) commands;
+    byte[][] keys = {bytes(key)};
+    byte[][] values = new byte[args.length][];
+    for (int i = 0; i < args.length; i++) {
+      values[i] = bytes(args[i]);
+    }
+    CompletableFuture<Long> evalSha =
+        async
+            .<Long>evalsha(script.getSha1(), ScriptOutputType.INTEGER, keys, values)
+            .toCompletableFuture();
+    return evalSha.exceptionallyCompose(
+        e -> {
+          if (unwrap(e) instanceof RedisNoScriptException) {
+            // 재시작/FLUSH 로 스크립트 캐시가 비었으면 본문과 함께 다시 보냄 (이후에는 EVALSHA 로 처리)
+            return async
+                .<Long>eval(script.getScriptAsString(), ScriptOutputType.INTEGER, keys, values)
+                .toCompletableFuture();
+          }
+          return CompletableFuture.failedFuture(e);
+        });
+  }
+
+  private List<Long> pipelined(
+      DefaultRedisScript<Long> script,
+      List<String> keys,
+      Function<String, String[]> args) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    List<Object> results =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  // 같은 연결에서 순서대로 실행되므로 앞의 SCRIPT LOAD 가 뒤 EVALSHA 의 NOSCRIPT 를 막음
+                  connection.scriptingCommands().scriptLoad(bytes(script.getScriptAsString()));
+                  for (String key : keys) {
+                    String[] values = args.apply(key);
+                    byte[][] keysAndArgs = new byte[values.length + 1][];
+                    keysAndArgs[0] = bytes(key);
+                    for (int i = 0; i < values.length; i++) {
+                      keysAndArgs[i + 1] = bytes(values[i]);
+                    }
+                    connection
+                        .scriptingCommands()
+                        .evalSha(script.getSha1(), ReturnType.INTEGER, 1, keysAndArgs);
+                  }
+                  return null;
+                });
+    List<Long> evaluated = new ArrayList<>(keys.size());
+    for (Object result : results.subList(1, results.size())) {
+      evaluated.add(((Number) result).longValue());
+    }
+    return evaluated;
+  }
+
+  private <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get(commandTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RedisSystemException("인증 코드 저장소 호출 중단", e);
+    } catch (ExecutionException | TimeoutException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof RuntimeException runtime && !(cause instanceof CompletionException)) {
+        throw runtime;
+      }
+      throw new RedisSystemException("인증 코드 저장소 호출 실패", cause);
+    }
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    while ((e instanceof ExecutionException || e instanceof CompletionException)
+        && e.getCause() != null) {
+      e = e.getCause();
+    }
+    return e;
+  }
+
+  private static String seconds(Duration ttl) {
+    return String.valueOf(Math.max(1, ttl.toSeconds()));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,18 @@
+package com.teambiund.bander.auth_server.auth.util.verification;
+
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties;
+
+/**
+ * 인증 코드 전달 채널 - 이름으로 verification.channels.{name} 정책과 Redis 키(code:{name}:{대상})를 구분
+ *
+ * <p>새 채널은 상수와 설정 항목만 추가하면 된다 (정책이 없으면 기본 정책 없이 실패).
+ *
+ * @param name 채널 이름 (설정 키, Redis 키에 사용)
+ * @param rateLimitPolicy 코드 확인 시도 제한 정책 (auth.rate-limit.policies)
+ */
+public record VerificationChannel(String name, String rateLimitPolicy) {
+  public static final VerificationChannel EMAIL =
+      new VerificationChannel("email", RateLimitProperties.EMAIL_VERIFY);
+  public static final VerificationChannel SMS =
+      new VerificationChannel("sms", RateLimitProperties.SMS_VERIFY);
+}
@@ -0,0 +1,99 @@
+package com.teambiund.bander.auth_server.auth.util.verification;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.util.generator.generate_code.VerificationCodeGenerator;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimiter;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore.VerifyResult;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationProperties.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 코드 발급/확인 - 이메일, SMS 등 모든 채널이 같은 경로를 사용
+ *
+ * <p>challenge(채널 + 대상) 하나가 Redis 해시 하나(code:{채널}:{대상})이고, 코드 길이/유효 시간/확인 유지 시간/시도 횟수는 채널 정책을
+ * 따른다. 확인 시도는 RateLimiter 로 대상별로 먼저 제한하고, challenge 안에서는 틀린 횟수가 한도에 닿으면 코드를 폐기한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationCodeService {
+  static final String KEY_PREFIX = "code:";
+
+  private final VerificationCodeStore codeStore;
+  private final VerificationCodeGenerator codeGenerator;
+  private final RateLimiter rateLimiter;
+  private final VerificationProperties properties;
+
+  /**
+   * 새 코드 발급 - 진행 중인(또는 확인만 마친) challenge 가 있으면 실패
+   *
+   * @param channel 전달 채널
+   * @param subject 대상 (이메일, 사용자 ID + 전화번호 등)
+   * @return 발급한 코드 (전달은 호출자가 담당)
+   */
+  public String issue(VerificationChannel channel, String subject) {
+    Channel policy = policy(channel);
+    String code = codeGenerator.next(policy.getCodeLength());
+    if (!codeStore.issue(key(channel, subject), code, policy.getTtl())) {
+      throw new CustomException(AuthErrorCode.ALREADY_GENERATE_CODE);
+    }
+    log.info("인증 코드 발급 - channel: {}", channel.name());
+    return code;
+  }
+
+  /** 기존 challenge 를 새 코드로 교체 (재발송) - 틀린 횟수도 초기화 */
+  public String reissue(VerificationChannel channel, String subject) {
+    Channel policy = policy(channel);
+    String code = codeGenerator.next(policy.getCodeLength());
+    codeStore.reissue(key(channel, subject), code, policy.getTtl());
+    log.info("인증 코드 재발급 - channel: {}", channel.name());
+    return code;
+  }
+
+  /**
+   * 코드 확인 - 일치하면 challenge 를 확인 완료로 바꾸고 confirmed-ttl 동안 유지
+   *
+   * @throws com.teambiund.bander.auth_server.auth.exception.RateLimitExceededException 대상별 시도 제한 초과
+   */
+  public VerifyResult verify(VerificationChannel channel, String subject, String code) {
+    rateLimiter.acquire(channel.rateLimitPolicy(), subject);
+    Channel policy = policy(channel);
+    VerifyResult result =
+        codeStore.verify(
+            key(channel, subject), code, policy.getConfirmedTtl(), policy.getMaxAttempts());
+    if (result == VerifyResult.EXHAUSTED) {
+      log.info("인증 코드 시도 횟수 초과로 폐기 - channel: {}", channel.name());
+    }
+    return result;
+  }
+
+  /** 확인을 마친 challenge 면 삭제하고 true (다음 단계에서 한 번만 사용) */
+  public boolean consumeConfirmed(VerificationChannel channel, String subject) {
+    return codeStore.consumeConfirmed(key(channel, subject));
+  }
+
+  /** 진행 중이거나 확인만 마친 challenge 가 있는지 */
+  public boolean exists(VerificationChannel channel, String subject) {
+    return codeStore.exists(key(channel, subject));
+  }
+
+  public void delete(VerificationChannel channel, String subject) {
+    codeStore.delete(key(channel, subject));
+  }
+
+  private Channel policy(VerificationChannel channel) {
+    Channel policy = properties.getChannels().get(channel.name());
+    if (policy == null) {
+      throw new IllegalStateException("인증 코드 채널 정책이 없음: " + channel.name());
+    }
+    return policy;
+  }
+
+  static String key(VerificationChannel channel, String subject) {
+    return KEY_PREFIX + channel.name() + ":" + subject;
+  }
+}
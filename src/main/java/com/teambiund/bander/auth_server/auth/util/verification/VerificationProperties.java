@@ -0,0 +1,47 @@
+package com.teambiund.bander.auth_server.auth.util.verification;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** 채널별 인증 코드 정책 - verification.channels.{채널}.{code-length,ttl,confirmed-ttl,max-attempts} */
+@Getter
+@Setter
+@ConfigurationProperties("verification")
+public class VerificationProperties {
+
+  private Map<String, Channel> channels = defaultChannels();
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Channel {
+    private int codeLength = 6;
+
+    /** 발급한 코드의 유효 시간 */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /** 확인 완료 표시 유지 시간 - 이 안에 다음 단계(가입, 번호 저장)를 마쳐야 함 */
+    private Duration confirmedTtl = Duration.ofMinutes(10);
+
+    /** challenge 하나에 허용하는 틀린 횟수 (0 이하면 제한 없음) */
+    private int maxAttempts = 5;
+  }
+
+  private static Map<String, Channel> defaultChannels() {
+    Map<String, Channel> channels = new LinkedHashMap<>();
+    channels.put(
+        VerificationChannel.EMAIL.name(),
+        new Channel(6, Duration.ofSeconds(290), Duration.ofMinutes(30), 5));
+    channels.put(
+        VerificationChannel.SMS.name(),
+        new Channel(6, Duration.ofMinutes(5), Duration.ofMinutes(10), 5));
+    return channels;
+  }
+}
@@ -20,6 +20,7 @@ CREATE TABLE IF NOT EXISTS auth
     created_at   DATETIME(6)                                                 NULL,
     deleted_at   DATETIME(6)                                                 NULL,
     email        VARCHAR(255)                                                NOT NULL,
+    email_hash   CHAR(43) CHARACTER SET ascii COLLATE ascii_bin              NULL,
     password     VARCHAR(255)                                                NULL,
     provider     ENUM ('APPLE','GOOGLE','KAKAO','SYSTEM')                    NOT NULL,
     phone_number VARCHAR(255)                                                NULL,
@@ -28,12 +29,18 @@ CREATE TABLE IF NOT EXISTS auth
     version      INT                                                         NULL,
     user_role    ENUM ('ADMIN','GUEST','PLACE_OWNER','USER')                 NOT NULL,
     KEY idx_auth_email (email(191)),
+    UNIQUE KEY uk_auth_email_hash (email_hash),
     KEY idx_auth_status (status),
     KEY idx_auth_created_at (created_at)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_general_ci;
 
+-- 기존 DB 에 이메일 블라인드 인덱스 컬럼 추가 (재실행 안전, HMAC-SHA256 base64url 43자 / 대소문자 구분 비교)
+ALTER TABLE auth
+    ADD COLUMN IF NOT EXISTS email_hash CHAR(43) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER email;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_auth_email_hash ON auth (email_hash);
+
 -- auth 생성 후 history 생성 (컬럼 타입/길이 일치, 엔진 InnoDB)
 CREATE TABLE IF NOT EXISTS history
 (
@@ -105,6 +112,64 @@ CREATE TABLE IF NOT EXISTS login_status
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_general_ci;
 
+-- 배치 마이그레이션 진행 상황 (이름별 keyset 체크포인트, 재시작 시 이어서 진행)
+CREATE TABLE IF NOT EXISTS migration_checkpoint
+(
+    name          VARCHAR(64)  NOT NULL PRIMARY KEY,
+    last_key      VARCHAR(255) NOT NULL,
+    migrated      BIGINT       NOT NULL DEFAULT 0,
+    skipped       BIGINT       NOT NULL DEFAULT 0,
+    pass_migrated BIGINT       NOT NULL DEFAULT 0,
+    completed_at  DATETIME(6)  NULL,
+    updated_at    DATETIME(6)  NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_bin;
+
+-- 이벤트 outbox - 비즈니스 변경과 같은 트랜잭션으로 기록, OutboxRelay 가 id 순으로 Kafka 에 발행
+CREATE TABLE IF NOT EXISTS event_outbox
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    topic        VARCHAR(255) NOT NULL,
+    message_key  VARCHAR(255) NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    published_at DATETIME(6)  NULL,
+    attempts     INT          NOT NULL DEFAULT 0,
+    KEY idx_event_outbox_pending (published_at, id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_general_ci;
+
+-- 리프레시 토큰 세션 스냅샷 (Redis refresh:{userId} 해시를 RefreshTokenBackupService 가 주기적으로 반영, Redis 유실 시 복구용)
+CREATE TABLE IF NOT EXISTS refresh_token_session
+(
+    user_id    VARCHAR(255) NOT NULL,
+    device_id  VARCHAR(64)  NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL,
+    issued_at  BIGINT       NOT NULL,
+    expires_at BIGINT       NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id, device_id),
+    KEY idx_refresh_token_session_expires (expires_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_bin;
+
+-- 리프레시 토큰 폐기 기록 (재사용 감지로 폐기된 기기 세션, revoked_at 이전에 발급된 스냅샷 세션은 복구하지 않음)
+CREATE TABLE IF NOT EXISTS refresh_token_revocation
+(
+    user_id    VARCHAR(255) NOT NULL,
+    device_id  VARCHAR(64)  NOT NULL,
+    revoked_at BIGINT       NOT NULL,
+    expires_at BIGINT       NOT NULL,
+    PRIMARY KEY (user_id, device_id),
+    KEY idx_refresh_token_revocation_expires (expires_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_bin;
+
 -- auth.shedlock definition (must be preserved)
 CREATE TABLE IF NOT EXISTS shedlock
 (
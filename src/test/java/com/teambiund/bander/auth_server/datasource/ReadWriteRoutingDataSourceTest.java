@@ -0,0 +1,189 @@
+package com.teambiund.bander.auth_server.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.datasource.DataSourceRoutingContext;
+import com.teambiund.bander.auth_server.auth.datasource.ReadWriteRoutingDataSource;
+import com.teambiund.bander.auth_server.auth.datasource.ReadYourWritesTracker;
+import com.teambiund.bander.auth_server.auth.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** H2 두 개를 primary / replica 로 두고 어느 쪽에서 읽었는지 확인 */
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+  private EmbeddedDatabase primary;
+  private EmbeddedDatabase replica;
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    primary = database("primary");
+    replica = database("replica");
+    registry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    primary.shutdown();
+    replica.shutdown();
+  }
+
+  private static EmbeddedDatabase database(String name) {
+    EmbeddedDatabase database =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+    jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+    jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+    return database;
+  }
+
+  private ReplicaLagMonitor monitor(String lagQuery, Duration maxLag) {
+    ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, maxLag, registry);
+    monitor.check();
+    return monitor;
+  }
+
+  private DataSource routing(ReplicaLagMonitor monitor) {
+    return new LazyConnectionDataSourceProxy(
+        new ReadWriteRoutingDataSource(primary, replica, monitor, registry));
+  }
+
+  private static String readNode(DataSource dataSource, boolean readOnly) {
+    TransactionTemplate transactionTemplate =
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status -> queryNode(dataSource));
+  }
+
+  private static String queryNode(DataSource dataSource) {
+    return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class);
+  }
+
+  private double routed(String route) {
+    return registry.get("datasource.routing").tag("route", route).counter().count();
+  }
+
+  @Nested
+  @DisplayName("라우팅 테스트")
+  class RouteTests {
+
+    @Test
+    @DisplayName("[성공] readOnly 트랜잭션은 replica, 쓰기 트랜잭션은 primary")
+    void readOnly_toReplica_otherwise_primary() {
+      DataSource dataSource = routing(monitor("", Duration.ofSeconds(1)));
+
+      assertThat(readNode(dataSource, true)).isEqualTo("replica");
+      assertThat(routed("replica")).isEqualTo(1);
+
+      // 첫 커넥션 때 기본 속성 확인용으로 primary 커넥션을 한 번 더 얻으므로 증가분으로 비교
+      double primaryBefore = routed("primary");
+      assertThat(readNode(dataSource, false)).isEqualTo("primary");
+      assertThat(routed("primary")).isEqualTo(primaryBefore + 1);
+      assertThat(routed("replica")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 밖 조회는 primary")
+    void noTransaction_primary() {
+      DataSource dataSource = routing(monitor("", Duration.ofSeconds(1)));
+
+      assertThat(queryNode(dataSource)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("[성공] onPrimary 구간은 readOnly 라도 primary")
+    void onPrimary_forcesPrimary() {
+      DataSource dataSource = routing(monitor("", Duration.ofSeconds(1)));
+
+      String node = DataSourceRoutingContext.onPrimary(() -> readNode(dataSource, true));
+
+      assertThat(node).isEqualTo("primary");
+      assertThat(DataSourceRoutingContext.isPrimaryRequired()).isFalse();
+      assertThat(readNode(dataSource, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("[성공] 최근 변경된 사용자 조회는 primary (read-your-writes)")
+    void readYourWrites_recentUser_primary() {
+      DataSource dataSource = routing(monitor("", Duration.ofSeconds(1)));
+      ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+      tracker.recordWrite("user-1");
+
+      assertThat(tracker.readFor("user-1", () -> readNode(dataSource, true))).isEqualTo("primary");
+      assertThat(tracker.readFor("user-2", () -> readNode(dataSource, true))).isEqualTo("replica");
+    }
+  }
+
+  @Nested
+  @DisplayName("복제 지연 테스트")
+  class LagTests {
+
+    @Test
+    @DisplayName("[성공] 지연이 max-lag 이하면 replica 사용")
+    void lagWithinLimit_replica() {
+      ReplicaLagMonitor monitor =
+          monitor("SELECT 1 AS Seconds_Behind_Master", Duration.ofSeconds(1));
+
+      assertThat(monitor.isReplicaUsable()).isTrue();
+      assertThat(monitor.getLagSeconds()).isEqualTo(1);
+      assertThat(readNode(routing(monitor), true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("[성공] 지연이 max-lag 를 넘으면 primary 로 대체")
+    void lagExceeded_fallbackToPrimary() {
+      ReplicaLagMonitor monitor =
+          monitor("SELECT 5 AS Seconds_Behind_Master", Duration.ofSeconds(1));
+
+      assertThat(monitor.isReplicaUsable()).isFalse();
+      assertThat(readNode(routing(monitor), true)).isEqualTo("primary");
+      assertThat(registry.get("datasource.replica.lag").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("[성공] 복제 중단(NULL) 또는 확인 실패 시 primary 로 대체")
+    void replicationStoppedOrError_fallbackToPrimary() {
+      ReplicaLagMonitor stopped =
+          monitor("SELECT CAST(NULL AS INT) AS Seconds_Behind_Master", Duration.ofSeconds(1));
+      assertThat(stopped.isReplicaUsable()).isFalse();
+
+      ReplicaLagMonitor failing = monitor("SELECT * FROM no_such_table", Duration.ofSeconds(1));
+      assertThat(failing.isReplicaUsable()).isFalse();
+      assertThat(failing.getLagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("[성공] 지연이 회복되면 replica 읽기 재개")
+    void lagRecovered_replicaAgain() {
+      JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+      replicaTemplate.execute("CREATE TABLE lag (seconds INT)");
+      replicaTemplate.update("INSERT INTO lag VALUES (10)");
+      ReplicaLagMonitor monitor = monitor("SELECT seconds FROM lag", Duration.ofSeconds(1));
+      DataSource dataSource = routing(monitor);
+      assertThat(readNode(dataSource, true)).isEqualTo("primary");
+
+      replicaTemplate.update("UPDATE lag SET seconds = 0");
+      monitor.check();
+
+      assertThat(readNode(dataSource, true)).isEqualTo("replica");
+    }
+  }
+}
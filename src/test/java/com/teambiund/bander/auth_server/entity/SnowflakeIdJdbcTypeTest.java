@@ -0,0 +1,156 @@
+package com.teambiund.bander.auth_server.entity;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.entity.type.KeyColumnType;
+import com.teambiund.bander.auth_server.auth.entity.type.SnowflakeIdJdbcType;
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.KeyColumnTypeResolver;
+import java.sql.PreparedStatement;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("SnowflakeIdJdbcType 테스트")
+class SnowflakeIdJdbcTypeTest {
+
+  private static final String ID = "1234567890123456789";
+
+  @AfterEach
+  void tearDown() {
+    SnowflakeIdJdbcType.setColumnType(KeyColumnType.VARCHAR);
+  }
+
+  private ValueBinder<String> binder() {
+    return new SnowflakeIdJdbcType().getBinder(StringJavaType.INSTANCE);
+  }
+
+  @Nested
+  @DisplayName("바인딩 테스트")
+  class BindTests {
+
+    @Test
+    @DisplayName("[성공] VARCHAR 모드는 문자열로 바인딩")
+    void bind_varchar_setString() throws Exception {
+      PreparedStatement st = mock(PreparedStatement.class);
+
+      binder().bind(st, ID, 1, mock(WrapperOptions.class));
+
+      verify(st).setString(1, ID);
+      verify(st, never()).setLong(anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[성공] BIGINT 모드는 정밀도 손실 없이 long 으로 바인딩")
+    void bind_bigint_setLong() throws Exception {
+      SnowflakeIdJdbcType.setColumnType(KeyColumnType.BIGINT);
+      PreparedStatement st = mock(PreparedStatement.class);
+
+      binder().bind(st, ID, 1, mock(WrapperOptions.class));
+
+      verify(st).setLong(1, 1234567890123456789L);
+    }
+
+    @Test
+    @DisplayName("[실패] BIGINT 모드에서 숫자가 아닌 ID 는 INVALID_USER")
+    void bind_bigint_nonNumeric_throws() {
+      SnowflakeIdJdbcType.setColumnType(KeyColumnType.BIGINT);
+      PreparedStatement st = mock(PreparedStatement.class);
+
+      assertThatThrownBy(() -> binder().bind(st, "user-id-123", 1, mock(WrapperOptions.class)))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.INVALID_USER);
+    }
+
+    @Test
+    @DisplayName("[성공] 직접 SQL 파라미터 변환 - BIGINT 모드의 빈 keyset 시작점은 0")
+    void toParameter_byMode() {
+      assertThat(SnowflakeIdJdbcType.toParameter(ID)).isEqualTo(ID);
+      assertThat(SnowflakeIdJdbcType.toParameter("")).isEqualTo("");
+
+      SnowflakeIdJdbcType.setColumnType(KeyColumnType.BIGINT);
+
+      assertThat(SnowflakeIdJdbcType.toParameter(ID)).isEqualTo(1234567890123456789L);
+      assertThat(SnowflakeIdJdbcType.toParameter("")).isEqualTo(0L);
+    }
+  }
+
+  @Nested
+  @DisplayName("컬럼 타입 감지 테스트")
+  class ResolverTests {
+
+    private EmbeddedDatabase database(String script) {
+      return new EmbeddedDatabaseBuilder()
+          .generateUniqueName(true)
+          .setType(EmbeddedDatabaseType.H2)
+          .addScript(script)
+          .build();
+    }
+
+    @Test
+    @DisplayName("[성공] auto - VARCHAR 스키마 감지")
+    void auto_varcharSchema() {
+      EmbeddedDatabase database = database("schema.sql");
+      try {
+        SnowflakeIdJdbcType.setColumnType(KeyColumnType.BIGINT);
+
+        new KeyColumnTypeResolver(database, "auto").init();
+
+        assertThat(SnowflakeIdJdbcType.getColumnType()).isEqualTo(KeyColumnType.VARCHAR);
+      } finally {
+        database.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("[성공] auto - BIGINT 로 교체된 테이블을 재감지")
+    void auto_bigintSchema_refresh() {
+      EmbeddedDatabase database = database("schema.sql");
+      try {
+        KeyColumnTypeResolver resolver = new KeyColumnTypeResolver(database, "auto");
+        resolver.init();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE auth_v2 (id BIGINT NOT NULL PRIMARY KEY)");
+        jdbcTemplate.execute("ALTER TABLE auth RENAME TO auth_old");
+        jdbcTemplate.execute("ALTER TABLE auth_v2 RENAME TO auth");
+        resolver.refresh();
+
+        assertThat(SnowflakeIdJdbcType.getColumnType()).isEqualTo(KeyColumnType.BIGINT);
+      } finally {
+        database.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("[성공] 고정 모드는 감지하지 않음")
+    void fixed_noDetection() {
+      EmbeddedDatabase database = database("schema.sql");
+      try {
+        new KeyColumnTypeResolver(database, "bigint").init();
+
+        assertThat(SnowflakeIdJdbcType.getColumnType()).isEqualTo(KeyColumnType.BIGINT);
+      } finally {
+        database.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("[실패] 알 수 없는 설정 값")
+    void invalidSetting_throws() {
+      assertThatThrownBy(() -> new KeyColumnTypeResolver(null, "uuid").init())
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
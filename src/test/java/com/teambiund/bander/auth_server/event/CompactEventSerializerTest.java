@@ -0,0 +1,189 @@
+package com.teambiund.bander.auth_server.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.event.events.CreatedUserEvent;
+import com.teambiund.bander.auth_server.auth.event.events.EmailConfirmRequest;
+import com.teambiund.bander.auth_server.auth.event.events.PhoneNumberUpdateRequest;
+import com.teambiund.bander.auth_server.auth.event.events.PhoneNumberVerifiedEvent;
+import com.teambiund.bander.auth_server.auth.event.events.SmsConfirmRequest;
+import com.teambiund.bander.auth_server.auth.event.events.UserConsentChangedEvent;
+import com.teambiund.bander.auth_server.auth.event.serialization.CompactEventDeserializer;
+import com.teambiund.bander.auth_server.auth.event.serialization.CompactEventSerializer;
+import com.teambiund.bander.auth_server.auth.event.serialization.EventSchema;
+import com.teambiund.bander.auth_server.auth.event.serialization.EventSchemaRegistry;
+import com.teambiund.bander.auth_server.auth.event.serialization.EventSchemas;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+@DisplayName("CompactEventSerializer 테스트")
+class CompactEventSerializerTest {
+  static final String TOPIC = "test-topic";
+
+  private CompactEventSerializer serializer;
+  private CompactEventDeserializer deserializer;
+
+  @BeforeEach
+  void setUp() {
+    serializer = new CompactEventSerializer();
+    deserializer = new CompactEventDeserializer();
+    deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+  }
+
+  private Object roundTrip(Object event) {
+    RecordHeaders headers = new RecordHeaders();
+    return deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, headers, event));
+  }
+
+  @Nested
+  @DisplayName("직렬화 테스트")
+  class RoundTripTests {
+
+    @Test
+    @DisplayName("[성공] 발행 이벤트 모두 같은 값으로 복원")
+    void allEvents_roundTrip() {
+      assertThat(roundTrip(new CreatedUserEvent("user-1", "GOOGLE")))
+          .usingRecursiveComparison()
+          .isEqualTo(new CreatedUserEvent("user-1", "GOOGLE"));
+      assertThat(roundTrip(new EmailConfirmRequest("a@b.com", "123456")))
+          .usingRecursiveComparison()
+          .isEqualTo(new EmailConfirmRequest("a@b.com", "123456"));
+      assertThat(roundTrip(new SmsConfirmRequest("01012345678", "654321")))
+          .usingRecursiveComparison()
+          .isEqualTo(new SmsConfirmRequest("01012345678", "654321"));
+      assertThat(roundTrip(new PhoneNumberVerifiedEvent("user-1", "01012345678")))
+          .usingRecursiveComparison()
+          .isEqualTo(new PhoneNumberVerifiedEvent("user-1", "01012345678"));
+      UserConsentChangedEvent consent =
+          new UserConsentChangedEvent("user-1", "MARKETING", false, "2025-10-18T12:00:00");
+      assertThat(roundTrip(consent)).usingRecursiveComparison().isEqualTo(consent);
+    }
+
+    @Test
+    @DisplayName("[성공] null 필드와 한글 문자열 보존")
+    void nullAndUnicode_preserved() {
+      UserConsentChangedEvent event = new UserConsentChangedEvent("사용자-1", null, null, "");
+
+      UserConsentChangedEvent restored = (UserConsentChangedEvent) roundTrip(event);
+
+      assertThat(restored.getUserId()).isEqualTo("사용자-1");
+      assertThat(restored.getConsentId()).isNull();
+      assertThat(restored.getConsented()).isNull();
+      assertThat(restored.getChangedAt()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] JSON 보다 작은 크기로 인코딩 (타입 헤더 제외)")
+    void smallerThanJson() {
+      UserConsentChangedEvent event =
+          new UserConsentChangedEvent("738291045562351616", "MARKETING", true, "2025-10-18T12:00");
+
+      byte[] json = new JsonSerializer<>().serialize(TOPIC, event);
+      byte[] compact = serializer.serialize(TOPIC, event);
+
+      assertThat(compact.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("[성공] 스키마가 없는 타입은 JSON 으로 발행하고 읽기도 가능")
+    void unregisteredType_fallsBackToJson() {
+      RecordHeaders headers = new RecordHeaders();
+      PhoneNumberUpdateRequest request = new PhoneNumberUpdateRequest("user-1", "01012345678");
+
+      byte[] bytes = serializer.serialize(TOPIC, headers, request);
+
+      assertThat(bytes[0]).isEqualTo((byte) '{');
+      assertThat(deserializer.deserialize(TOPIC, headers, bytes))
+          .usingRecursiveComparison()
+          .isEqualTo(request);
+    }
+  }
+
+  @Nested
+  @DisplayName("스키마 버전 테스트")
+  class SchemaEvolutionTests {
+
+    private EventSchema<CreatedUserEvent> v1() {
+      return EventSchema.of(CreatedUserEvent.class, 1, CreatedUserEvent::new)
+          .string("userId", CreatedUserEvent::getUserId, CreatedUserEvent::setUserId)
+          .build();
+    }
+
+    private EventSchema<CreatedUserEvent> v2() {
+      return EventSchema.of(CreatedUserEvent.class, 2, CreatedUserEvent::new)
+          .string("userId", CreatedUserEvent::getUserId, CreatedUserEvent::setUserId)
+          .string("provider", CreatedUserEvent::getProvider, CreatedUserEvent::setProvider)
+          .build();
+    }
+
+    @Test
+    @DisplayName("[성공] 이전 버전으로 쓴 메시지는 새 버전 등록 후에도 읽히고 추가 필드는 null")
+    void oldMessage_readAfterNewVersion() {
+      EventSchemaRegistry registry = new EventSchemaRegistry();
+      CompactEventSerializer writer = new CompactEventSerializer(registry);
+      CompactEventDeserializer reader = new CompactEventDeserializer(registry);
+      registry.register(v1());
+      byte[] old = writer.serialize(TOPIC, new CreatedUserEvent("u", "G"));
+
+      registry.register(v2());
+      CreatedUserEvent restored = (CreatedUserEvent) reader.deserialize(TOPIC, old);
+      CreatedUserEvent current =
+          (CreatedUserEvent)
+              reader.deserialize(TOPIC, writer.serialize(TOPIC, new CreatedUserEvent("u", "G")));
+
+      assertThat(restored.getUserId()).isEqualTo("u");
+      assertThat(restored.getProvider()).isNull();
+      assertThat(current.getProvider()).isEqualTo("G");
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 정의를 다시 등록하면 같은 ID")
+    void register_idempotent() {
+      EventSchemaRegistry registry = new EventSchemaRegistry();
+
+      int first = registry.register(v1());
+      int second = registry.register(v1());
+
+      assertThat(second).isEqualTo(first);
+      assertThat(registry.register(v2())).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("[성공] 기본 레지스트리는 정의 순서대로 ID 부여 (producer/consumer 간 일치)")
+    void defaultRegistry_stableIds() {
+      EventSchemaRegistry fresh = EventSchemas.createRegistry();
+
+      assertThat(fresh.latest(CreatedUserEvent.class).orElseThrow().id())
+          .isEqualTo(
+              EventSchemas.defaultRegistry().latest(CreatedUserEvent.class).orElseThrow().id())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 등록되지 않은 스키마 ID 는 SerializationException")
+    void unknownSchemaId_throws() {
+      byte[] bytes = {0, 0, 0, 0x7F, 0x7F};
+
+      assertThatThrownBy(() -> deserializer.deserialize(TOPIC, bytes))
+          .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("[실패] 잘린 메시지는 SerializationException")
+    void truncated_throws() {
+      byte[] bytes = serializer.serialize(TOPIC, new CreatedUserEvent("user-1", "GOOGLE"));
+
+      assertThatThrownBy(
+              () -> deserializer.deserialize(TOPIC, Arrays.copyOf(bytes, bytes.length - 2)))
+          .isInstanceOf(SerializationException.class);
+    }
+  }
+}
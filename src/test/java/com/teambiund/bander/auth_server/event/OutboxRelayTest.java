@@ -0,0 +1,306 @@
+package com.teambiund.bander.auth_server.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambiund.bander.auth_server.auth.event.events.CreatedUserEvent;
+import com.teambiund.bander.auth_server.auth.event.events.EmailConfirmRequest;
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxPayloadCodec;
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxRelay;
+import com.teambiund.bander.auth_server.auth.event.outbox.OutboxStore;
+import com.teambiund.bander.auth_server.auth.event.publish.EventPublisher;
+import com.teambiund.bander.auth_server.auth.util.cipher.AESCipherStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.condition.EmbeddedKafkaCondition;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** H2 outbox + 내장 Kafka 브로커로 기록 → 릴레이 발행 → 소비까지 확인 */
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+  static final String TOPIC = "outbox-relay-test";
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private OutboxStore outboxStore;
+  private OutboxPayloadCodec payloadCodec;
+  private EventPublisher eventPublisher;
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    database =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    outboxStore = new OutboxStore(jdbcTemplate);
+    payloadCodec = new OutboxPayloadCodec(new ObjectMapper(), new AESCipherStrategy("outbox-key"));
+    eventPublisher = new EventPublisher(outboxStore, payloadCodec);
+    registry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private OutboxRelay relay(KafkaTemplate<String, Object> template, int batchSize) {
+    return new OutboxRelay(
+        outboxStore,
+        template,
+        payloadCodec,
+        true,
+        batchSize,
+        3,
+        Duration.ofSeconds(10),
+        Duration.ofSeconds(10),
+        Duration.ofDays(1),
+        Duration.ofDays(7),
+        registry);
+  }
+
+  private int unpublished() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM event_outbox WHERE published_at IS NULL", Integer.class);
+  }
+
+  private Consumer<String, CreatedUserEvent> consumer() {
+    Map<String, Object> consumerProps =
+        KafkaTestUtils.consumerProps("outbox-test", "false", EmbeddedKafkaCondition.getBroker());
+    consumerProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+    Consumer<String, CreatedUserEvent> consumer =
+        new DefaultKafkaConsumerFactory<String, CreatedUserEvent>(
+                consumerProps, new StringDeserializer(), new JsonDeserializer<>())
+            .createConsumer();
+    EmbeddedKafkaCondition.getBroker().consumeFromAnEmbeddedTopic(consumer, TOPIC);
+    return consumer;
+  }
+
+  @Nested
+  @DisplayName("기록 테스트")
+  class PublishTests {
+
+    @Test
+    @DisplayName("[성공] 트랜잭션이 롤백되면 이벤트도 남지 않음")
+    void rollback_noOutboxRow() {
+      TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(database));
+
+      tx.executeWithoutResult(
+          status -> {
+            eventPublisher.publish(TOPIC, new CreatedUserEvent("user-1", "SYSTEM"));
+            status.setRollbackOnly();
+          });
+      tx.executeWithoutResult(
+          status -> eventPublisher.publish(TOPIC, new CreatedUserEvent("user-2", "SYSTEM")));
+
+      assertThat(
+              jdbcTemplate.queryForList(
+                  "SELECT payload_type FROM event_outbox", String.class))
+          .containsExactly(CreatedUserEvent.class.getName());
+    }
+
+    @Test
+    @DisplayName("[성공] payload 는 암호화되어 저장되고 복원하면 같은 이벤트")
+    void payload_encryptedAtRest() throws Exception {
+      eventPublisher.publish(TOPIC, new EmailConfirmRequest("user@example.com", "123456"));
+
+      String payload = jdbcTemplate.queryForObject("SELECT payload FROM event_outbox", String.class);
+
+      assertThat(payload).doesNotContain("user@example.com").doesNotContain("123456");
+      assertThat(payloadCodec.decode(EmailConfirmRequest.class.getName(), payload))
+          .isInstanceOfSatisfying(
+              EmailConfirmRequest.class,
+              e -> assertThat(e.getCode()).isEqualTo("123456"));
+    }
+
+    @Test
+    @DisplayName("[실패] 등록되지 않은 이벤트 타입은 기록/복원하지 않음")
+    void unknownType_rejected() {
+      assertThatThrownBy(() -> eventPublisher.publish(TOPIC, Map.of("k", "v")))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> payloadCodec.decode("java.lang.ProcessBuilder", "{}"))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(unpublished()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("정리 테스트")
+  class PurgeTests {
+
+    @Test
+    @DisplayName("[성공] 보관 기간이 지난 발행 완료/dead 이벤트 삭제, 재시도 대기 이벤트는 유지")
+    @SuppressWarnings("unchecked")
+    void run_purgesPublishedAndDead() {
+      insertRaw("DATEADD('DAY', -2, CURRENT_TIMESTAMP)", "DATEADD('DAY', -2, CURRENT_TIMESTAMP)", 0);
+      insertRaw("DATEADD('DAY', -8, CURRENT_TIMESTAMP)", "NULL", 3);
+      insertRaw("DATEADD('DAY', -1, CURRENT_TIMESTAMP)", "NULL", 3);
+      insertRaw("DATEADD('DAY', -8, CURRENT_TIMESTAMP)", "NULL", 1);
+      KafkaTemplate<String, Object> kafka = mock(KafkaTemplate.class);
+      when(kafka.send(anyString(), any(), any()))
+          .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+      relay(kafka, 10).run();
+
+      assertThat(jdbcTemplate.queryForList("SELECT attempts FROM event_outbox", Integer.class))
+          .containsExactlyInAnyOrder(3, 2);
+    }
+
+    private void insertRaw(String createdAt, String publishedAt, int attempts) {
+      jdbcTemplate.update(
+          "INSERT INTO event_outbox (topic, payload_type, payload, created_at, published_at,"
+              + " attempts) VALUES (?, 'no.such.Type', '{}', "
+              + createdAt
+              + ", "
+              + publishedAt
+              + ", ?)",
+          TOPIC,
+          attempts);
+    }
+  }
+
+  @Nested
+  @EmbeddedKafka(partitions = 1, topics = TOPIC)
+  @DisplayName("릴레이 테스트")
+  class RelayTests {
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @BeforeEach
+    void setUpKafka() {
+      EmbeddedKafkaBroker broker = EmbeddedKafkaCondition.getBroker();
+      Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+      producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+      producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+      producerProps.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+      producerProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+      kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+    }
+
+    @AfterEach
+    void tearDownKafka() {
+      kafkaTemplate.destroy();
+    }
+
+    @Test
+    @DisplayName("[성공] 대기 이벤트를 batch 로 기록 순서대로 메시지 키와 함께 발행하고 완료 표시")
+    void relay_publishesInOrder_andMarksPublished() {
+      for (int i = 0; i < 5; i++) {
+        eventPublisher.publish(TOPIC, "user-" + i, new CreatedUserEvent("user-" + i, "SYSTEM"));
+      }
+
+      int sent = relay(kafkaTemplate, 2).relay();
+
+      assertThat(sent).isEqualTo(5);
+      assertThat(unpublished()).isZero();
+      assertThat(registry.get("outbox.pending").gauge().value()).isZero();
+      try (Consumer<String, CreatedUserEvent> consumer = consumer()) {
+        ConsumerRecords<String, CreatedUserEvent> records =
+            KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 5);
+        assertThat(records)
+            .extracting(ConsumerRecord::value)
+            .extracting(CreatedUserEvent::getUserId)
+            .containsExactly("user-0", "user-1", "user-2", "user-3", "user-4");
+        assertThat(records)
+            .extracting(ConsumerRecord::key)
+            .containsExactly("user-0", "user-1", "user-2", "user-3", "user-4");
+      }
+    }
+
+    @Test
+    @DisplayName("[실패] 중간 이벤트가 실패하면 그 뒤 이벤트는 완료 표시하지 않고 다음 실행에 다시 발행")
+    @SuppressWarnings("unchecked")
+    void sendFailure_laterEventsNotMarkedPublished() {
+      KafkaTemplate<String, Object> flaky = mock(KafkaTemplate.class);
+      when(flaky.send(anyString(), any(), any()))
+          .thenReturn(
+              CompletableFuture.completedFuture(null),
+              CompletableFuture.failedFuture(new IllegalStateException("timeout")),
+              CompletableFuture.completedFuture(null));
+      for (int i = 0; i < 3; i++) {
+        eventPublisher.publish(TOPIC, "user-1", new CreatedUserEvent("user-1", "p" + i));
+      }
+
+      assertThat(relay(flaky, 10).relay()).isEqualTo(1);
+
+      assertThat(
+              jdbcTemplate.queryForList(
+                  "SELECT attempts FROM event_outbox WHERE published_at IS NULL ORDER BY id",
+                  Integer.class))
+          .containsExactly(1, 0);
+      verify(flaky, times(3)).send(eq(TOPIC), eq("user-1"), any());
+    }
+
+    @Test
+    @DisplayName("[실패] 발행 실패 시 남겨 두고 재시도, 최대 시도 초과 시 dead 로 집계")
+    @SuppressWarnings("unchecked")
+    void sendFailure_retriedUntilMaxAttempts() {
+      KafkaTemplate<String, Object> failing = mock(KafkaTemplate.class);
+      when(failing.send(anyString(), any(), any()))
+          .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+      eventPublisher.publish(TOPIC, new CreatedUserEvent("user-1", "SYSTEM"));
+      OutboxRelay relay = relay(failing, 10);
+
+      assertThat(relay.relay()).isZero();
+      assertThat(unpublished()).isEqualTo(1);
+      assertThat(registry.get("outbox.pending").gauge().value()).isEqualTo(1);
+
+      relay.relay();
+      relay.relay();
+      relay.relay(); // 최대 시도(3) 초과 후에는 보내지 않음
+
+      verify(failing, times(3)).send(anyString(), any(), any());
+      assertThat(registry.get("outbox.dead").gauge().value()).isEqualTo(1);
+      assertThat(registry.get("outbox.pending").gauge().value()).isZero();
+      assertThat(
+              registry.get("outbox.published").tag("result", "failed").counter().count())
+          .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 발행 대기 지연(outbox.lag) 측정")
+    void lag_measuredFromOldestPending() {
+      jdbcTemplate.update(
+          "INSERT INTO event_outbox (topic, payload_type, payload, created_at, attempts)"
+              + " VALUES (?, 'no.such.Type', '{}', DATEADD('SECOND', -30, CURRENT_TIMESTAMP), 0)",
+          TOPIC);
+
+      relay(kafkaTemplate, 10).relay();
+
+      assertThat(registry.get("outbox.lag").gauge().value()).isGreaterThanOrEqualTo(30);
+      assertThat(unpublished()).isEqualTo(1);
+    }
+  }
+}
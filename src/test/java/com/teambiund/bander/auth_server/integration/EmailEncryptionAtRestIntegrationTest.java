@@ -14,11 +14,13 @@ import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.service.login.LoginServiceImpl;
 import com.teambiund.bander.auth_server.auth.service.signup.SignupStoreService;
 import com.teambiund.bander.auth_server.auth.service.withdrawal.impl.WithdrawalManagementServiceImpl;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import com.teambiund.bander.auth_server.auth.util.generator.token.TokenUtil;
 import java.time.LocalDateTime;
@@ -29,8 +31,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 
 /**
@@ -55,13 +57,17 @@ public class EmailEncryptionAtRestIntegrationTest {
 
   @Autowired private WithdrawalManagementServiceImpl withdrawalManagementService;
 
+  @Autowired private AuthEmailLookup authEmailLookup;
+
+  @Autowired private EmailBlindIndex emailBlindIndex;
+
   @Autowired private CipherStrategy aesCipherStrategy; // bean name: aesCipherStrategy
 
   @Autowired private CipherStrategy pbkdf2CipherStrategy; // bean name: pbkdf2CipherStrategy
 
-  @MockBean private KeyProvider keyProvider; // 생성되는 키는 고정값으로
+  @MockitoBean private KeyProvider keyProvider; // 생성되는 키는 고정값으로
 
-  @MockBean private TokenUtil tokenUtil; // 토큰 생성은 단순 목으로 대체
+  @MockitoBean private TokenUtil tokenUtil; // 토큰 생성은 단순 목으로 대체
 
   @Test
   @DisplayName("[가입 차단] DB에 암호화된 이메일이 이미 있을 때, 평문 이메일로 가입 시도 시 차단")
@@ -155,6 +161,36 @@ public class EmailEncryptionAtRestIntegrationTest {
     assertThat(response.getRefreshToken()).isEqualTo("mock-refresh-token");
   }
 
+  @Test
+  @DisplayName("[블라인드 인덱스] 가입 시 email_hash 저장, 레거시 조회 없이 평문 이메일로 로그인")
+  void signupThenLogin_withLegacyLookupDisabled_usesBlindIndex() {
+    // given: 신규 가입 (암호문 + 블라인드 인덱스 저장)
+    String plainEmail = "indexed@example.com";
+    String plainPassword = "Passw0rd!";
+    when(keyProvider.generateKey()).thenReturn("indexed-user-id");
+    signupStoreService.signup(plainEmail, plainPassword);
+
+    Auth stored = authRepository.findById("indexed-user-id").orElseThrow();
+    assertThat(stored.getEmail()).isEqualTo(aesCipherStrategy.encrypt(plainEmail));
+    assertThat(stored.getEmailHash()).isEqualTo(emailBlindIndex.of(plainEmail));
+
+    when(tokenUtil.generateAccessToken(anyString(), any(), anyString()))
+        .thenReturn("mock-access-token");
+    when(tokenUtil.generateRefreshToken(anyString(), any(), anyString()))
+        .thenReturn("mock-refresh-token");
+
+    // when: 레거시 조회를 끈 상태에서 로그인
+    authEmailLookup.setLegacyLookupEnabled(false);
+    try {
+      LoginResponse response = loginService.login(plainEmail, plainPassword, AppType.GENERAL);
+
+      // then: 인덱스만으로 사용자 조회 성공
+      assertThat(response.getAccessToken()).isEqualTo("mock-access-token");
+    } finally {
+      authEmailLookup.setLegacyLookupEnabled(true);
+    }
+  }
+
   @Test
   @DisplayName("[로그인 성능] 10명의 사용자가 있을 때 로그인 지연 시간 측정")
   void login_performance_with10Users() {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambiund.bander.auth_server.auth.config.RedisConfig;
 import com.teambiund.bander.auth_server.auth.entity.Auth;
 import com.teambiund.bander.auth_server.auth.entity.Consent;
 import com.teambiund.bander.auth_server.auth.entity.History;
@@ -843,6 +844,11 @@ public class AuthRepositoryTest {
       return mock(StringRedisTemplate.class);
     }
 
+    @Bean(RedisConfig.REPLICA_TEMPLATE)
+    public StringRedisTemplate replicaRedisTemplate() {
+      return mock(StringRedisTemplate.class);
+    }
+
     @Bean("aesCipherStrategy")
     @Primary
     public CipherStrategy aesCipherStrategy() {
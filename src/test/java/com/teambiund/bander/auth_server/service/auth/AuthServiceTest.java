@@ -0,0 +1,123 @@
+package com.teambiund.bander.auth_server.service.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.datasource.ReadYourWritesTracker;
+import com.teambiund.bander.auth_server.auth.dto.response.AuthBatchResponse;
+import com.teambiund.bander.auth_server.auth.dto.response.SimpleAuthResponse;
+import com.teambiund.bander.auth_server.auth.enums.Provider;
+import com.teambiund.bander.auth_server.auth.enums.Status;
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
+import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.repository.AuthSummary;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthService;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService 테스트")
+class AuthServiceTest {
+
+  @Mock private AuthRepository authRepository;
+
+  @Mock private AuthEmailLookup authEmailLookup;
+
+  private AuthService authService;
+
+  @BeforeEach
+  void setUp() {
+    // 캐시 비활성화 - 항상 repository 조회
+    AuthViewCache authViewCache =
+        new AuthViewCache(
+            null,
+            null,
+            new ReadYourWritesTracker(Duration.ofSeconds(2)),
+            false,
+            10,
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(1),
+            new SimpleMeterRegistry());
+    authService = new AuthService(authRepository, authEmailLookup, authViewCache, 3);
+  }
+
+  private static AuthSummary summary(String id, String phoneNumber) {
+    return new AuthSummary() {
+      public String getId() {
+        return id;
+      }
+
+      public Status getStatus() {
+        return Status.ACTIVE;
+      }
+
+      public Provider getProvider() {
+        return Provider.SYSTEM;
+      }
+
+      public LocalDateTime getCreatedAt() {
+        return LocalDateTime.of(2025, 1, 1, 0, 0);
+      }
+
+      public LocalDateTime getUpdatedAt() {
+        return null;
+      }
+
+      public String getPhoneNumber() {
+        return phoneNumber;
+      }
+    };
+  }
+
+  @Nested
+  @DisplayName("일괄 조회 테스트")
+  class GetAuthsTests {
+
+    @Test
+    @DisplayName("[성공] 요청 순서대로 반환, 없는 ID 는 missing")
+    @SuppressWarnings("unchecked")
+    void getAuths_orderAndMissing() {
+      when(authRepository.findSummariesByIdIn(anyCollection()))
+          .thenReturn(List.of(summary("3", null), summary("1", "encrypted")));
+
+      AuthBatchResponse response = authService.getAuths(List.of("1", "2", "3", "1"));
+
+      assertThat(response.getUsers())
+          .extracting(SimpleAuthResponse::getUserId)
+          .containsExactly("1", "3");
+      assertThat(response.getMissing()).containsExactly("2");
+
+      ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+      verify(authRepository, times(1)).findSummariesByIdIn(ids.capture());
+      assertThat(ids.getValue()).containsExactly("1", "2", "3");
+      verify(authRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("[실패] 최대 개수 초과 - 중복 제거 후 기준")
+    void getAuths_tooMany_throws() {
+      assertThatCode(() -> authService.getAuths(List.of("1", "1", "2", "3")))
+          .doesNotThrowAnyException();
+
+      assertThatThrownBy(() -> authService.getAuths(List.of("1", "2", "3", "4")))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.BATCH_SIZE_EXCEEDED);
+    }
+  }
+}
@@ -0,0 +1,361 @@
+package com.teambiund.bander.auth_server.service.auth;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.datasource.DataSourceRoutingContext;
+import com.teambiund.bander.auth_server.auth.datasource.ReadYourWritesTracker;
+import com.teambiund.bander.auth_server.auth.entity.Auth;
+import com.teambiund.bander.auth_server.auth.enums.Provider;
+import com.teambiund.bander.auth_server.auth.enums.Status;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache.AuthView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("AuthViewCache 테스트")
+class AuthViewCacheTest {
+
+  private static final String USER_ID = "1234567890";
+  private static final String KEY = "auth:view:" + USER_ID;
+  private static final String ENCODED = "ACTIVE|SYSTEM|2025-01-01T09:00|2025-02-01T09:30:15|1";
+
+  private StringRedisTemplate redisTemplate;
+  private ValueOperations<String, String> valueOps;
+  private SimpleMeterRegistry registry;
+  private ReadYourWritesTracker readYourWrites;
+  private AuthViewCache cache;
+
+  private final AuthView view =
+      new AuthView(
+          USER_ID,
+          Status.ACTIVE,
+          Provider.SYSTEM,
+          LocalDateTime.of(2025, 1, 1, 9, 0),
+          LocalDateTime.of(2025, 2, 1, 9, 30, 15),
+          true);
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(StringRedisTemplate.class);
+    valueOps = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    registry = new SimpleMeterRegistry();
+    readYourWrites = new ReadYourWritesTracker(Duration.ofSeconds(2));
+    cache = newCache(true);
+  }
+
+  private AuthViewCache newCache(boolean enabled) {
+    return new AuthViewCache(
+        redisTemplate,
+        redisTemplate,
+        readYourWrites,
+        enabled,
+        100,
+        Duration.ofMinutes(1),
+        Duration.ofMinutes(10),
+        registry);
+  }
+
+  private Function<String, Optional<AuthView>> countingLoader(
+      AtomicInteger calls, Optional<AuthView> result) {
+    return id -> {
+      calls.incrementAndGet();
+      return result;
+    };
+  }
+
+  private double redisCount(String result) {
+    return registry.get("auth.view.cache").tag("result", result).counter().count();
+  }
+
+  @Nested
+  @DisplayName("조회 테스트")
+  class GetTests {
+
+    @Test
+    @DisplayName("[성공] 캐시 미스 - DB 조회 후 Redis 와 near cache 에 저장")
+    void get_miss_loadsAndStores() {
+      AtomicInteger calls = new AtomicInteger();
+
+      Optional<AuthView> first = cache.get(USER_ID, countingLoader(calls, Optional.of(view)));
+      Optional<AuthView> second = cache.get(USER_ID, countingLoader(calls, Optional.of(view)));
+
+      assertThat(first).contains(view);
+      assertThat(second).contains(view);
+      assertThat(calls).hasValue(1);
+      verify(valueOps).set(eq(KEY), anyString(), eq(Duration.ofMinutes(10)));
+      verify(valueOps, times(1)).get(KEY); // 두 번째는 near cache 적중
+      assertThat(redisCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 적중 - DB 조회 안 함")
+    void get_redisHit_skipsLoader() {
+      when(valueOps.get(KEY)).thenReturn(ENCODED);
+      AtomicInteger calls = new AtomicInteger();
+
+      Optional<AuthView> result = cache.get(USER_ID, countingLoader(calls, Optional.empty()));
+
+      assertThat(result).contains(view);
+      assertThat(calls).hasValue(0);
+      assertThat(redisCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 없는 사용자는 캐시하지 않음")
+    void get_notFound_notCached() {
+      AtomicInteger calls = new AtomicInteger();
+
+      assertThat(cache.get(USER_ID, countingLoader(calls, Optional.empty()))).isEmpty();
+      assertThat(cache.get(USER_ID, countingLoader(calls, Optional.empty()))).isEmpty();
+
+      assertThat(calls).hasValue(2);
+      verify(valueOps, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 장애 시 DB 로 조회")
+    void get_redisDown_fallsBackToLoader() {
+      when(valueOps.get(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+      doThrow(new RedisConnectionFailureException("down"))
+          .when(valueOps)
+          .set(anyString(), anyString(), any(Duration.class));
+
+      Optional<AuthView> result = cache.get(USER_ID, id -> Optional.of(view));
+
+      assertThat(result).contains(view);
+      assertThat(redisCount("error")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 조회는 replica 로, 방금 변경된 사용자는 primary 로")
+    @SuppressWarnings("unchecked")
+    void get_readsReplicaUnlessRecentlyWritten() {
+      StringRedisTemplate replica = mock(StringRedisTemplate.class);
+      ValueOperations<String, String> replicaOps = mock(ValueOperations.class);
+      when(replica.opsForValue()).thenReturn(replicaOps);
+      when(replicaOps.get(KEY)).thenReturn(ENCODED);
+      AuthViewCache replicaCache =
+          new AuthViewCache(
+              redisTemplate,
+              replica,
+              readYourWrites,
+              true,
+              100,
+              Duration.ofMinutes(1),
+              Duration.ofMinutes(10),
+              registry);
+
+      assertThat(replicaCache.get(USER_ID, id -> Optional.empty())).contains(view);
+      verify(valueOps, never()).get(anyString());
+
+      replicaCache.evict(USER_ID);
+      replicaCache.get(USER_ID, id -> Optional.of(view));
+
+      verify(valueOps).get(KEY);
+      verify(replicaOps, times(1)).get(KEY);
+    }
+
+    @Test
+    @DisplayName("[성공] 형식이 다른 Redis 값은 미스로 처리")
+    void get_malformedValue_treatedAsMiss() {
+      when(valueOps.get(KEY)).thenReturn("ACTIVE|SYSTEM");
+      AtomicInteger calls = new AtomicInteger();
+
+      Optional<AuthView> result = cache.get(USER_ID, countingLoader(calls, Optional.of(view)));
+
+      assertThat(result).contains(view);
+      assertThat(calls).hasValue(1);
+      assertThat(redisCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 비활성화 시 항상 DB 조회")
+    void get_disabled_passThrough() {
+      AuthViewCache disabled = newCache(false);
+      AtomicInteger calls = new AtomicInteger();
+
+      disabled.get(USER_ID, countingLoader(calls, Optional.of(view)));
+      disabled.get(USER_ID, countingLoader(calls, Optional.of(view)));
+
+      assertThat(calls).hasValue(2);
+      verifyNoInteractions(valueOps);
+    }
+
+    @Test
+    @DisplayName("[성공] Auth 엔티티 변환 - 전화번호 등록 여부")
+    void from_entity() {
+      Auth auth =
+          Auth.builder()
+              .id(USER_ID)
+              .status(Status.SUSPENDED)
+              .provider(Provider.KAKAO)
+              .phoneNumber("encrypted-phone")
+              .build();
+
+      AuthView converted = AuthView.from(auth);
+
+      assertThat(converted.status()).isEqualTo(Status.SUSPENDED);
+      assertThat(converted.hasPhoneNumber()).isTrue();
+      assertThat(converted.toResponse().getUserId()).isEqualTo(USER_ID);
+      assertThat(AuthView.from(Auth.builder().id(USER_ID).build()).hasPhoneNumber()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("일괄 조회 테스트")
+  class GetAllTests {
+
+    @Test
+    @DisplayName("[성공] near → Redis → DB 순으로 채우고, DB 는 남은 ID 만 한 번 조회")
+    void getAll_tiers() {
+      AuthView other = new AuthView("2", Status.ACTIVE, Provider.GOOGLE, null, null, false);
+      AuthView loaded = new AuthView("3", Status.SLEEPING, Provider.SYSTEM, null, null, false);
+      cache.get(USER_ID, id -> Optional.of(view)); // near cache 적중 대상
+      when(valueOps.multiGet(List.of("auth:view:2", "auth:view:3", "auth:view:4")))
+          .thenReturn(Arrays.asList("ACTIVE|GOOGLE|||0", null, null));
+      List<Set<String>> loaderCalls = new ArrayList<>();
+
+      Map<String, AuthView> result =
+          cache.getAll(
+              List.of(USER_ID, "2", "3", "4"),
+              ids -> {
+                loaderCalls.add(ids);
+                return Map.of("3", loaded);
+              });
+
+      assertThat(result).containsOnlyKeys(USER_ID, "2", "3");
+      assertThat(result.get("2")).isEqualTo(other);
+      assertThat(loaderCalls).containsExactly(Set.of("3", "4"));
+      verify(redisTemplate).executePipelined(any(RedisCallback.class));
+      assertThat(redisCount("hit")).isEqualTo(1);
+      assertThat(redisCount("miss")).isEqualTo(3); // 단건 조회 1 + 일괄 2
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 장애 시 전부 DB 로 조회")
+    void getAll_redisDown_fallsBackToLoader() {
+      when(valueOps.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+      Map<String, AuthView> result = cache.getAll(List.of(USER_ID), ids -> Map.of(USER_ID, view));
+
+      assertThat(result).containsEntry(USER_ID, view);
+      assertThat(redisCount("error")).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("무효화 테스트")
+  class EvictTests {
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 밖 - 즉시 Redis 삭제 + 무효화 메시지 발행")
+    void evict_noTransaction_immediate() {
+      cache.get(USER_ID, id -> Optional.of(view));
+
+      cache.evict(USER_ID);
+
+      verify(redisTemplate).delete(KEY);
+      verify(redisTemplate).convertAndSend(AuthViewCache.INVALIDATION_CHANNEL, USER_ID);
+      AtomicInteger calls = new AtomicInteger();
+      cache.get(USER_ID, countingLoader(calls, Optional.of(view)));
+      assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 안 - 커밋 후 무효화")
+    void evict_inTransaction_afterCommit() {
+      TransactionSynchronizationManager.initSynchronization();
+      try {
+        cache.evict(USER_ID);
+
+        verify(redisTemplate, never()).delete(anyString());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+
+        verify(redisTemplate).delete(KEY);
+        verify(redisTemplate).convertAndSend(AuthViewCache.INVALIDATION_CHANNEL, USER_ID);
+      } finally {
+        TransactionSynchronizationManager.clearSynchronization();
+      }
+    }
+
+    @Test
+    @DisplayName("[성공] 무효화된 사용자는 read-your-writes window 동안 primary 에서 조회")
+    void evict_recordsWrite_loaderOnPrimary() {
+      cache.evict(USER_ID);
+
+      AtomicBoolean onPrimary = new AtomicBoolean();
+      cache.get(
+          USER_ID,
+          id -> {
+            onPrimary.set(DataSourceRoutingContext.isPrimaryRequired());
+            return Optional.of(view);
+          });
+
+      assertThat(readYourWrites.isRecentlyWritten(USER_ID)).isTrue();
+      assertThat(onPrimary).isTrue();
+      assertThat(DataSourceRoutingContext.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 캐시를 꺼도 변경 기록은 남김")
+    void evict_disabled_stillRecordsWrite() {
+      newCache(false).evict(USER_ID);
+
+      assertThat(readYourWrites.isRecentlyWritten(USER_ID)).isTrue();
+      verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 장애 시에도 예외를 전파하지 않음")
+    void evict_redisDown_swallowed() {
+      when(redisTemplate.delete(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+      assertThatCode(() -> cache.evict(USER_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 인스턴스의 무효화 메시지 수신 시 near cache 제거")
+    void onMessage_invalidatesNearCache() {
+      cache.get(USER_ID, id -> Optional.of(view));
+
+      cache.onMessage(
+          new DefaultMessage(
+              AuthViewCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+              USER_ID.getBytes(StandardCharsets.UTF_8)),
+          null);
+
+      AtomicInteger calls = new AtomicInteger();
+      cache.get(USER_ID, countingLoader(calls, Optional.of(view)));
+      assertThat(calls).hasValue(1);
+      verify(valueOps, times(2)).get(KEY);
+    }
+  }
+}
@@ -19,6 +19,7 @@ import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -122,14 +123,14 @@ class ConsentManagementServiceImplTest {
           TestFixture.createConsentRequests(
               TestFixture.CONSENT_ID_TERMS, TestFixture.CONSENT_ID_PRIVACY);
 
-      when(keyProvider.generateKey()).thenReturn("consent-id-1", "consent-id-2");
+      when(keyProvider.generateKeys(2)).thenReturn(List.of("consent-id-1", "consent-id-2"));
 
       // when
       consentService.saveConsent(auth, requests);
 
       // then
       assertThat(auth.getConsent()).hasSize(2);
-      verify(keyProvider, times(2)).generateKey();
+      verify(keyProvider, times(1)).generateKeys(2);
     }
 
     @Test
@@ -142,14 +143,14 @@ class ConsentManagementServiceImplTest {
               TestFixture.createConsentRequest(TestFixture.CONSENT_ID_TERMS, true),
               TestFixture.createConsentRequest(TestFixture.CONSENT_ID_MARKETING, false));
 
-      when(keyProvider.generateKey()).thenReturn("consent-id-1");
+      when(keyProvider.generateKeys(1)).thenReturn(List.of("consent-id-1"));
 
       // when
       consentService.saveConsent(auth, requests);
 
       // then
       assertThat(auth.getConsent()).hasSize(1);
-      verify(keyProvider, times(1)).generateKey();
+      verify(keyProvider, times(1)).generateKeys(1);
     }
 
     @Test
@@ -164,7 +165,7 @@ class ConsentManagementServiceImplTest {
 
       // then
       assertThat(auth.getConsent()).isEmpty();
-      verify(keyProvider, never()).generateKey();
+      verify(keyProvider, never()).generateKeys(anyInt());
     }
 
     @Test
@@ -175,7 +176,7 @@ class ConsentManagementServiceImplTest {
       List<ConsentRequest> requests =
           List.of(TestFixture.createConsentRequest(TestFixture.CONSENT_ID_TERMS, true));
 
-      when(keyProvider.generateKey()).thenReturn("consent-id");
+      when(keyProvider.generateKeys(1)).thenReturn(List.of("consent-id"));
 
       // when
       consentService.saveConsent(auth, requests);
@@ -193,7 +194,7 @@ class ConsentManagementServiceImplTest {
       List<ConsentRequest> requests =
           List.of(TestFixture.createConsentRequest(TestFixture.CONSENT_ID_TERMS, true));
 
-      when(keyProvider.generateKey()).thenReturn("consent-id-123");
+      when(keyProvider.generateKeys(1)).thenReturn(List.of("consent-id-123"));
 
       // when
       consentService.saveConsent(auth, requests);
@@ -396,7 +397,7 @@ class ConsentManagementServiceImplTest {
               TestFixture.createConsentRequest(TestFixture.CONSENT_ID_TERMS, true),
               TestFixture.createConsentRequest(TestFixture.CONSENT_ID_MARKETING, false));
 
-      when(keyProvider.generateKey()).thenReturn("consent-1");
+      when(keyProvider.generateKeys(1)).thenReturn(List.of("consent-1"));
 
       // when - 회원가입 시 동의 저장
       consentService.saveConsent(auth, initialRequests);
@@ -486,7 +487,8 @@ class ConsentManagementServiceImplTest {
         requests.add(TestFixture.createConsentRequest(consentId, true));
       }
 
-      when(keyProvider.generateKey()).thenAnswer(invocation -> "consent-id-" + System.nanoTime());
+      when(keyProvider.generateKeys(50))
+          .thenReturn(IntStream.range(0, 50).mapToObj(i -> "consent-id-" + i).toList());
 
       // when
       consentService.saveConsent(auth, requests);
@@ -516,7 +518,7 @@ class ConsentManagementServiceImplTest {
       List<ConsentRequest> requests =
           List.of(TestFixture.createConsentRequest(longConsentId, true));
 
-      when(keyProvider.generateKey()).thenReturn("consent-id");
+      when(keyProvider.generateKeys(1)).thenReturn(List.of("consent-id"));
 
       // when
       consentService.saveConsent(auth, requests);
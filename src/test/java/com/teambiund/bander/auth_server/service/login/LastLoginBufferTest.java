@@ -0,0 +1,181 @@
+package com.teambiund.bander.auth_server.service.login;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.service.login.LastLoginBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("LastLoginBuffer 테스트")
+class LastLoginBufferTest {
+
+  private static final LocalDateTime T1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+  private static final LocalDateTime T2 = T1.plusMinutes(5);
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry registry;
+  private LastLoginBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    database =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    registry = new SimpleMeterRegistry();
+    buffer = new LastLoginBuffer(jdbcTemplate, 1000, registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private void insertAuth(String id, Integer version) {
+    jdbcTemplate.update(
+        "INSERT INTO auth (id, email, provider, status, user_role, version)"
+            + " VALUES (?, ?, 'SYSTEM', 'ACTIVE', 'USER', ?)",
+        id,
+        id + "@example.com",
+        version);
+  }
+
+  private LocalDateTime lastLogin(String id) {
+    return jdbcTemplate.queryForObject(
+        "SELECT last_login FROM login_status WHERE user_id = ?", LocalDateTime.class, id);
+  }
+
+  private double pending() {
+    return registry.get("auth.login.last_login.pending").gauge().value();
+  }
+
+  @Nested
+  @DisplayName("반영 테스트")
+  class FlushTests {
+
+    @Test
+    @DisplayName("[성공] 같은 사용자의 여러 로그인은 최신 시각 하나로 합쳐 반영")
+    void record_coalescesToLatest() {
+      insertAuth("user-1", 3);
+      jdbcTemplate.update("INSERT INTO login_status (user_id, last_login) VALUES ('user-1', NULL)");
+
+      buffer.record("user-1", T2);
+      buffer.record("user-1", T1);
+      assertThat(pending()).isEqualTo(1);
+
+      buffer.flush();
+
+      assertThat(lastLogin("user-1")).isEqualTo(T2);
+      assertThat(pending()).isZero();
+      // Auth 행은 건드리지 않으므로 낙관적 락 version 그대로
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT version FROM auth WHERE id = 'user-1'", Integer.class))
+          .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] login_status 행이 없는 사용자는 새로 생성")
+    void flush_missingRow_inserted() {
+      insertAuth("user-1", 0);
+
+      buffer.record("user-1", T1);
+      buffer.flush();
+
+      assertThat(lastLogin("user-1")).isEqualTo(T1);
+      assertThat(
+              registry.get("auth.login.last_login.flushed").tag("result", "inserted").counter().count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 더 최신 값이 반영되어 있으면 덮어쓰지 않음")
+    void flush_olderValue_keepsNewer() {
+      insertAuth("user-1", 0);
+      jdbcTemplate.update(
+          "INSERT INTO login_status (user_id, last_login) VALUES ('user-1', ?)", T2);
+
+      buffer.record("user-1", T1);
+      buffer.flush();
+
+      assertThat(lastLogin("user-1")).isEqualTo(T2);
+    }
+
+    @Test
+    @DisplayName("[성공] auth 행이 없는 사용자는 건너뜀")
+    void flush_unknownUser_skipped() {
+      buffer.record("ghost", T1);
+
+      buffer.flush();
+
+      assertThat(
+              jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_status", Integer.class))
+          .isZero();
+      assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("[실패] DB 오류 시 버퍼에 남겨 다음 주기에 재시도")
+    void flush_dataAccessError_retainedForRetry() {
+      insertAuth("user-1", 0);
+      jdbcTemplate.execute("ALTER TABLE login_status RENAME TO login_status_tmp");
+
+      buffer.record("user-1", T1);
+      buffer.flush();
+
+      assertThat(pending()).isEqualTo(1);
+      assertThat(
+              registry.get("auth.login.last_login.flushed").tag("result", "failed").counter().count())
+          .isEqualTo(1);
+
+      jdbcTemplate.execute("ALTER TABLE login_status_tmp RENAME TO login_status");
+      buffer.flush();
+
+      assertThat(lastLogin("user-1")).isEqualTo(T1);
+      assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 대기 사용자가 max-pending 을 넘으면 반영하지 않고 오래된 값부터 버림")
+    void record_overMaxPending_shedsOldestWithoutWriting() {
+      SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+      LastLoginBuffer small = new LastLoginBuffer(jdbcTemplate, 10, smallRegistry);
+
+      for (int i = 0; i <= 10; i++) {
+        small.record("user-" + i, T1.plusSeconds(i));
+      }
+
+      // 11건 → 9건 (user-0, user-1 버림), DB 는 건드리지 않음
+      assertThat(smallRegistry.get("auth.login.last_login.pending").gauge().value()).isEqualTo(9);
+      assertThat(
+              smallRegistry
+                  .get("auth.login.last_login.flushed")
+                  .tag("result", "dropped")
+                  .counter()
+                  .count())
+          .isEqualTo(2);
+      assertThat(
+              smallRegistry
+                  .get("auth.login.last_login.flushed")
+                  .tag("result", "updated")
+                  .counter()
+                  .count())
+          .isZero();
+      assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_status", Integer.class))
+          .isZero();
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.teambiund.bander.auth_server.service.login;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -13,19 +14,29 @@ import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.exception.RateLimitExceededException;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.repository.LoginCredential;
 import com.teambiund.bander.auth_server.auth.repository.LoginStatusRepository;
+import com.teambiund.bander.auth_server.auth.service.login.LastLoginBuffer;
 import com.teambiund.bander.auth_server.auth.service.login.LoginServiceImpl;
+import com.teambiund.bander.auth_server.auth.service.login.PasswordRehashService;
+import com.teambiund.bander.auth_server.auth.service.login.RefreshTokenSessionService;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
 import com.teambiund.bander.auth_server.auth.util.generator.token.TokenUtil;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimiter;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,8 +56,45 @@ class LoginServiceImplTest {
 
   @Mock private CipherStrategy emailCipher;
 
+  @Mock private PasswordRehashService passwordRehashService;
+
+  @Mock private LastLoginBuffer lastLoginBuffer;
+
+  @Mock private RateLimiter rateLimiter;
+
+  @Mock private RefreshTokenSessionService refreshTokenSessions;
+
   private LoginServiceImpl loginService;
 
+  private static TokenClaims claims(String userId, String deviceId) {
+    long now = System.currentTimeMillis() / 1000;
+    return new TokenClaims(userId, Role.USER, deviceId, now, now + 3600);
+  }
+
+  private static LoginCredential credential(Auth auth) {
+    return new LoginCredential() {
+      @Override
+      public String getId() {
+        return auth.getId();
+      }
+
+      @Override
+      public String getPassword() {
+        return auth.getPassword();
+      }
+
+      @Override
+      public Status getStatus() {
+        return auth.getStatus();
+      }
+
+      @Override
+      public Role getUserRole() {
+        return auth.getUserRole();
+      }
+    };
+  }
+
   @BeforeEach
   void setUp() {
     loginService =
@@ -56,13 +104,64 @@ class LoginServiceImplTest {
             keyProvider,
             passwordEncoder,
             tokenUtil,
-            emailCipher);
+            new AuthEmailLookup(authRepository, emailCipher, new EmailBlindIndex("test-blind-index-key"), true),
+            passwordRehashService,
+            lastLoginBuffer,
+            rateLimiter,
+            refreshTokenSessions);
+    lenient()
+        .when(refreshTokenSessions.open(anyString(), anyString(), any(), anyLong()))
+        .thenReturn(true);
   }
 
   @Nested
   @DisplayName("로그인 테스트")
   class LoginTests {
 
+    @Test
+    @DisplayName("[실패] 시도 횟수 초과 시 DB 조회와 비밀번호 검증 없이 거절")
+    void login_rateLimited_rejectedBeforeLookup() {
+      // given
+      doThrow(new RateLimitExceededException(30))
+          .when(rateLimiter)
+          .acquire(RateLimitProperties.LOGIN, "test@example.com");
+
+      // when & then
+      assertThatThrownBy(() -> loginService.login("test@example.com", "pw", AppType.GENERAL))
+          .isInstanceOf(RateLimitExceededException.class);
+      verifyNoInteractions(authRepository, emailCipher, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 사용자의 다른 기기 세션과 기기 ID 가 겹치면 새 기기 ID 로 다시 발급")
+    void login_deviceIdCollision_reissues() {
+      // given
+      Auth auth =
+          Auth.builder()
+              .id("user-id-123")
+              .password("hashed")
+              .status(Status.ACTIVE)
+              .userRole(Role.USER)
+              .build();
+      when(emailCipher.encrypt("test@example.com")).thenReturn("encrypted-email");
+      when(authRepository.findCredentialByEmail("encrypted-email"))
+          .thenReturn(Optional.of(credential(auth)));
+      when(passwordEncoder.matches("pw", "hashed")).thenReturn(true);
+      when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
+          .thenReturn("refresh-token");
+      when(refreshTokenSessions.open(anyString(), anyString(), any(), anyLong()))
+          .thenReturn(false, true);
+
+      // when
+      LoginResponse response = loginService.login("test@example.com", "pw", AppType.GENERAL);
+
+      // then
+      assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+      verify(refreshTokenSessions, times(2))
+          .open(eq("user-id-123"), anyString(), eq("refresh-token"), anyLong());
+      verify(tokenUtil, times(2)).generateRefreshToken(eq("user-id-123"), eq(Role.USER), anyString());
+    }
+
     @Test
     @DisplayName("[성공] 정상적인 로그인")
     void login_validCredentials_success() {
@@ -83,13 +182,12 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, hashedPassword)).thenReturn(true);
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
       // when
       LoginResponse response = loginService.login(email, password, AppType.GENERAL);
@@ -101,11 +199,13 @@ class LoginServiceImplTest {
       assertThat(response.getDeviceId()).isNotNull();
 
       verify(emailCipher).encrypt(email);
-      verify(authRepository).findByEmailWithLoginStatus(encryptedEmail);
+      verify(authRepository).findCredentialByEmail(encryptedEmail);
       verify(passwordEncoder).matches(password, hashedPassword);
       verify(tokenUtil).generateAccessToken(eq("user-id-123"), eq(Role.USER), anyString());
       verify(tokenUtil).generateRefreshToken(eq("user-id-123"), eq(Role.USER), anyString());
-      verify(authRepository).save(auth);
+      verify(authRepository, never()).save(any());
+      verify(lastLoginBuffer).record(eq("user-id-123"), any(LocalDateTime.class));
+      verify(passwordRehashService).rehashIfNeeded("user-id-123", hashedPassword, password);
     }
 
     @Test
@@ -127,22 +227,21 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.empty());
-      when(authRepository.findByEmailWithLoginStatus(email)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.empty());
+      when(authRepository.findCredentialByEmail(email)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, hashedPassword)).thenReturn(true);
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
       // when
       LoginResponse response = loginService.login(email, password, AppType.GENERAL);
 
       // then
       assertThat(response).isNotNull();
-      verify(authRepository).findByEmailWithLoginStatus(encryptedEmail);
-      verify(authRepository).findByEmailWithLoginStatus(email);
+      verify(authRepository).findCredentialByEmail(encryptedEmail);
+      verify(authRepository).findCredentialByEmail(email);
     }
 
     @Test
@@ -154,8 +253,8 @@ class LoginServiceImplTest {
       String encryptedEmail = "encrypted-email";
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.empty());
-      when(authRepository.findByEmailWithLoginStatus(email)).thenReturn(Optional.empty());
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.empty());
+      when(authRepository.findCredentialByEmail(email)).thenReturn(Optional.empty());
 
       // when & then
       assertThatThrownBy(() -> loginService.login(email, password, AppType.GENERAL))
@@ -184,7 +283,7 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, hashedPassword)).thenReturn(false);
 
       // when & then
@@ -193,10 +292,11 @@ class LoginServiceImplTest {
           .hasFieldOrPropertyWithValue("errorcode", AuthErrorCode.PASSWORD_MISMATCH);
 
       verify(tokenUtil, never()).generateAccessToken(anyString(), any(), anyString());
+      verify(passwordRehashService, never()).rehashIfNeeded(anyString(), anyString(), anyString());
     }
 
     @Test
-    @DisplayName("[검증] LoginStatus가 올바르게 설정됨")
+    @DisplayName("[검증] 마지막 로그인 시각은 Auth 저장 없이 버퍼에 기록")
     void login_loginStatusSetCorrectly() {
       // given
       String email = "test@example.com";
@@ -213,24 +313,19 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("refresh-token");
-      when(authRepository.save(any(Auth.class)))
-          .thenAnswer(invocation -> invocation.getArgument(0));
 
       // when
       loginService.login(email, password, AppType.GENERAL);
 
-      // then
-      ArgumentCaptor<Auth> authCaptor = ArgumentCaptor.forClass(Auth.class);
-      verify(authRepository).save(authCaptor.capture());
-      Auth savedAuth = authCaptor.getValue();
-      assertThat(savedAuth.getLoginStatus()).isNotNull();
-      assertThat(savedAuth.getLoginStatus().getLastLogin()).isNotNull();
+      // then - Auth 를 저장하지 않고 마지막 로그인 시각만 버퍼에 기록 (version 변화 없음)
+      verify(authRepository, never()).save(any());
+      verify(lastLoginBuffer).record(eq("user-id-123"), any(LocalDateTime.class));
     }
   }
 
@@ -256,7 +351,7 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
 
       // when & then
@@ -285,7 +380,7 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
 
       // when & then
@@ -311,7 +406,7 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
 
       // when & then
@@ -337,7 +432,7 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
 
       // when & then
@@ -366,15 +461,12 @@ class LoginServiceImplTest {
               .userRole(Role.USER)
               .build();
 
-      when(tokenUtil.isValid(refreshToken)).thenReturn(true);
-      when(tokenUtil.extractUserId(refreshToken)).thenReturn(userId);
-      when(tokenUtil.extractDeviceId(refreshToken)).thenReturn(deviceId);
-      when(authRepository.findByIdWithLoginStatus(userId)).thenReturn(Optional.of(auth));
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(claims(userId, deviceId)));
+      when(authRepository.findCredentialById(userId)).thenReturn(Optional.of(credential(auth)));
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("new-access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("new-refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
       // when
       LoginResponse response = loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL);
@@ -385,10 +477,12 @@ class LoginServiceImplTest {
       assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
       assertThat(response.getDeviceId()).isNotNull();
 
-      verify(tokenUtil).isValid(refreshToken);
-      verify(tokenUtil).extractUserId(refreshToken);
-      verify(tokenUtil).extractDeviceId(refreshToken);
-      verify(authRepository).findByIdWithLoginStatus(userId);
+      // 토큰은 verify 한 번으로만 디코딩되어야 함
+      verify(tokenUtil).verify(refreshToken);
+      verify(tokenUtil, never()).isValid(anyString());
+      verify(tokenUtil, never()).extractUserId(anyString());
+      verify(tokenUtil, never()).extractDeviceId(anyString());
+      verify(authRepository).findCredentialById(userId);
     }
 
     @Test
@@ -398,7 +492,7 @@ class LoginServiceImplTest {
       String refreshToken = "expired-refresh-token";
       String deviceId = "device-123";
 
-      when(tokenUtil.isValid(refreshToken)).thenReturn(false);
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.empty());
 
       // when & then
       assertThatThrownBy(() -> loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL))
@@ -406,7 +500,7 @@ class LoginServiceImplTest {
           .hasFieldOrPropertyWithValue("errorcode", AuthErrorCode.EXPIRED_TOKEN);
 
       verify(tokenUtil, never()).extractUserId(anyString());
-      verify(authRepository, never()).findByIdWithLoginStatus(anyString());
+      verify(authRepository, never()).findCredentialById(anyString());
     }
 
     @Test
@@ -416,16 +510,14 @@ class LoginServiceImplTest {
       String refreshToken = "invalid-token";
       String deviceId = "device-123";
 
-      when(tokenUtil.isValid(refreshToken)).thenReturn(true);
-      when(tokenUtil.extractUserId(refreshToken)).thenReturn(null);
-      when(tokenUtil.extractDeviceId(refreshToken)).thenReturn(deviceId);
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(claims(null, deviceId)));
 
       // when & then
       assertThatThrownBy(() -> loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL))
           .isInstanceOf(CustomException.class)
           .hasFieldOrPropertyWithValue("errorcode", AuthErrorCode.INVALID_TOKEN);
 
-      verify(authRepository, never()).findByIdWithLoginStatus(anyString());
+      verify(authRepository, never()).findCredentialById(anyString());
     }
 
     @Test
@@ -436,16 +528,14 @@ class LoginServiceImplTest {
       String deviceId = "device-123";
       String tokenDeviceId = "different-device";
 
-      when(tokenUtil.isValid(refreshToken)).thenReturn(true);
-      when(tokenUtil.extractUserId(refreshToken)).thenReturn("user-id");
-      when(tokenUtil.extractDeviceId(refreshToken)).thenReturn(tokenDeviceId);
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(claims("user-id", tokenDeviceId)));
 
       // when & then
       assertThatThrownBy(() -> loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL))
           .isInstanceOf(CustomException.class)
           .hasFieldOrPropertyWithValue("errorcode", AuthErrorCode.INVALID_DEVICE_ID);
 
-      verify(authRepository, never()).findByIdWithLoginStatus(anyString());
+      verify(authRepository, never()).findCredentialById(anyString());
     }
 
     @Test
@@ -456,10 +546,8 @@ class LoginServiceImplTest {
       String deviceId = "device-123";
       String userId = "non-existent-user";
 
-      when(tokenUtil.isValid(refreshToken)).thenReturn(true);
-      when(tokenUtil.extractUserId(refreshToken)).thenReturn(userId);
-      when(tokenUtil.extractDeviceId(refreshToken)).thenReturn(deviceId);
-      when(authRepository.findByIdWithLoginStatus(userId)).thenReturn(Optional.empty());
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(claims(userId, deviceId)));
+      when(authRepository.findCredentialById(userId)).thenReturn(Optional.empty());
 
       // when & then
       assertThatThrownBy(() -> loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL))
@@ -470,7 +558,7 @@ class LoginServiceImplTest {
     }
 
     @Test
-    @DisplayName("[검증] 리프레시 시에도 LoginStatus 업데이트")
+    @DisplayName("[검증] 리프레시 시에도 마지막 로그인 시각 기록")
     void refreshToken_updatesLoginStatus() {
       // given
       String refreshToken = "valid-refresh-token";
@@ -485,25 +573,65 @@ class LoginServiceImplTest {
               .userRole(Role.USER)
               .build();
 
-      when(tokenUtil.isValid(refreshToken)).thenReturn(true);
-      when(tokenUtil.extractUserId(refreshToken)).thenReturn(userId);
-      when(tokenUtil.extractDeviceId(refreshToken)).thenReturn(deviceId);
-      when(authRepository.findByIdWithLoginStatus(userId)).thenReturn(Optional.of(auth));
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(claims(userId, deviceId)));
+      when(authRepository.findCredentialById(userId)).thenReturn(Optional.of(credential(auth)));
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("new-access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("new-refresh-token");
-      when(authRepository.save(any(Auth.class)))
-          .thenAnswer(invocation -> invocation.getArgument(0));
 
       // when
       loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL);
 
       // then
-      ArgumentCaptor<Auth> authCaptor = ArgumentCaptor.forClass(Auth.class);
-      verify(authRepository).save(authCaptor.capture());
-      Auth savedAuth = authCaptor.getValue();
-      assertThat(savedAuth.getLoginStatus()).isNotNull();
+      verify(authRepository, never()).save(any());
+      verify(lastLoginBuffer).record(eq(userId), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 기기 ID 로 재발급하고 세션의 현재 토큰을 교체")
+    void refreshToken_rotatesSessionOnSameDevice() {
+      // given
+      String refreshToken = "valid-refresh-token";
+      String deviceId = "ab12";
+      String userId = "user-id-123";
+      TokenClaims presented = claims(userId, deviceId);
+      Auth auth = Auth.builder().id(userId).status(Status.ACTIVE).userRole(Role.USER).build();
+
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(presented));
+      when(authRepository.findCredentialById(userId)).thenReturn(Optional.of(credential(auth)));
+      when(tokenUtil.generateRefreshToken(userId, Role.USER, deviceId)).thenReturn("new-refresh-token");
+      when(refreshTokenSessions.now()).thenReturn(1_000L);
+
+      // when
+      LoginResponse response = loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL);
+
+      // then
+      assertThat(response.getDeviceId()).isEqualTo(deviceId);
+      verify(refreshTokenSessions).rotate(presented, refreshToken, "new-refresh-token", 1_000L);
+      verify(refreshTokenSessions, never()).open(anyString(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[실패] 이미 교체된 토큰 재사용 시 REFRESH_TOKEN_REUSED, 마지막 로그인 기록 안 함")
+    void refreshToken_reused_throws() {
+      // given
+      String refreshToken = "old-refresh-token";
+      String deviceId = "ab12";
+      String userId = "user-id-123";
+      Auth auth = Auth.builder().id(userId).status(Status.ACTIVE).userRole(Role.USER).build();
+
+      when(tokenUtil.verify(refreshToken)).thenReturn(Optional.of(claims(userId, deviceId)));
+      when(authRepository.findCredentialById(userId)).thenReturn(Optional.of(credential(auth)));
+      doThrow(new CustomException(AuthErrorCode.REFRESH_TOKEN_REUSED))
+          .when(refreshTokenSessions)
+          .rotate(any(), eq(refreshToken), any(), anyLong());
+
+      // when & then
+      assertThatThrownBy(() -> loginService.refreshToken(refreshToken, deviceId, AppType.GENERAL))
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("errorcode", AuthErrorCode.REFRESH_TOKEN_REUSED);
+      verify(lastLoginBuffer, never()).record(anyString(), any());
     }
   }
 
@@ -529,13 +657,12 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
       // when - 로그인
       LoginResponse loginResponse = loginService.login(email, password, AppType.GENERAL);
@@ -546,10 +673,9 @@ class LoginServiceImplTest {
       String deviceId = loginResponse.getDeviceId();
 
       // given - 리프레시
-      when(tokenUtil.isValid("refresh-token")).thenReturn(true);
-      when(tokenUtil.extractUserId("refresh-token")).thenReturn("user-id-123");
-      when(tokenUtil.extractDeviceId("refresh-token")).thenReturn(deviceId);
-      when(authRepository.findByIdWithLoginStatus("user-id-123")).thenReturn(Optional.of(auth));
+      when(tokenUtil.verify("refresh-token"))
+          .thenReturn(Optional.of(claims("user-id-123", deviceId)));
+      when(authRepository.findCredentialById("user-id-123")).thenReturn(Optional.of(credential(auth)));
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("new-access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
@@ -581,13 +707,12 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(adminAuth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(adminAuth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
       when(tokenUtil.generateAccessToken(eq("admin-id"), eq(Role.ADMIN), anyString()))
           .thenReturn("admin-access-token");
       when(tokenUtil.generateRefreshToken(eq("admin-id"), eq(Role.ADMIN), anyString()))
           .thenReturn("admin-refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(adminAuth);
 
       // when
       LoginResponse response = loginService.login(email, password, AppType.GENERAL);
@@ -622,13 +747,12 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, hashedPassword)).thenReturn(true);
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
       // when
       loginService.login(email, password, AppType.GENERAL);
@@ -655,20 +779,19 @@ class LoginServiceImplTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithLoginStatus(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findCredentialByEmail(encryptedEmail)).thenReturn(Optional.of(credential(auth)));
       when(passwordEncoder.matches(password, "hashedPassword")).thenReturn(true);
       when(tokenUtil.generateAccessToken(anyString(), any(Role.class), anyString()))
           .thenReturn("access-token");
       when(tokenUtil.generateRefreshToken(anyString(), any(Role.class), anyString()))
           .thenReturn("refresh-token");
-      when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
       // when
       loginService.login(email, password, AppType.GENERAL);
 
       // then
       verify(emailCipher).encrypt(email);
-      verify(authRepository).findByEmailWithLoginStatus(encryptedEmail);
+      verify(authRepository).findCredentialByEmail(encryptedEmail);
     }
   }
 }
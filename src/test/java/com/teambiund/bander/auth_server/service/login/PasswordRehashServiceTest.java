@@ -0,0 +1,123 @@
+package com.teambiund.bander.auth_server.service.login;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.entity.Auth;
+import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.login.PasswordRehashService;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.PasswordHashingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordRehashService 테스트")
+class PasswordRehashServiceTest {
+
+  private static final String OLD_HASH = "1024:salt:hash";
+  private static final String NEW_HASH = "65536:salt2:hash2";
+
+  @Mock private AuthRepository authRepository;
+
+  @Mock private CipherStrategy passwordEncoder;
+
+  @Mock private PasswordHashingExecutor hashingExecutor;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Mock private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  private SimpleMeterRegistry meterRegistry;
+  private PasswordRehashService rehashService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    rehashService =
+        new PasswordRehashService(
+            authRepository,
+            passwordEncoder,
+            hashingExecutor,
+            transactionManager,
+            meterRegistryProvider);
+  }
+
+  private void runSubmittedTasksInline() {
+    when(hashingExecutor.submit(any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return true;
+            });
+  }
+
+  private double rehashCount(String result) {
+    return meterRegistry.get("password.rehash").tag("result", result).counter().count();
+  }
+
+  @Test
+  @DisplayName("[성공] 비용이 다른 해시는 새 해시로 저장")
+  void rehashIfNeeded_differentCost_savesNewHash() {
+    Auth auth = Auth.builder().id("user-1").password(OLD_HASH).build();
+    runSubmittedTasksInline();
+    when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(true);
+    when(passwordEncoder.encrypt("Password123!")).thenReturn(NEW_HASH);
+    when(authRepository.findById("user-1")).thenReturn(Optional.of(auth));
+
+    rehashService.rehashIfNeeded("user-1", OLD_HASH, "Password123!");
+
+    assertThat(auth.getPassword()).isEqualTo(NEW_HASH);
+    verify(authRepository).save(auth);
+    assertThat(rehashCount("updated")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[성공] 현재 비용의 해시는 재해싱하지 않음")
+  void rehashIfNeeded_sameCost_noop() {
+    when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(false);
+
+    rehashService.rehashIfNeeded("user-1", OLD_HASH, "Password123!");
+
+    verifyNoInteractions(hashingExecutor, authRepository);
+  }
+
+  @Test
+  @DisplayName("[성공] 그 사이 비밀번호가 변경되었으면 덮어쓰지 않음")
+  void rehashIfNeeded_passwordChangedMeanwhile_skipped() {
+    Auth auth = Auth.builder().id("user-1").password("65536:changed:hash").build();
+    runSubmittedTasksInline();
+    when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(true);
+    when(passwordEncoder.encrypt("Password123!")).thenReturn(NEW_HASH);
+    when(authRepository.findById("user-1")).thenReturn(Optional.of(auth));
+
+    rehashService.rehashIfNeeded("user-1", OLD_HASH, "Password123!");
+
+    assertThat(auth.getPassword()).isEqualTo("65536:changed:hash");
+    verify(authRepository, never()).save(any());
+    assertThat(rehashCount("skipped")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[성공] 해싱 대기열이 가득 차면 다음 로그인으로 미룸")
+  void rehashIfNeeded_executorSaturated_skipped() {
+    when(passwordEncoder.needsRehash(OLD_HASH)).thenReturn(true);
+    when(hashingExecutor.submit(any())).thenReturn(false);
+
+    rehashService.rehashIfNeeded("user-1", OLD_HASH, "Password123!");
+
+    verify(passwordEncoder, never()).encrypt(any());
+    assertThat(rehashCount("skipped")).isEqualTo(1);
+  }
+}
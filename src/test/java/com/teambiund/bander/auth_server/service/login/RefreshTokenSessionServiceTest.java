@@ -0,0 +1,317 @@
+package com.teambiund.bander.auth_server.service.login;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.service.login.RefreshTokenSessionService;
+import com.teambiund.bander.auth_server.auth.service.scheduled.RefreshTokenBackupService;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.Issued;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.RotateResult;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.Session;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@DisplayName("RefreshTokenSessionService 테스트")
+class RefreshTokenSessionServiceTest {
+  private static final long NOW = 1_700_000_000L;
+  private static final long TTL = 3600;
+  private static final int MAX = 3;
+  private static final long GRACE = 10;
+  private static final String USER = "user-1";
+  private static final String DEVICE = "ab12";
+  private static final TokenClaims PRESENTED =
+      new TokenClaims(USER, Role.USER, DEVICE, NOW - 60, NOW - 60 + TTL);
+
+  private RefreshTokenStore store;
+  private RefreshTokenBackupService backup;
+  private RefreshTokenSessionService sessions;
+
+  @BeforeEach
+  void setUp() {
+    store = mock(RefreshTokenStore.class);
+    backup = mock(RefreshTokenBackupService.class);
+    sessions =
+        new RefreshTokenSessionService(
+            store,
+            backup,
+            true,
+            Duration.ofSeconds(TTL),
+            NOW - 600,
+            MAX,
+            Duration.ofSeconds(GRACE),
+            new SimpleMeterRegistry(),
+            () -> NOW);
+  }
+
+  private void rotateReturns(RotateResult... results) {
+    when(store.rotate(USER, DEVICE, "old", NOW - 60, "new", NOW, NOW + TTL, NOW, GRACE))
+        .thenReturn(results[0], Arrays.copyOfRange(results, 1, results.length));
+  }
+
+  @Nested
+  @DisplayName("세션 생성 테스트")
+  class OpenTests {
+
+    @Test
+    @DisplayName("[성공] 세션을 만들고 스냅샷 대상으로 표시")
+    void open_storesAndMarks() {
+      when(store.issue(USER, DEVICE, "token", NOW, NOW + TTL, NOW, MAX))
+          .thenReturn(new Issued(true, List.of()));
+
+      assertThat(sessions.open(USER, DEVICE, "token", NOW)).isTrue();
+      verify(backup).markChanged(USER, DEVICE);
+    }
+
+    @Test
+    @DisplayName("[성공] 최대 세션 수를 넘어 지운 기기 세션은 스냅샷에서도 지우도록 표시")
+    void open_overCap_evictsFromSnapshot() {
+      when(store.issue(USER, DEVICE, "token", NOW, NOW + TTL, NOW, MAX))
+          .thenReturn(new Issued(true, List.of("zz01", "zz02")));
+
+      assertThat(sessions.open(USER, DEVICE, "token", NOW)).isTrue();
+      verify(backup).evict(USER, List.of("zz01", "zz02"), NOW);
+      verify(backup).markChanged(USER, DEVICE);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 기기 ID 세션이 있으면 false")
+    void open_deviceInUse_false() {
+      when(store.issue(
+              anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong(), anyInt()))
+          .thenReturn(new Issued(false, List.of()));
+
+      assertThat(sessions.open(USER, DEVICE, "token", NOW)).isFalse();
+      verifyNoInteractions(backup);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 장애 시 로그인은 성공시키고 스냅샷에 바로 기록")
+    void open_redisDown_savesSnapshot() {
+      when(store.issue(
+              anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong(), anyInt()))
+          .thenThrow(new RedisConnectionFailureException("down"));
+
+      assertThat(sessions.open(USER, DEVICE, "token", NOW)).isTrue();
+      verify(backup)
+          .save(
+              USER,
+              new Session(DEVICE, RefreshTokenStore.hash("token"), NOW, NOW + TTL, false));
+    }
+
+    @Test
+    @DisplayName("[성공] 비활성화면 Redis 를 쓰지 않음")
+    void disabled_noStore() {
+      RefreshTokenSessionService disabled =
+          new RefreshTokenSessionService(
+              store,
+              backup,
+              false,
+              Duration.ofSeconds(TTL),
+              NOW - 600,
+              MAX,
+              Duration.ofSeconds(GRACE),
+              new SimpleMeterRegistry(),
+              () -> NOW);
+
+      assertThat(disabled.open(USER, DEVICE, "token", NOW)).isTrue();
+      disabled.rotate(PRESENTED, "old", "new", NOW);
+      verifyNoInteractions(store, backup);
+    }
+  }
+
+  @Nested
+  @DisplayName("교체 테스트")
+  class RotateTests {
+
+    @Test
+    @DisplayName("[성공] 현재 토큰이면 교체하고 스냅샷 대상으로 표시")
+    void rotate_current_rotated() {
+      rotateReturns(RotateResult.ROTATED);
+
+      sessions.rotate(PRESENTED, "old", "new", NOW);
+
+      verify(backup).markChanged(USER, DEVICE);
+      verify(backup, never()).load(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[성공] 재사용 유예 안의 직전 토큰이면 폐기하지 않고 교체, 스냅샷 대상으로 표시")
+    void rotate_previousWithinGrace_rotated() {
+      rotateReturns(RotateResult.GRACE);
+
+      sessions.rotate(PRESENTED, "old", "new", NOW);
+
+      verify(backup).markChanged(USER, DEVICE);
+      verify(backup, never()).forget(anyString(), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[실패] 예전 토큰 재사용이면 REFRESH_TOKEN_REUSED 이고 스냅샷에 폐기 표시")
+    void rotate_reused_revokesFamily() {
+      rotateReturns(RotateResult.REUSED);
+
+      assertThatThrownBy(() -> sessions.rotate(PRESENTED, "old", "new", NOW))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REUSED);
+      verify(backup).forget(USER, DEVICE, NOW, NOW + TTL);
+      verify(backup, never()).markChanged(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 에 세션이 없으면 스냅샷에서 복구 후 다시 교체")
+    void rotate_missing_restoresFromSnapshot() {
+      List<Session> snapshot = List.of(new Session(DEVICE, "h", NOW - 600, NOW + 100, true));
+      rotateReturns(RotateResult.MISSING, RotateResult.ROTATED);
+      when(backup.load(USER, NOW)).thenReturn(snapshot);
+      when(store.restore(USER, snapshot, NOW)).thenReturn(1L);
+
+      sessions.rotate(PRESENTED, "old", "new", NOW);
+
+      verify(store).restore(USER, snapshot, NOW);
+      verify(backup).markChanged(USER, DEVICE);
+    }
+
+    @Test
+    @DisplayName("[성공] 스냅샷 세션이 최대 수보다 많으면 최근 발급된 세션만 복구")
+    void rotate_missing_restoresNewestUpToCap() {
+      Session oldest = new Session("zz01", "h1", NOW - 900, NOW + 100, true);
+      Session older = new Session("zz02", "h2", NOW - 800, NOW + 100, true);
+      Session newer = new Session("zz03", "h3", NOW - 700, NOW + 100, true);
+      Session current = new Session(DEVICE, "h", NOW - 600, NOW + 100, true);
+      rotateReturns(RotateResult.MISSING, RotateResult.ROTATED);
+      when(backup.load(USER, NOW)).thenReturn(List.of(current, oldest, newer, older));
+      when(store.restore(eq(USER), anyList(), eq(NOW))).thenReturn(3L);
+
+      sessions.rotate(PRESENTED, "old", "new", NOW);
+
+      verify(store).restore(USER, List.of(current, newer, older), NOW);
+    }
+
+    @Test
+    @DisplayName("[실패] 이미 폐기된 세션이면 복구를 시도하지 않고 REVOKED_TOKEN")
+    void rotate_revoked_noRestore() {
+      rotateReturns(RotateResult.REVOKED);
+
+      assertThatThrownBy(() -> sessions.rotate(PRESENTED, "old", "new", NOW))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.REVOKED_TOKEN);
+      verify(backup, never()).load(anyString(), anyLong());
+      verify(backup, never()).markChanged(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("[실패] 스냅샷에도 없으면 REVOKED_TOKEN")
+    void rotate_missingEverywhere_revoked() {
+      rotateReturns(RotateResult.MISSING);
+      when(backup.load(USER, NOW)).thenReturn(List.of());
+
+      assertThatThrownBy(() -> sessions.rotate(PRESENTED, "old", "new", NOW))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.REVOKED_TOKEN);
+      verify(store, times(1))
+          .rotate(
+              anyString(),
+              anyString(),
+              anyString(),
+              anyLong(),
+              anyString(),
+              anyLong(),
+              anyLong(),
+              anyLong(),
+              anyLong());
+      verify(store, never())
+          .issue(
+              anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("[성공] 세션 도입 전에 발급되어 어디에도 기록이 없는 토큰이면 세션을 만들고 교체")
+    void rotate_issuedBeforeCutover_adopted() {
+      RefreshTokenSessionService adopting =
+          new RefreshTokenSessionService(
+              store,
+              backup,
+              true,
+              Duration.ofSeconds(TTL),
+              NOW,
+              MAX,
+              Duration.ofSeconds(GRACE),
+              new SimpleMeterRegistry(),
+              () -> NOW);
+      rotateReturns(RotateResult.MISSING, RotateResult.ROTATED);
+      when(backup.load(USER, NOW)).thenReturn(List.of());
+      when(backup.isTracked(USER, DEVICE)).thenReturn(false);
+      when(store.issue(USER, DEVICE, "old", NOW - 60, NOW - 60 + TTL, NOW, MAX))
+          .thenReturn(new Issued(true, List.of()));
+
+      adopting.rotate(PRESENTED, "old", "new", NOW);
+
+      verify(store).issue(USER, DEVICE, "old", NOW - 60, NOW - 60 + TTL, NOW, MAX);
+      verify(backup).markChanged(USER, DEVICE);
+    }
+
+    @Test
+    @DisplayName("[실패] 도입 전 토큰이라도 그 기기의 스냅샷/폐기 기록이 있으면 세션을 만들지 않고 REVOKED_TOKEN")
+    void rotate_issuedBeforeCutoverButTracked_revoked() {
+      RefreshTokenSessionService adopting =
+          new RefreshTokenSessionService(
+              store,
+              backup,
+              true,
+              Duration.ofSeconds(TTL),
+              NOW,
+              MAX,
+              Duration.ofSeconds(GRACE),
+              new SimpleMeterRegistry(),
+              () -> NOW);
+      rotateReturns(RotateResult.MISSING);
+      when(backup.load(USER, NOW)).thenReturn(List.of());
+      when(backup.isTracked(USER, DEVICE)).thenReturn(true);
+
+      assertThatThrownBy(() -> adopting.rotate(PRESENTED, "old", "new", NOW))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.REVOKED_TOKEN);
+      verify(store, never())
+          .issue(
+              anyString(), anyString(), anyString(), anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("[실패] Redis 장애면 예전 토큰을 받아들이지 않고 SESSION_STORE_UNAVAILABLE")
+    void rotate_redisDown_unavailable() {
+      when(store.rotate(
+              anyString(),
+              anyString(),
+              anyString(),
+              anyLong(),
+              anyString(),
+              anyLong(),
+              anyLong(),
+              anyLong(),
+              anyLong()))
+          .thenThrow(new RedisConnectionFailureException("down"));
+
+      assertThatThrownBy(() -> sessions.rotate(PRESENTED, "old", "new", NOW))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.SESSION_STORE_UNAVAILABLE);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package com.teambiund.bander.auth_server.service.scheduled;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
+import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.scheduled.EmailIndexMigration;
+import com.teambiund.bander.auth_server.auth.service.scheduled.MigrationCheckpointStore;
+import com.teambiund.bander.auth_server.auth.util.cipher.AESCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("EmailIndexMigration 테스트")
+class EmailIndexMigrationTest {
+
+  private final CipherStrategy emailCipher = new AESCipherStrategy("aes-key");
+  private final EmailBlindIndex blindIndex = new EmailBlindIndex("blind-index-key");
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private MigrationCheckpointStore checkpointStore;
+  private AuthEmailLookup lookup;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    database =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    checkpointStore = new MigrationCheckpointStore(jdbcTemplate);
+    lookup = new AuthEmailLookup(mock(AuthRepository.class), emailCipher, blindIndex, true);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private EmailIndexMigration migration(int batchSize, Duration maxRunTime) {
+    return new EmailIndexMigration(
+        jdbcTemplate,
+        new DataSourceTransactionManager(database),
+        checkpointStore,
+        lookup,
+        emailCipher,
+        blindIndex,
+        true,
+        batchSize,
+        Duration.ZERO,
+        maxRunTime,
+        meterRegistry);
+  }
+
+  private void insertAuth(String id, String email) {
+    jdbcTemplate.update(
+        "INSERT INTO auth (id, email, provider, status, user_role, version)"
+            + " VALUES (?, ?, 'SYSTEM', 'ACTIVE', 'USER', 0)",
+        id,
+        email);
+  }
+
+  private String column(String id, String column) {
+    return jdbcTemplate.queryForObject(
+        "SELECT " + column + " FROM auth WHERE id = ?", String.class, id);
+  }
+
+  private double rows(String result) {
+    return meterRegistry.get("email.migration.rows").tag("result", result).counter().count();
+  }
+
+  @Nested
+  @DisplayName("변환 테스트")
+  class MigrateTests {
+
+    @Test
+    @DisplayName("[성공] 평문 행은 암호화+인덱스, 암호화 행은 인덱스만 채우고 레거시 조회 비활성화")
+    void migrate_plaintextAndEncryptedRows_completes() {
+      insertAuth("1", "plain@example.com");
+      insertAuth("2", emailCipher.encrypt("cipher@example.com"));
+
+      boolean completed = migration(500, Duration.ofMinutes(1)).migrate();
+
+      assertThat(completed).isTrue();
+      assertThat(column("1", "email")).isEqualTo(emailCipher.encrypt("plain@example.com"));
+      assertThat(column("1", "email_hash")).isEqualTo(blindIndex.of("plain@example.com"));
+      assertThat(column("2", "email")).isEqualTo(emailCipher.encrypt("cipher@example.com"));
+      assertThat(column("2", "email_hash")).isEqualTo(blindIndex.of("cipher@example.com"));
+      assertThat(column("1", "version")).isEqualTo("1");
+      assertThat(lookup.isLegacyLookupEnabled()).isFalse();
+      assertThat(checkpointStore.load("email-blind-index").getMigrated()).isEqualTo(2);
+      assertThat(rows("migrated")).isEqualTo(2);
+      assertThat(meterRegistry.get("email.migration.completed").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 중단 후 체크포인트부터 이어서 진행")
+    void migrate_resumesFromCheckpoint() {
+      insertAuth("1", "a@example.com");
+      insertAuth("2", "b@example.com");
+      insertAuth("3", "c@example.com");
+
+      // 실행 시간 0 → 한 번에 한 청크(1행)만 처리
+      boolean completed = migration(1, Duration.ZERO).migrate();
+
+      assertThat(completed).isFalse();
+      assertThat(checkpointStore.load("email-blind-index").getLastKey()).isEqualTo("1");
+      assertThat(column("2", "email_hash")).isNull();
+      assertThat(lookup.isLegacyLookupEnabled()).isTrue();
+
+      // 새 인스턴스(재기동)로 이어서 진행
+      EmailIndexMigration restarted = migration(1, Duration.ZERO);
+      int runs = 0;
+      while (!restarted.migrate()) {
+        assertThat(++runs).isLessThan(10);
+      }
+
+      assertThat(column("2", "email_hash")).isEqualTo(blindIndex.of("b@example.com"));
+      assertThat(column("3", "email_hash")).isEqualTo(blindIndex.of("c@example.com"));
+      assertThat(checkpointStore.load("email-blind-index").getMigrated()).isEqualTo(3);
+      assertThat(lookup.isLegacyLookupEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 중복 이메일 인덱스 충돌 행과 복호화 불가 행은 건너뛰고, 남아 있는 동안 완료하지 않고 레거시 조회 유지")
+    void migrate_conflictAndUndecryptable_skipped() {
+      insertAuth("1", emailCipher.encrypt("dup@example.com"));
+      insertAuth("2", "dup@example.com");
+      insertAuth("3", "not-base64-ciphertext");
+
+      boolean completed = migration(500, Duration.ofMinutes(1)).migrate();
+
+      assertThat(completed).isFalse();
+      assertThat(lookup.isLegacyLookupEnabled()).isTrue();
+      assertThat(checkpointStore.load("email-blind-index").isCompleted()).isFalse();
+      assertThat(meterRegistry.get("email.migration.remaining").gauge().value()).isEqualTo(2);
+      assertThat(column("1", "email_hash")).isEqualTo(blindIndex.of("dup@example.com"));
+      assertThat(column("2", "email_hash")).isNull();
+      assertThat(column("3", "email_hash")).isNull();
+      assertThat(rows("migrated")).isEqualTo(1);
+      // 확인 패스에서 한 번 더 만나므로 건너뜀 카운터는 패스마다 증가
+      assertThat(rows("conflict")).isPositive();
+      assertThat(rows("skipped")).isPositive();
+      assertThat(checkpointStore.load("email-blind-index").getLastKey()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 건너뛴 행이 정리되면 다음 실행에서 완료")
+    void migrate_skippedRowsResolved_completesNextRun() {
+      insertAuth("1", "a@example.com");
+      insertAuth("2", "not-base64-ciphertext");
+      assertThat(migration(500, Duration.ofMinutes(1)).migrate()).isFalse();
+
+      jdbcTemplate.update("UPDATE auth SET email = ? WHERE id = ?", "fixed@example.com", "2");
+
+      assertThat(migration(500, Duration.ofMinutes(1)).migrate()).isTrue();
+      assertThat(column("2", "email_hash")).isEqualTo(blindIndex.of("fixed@example.com"));
+      assertThat(lookup.isLegacyLookupEnabled()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("기동 시 상태 복원 테스트")
+  class RestoreTests {
+
+    @Test
+    @DisplayName("[성공] 완료된 체크포인트가 있으면 기동 시 레거시 조회 비활성화")
+    void restoreState_completedCheckpoint_disablesLegacyLookup() {
+      migration(500, Duration.ofMinutes(1)).migrate();
+      lookup.setLegacyLookupEnabled(true);
+
+      migration(500, Duration.ofMinutes(1)).restoreState();
+
+      assertThat(lookup.isLegacyLookupEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 체크포인트가 없으면 레거시 조회 유지")
+    void restoreState_noCheckpoint_keepsLegacyLookup() {
+      migration(500, Duration.ofMinutes(1)).restoreState();
+
+      assertThat(lookup.isLegacyLookupEnabled()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package com.teambiund.bander.auth_server.service.scheduled;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.service.scheduled.RefreshTokenBackupService;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore;
+import com.teambiund.bander.auth_server.auth.util.redis.RefreshTokenStore.Session;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("RefreshTokenBackupService 테스트")
+class RefreshTokenBackupServiceTest {
+  private static final long NOW = 1_700_000_000L;
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private RefreshTokenStore store;
+  private SimpleMeterRegistry registry;
+  private RefreshTokenBackupService backup;
+
+  @BeforeEach
+  void setUp() {
+    database =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    store = mock(RefreshTokenStore.class);
+    registry = new SimpleMeterRegistry();
+    backup =
+        new RefreshTokenBackupService(
+            store, jdbcTemplate, new DataSourceTransactionManager(database), 1000, registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private static Session session(String deviceId, String hash, long issuedAt) {
+    return new Session(deviceId, hash, issuedAt, issuedAt + 3600, false);
+  }
+
+  private String storedHash(String userId, String deviceId) {
+    List<String> hashes =
+        jdbcTemplate.queryForList(
+            "SELECT token_hash FROM refresh_token_session WHERE user_id = ? AND device_id = ?",
+            String.class,
+            userId,
+            deviceId);
+    return hashes.isEmpty() ? null : hashes.get(0);
+  }
+
+  @Nested
+  @DisplayName("스냅샷 반영 테스트")
+  class FlushTests {
+
+    @Test
+    @DisplayName("[성공] 변경된 세션의 Redis 현재 값으로 덮어쓰고, Redis 에 없는 세션은 유지")
+    void flush_upsertsCurrentValues_keepsMissing() {
+      backup.save("user-1", session("a1", "old", NOW - 100));
+      backup.save("user-1", session("b2", "kept", NOW - 100));
+      backup.markChanged("user-1", "a1");
+      backup.markChanged("user-1", "b2");
+      when(store.find(anyList())).thenReturn(Arrays.asList(session("a1", "new", NOW), null));
+
+      backup.flush();
+
+      assertThat(storedHash("user-1", "a1")).isEqualTo("new");
+      // Redis 가 비워진 것일 수 있으므로 지우지 않음
+      assertThat(storedHash("user-1", "b2")).isEqualTo("kept");
+      assertThat(registry.get("auth.refresh_token.snapshot").tag("result", "saved").counter().count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] Redis 조회에 실패하면 표시를 남겨 다음 주기에 다시 반영")
+    void flush_redisFailure_retriedNextTime() {
+      backup.markChanged("user-1", "a1");
+      when(store.find(anyList()))
+          .thenThrow(new RedisConnectionFailureException("down"))
+          .thenReturn(List.of(session("a1", "h1", NOW)));
+
+      backup.flush();
+      assertThat(storedHash("user-1", "a1")).isNull();
+
+      backup.flush();
+      assertThat(storedHash("user-1", "a1")).isEqualTo("h1");
+      assertThat(registry.get("auth.refresh_token.snapshot.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 표시가 max-pending 을 넘으면 요청 스레드에서 반영하지 않고 새 표시를 버림")
+    void markChanged_overMaxPending_dropsWithoutFlushing() {
+      SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+      RefreshTokenBackupService small =
+          new RefreshTokenBackupService(
+              store, jdbcTemplate, new DataSourceTransactionManager(database), 2, smallRegistry);
+
+      small.markChanged("user-1", "a1");
+      small.markChanged("user-1", "b2");
+      small.markChanged("user-1", "a1");
+      small.markChanged("user-1", "c3");
+
+      verifyNoInteractions(store);
+      assertThat(
+              smallRegistry
+                  .get("auth.refresh_token.snapshot")
+                  .tag("result", "dropped")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+      assertThat(smallRegistry.get("auth.refresh_token.snapshot.pending").gauge().value())
+          .isEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("복구/폐기 테스트")
+  class RestoreTests {
+
+    @Test
+    @DisplayName("[성공] 복구용 조회는 만료되지 않은 세션만 restored 로 돌려줌")
+    void load_liveSessionsOnly() {
+      backup.save("user-1", session("a1", "live", NOW));
+      backup.save("user-1", new Session("b2", "expired", NOW - 7200, NOW - 10, false));
+
+      List<Session> sessions = backup.load("user-1", NOW);
+
+      assertThat(sessions)
+          .singleElement()
+          .satisfies(
+              s -> {
+                assertThat(s.deviceId()).isEqualTo("a1");
+                assertThat(s.restored()).isTrue();
+              });
+    }
+
+    @Test
+    @DisplayName("[성공] 폐기 표시는 반영 전에도 복구에서 제외되고, 다음 주기에 폐기 기록으로 반영")
+    void forget_excludedBeforeAndAfterFlush() {
+      backup.save("user-1", session("a1", "h1", NOW - 100));
+      backup.markChanged("user-1", "a1");
+
+      backup.forget("user-1", "a1", NOW, NOW + 3600);
+      assertThat(backup.load("user-1", NOW)).isEmpty();
+
+      when(store.find(anyList())).thenReturn(List.of());
+      backup.flush();
+
+      assertThat(storedHash("user-1", "a1")).isNull();
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT revoked_at FROM refresh_token_revocation WHERE device_id = 'a1'",
+                  Long.class))
+          .isEqualTo(NOW);
+      assertThat(backup.load("user-1", NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 폐기 기록 이후 폐기 전 값이 늦게 덮어써져도 복구하지 않고, 폐기 후 새로 발급된 세션은 복구")
+    void forget_lateOverwriteNotRestored() {
+      backup.forget("user-1", "a1", NOW, NOW + 3600);
+      backup.flush();
+
+      // 다른 인스턴스가 폐기 전에 읽은 값을 늦게 반영
+      backup.save("user-1", session("a1", "stale", NOW - 50));
+      assertThat(backup.load("user-1", NOW)).isEmpty();
+
+      // 같은 기기 ID 로 폐기 후 새로 로그인
+      backup.save("user-1", session("a1", "fresh", NOW + 10));
+      assertThat(backup.load("user-1", NOW + 10))
+          .singleElement()
+          .extracting(Session::tokenHash)
+          .isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("[성공] 최대 세션 수를 넘어 지운 세션은 반영 전에도 복구에서 제외되고, 다음 주기에 스냅샷 행 삭제")
+    void evict_excludedBeforeFlush_deletedOnFlush() {
+      backup.save("user-1", session("a1", "h1", NOW - 100));
+      backup.save("user-1", session("b2", "h2", NOW - 50));
+      backup.markChanged("user-1", "a1");
+
+      backup.evict("user-1", List.of("a1"), NOW);
+      assertThat(backup.load("user-1", NOW))
+          .singleElement()
+          .extracting(Session::deviceId)
+          .isEqualTo("b2");
+
+      backup.flush();
+
+      // 지운 세션은 Redis 값을 다시 읽어 반영하지 않음
+      verify(store).find(List.of());
+      assertThat(storedHash("user-1", "a1")).isNull();
+      assertThat(storedHash("user-1", "b2")).isEqualTo("h2");
+      assertThat(
+              registry
+                  .get("auth.refresh_token.snapshot")
+                  .tag("result", "deleted")
+                  .counter()
+                  .count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 스냅샷 행이나 폐기 기록(반영 전 포함)이 있는 기기만 기록된 것으로 봄")
+    void isTracked_snapshotOrRevocation() {
+      backup.save("user-1", session("a1", "h1", NOW));
+      backup.forget("user-1", "b2", NOW, NOW + 3600);
+
+      assertThat(backup.isTracked("user-1", "a1")).isTrue();
+      assertThat(backup.isTracked("user-1", "b2")).isTrue();
+      assertThat(backup.isTracked("user-1", "c3")).isFalse();
+
+      backup.flush();
+      assertThat(backup.isTracked("user-1", "b2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] 만료된 스냅샷 정리")
+    void deleteExpired_removesExpiredRows() {
+      long now = System.currentTimeMillis() / 1000;
+      backup.save("user-1", session("a1", "live", now));
+      backup.save("user-1", new Session("b2", "expired", now - 7200, now - 10, false));
+
+      backup.deleteExpired();
+
+      assertThat(storedHash("user-1", "a1")).isEqualTo("live");
+      assertThat(storedHash("user-1", "b2")).isNull();
+    }
+  }
+}
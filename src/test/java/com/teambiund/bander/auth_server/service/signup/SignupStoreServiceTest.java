@@ -10,9 +10,11 @@ import com.teambiund.bander.auth_server.auth.enums.Provider;
 import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.service.signup.SignupStoreService;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +45,11 @@ class SignupStoreServiceTest {
     when(emailCipher.encrypt(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
 
     signupStoreService =
-        new SignupStoreService(authRepository, keyProvider, passwordEncoder, emailCipher);
+        new SignupStoreService(
+            authRepository,
+            keyProvider,
+            passwordEncoder,
+            new AuthEmailLookup(authRepository, emailCipher, new EmailBlindIndex("test-blind-index-key"), true));
   }
 
   @Nested
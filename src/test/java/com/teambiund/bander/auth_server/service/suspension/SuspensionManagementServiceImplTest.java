@@ -12,6 +12,7 @@ import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
 import com.teambiund.bander.auth_server.auth.repository.SuspendRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.service.suspension.impl.SuspensionManagementServiceImpl;
 import com.teambiund.bander.auth_server.auth.util.generator.key.KeyProvider;
 import java.time.LocalDate;
@@ -35,6 +36,8 @@ class SuspensionManagementServiceImplTest {
 
   @Mock private KeyProvider keyProvider;
 
+  @Mock private AuthViewCache authViewCache;
+
   @InjectMocks private SuspensionManagementServiceImpl suspensionService;
 
   @Nested
@@ -62,6 +65,7 @@ class SuspensionManagementServiceImplTest {
 
       verify(authRepository).findById(userId);
       verify(authRepository).save(auth);
+      verify(authViewCache).evict(userId);
     }
 
     @Test
@@ -0,0 +1,302 @@
+package com.teambiund.bander.auth_server.service.update;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.service.update.HistoryRecord;
+import com.teambiund.bander.auth_server.auth.service.update.HistoryWal;
+import com.teambiund.bander.auth_server.auth.service.update.HistoryWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+@DisplayName("HistoryWriter 테스트")
+class HistoryWriterTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+  @TempDir Path walDir;
+
+  private EmbeddedDatabase database;
+  private JdbcTemplate jdbcTemplate;
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    database =
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript("schema.sql")
+            .build();
+    jdbcTemplate = new JdbcTemplate(database);
+    registry = new SimpleMeterRegistry();
+    jdbcTemplate.update(
+        "INSERT INTO auth (id, email, provider, status, user_role)"
+            + " VALUES ('user-1', 'user-1@example.com', 'SYSTEM', 'ACTIVE', 'USER')");
+  }
+
+  @AfterEach
+  void tearDown() {
+    database.shutdown();
+  }
+
+  private HistoryWriter writer(int batchSize, HistoryWal wal) {
+    return writer(batchSize, 1000, wal);
+  }
+
+  private HistoryWriter writer(int batchSize, int maxPending, HistoryWal wal) {
+    return new HistoryWriter(
+        jdbcTemplate,
+        new DataSourceTransactionManager(database),
+        batchSize,
+        maxPending,
+        wal,
+        registry);
+  }
+
+  private double overflow(String result) {
+    return registry.get("history.writer.overflow").tag("result", result).counter().count();
+  }
+
+  private static HistoryRecord record(String id, String userId) {
+    return new HistoryRecord(id, userId, "password", null, "hash-" + id, NOW);
+  }
+
+  private int historyCount() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM history", Integer.class);
+  }
+
+  private double written(String result) {
+    return registry.get("history.writer.written").tag("result", result).counter().count();
+  }
+
+  private long walFiles() throws Exception {
+    try (Stream<Path> files = Files.list(walDir)) {
+      return files.count();
+    }
+  }
+
+  @Nested
+  @DisplayName("반영 테스트")
+  class FlushTests {
+
+    @Test
+    @DisplayName("[성공] 추가된 이력은 flush 전까지 대기, flush 시 batch 로 반영")
+    void append_thenFlush_inserted() {
+      HistoryWriter writer = writer(2, null);
+
+      writer.append(record("h-1", "user-1"));
+      writer.append(record("h-2", "user-1"));
+      writer.append(record("h-3", "user-1"));
+      assertThat(historyCount()).isZero();
+      assertThat(writer.pendingCount()).isEqualTo(3);
+
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(3);
+      assertThat(writer.pendingCount()).isZero();
+      assertThat(written("inserted")).isEqualTo(3);
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT after_column_value FROM history WHERE id = 'h-2'", String.class))
+          .isEqualTo("hash-h-2");
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 반영된 ID 는 중복으로 건너뛰고 나머지는 반영")
+    void flush_duplicate_skipped() {
+      HistoryWriter writer = writer(10, null);
+      writer.append(record("h-1", "user-1"));
+      writer.flush();
+
+      writer.append(record("h-1", "user-1"));
+      writer.append(record("h-2", "user-1"));
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(2);
+      assertThat(written("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 존재하지 않는 사용자의 이력은 버림")
+    void flush_unknownUser_dropped() {
+      HistoryWriter writer = writer(10, null);
+
+      writer.append(record("h-1", "ghost"));
+      writer.append(record("h-2", "user-1"));
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(1);
+      assertThat(written("dropped")).isEqualTo(1);
+      assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[실패] DB 오류 시 남겨 두고 다음 주기에 재시도")
+    void flush_dataAccessError_retried() {
+      HistoryWriter writer = writer(10, null);
+      jdbcTemplate.execute("ALTER TABLE history RENAME TO history_tmp");
+
+      writer.append(record("h-1", "user-1"));
+      writer.flush();
+
+      assertThat(writer.pendingCount()).isEqualTo(1);
+      assertThat(written("failed")).isEqualTo(1);
+
+      jdbcTemplate.execute("ALTER TABLE history_tmp RENAME TO history");
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(1);
+      assertThat(writer.pendingCount()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("WAL 테스트")
+  class WalTests {
+
+    @Test
+    @DisplayName("[성공] 반영 전에 종료되면 재기동 시 WAL 에서 복구하여 반영")
+    void crashBeforeFlush_recoveredOnRestart() {
+      HistoryWal wal = new HistoryWal(walDir);
+      writer(10, wal).append(record("h-1", "user-1"));
+      // flush 없이 종료 (프로세스 비정상 종료)
+      wal.close();
+
+      HistoryWriter restarted = writer(10, new HistoryWal(walDir));
+      assertThat(restarted.pendingCount()).isEqualTo(1);
+
+      restarted.flush();
+
+      assertThat(historyCount()).isEqualTo(1);
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT updated_at FROM history WHERE id = 'h-1'", LocalDateTime.class))
+          .isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("[성공] 반영이 끝난 WAL 구간은 삭제")
+    void flushed_walDeleted() throws Exception {
+      HistoryWriter writer = writer(10, new HistoryWal(walDir));
+      writer.append(record("h-1", "user-1"));
+      assertThat(walFiles()).isEqualTo(1);
+
+      writer.flush();
+
+      assertThat(walFiles()).isZero();
+      assertThat(writer(10, new HistoryWal(walDir)).pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 반영 실패 시 WAL 유지, 이미 반영된 이력의 재반영은 중복 처리")
+    void flushFailed_walKept_replayDeduplicated() throws Exception {
+      HistoryWriter writer = writer(10, new HistoryWal(walDir));
+      writer.append(record("h-1", "user-1"));
+      writer.append(record("h-2", "user-1"));
+      jdbcTemplate.execute("ALTER TABLE history RENAME TO history_tmp");
+      writer.flush();
+      jdbcTemplate.execute("ALTER TABLE history_tmp RENAME TO history");
+      assertThat(walFiles()).isEqualTo(1);
+      // h-1 은 종료 직전 다른 경로로 이미 반영된 상태
+      jdbcTemplate.update(
+          "INSERT INTO history (id, user_id, updated_column, after_column_value, version)"
+              + " VALUES ('h-1', 'user-1', 'password', 'hash-h-1', 0)");
+
+      HistoryWriter restarted = writer(10, new HistoryWal(walDir));
+      restarted.flush();
+
+      assertThat(historyCount()).isEqualTo(2);
+      assertThat(written("duplicate")).isEqualTo(1);
+      assertThat(walFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 대기열이 차면 요청 스레드에서 반영하지 않고 WAL 에만 남겼다가 다음 주기에 모두 반영")
+    void append_overMaxPending_spilledToWal() throws Exception {
+      HistoryWriter writer = writer(10, 2, new HistoryWal(walDir));
+
+      for (int i = 1; i <= 5; i++) {
+        writer.append(record("h-" + i, "user-1"));
+      }
+
+      assertThat(historyCount()).isZero();
+      assertThat(overflow("spilled")).isEqualTo(3);
+      assertThat(writer.pendingCount()).isEqualTo(5);
+
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(5);
+      assertThat(written("duplicate")).isZero();
+      assertThat(writer.pendingCount()).isZero();
+      assertThat(walFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 장애가 길어져 미반영 이력이 max-pending 을 넘으면 메모리에서 내리고 복구 후 WAL 에서 반영")
+    void flushFailed_overMaxPending_rereadFromWal() {
+      HistoryWriter writer = writer(10, 2, new HistoryWal(walDir));
+      jdbcTemplate.execute("ALTER TABLE history RENAME TO history_tmp");
+      for (int i = 1; i <= 3; i++) {
+        writer.append(record("h-" + i, "user-1"));
+      }
+      writer.flush();
+      writer.append(record("h-4", "user-1"));
+      writer.flush();
+
+      assertThat(writer.pendingCount()).isEqualTo(4);
+
+      jdbcTemplate.execute("ALTER TABLE history_tmp RENAME TO history");
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(4);
+      assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] WAL 이 없으면 대기열이 차도 버리지 않고 보관하며 요청 스레드에서 반영하지 않음")
+    void append_overMaxPendingWithoutWal_retained() {
+      HistoryWriter writer = writer(10, 2, null);
+
+      for (int i = 1; i <= 3; i++) {
+        writer.append(record("h-" + i, "user-1"));
+      }
+
+      assertThat(historyCount()).isZero();
+      assertThat(overflow("retained")).isEqualTo(1);
+      assertThat(writer.pendingCount()).isEqualTo(3);
+
+      writer.flush();
+
+      assertThat(historyCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 쓰다 만 마지막 줄은 건너뜀")
+    void tornLastLine_skipped() throws Exception {
+      HistoryWal wal = new HistoryWal(walDir);
+      wal.append(record("h-1", "user-1"));
+      wal.close();
+      Files.writeString(
+          walDir.resolve("active.wal"), "{\"id\":\"h-2\",\"userId\"", StandardOpenOption.APPEND);
+
+      assertThat(new HistoryWal(walDir).recover())
+          .extracting(HistoryRecord::id)
+          .containsExactly("h-1");
+    }
+  }
+}
@@ -11,10 +11,13 @@ import com.teambiund.bander.auth_server.auth.enums.Role;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.service.update.HistoryService;
 import com.teambiund.bander.auth_server.auth.service.update.UpdateService;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,11 +40,19 @@ class UpdateServiceTest {
 
   @Mock private CipherStrategy emailCipher;
 
+  @Mock private AuthViewCache authViewCache;
+
   private UpdateService updateService;
 
   @BeforeEach
   void setUp() {
-    updateService = new UpdateService(authRepository, historyService, passwordEncoder, emailCipher);
+    updateService =
+        new UpdateService(
+            authRepository,
+            historyService,
+            passwordEncoder,
+            new AuthEmailLookup(authRepository, emailCipher, new EmailBlindIndex("test-blind-index-key"), true),
+            authViewCache);
   }
 
 
@@ -74,6 +85,7 @@ class UpdateServiceTest {
       verify(authRepository).findById(userId);
       verify(emailCipher).encrypt(newEmail);
       verify(authRepository).save(auth);
+      verify(authViewCache).evict(userId);
       verify(historyService).createHistory(any(HistoryRequest.class));
     }
 
@@ -191,7 +203,7 @@ class UpdateServiceTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.of(auth));
       when(passwordEncoder.encrypt(newPassword)).thenReturn(hashedPassword);
       when(authRepository.save(any(Auth.class))).thenReturn(auth);
       doNothing().when(historyService).createHistory(any(HistoryRequest.class));
@@ -203,7 +215,7 @@ class UpdateServiceTest {
       assertThat(auth.getPassword()).isEqualTo(hashedPassword);
 
       verify(emailCipher).encrypt(email);
-      verify(authRepository).findByEmailWithHistory(encryptedEmail);
+      verify(authRepository).findByEmail(encryptedEmail);
       verify(passwordEncoder).encrypt(newPassword);
       verify(authRepository).save(auth);
       verify(historyService).createHistory(any(HistoryRequest.class));
@@ -223,8 +235,8 @@ class UpdateServiceTest {
           Auth.builder().id("user-id-123").email(email).password("oldHashedPassword").build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.empty());
-      when(authRepository.findByEmailWithHistory(email)).thenReturn(Optional.of(auth));
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.empty());
+      when(authRepository.findByEmail(email)).thenReturn(Optional.of(auth));
       when(passwordEncoder.encrypt(newPassword)).thenReturn(hashedPassword);
       when(authRepository.save(any(Auth.class))).thenReturn(auth);
       doNothing().when(historyService).createHistory(any(HistoryRequest.class));
@@ -234,8 +246,8 @@ class UpdateServiceTest {
 
       // then
       assertThat(auth.getPassword()).isEqualTo(hashedPassword);
-      verify(authRepository).findByEmailWithHistory(encryptedEmail);
-      verify(authRepository).findByEmailWithHistory(email);
+      verify(authRepository).findByEmail(encryptedEmail);
+      verify(authRepository).findByEmail(email);
     }
 
     @Test
@@ -256,7 +268,7 @@ class UpdateServiceTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.of(auth));
       when(passwordEncoder.encrypt(newPassword)).thenReturn(hashedPassword);
       when(authRepository.save(any(Auth.class))).thenReturn(auth);
 
@@ -283,8 +295,8 @@ class UpdateServiceTest {
       String encryptedEmail = "encrypted-email";
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.empty());
-      when(authRepository.findByEmailWithHistory(email)).thenReturn(Optional.empty());
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.empty());
+      when(authRepository.findByEmail(email)).thenReturn(Optional.empty());
 
       // when & then
       assertThatThrownBy(() -> updateService.changePassword(email, newPassword, passConfirm))
@@ -309,7 +321,7 @@ class UpdateServiceTest {
           Auth.builder().id("user-id-123").email(encryptedEmail).password("oldPassword").build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.of(auth));
       when(passwordEncoder.encrypt(newPassword)).thenReturn(hashedPassword);
       when(authRepository.save(any(Auth.class))).thenReturn(auth);
       doNothing().when(historyService).createHistory(any(HistoryRequest.class));
@@ -324,8 +336,8 @@ class UpdateServiceTest {
     }
 
     @Test
-    @DisplayName("[검증] Fetch Join으로 히스토리와 함께 조회")
-    void changePassword_usesFetchJoin() {
+    @DisplayName("[검증] 히스토리 컬렉션을 로딩하지 않고 조회")
+    void changePassword_doesNotLoadHistory() {
       // given
       String email = "test@example.com";
       String newPassword = "NewPassword123!";
@@ -336,7 +348,7 @@ class UpdateServiceTest {
           Auth.builder().id("user-id-123").email(encryptedEmail).password("oldPassword").build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.of(auth));
       when(passwordEncoder.encrypt(newPassword)).thenReturn("hashedPassword");
       when(authRepository.save(any(Auth.class))).thenReturn(auth);
       doNothing().when(historyService).createHistory(any(HistoryRequest.class));
@@ -345,8 +357,8 @@ class UpdateServiceTest {
       updateService.changePassword(email, newPassword, passConfirm);
 
       // then
-      verify(authRepository).findByEmailWithHistory(encryptedEmail);
-      verify(authRepository, never()).findByEmail(anyString()); // 일반 조회 안 함
+      verify(authRepository).findByEmail(encryptedEmail);
+      verify(authRepository, never()).findByEmailWithHistory(anyString()); // 히스토리 fetch join 안 함
     }
   }
 
@@ -405,7 +417,7 @@ class UpdateServiceTest {
               .build();
 
       when(emailCipher.encrypt(email)).thenReturn(encryptedEmail);
-      when(authRepository.findByEmailWithHistory(encryptedEmail)).thenReturn(Optional.of(auth));
+      when(authRepository.findByEmail(encryptedEmail)).thenReturn(Optional.of(auth));
       when(passwordEncoder.encrypt(newPassword)).thenReturn("$2a$12$newHashedPassword");
       when(authRepository.save(any(Auth.class))).thenReturn(auth);
       doNothing().when(historyService).createHistory(any(HistoryRequest.class));
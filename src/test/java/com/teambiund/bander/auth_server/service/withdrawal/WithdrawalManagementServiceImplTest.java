@@ -8,9 +8,12 @@ import com.teambiund.bander.auth_server.auth.entity.Auth;
 import com.teambiund.bander.auth_server.auth.entity.Withdraw;
 import com.teambiund.bander.auth_server.auth.enums.Status;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
 import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.service.auth_service.AuthViewCache;
 import com.teambiund.bander.auth_server.auth.service.withdrawal.impl.WithdrawalManagementServiceImpl;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,11 +31,17 @@ class WithdrawalManagementServiceImplTest {
 
   @Mock private CipherStrategy emailCipher;
 
+  @Mock private AuthViewCache authViewCache;
+
   private WithdrawalManagementServiceImpl withdrawalService;
 
   @BeforeEach
   void setUp() {
-    withdrawalService = new WithdrawalManagementServiceImpl(authRepository, emailCipher);
+    withdrawalService =
+        new WithdrawalManagementServiceImpl(
+            authRepository,
+            new AuthEmailLookup(authRepository, emailCipher, new EmailBlindIndex("test-blind-index-key"), true),
+            authViewCache);
   }
 
   @Nested
@@ -63,6 +72,7 @@ class WithdrawalManagementServiceImplTest {
 
       verify(authRepository).findById(userId);
       verify(authRepository).save(auth);
+      verify(authViewCache).evict(userId);
     }
 
     @Test
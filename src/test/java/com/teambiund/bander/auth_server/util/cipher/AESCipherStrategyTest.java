@@ -5,6 +5,13 @@ import static org.assertj.core.api.Assertions.*;
 import com.teambiund.bander.auth_server.auth.exception.CustomException;
 import com.teambiund.bander.auth_server.auth.util.cipher.AESCipherStrategy;
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -344,6 +351,90 @@ class AESCipherStrategyTest {
     }
   }
 
+  @Nested
+  @DisplayName("일괄 처리 테스트")
+  class BatchTests {
+
+    @Test
+    @DisplayName("[성공] encryptAll/decryptAll 은 순서를 유지하고 단건 결과와 동일")
+    void encryptAllThenDecryptAll_matchesSingleCalls() {
+      // given
+      List<String> plainTexts = Arrays.asList("a@example.com", null, "", "010-1234-5678");
+
+      // when
+      List<String> encrypted = aesCipher.encryptAll(plainTexts);
+      List<String> decrypted = aesCipher.decryptAll(encrypted);
+
+      // then
+      assertThat(encrypted)
+          .containsExactly(
+              aesCipher.encrypt("a@example.com"), null, null, aesCipher.encrypt("010-1234-5678"));
+      assertThat(decrypted).containsExactly("a@example.com", null, null, "010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("[실패] decryptAll 중 하나라도 복호화 불가면 예외, 이후 호출은 정상")
+    void decryptAll_invalidElement_throwsAndRecovers() {
+      // given
+      String valid = aesCipher.encrypt("user@example.com");
+
+      // when & then
+      assertThatThrownBy(() -> aesCipher.decryptAll(List.of(valid, "not-a-valid-base64!!!")))
+          .isInstanceOf(CustomException.class);
+      assertThat(aesCipher.decryptAll(List.of(valid))).containsExactly("user@example.com");
+    }
+  }
+
+  @Nested
+  @DisplayName("Cipher 재사용 테스트")
+  class CipherReuseTests {
+
+    @Test
+    @DisplayName("[성공] 복호화 실패 후에도 같은 스레드의 다음 복호화는 정상")
+    void decrypt_afterFailure_recovers() {
+      // given
+      String encrypted = aesCipher.encrypt("01012345678");
+      String wrongKeyEncrypted = new AESCipherStrategy("different-key").encrypt("01012345678");
+
+      // when & then
+      assertThatThrownBy(() -> aesCipher.decrypt(wrongKeyEncrypted))
+          .isInstanceOf(CustomException.class);
+      assertThat(aesCipher.decrypt(encrypted)).isEqualTo("01012345678");
+    }
+
+    @Test
+    @DisplayName("[동시성] 여러 스레드에서 동시에 암호화/복호화해도 결과 동일")
+    void concurrentUse_sameResults() throws Exception {
+      // given
+      String expected = aesCipher.encrypt("user@example.com");
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    for (int j = 0; j < 500; j++) {
+                      String encrypted = aesCipher.encrypt("user@example.com");
+                      if (!encrypted.equals(expected)
+                          || !"user@example.com".equals(aesCipher.decrypt(encrypted))) {
+                        return false;
+                      }
+                    }
+                    return true;
+                  }));
+        }
+
+        // then
+        for (Future<Boolean> future : futures) {
+          assertThat(future.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
   @Nested
   @DisplayName("성능 테스트")
   class PerformanceTests {
@@ -0,0 +1,131 @@
+package com.teambiund.bander.auth_server.util.cipher;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.util.cipher.Argon2idCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.DelegatingPasswordCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.DelegatingPasswordCipherStrategy.Algorithm;
+import com.teambiund.bander.auth_server.auth.util.cipher.PBKDF2CipherStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Argon2idCipherStrategy 테스트")
+class Argon2idCipherStrategyTest {
+
+  // 테스트 속도를 위해 작은 비용 사용 (m=1MiB, t=1)
+  private static final int MEMORY_KIB = 1024;
+
+  private CipherStrategy argon2Cipher;
+
+  @BeforeEach
+  void setUp() {
+    argon2Cipher = new Argon2idCipherStrategy(MEMORY_KIB, 1, 1);
+  }
+
+  @Nested
+  @DisplayName("해싱/검증 테스트")
+  class HashTests {
+
+    @Test
+    @DisplayName("[성공] PHC 형식으로 해싱하고 같은 비밀번호만 일치")
+    void encrypt_phcFormat_matches() {
+      String hashed = argon2Cipher.encrypt("password123!");
+
+      assertThat(hashed).startsWith("$argon2id$v=19$m=1024,t=1,p=1$");
+      assertThat(argon2Cipher.matches("password123!", hashed)).isTrue();
+      assertThat(argon2Cipher.matches("password123?", hashed)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 비밀번호도 매번 다른 salt 로 다른 해시")
+    void encrypt_samePassword_differentHashes() {
+      assertThat(argon2Cipher.encrypt("password123!"))
+          .isNotEqualTo(argon2Cipher.encrypt("password123!"));
+    }
+
+    @Test
+    @DisplayName("[성공] 저장된 파라미터로 검증하므로 설정이 바뀌어도 기존 해시 검증")
+    void matches_usesStoredParameters() {
+      String hashed = argon2Cipher.encrypt("password123!");
+      CipherStrategy stronger = new Argon2idCipherStrategy(2 * MEMORY_KIB, 2, 1);
+
+      assertThat(stronger.matches("password123!", hashed)).isTrue();
+      assertThat(stronger.needsRehash(hashed)).isTrue();
+      assertThat(argon2Cipher.needsRehash(hashed)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "invalid",
+          "$argon2id$v=19$m=1024,t=1$c2FsdA$aGFzaA",
+          "$argon2id$v=16$m=1024,t=1,p=1$c2FsdA$aGFzaA",
+          "$argon2id$v=19$m=abc,t=1,p=1$c2FsdA$aGFzaA",
+          "$argon2i$v=19$m=1024,t=1,p=1$c2FsdA$aGFzaA"
+        })
+    @DisplayName("[실패] 형식이 잘못된 해시는 예외 없이 false")
+    void matches_malformedHash_false(String hashed) {
+      assertThat(argon2Cipher.matches("password123!", hashed)).isFalse();
+      assertThat(argon2Cipher.needsRehash(hashed)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 복호화는 지원하지 않음")
+    void decrypt_unsupported() {
+      assertThat(argon2Cipher.isReversible()).isFalse();
+      assertThatThrownBy(() -> argon2Cipher.decrypt("anything"))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("알고리즘 위임 테스트")
+  class DelegatingTests {
+
+    private final CipherStrategy pbkdf2 = new PBKDF2CipherStrategy(1024);
+
+    @Test
+    @DisplayName("[성공] 접두사로 알고리즘을 골라 기존 PBKDF2 해시도 검증")
+    void matches_dispatchesByPrefix() {
+      CipherStrategy delegating =
+          new DelegatingPasswordCipherStrategy(Algorithm.ARGON2ID, pbkdf2, argon2Cipher);
+      String legacy = pbkdf2.encrypt("password123!");
+
+      String hashed = delegating.encrypt("password123!");
+
+      assertThat(hashed).startsWith(Argon2idCipherStrategy.PREFIX);
+      assertThat(delegating.matches("password123!", hashed)).isTrue();
+      assertThat(delegating.matches("password123!", legacy)).isTrue();
+      assertThat(delegating.matches("wrong", legacy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 현재 알고리즘이 아닌 해시는 재해싱 대상")
+    void needsRehash_otherAlgorithm() {
+      CipherStrategy toArgon2 =
+          new DelegatingPasswordCipherStrategy(Algorithm.ARGON2ID, pbkdf2, argon2Cipher);
+      CipherStrategy toPbkdf2 =
+          new DelegatingPasswordCipherStrategy(Algorithm.PBKDF2, pbkdf2, argon2Cipher);
+      String pbkdf2Hash = pbkdf2.encrypt("password123!");
+      String argon2Hash = argon2Cipher.encrypt("password123!");
+
+      assertThat(toArgon2.needsRehash(pbkdf2Hash)).isTrue();
+      assertThat(toArgon2.needsRehash(argon2Hash)).isFalse();
+      assertThat(toPbkdf2.needsRehash(argon2Hash)).isTrue();
+      assertThat(toPbkdf2.needsRehash(pbkdf2Hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 지원하지 않는 알고리즘 설정")
+    void algorithm_unsupported() {
+      assertThat(Algorithm.of("Argon2id")).isEqualTo(Algorithm.ARGON2ID);
+      assertThatThrownBy(() -> Algorithm.of("bcrypt"))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.teambiund.bander.auth_server.util.cipher;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.entity.Auth;
+import com.teambiund.bander.auth_server.auth.repository.AuthEmailLookup;
+import com.teambiund.bander.auth_server.auth.repository.AuthRepository;
+import com.teambiund.bander.auth_server.auth.util.cipher.AESCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.EmailBlindIndex;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("EmailBlindIndex 테스트")
+class EmailBlindIndexTest {
+
+  private static final String EMAIL = "test@example.com";
+
+  @Nested
+  @DisplayName("인덱스 계산 테스트")
+  class IndexTests {
+
+    private final EmailBlindIndex blindIndex = new EmailBlindIndex("blind-index-key");
+
+    @Test
+    @DisplayName("[성공] 같은 이메일은 항상 같은 43자 base64url 인덱스")
+    void of_isDeterministicFixedWidth() {
+      String first = blindIndex.of(EMAIL);
+
+      assertThat(first).hasSize(EmailBlindIndex.LENGTH).matches("[A-Za-z0-9_-]+");
+      assertThat(blindIndex.of(EMAIL)).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 이메일/다른 키는 다른 인덱스")
+    void of_differsByEmailAndKey() {
+      assertThat(blindIndex.of(EMAIL)).isNotEqualTo(blindIndex.of("other@example.com"));
+      assertThat(new EmailBlindIndex("another-key").of(EMAIL)).isNotEqualTo(blindIndex.of(EMAIL));
+    }
+
+    @Test
+    @DisplayName("[성공] 정규화하지 않음 - 대소문자가 다르면 다른 인덱스")
+    void of_doesNotNormalize() {
+      assertThat(blindIndex.of("Test@Example.com")).isNotEqualTo(blindIndex.of(EMAIL));
+    }
+
+    @Test
+    @DisplayName("[성공] null/빈 문자열은 null")
+    void of_nullOrEmpty_returnsNull() {
+      assertThat(blindIndex.of(null)).isNull();
+      assertThat(blindIndex.of("")).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] AES 키 파생 인덱스는 AES 키를 그대로 쓴 인덱스와 다름")
+    void derivedFrom_usesSeparatedKey() {
+      String aesKey = "aes-key";
+
+      assertThat(EmailBlindIndex.derivedFrom(aesKey).of(EMAIL))
+          .isEqualTo(EmailBlindIndex.derivedFrom(aesKey).of(EMAIL))
+          .isNotEqualTo(new EmailBlindIndex(aesKey).of(EMAIL));
+    }
+
+    @Test
+    @DisplayName("[실패] 빈 키 거부")
+    void constructor_emptyKey_throws() {
+      assertThatThrownBy(() -> new EmailBlindIndex(""))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @ExtendWith(MockitoExtension.class)
+  @DisplayName("AuthEmailLookup 테스트")
+  class LookupTests {
+
+    @Mock private AuthRepository authRepository;
+
+    private final EmailBlindIndex blindIndex = new EmailBlindIndex("blind-index-key");
+    private final CipherStrategy emailCipher = new AESCipherStrategy("aes-key");
+    private AuthEmailLookup lookup;
+
+    @BeforeEach
+    void setUp() {
+      lookup = new AuthEmailLookup(authRepository, emailCipher, blindIndex, true);
+    }
+
+    @Test
+    @DisplayName("[성공] 인덱스 적중 시 email 컬럼 조회 없음 (한 번 탐색)")
+    void find_indexHit_singleProbe() {
+      Auth auth = Auth.builder().id("user-1").build();
+      when(authRepository.findByEmailHash(blindIndex.of(EMAIL))).thenReturn(Optional.of(auth));
+
+      assertThat(lookup.findByEmail(EMAIL)).containsSame(auth);
+      verify(authRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("[성공] 레거시 조회 활성 시 인덱스 미스 → 암호문 → 평문 순 조회")
+    void find_indexMiss_fallsBackToLegacyColumns() {
+      Auth auth = Auth.builder().id("user-1").build();
+      when(authRepository.findByEmailWithWithdraw(emailCipher.encrypt(EMAIL)))
+          .thenReturn(Optional.empty());
+      when(authRepository.findByEmailWithWithdraw(EMAIL)).thenReturn(Optional.of(auth));
+
+      assertThat(lookup.findByEmailWithWithdraw(EMAIL)).containsSame(auth);
+      verify(authRepository).findByEmailHashWithWithdraw(blindIndex.of(EMAIL));
+    }
+
+    @Test
+    @DisplayName("[성공] 레거시 조회 비활성 시 인덱스 미스는 추가 쿼리 없이 empty")
+    void find_legacyDisabled_noExtraQueries() {
+      lookup.setLegacyLookupEnabled(false);
+
+      assertThat(lookup.findByEmail(EMAIL)).isEmpty();
+      assertThat(lookup.existsByEmail(EMAIL)).isFalse();
+      verify(authRepository, never()).findByEmail(anyString());
+      verify(authRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("[성공] assignEmail 은 암호문과 인덱스를 함께 설정")
+    void assignEmail_setsCiphertextAndIndex() {
+      Auth auth = Auth.builder().id("user-1").build();
+
+      lookup.assignEmail(auth, EMAIL);
+
+      assertThat(emailCipher.decrypt(auth.getEmail())).isEqualTo(EMAIL);
+      assertThat(auth.getEmailHash()).isEqualTo(blindIndex.of(EMAIL));
+    }
+  }
+}
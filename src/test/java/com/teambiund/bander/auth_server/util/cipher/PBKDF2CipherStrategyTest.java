@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
 import com.teambiund.bander.auth_server.auth.util.cipher.PBKDF2CipherStrategy;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -283,6 +284,52 @@ class PBKDF2CipherStrategyTest {
     }
   }
 
+  @Nested
+  @DisplayName("해싱 비용(반복 횟수) 테스트")
+  class IterationCostTests {
+
+    @Test
+    @DisplayName("[성공] 설정한 반복 횟수가 해시 형식에 기록됨")
+    void encrypt_customIterations_recordedInHash() {
+      CipherStrategy cheap = new PBKDF2CipherStrategy(1024);
+
+      String hashed = cheap.encrypt("password123!");
+
+      assertThat(hashed).startsWith("1024:");
+      assertThat(pbkdf2Cipher.matches("password123!", hashed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[성공] 반복 횟수가 다른 해시만 재해싱 대상")
+    void needsRehash_onlyForDifferentCost() {
+      String current = pbkdf2Cipher.encrypt("password123!");
+      String cheaper = new PBKDF2CipherStrategy(1024).encrypt("password123!");
+
+      assertThat(pbkdf2Cipher.needsRehash(current)).isFalse();
+      assertThat(pbkdf2Cipher.needsRehash(cheaper)).isTrue();
+      assertThat(pbkdf2Cipher.needsRehash("invalid-format")).isFalse();
+      assertThat(pbkdf2Cipher.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 보정 결과는 상/하한 안의 2의 거듭제곱")
+    void calibrate_powerOfTwoWithinBounds() {
+      int iterations = PBKDF2CipherStrategy.calibrate(Duration.ofMillis(20), 1024, 1 << 20);
+
+      assertThat(iterations).isBetween(1024, 1 << 20);
+      assertThat(Integer.bitCount(iterations)).isEqualTo(1);
+      assertThat(PBKDF2CipherStrategy.calibrate(Duration.ofNanos(1), 65536, 1 << 20))
+          .isEqualTo(65536);
+    }
+
+    @Test
+    @DisplayName("[실패] 0 이하의 반복 횟수는 허용하지 않음")
+    void constructor_nonPositiveIterations_throwsException() {
+      assertThatThrownBy(() -> new PBKDF2CipherStrategy(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
   @Nested
   @DisplayName("성능 테스트")
   class PerformanceTests {
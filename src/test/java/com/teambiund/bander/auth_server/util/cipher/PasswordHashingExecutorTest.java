@@ -0,0 +1,168 @@
+package com.teambiund.bander.auth_server.util.cipher;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.util.cipher.CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.ExecutorBoundCipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.PBKDF2CipherStrategy;
+import com.teambiund.bander.auth_server.auth.util.cipher.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("PasswordHashingExecutor 테스트")
+class PasswordHashingExecutorTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private PasswordHashingExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Nested
+  @DisplayName("실행 테스트")
+  class ExecuteTests {
+
+    @Test
+    @DisplayName("[성공] 전용 스레드에서 실행한 결과 반환")
+    void execute_returnsResultFromHashingThread() {
+      String threadName = executor.execute(() -> Thread.currentThread().getName());
+
+      assertThat(threadName).startsWith("password-hash-");
+      assertThat(meterRegistry.get("password.hash.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[실패] 작업에서 발생한 예외는 그대로 전달")
+    void execute_propagatesTaskException() {
+      assertThatThrownBy(
+              () ->
+                  executor.execute(
+                      () -> {
+                        throw new IllegalArgumentException("boom");
+                      }))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("[성공] 데코레이터를 거친 PBKDF2 해싱/검증")
+    void executorBoundStrategy_hashesAndMatches() {
+      CipherStrategy cipher = new ExecutorBoundCipherStrategy(new PBKDF2CipherStrategy(), executor);
+
+      String hashed = cipher.encrypt("password123!");
+
+      assertThat(cipher.matches("password123!", hashed)).isTrue();
+      assertThat(cipher.matches("wrong-password", hashed)).isFalse();
+      assertThat(cipher.isReversible()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("포화 테스트")
+  class SaturationTests {
+
+    @Test
+    @DisplayName("[실패] 스레드와 대기열이 가득 차면 즉시 503 거절")
+    void execute_saturated_rejectedFast() throws Exception {
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      CompletableFuture<Boolean> running =
+          CompletableFuture.supplyAsync(
+              () ->
+                  executor.execute(
+                      () -> {
+                        started.countDown();
+                        return await(release);
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<Boolean> queued =
+          CompletableFuture.supplyAsync(() -> executor.execute(() -> true));
+      waitForQueueDepth(1);
+
+      assertThatThrownBy(() -> executor.execute(() -> true))
+          .isInstanceOf(CustomException.class)
+          .satisfies(
+              e ->
+                  assertThat(((CustomException) e).getStatus())
+                      .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+      assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[실패] 제한 시간 안에 끝나지 않으면 503")
+    void execute_timeout_busy() {
+      PasswordHashingExecutor slow =
+          new PasswordHashingExecutor(1, 1, Duration.ofMillis(50), meterRegistry);
+      CountDownLatch never = new CountDownLatch(1);
+      try {
+        assertThatThrownBy(() -> slow.execute(() -> await(never)))
+            .isInstanceOf(CustomException.class);
+      } finally {
+        slow.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("[실패] 대기열에서 제한 시간이 지나면 503 이고, 취소된 작업은 나중에 실행되지 않음")
+    void execute_timeoutWhileQueued_neverRuns() throws Exception {
+      PasswordHashingExecutor slow =
+          new PasswordHashingExecutor(1, 2, Duration.ofMillis(50), meterRegistry);
+      CountDownLatch release = new CountDownLatch(1);
+      AtomicBoolean ran = new AtomicBoolean();
+      try {
+        assertThat(slow.submit(() -> await(release))).isTrue();
+
+        assertThatThrownBy(() -> slow.execute(() -> ran.getAndSet(true)))
+            .isInstanceOf(CustomException.class);
+
+        release.countDown();
+        CountDownLatch drained = new CountDownLatch(1);
+        assertThat(slow.submit(drained::countDown)).isTrue();
+        assertThat(drained.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).isFalse();
+      } finally {
+        slow.shutdown();
+      }
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (executor.queueDepth() < depth && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      assertThat(executor.queueDepth()).isEqualTo(depth);
+    }
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,385 @@
+package com.teambiund.bander.auth_server.util.generator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.util.generator.key.impl.BlockKeyProvider;
+import com.teambiund.bander.auth_server.auth.util.generator.key.impl.Snowflake;
+import com.teambiund.bander.auth_server.auth.util.generator.key.impl.SnowflakeNodeLease;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@DisplayName("Snowflake 테스트")
+class SnowflakeTest {
+
+  private static final long NOW = 1760000000000L;
+
+  @Nested
+  @DisplayName("ID 생성 테스트")
+  class NextIdTests {
+
+    @Test
+    @DisplayName("[성공] 단일 스레드에서 ID 는 단조 증가")
+    void nextId_singleThread_strictlyIncreasing() {
+      Snowflake snowflake = new Snowflake(1);
+
+      long previous = snowflake.nextId();
+      for (int i = 0; i < 100_000; i++) {
+        long id = snowflake.nextId();
+        assertThat(id).isGreaterThan(previous);
+        previous = id;
+      }
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 스레드에서 동시에 생성해도 중복 없음")
+    void nextId_concurrent_unique() throws Exception {
+      Snowflake snowflake = new Snowflake(7);
+      int threads = 8;
+      int perThread = 50_000;
+      Set<Long> ids = ConcurrentHashMap.newKeySet();
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      CountDownLatch start = new CountDownLatch(1);
+      try {
+        for (int t = 0; t < threads; t++) {
+          executor.submit(
+              () -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                  ids.add(snowflake.nextId());
+                }
+                return null;
+              });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("[성공] 노드 ID 비트가 ID 에 포함")
+    void nextId_containsNodeId() {
+      assertThat(Snowflake.nodeIdOf(new Snowflake(0).nextId())).isZero();
+      assertThat(Snowflake.nodeIdOf(new Snowflake(1023).nextId())).isEqualTo(1023);
+    }
+
+    @Test
+    @DisplayName("[성공] 노드 ID 공급자 값이 바뀌면 다음 ID 부터 반영")
+    void nextId_nodeIdSupplierChanged_applied() {
+      AtomicLong nodeId = new AtomicLong(3);
+      Snowflake snowflake = new Snowflake(nodeId::get);
+
+      long before = snowflake.nextId();
+      nodeId.set(4);
+      long after = snowflake.nextId();
+
+      assertThat(Snowflake.nodeIdOf(before)).isEqualTo(3);
+      assertThat(Snowflake.nodeIdOf(after)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("[실패] 범위를 벗어난 노드 ID")
+    void constructor_invalidNodeId_throws() {
+      assertThatThrownBy(() -> new Snowflake(-1)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> new Snowflake(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("시계 테스트")
+  class ClockTests {
+
+    @Test
+    @DisplayName("[성공] 시계가 뒤로 가도 대기 없이 증가하는 ID 발급")
+    void nextId_clockRollback_noBlockingAndIncreasing() {
+      AtomicLong clock = new AtomicLong(NOW);
+      Snowflake snowflake = new Snowflake(() -> 1L, clock::get);
+
+      long beforeRollback = snowflake.nextId();
+      clock.set(NOW - 5_000);
+      long afterRollback = snowflake.nextId();
+
+      assertThat(afterRollback).isGreaterThan(beforeRollback);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 밀리초의 시퀀스를 다 쓰면 다음 밀리초를 빌려 발급")
+    void nextId_sequenceExhausted_borrowsNextMillisecond() {
+      Snowflake snowflake = new Snowflake(() -> 1L, () -> NOW);
+
+      long first = snowflake.nextId();
+      long previous = first;
+      for (int i = 0; i < 4096; i++) {
+        long id = snowflake.nextId();
+        assertThat(id).isGreaterThan(previous);
+        previous = id;
+      }
+
+      // 4096 번째 다음 ID 는 타임스탬프가 1 증가하고 시퀀스가 0 부터 다시 시작
+      assertThat(previous >> 22).isEqualTo((first >> 22) + 1);
+      assertThat(previous & 0xFFF).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 벽시계가 논리 시계를 추월하면 벽시계 기준으로 복귀")
+    void nextId_wallClockCatchesUp_followsWallClock() {
+      AtomicLong clock = new AtomicLong(NOW);
+      Snowflake snowflake = new Snowflake(() -> 1L, clock::get);
+      long first = snowflake.nextId();
+
+      clock.set(NOW + 10);
+      long id = snowflake.nextId();
+
+      assertThat(id >> 22).isEqualTo((first >> 22) + 10);
+      assertThat(id & 0xFFF).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("일괄/블록 발급 테스트")
+  class BlockTests {
+
+    @Test
+    @DisplayName("[성공] 일괄 발급은 연속된 ID 를 한 번에 예약")
+    void generateLongKeys_consecutiveAndAfterPrevious() {
+      Snowflake snowflake = new Snowflake(() -> 1L, () -> NOW);
+      long before = snowflake.nextId();
+
+      long[] ids = snowflake.generateLongKeys(5000);
+      long after = snowflake.nextId();
+
+      assertThat(ids).hasSize(5000);
+      assertThat(ids[0]).isGreaterThan(before);
+      for (int i = 1; i < ids.length; i++) {
+        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+      }
+      assertThat(after).isGreaterThan(ids[ids.length - 1]);
+    }
+
+    @Test
+    @DisplayName("[성공] 문자열 일괄 발급")
+    void generateKeys_strings() {
+      Snowflake snowflake = new Snowflake(1);
+
+      List<String> keys = snowflake.generateKeys(3);
+
+      assertThat(keys).hasSize(3).doesNotHaveDuplicates().allMatch(key -> key.matches("\\d+"));
+      assertThat(snowflake.generateKeys(0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 블록 발급은 여러 스레드에서도 중복 없음")
+    void blockKeyProvider_concurrent_unique() throws Exception {
+      BlockKeyProvider provider =
+          new BlockKeyProvider(new Snowflake(2), 64, Duration.ofSeconds(1));
+      int threads = 8;
+      int perThread = 20_000;
+      Set<Long> ids = ConcurrentHashMap.newKeySet();
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        for (int t = 0; t < threads; t++) {
+          executor.submit(
+              () -> {
+                for (int i = 0; i < perThread; i++) {
+                  ids.add(provider.generateLongKey());
+                }
+              });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("[성공] 블록을 다 쓰기 전에는 공유 생성기를 다시 건드리지 않음")
+    void blockKeyProvider_drainsBlockBeforeReserving() {
+      AtomicLong clock = new AtomicLong(NOW);
+      Snowflake snowflake = new Snowflake(() -> 1L, clock::get);
+      BlockKeyProvider provider = new BlockKeyProvider(snowflake, 10, Duration.ofSeconds(1));
+
+      long first = provider.generateLongKey();
+      long shared = snowflake.nextId(); // 다른 호출자가 블록 뒤를 가져감
+      long[] rest = new long[9];
+      for (int i = 0; i < 9; i++) {
+        rest[i] = provider.generateLongKey();
+      }
+      long nextBlock = provider.generateLongKey();
+
+      assertThat(rest[8]).isEqualTo(first + 9);
+      assertThat(shared).isGreaterThan(rest[8]);
+      assertThat(nextBlock).isGreaterThan(shared);
+    }
+
+    @Test
+    @DisplayName("[성공] 오래된 블록은 버리고 현재 시각으로 새 블록 예약")
+    void blockKeyProvider_staleBlock_discarded() {
+      AtomicLong clock = new AtomicLong(NOW);
+      BlockKeyProvider provider =
+          new BlockKeyProvider(new Snowflake(() -> 1L, clock::get), 100, Duration.ofSeconds(1));
+
+      long first = provider.generateLongKey();
+      clock.addAndGet(5_000);
+      long afterAging = provider.generateLongKey();
+
+      assertThat(afterAging >> 22).isEqualTo((first >> 22) + 5_000);
+    }
+  }
+
+  @Nested
+  @DisplayName("노드 ID 임대 테스트")
+  class NodeLeaseTests {
+
+    private static final String HOST = "auth-server-1";
+    private final long preferred = Math.floorMod(HOST.hashCode(), 1024);
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+      redisTemplate = mock(StringRedisTemplate.class);
+      valueOperations = mock(ValueOperations.class);
+      when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("[성공] 호스트 해시 위치의 노드 ID 가 비어 있으면 그 ID 를 임대")
+    void acquire_preferredFree_leased() {
+      when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+          .thenReturn(true);
+
+      SnowflakeNodeLease lease = new SnowflakeNodeLease(redisTemplate, Duration.ofSeconds(30), HOST);
+
+      assertThat(lease.nodeId()).isEqualTo(preferred);
+      verify(valueOperations)
+          .setIfAbsent(
+              eq("snowflake:node:" + preferred),
+              startsWith(HOST + ":"),
+              eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 임대된 노드 ID 는 건너뛰고 다음 ID 임대")
+    void acquire_preferredTaken_nextLeased() {
+      when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+          .thenReturn(false, true);
+
+      SnowflakeNodeLease lease = new SnowflakeNodeLease(redisTemplate, Duration.ofSeconds(30), HOST);
+
+      assertThat(lease.nodeId()).isEqualTo((preferred + 1) % 1024);
+    }
+
+    @Test
+    @DisplayName("[실패] 비어 있는 노드 ID 가 없으면 기동 실패")
+    void acquire_allTaken_throws() {
+      when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+          .thenReturn(false);
+
+      assertThatThrownBy(
+              () -> new SnowflakeNodeLease(redisTemplate, Duration.ofSeconds(30), HOST))
+          .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 연장에 실패(임대 상실)하면 새 노드 ID 임대")
+    @SuppressWarnings("unchecked")
+    void renew_leaseLost_reacquires() {
+      when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+          .thenReturn(true, false, true);
+      when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+          .thenReturn(0L);
+      SnowflakeNodeLease lease = new SnowflakeNodeLease(redisTemplate, Duration.ofSeconds(30), HOST);
+
+      lease.renew();
+
+      assertThat(lease.nodeId()).isEqualTo((preferred + 1) % 1024);
+    }
+
+    @Test
+    @DisplayName("[성공] 연장에 성공하면 노드 ID 유지")
+    @SuppressWarnings("unchecked")
+    void renew_success_keepsNodeId() {
+      when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+          .thenReturn(true);
+      when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+          .thenReturn(1L);
+      SnowflakeNodeLease lease = new SnowflakeNodeLease(redisTemplate, Duration.ofSeconds(30), HOST);
+
+      lease.renew();
+
+      assertThat(lease.nodeId()).isEqualTo(preferred);
+      verify(redisTemplate)
+          .execute(
+              any(RedisScript.class),
+              eq(List.of("snowflake:node:" + preferred)),
+              startsWith(HOST + ":"),
+              eq("30000"));
+    }
+
+    @Test
+    @DisplayName("[실패] Redis 장애로 TTL - safety-margin 동안 연장하지 못하면 ID 발급 거부, 연장되면 재개")
+    @SuppressWarnings("unchecked")
+    void renew_failedUntilLeaseExpiry_refusesIds() {
+      AtomicLong clock = new AtomicLong(NOW);
+      when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+          .thenReturn(true);
+      when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+          .thenThrow(new RedisConnectionFailureException("down"))
+          .thenReturn(1L);
+      SnowflakeNodeLease lease =
+          new SnowflakeNodeLease(
+              redisTemplate, Duration.ofSeconds(30), Duration.ofSeconds(5), HOST, clock::get);
+      Snowflake snowflake = new Snowflake(lease::nodeId, clock::get);
+
+      clock.addAndGet(10_000);
+      lease.renew();
+      clock.addAndGet(15_000);
+      assertThat(Snowflake.nodeIdOf(snowflake.nextId())).isEqualTo(preferred);
+
+      clock.addAndGet(1);
+      assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+
+      lease.renew();
+      assertThat(Snowflake.nodeIdOf(snowflake.nextId())).isEqualTo(preferred);
+    }
+
+    @Test
+    @DisplayName("[성공] 고정 모드는 Redis 를 사용하지 않음")
+    void fixed_noRedis() {
+      SnowflakeNodeLease lease = SnowflakeNodeLease.fixed(5);
+
+      lease.renew();
+      lease.release();
+
+      assertThat(lease.nodeId()).isEqualTo(5);
+      assertThatThrownBy(() -> SnowflakeNodeLease.fixed(1024))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package com.teambiund.bander.auth_server.util.ratelimit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.exception.RateLimitExceededException;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.ClientInfo;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties.Limit;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties.Policy;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@DisplayName("RateLimiter 테스트")
+class RateLimiterTest {
+  private static final String POLICY = "login";
+  private static final String EMAIL = "user@example.com";
+  private static final ClientInfo CLIENT = new ClientInfo("10.0.0.1");
+
+  private StringRedisTemplate redisTemplate;
+  private RedisScriptingCommands scripting;
+  private SimpleMeterRegistry registry;
+  private final AtomicLong clock = new AtomicLong(1_000_000);
+  private final Deque<Object> redisReplies = new ArrayDeque<>();
+  private final List<byte[][]> evaluated = new ArrayList<>();
+  private RateLimitProperties properties;
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(StringRedisTemplate.class);
+    scripting = mock(RedisScriptingCommands.class);
+    RedisConnection connection = mock(RedisConnection.class);
+    when(connection.scriptingCommands()).thenReturn(scripting);
+    when(scripting.evalSha(anyString(), eq(ReturnType.INTEGER), eq(2), any(byte[][].class)))
+        .thenAnswer(
+            invocation -> {
+              evaluated.add((byte[][]) invocation.getRawArguments()[3]);
+              return null;
+            });
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> {
+              int before = evaluated.size();
+              ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+              Object reply = redisReplies.isEmpty() ? 0L : redisReplies.poll();
+              if (reply instanceof RuntimeException e) {
+                throw e;
+              }
+              List<Object> results = new ArrayList<>();
+              results.add("sha");
+              for (int i = before; i < evaluated.size(); i++) {
+                results.add(reply);
+              }
+              return results;
+            });
+    registry = new SimpleMeterRegistry();
+    properties = new RateLimitProperties();
+    properties.setPolicies(
+        Map.of(
+            POLICY,
+            new Policy(new Limit(100, Duration.ofMinutes(1)), new Limit(3, Duration.ofMinutes(1)))));
+    rateLimiter = new RateLimiter(redisTemplate, properties, registry, clock::get);
+  }
+
+  private double count(String result) {
+    return registry.get("auth.rate_limit").tag("result", result).counter().count();
+  }
+
+  private static String str(byte[] bytes) {
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Nested
+  @DisplayName("판단 테스트")
+  class DecisionTests {
+
+    @Test
+    @DisplayName("[성공] 허용된 시도가 한도에 닿으면 이후는 Redis 호출 없이 로컬에서 거절")
+    @SuppressWarnings("unchecked")
+    void localPreFilter_rejectsWithoutRedis() {
+      for (int i = 0; i < 3; i++) {
+        rateLimiter.acquire(POLICY, EMAIL, CLIENT);
+      }
+
+      assertThatThrownBy(() -> rateLimiter.acquire(POLICY, EMAIL, CLIENT))
+          .isInstanceOf(RateLimitExceededException.class);
+      verify(redisTemplate, times(3)).executePipelined(any(RedisCallback.class));
+      assertThat(count("allowed")).isEqualTo(3);
+      assertThat(count("rejected_local")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 가 거절하면 Retry-After 를 알려주고 그 동안 로컬에서 거절")
+    @SuppressWarnings("unchecked")
+    void redisRejection_blocksLocallyUntilRetryAfter() {
+      redisReplies.add(20_000L);
+
+      assertThatThrownBy(() -> rateLimiter.acquire(POLICY, EMAIL, CLIENT))
+          .isInstanceOfSatisfying(
+              RateLimitExceededException.class,
+              e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(20));
+      clock.addAndGet(19_000);
+      assertThatThrownBy(() -> rateLimiter.acquire(POLICY, EMAIL, CLIENT))
+          .isInstanceOf(RateLimitExceededException.class);
+      verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+
+      clock.addAndGet(1_000);
+      rateLimiter.acquire(POLICY, EMAIL, CLIENT);
+      verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+      assertThat(count("rejected_redis")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 장애 시 로컬 판단만으로 허용")
+    void redisFailure_failsOpen() {
+      redisReplies.add(new RedisConnectionFailureException("down"));
+
+      assertThatCode(() -> rateLimiter.acquire(POLICY, EMAIL, CLIENT)).doesNotThrowAnyException();
+      assertThat(count("redis_error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 직전 window 의 시도는 경과 비율만큼 줄여서 반영 (sliding window)")
+    void slidingWindow_weightsPreviousWindow() {
+      clock.set(60_000 * 10 + 59_000);
+      for (int i = 0; i < 3; i++) {
+        rateLimiter.acquire(POLICY, EMAIL, CLIENT);
+      }
+
+      clock.set(60_000 * 11); // 새 window 시작 - 직전 3회가 그대로 반영
+      assertThatThrownBy(() -> rateLimiter.acquire(POLICY, EMAIL, CLIENT))
+          .isInstanceOf(RateLimitExceededException.class);
+
+      clock.set(60_000 * 11 + 30_000); // 절반 경과 - 3 * 0.5 = 1.5
+      assertThatCode(() -> rateLimiter.acquire(POLICY, EMAIL, CLIENT)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("[성공] 비활성화 또는 값이 없는 기준은 검사하지 않음")
+    @SuppressWarnings("unchecked")
+    void disabledOrMissingDimension_skipped() {
+      rateLimiter.acquire("unknown-policy", EMAIL, CLIENT);
+      rateLimiter.acquire(POLICY, null, new ClientInfo(null));
+      properties.setEnabled(false);
+      rateLimiter.acquire(POLICY, EMAIL, CLIENT);
+
+      verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("Redis 명령 테스트")
+  class RedisCommandTests {
+
+    @Test
+    @DisplayName("[성공] 기준마다 현재/직전 window 키를 같은 hash tag 로 보내고 원래 값은 키에 남기지 않음")
+    void keys_hashTaggedAndHashed() {
+      clock.set(60_000 * 5 + 12_345);
+
+      rateLimiter.acquire(POLICY, EMAIL, CLIENT);
+
+      assertThat(evaluated).hasSize(2); // ip, account
+      verify(scripting).scriptLoad(any(byte[].class));
+      byte[][] account = evaluated.get(1);
+      String current = str(account[0]);
+      String previous = str(account[1]);
+      String tag = current.substring(current.indexOf('{'), current.indexOf('}') + 1);
+      assertThat(current).startsWith("rate:{login:account:").endsWith(":5").doesNotContain(EMAIL);
+      assertThat(previous).isEqualTo("rate:" + tag + ":4");
+      assertThat(str(account[2])).isEqualTo("3");
+      assertThat(str(account[3])).isEqualTo("60000");
+      assertThat(str(account[4])).isEqualTo("12345");
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.teambiund.bander.auth_server.util.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.util.redis.RedisCircuitBreaker;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@DisplayName("RedisCircuitBreaker 테스트")
+class RedisCircuitBreakerTest {
+  private final AtomicLong clock = new AtomicLong(1_000_000);
+  private SimpleMeterRegistry registry;
+  private RedisCircuitBreaker breaker;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    breaker =
+        new RedisCircuitBreaker(
+            "primary", 3, Duration.ofSeconds(10), Duration.ofSeconds(5), registry, clock::get);
+  }
+
+  private void fail(int times) {
+    for (int i = 0; i < times; i++) {
+      breaker.recordFailure(new RedisCommandTimeoutException("timeout"));
+    }
+  }
+
+  private double open() {
+    return registry.get("auth.redis.circuit.open").gauge().value();
+  }
+
+  @Test
+  @DisplayName("[성공] window 안에 장애가 한도에 닿으면 열리고 호출 없이 실패")
+  void opensAfterThreshold() {
+    fail(2);
+    assertThatCode(breaker::acquire).doesNotThrowAnyException();
+
+    fail(1);
+
+    assertThatThrownBy(breaker::acquire).isInstanceOf(RedisConnectionFailureException.class);
+    assertThat(open()).isEqualTo(1);
+    assertThat(registry.get("auth.redis.circuit.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[성공] window 가 지나면 장애 수를 다시 셈")
+  void failuresOutsideWindow_reset() {
+    fail(2);
+    clock.addAndGet(10_000);
+    fail(2);
+
+    assertThatCode(breaker::acquire).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("[성공] 서버가 오류로 응답한 명령은 장애로 세지 않음")
+  void commandErrors_ignored() {
+    for (int i = 0; i < 10; i++) {
+      breaker.recordFailure(new RedisCommandExecutionException("WRONGTYPE"));
+    }
+
+    assertThatCode(breaker::acquire).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("[성공] open-duration 후 half-open - 성공하면 닫히고 실패하면 다시 열림")
+  void halfOpen_successCloses_failureReopens() {
+    fail(3);
+    clock.addAndGet(5_000);
+
+    assertThatCode(breaker::acquire).doesNotThrowAnyException();
+    breaker.recordFailure(new RedisCommandTimeoutException("timeout"));
+    assertThatThrownBy(breaker::acquire).isInstanceOf(RedisConnectionFailureException.class);
+
+    clock.addAndGet(5_000);
+    breaker.acquire();
+    breaker.recordSuccess();
+    fail(2);
+
+    assertThatCode(breaker::acquire).doesNotThrowAnyException();
+    assertThat(open()).isZero();
+  }
+}
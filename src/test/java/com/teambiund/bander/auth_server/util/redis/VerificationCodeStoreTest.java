@@ -0,0 +1,267 @@
+package com.teambiund.bander.auth_server.util.redis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore.VerifyResult;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/** Redis 없이 Lettuce async 명령을 흉내 내어 명령 수(왕복 수)와 결과 해석을 확인 */
+@DisplayName("VerificationCodeStore 테스트")
+class VerificationCodeStoreTest {
+  private static final String KEY = "email:user@example.com";
+
+  private StringRedisTemplate redisTemplate;
+  private RedisConnection connection;
+  private final List<Call> calls = new ArrayList<>();
+  private final Deque<Object> replies = new ArrayDeque<>();
+  private VerificationCodeStore store;
+
+  /** async 명령 한 번 - 이름, 인자(문자열) */
+  private record Call(String command, List<String> keys, List<String> values) {}
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    redisTemplate = mock(StringRedisTemplate.class);
+    connection = mock(RedisConnection.class);
+    RedisClusterAsyncCommands<byte[], byte[]> async =
+        mock(
+            RedisClusterAsyncCommands.class,
+            invocation -> {
+              Object[] args = invocation.getRawArguments();
+              calls.add(
+                  new Call(
+                      invocation.getMethod().getName(),
+                      strings((byte[][]) args[2]),
+                      strings((byte[][]) args[3])));
+              Object reply = replies.poll();
+              return reply instanceof Throwable error
+                  ? TestRedisFuture.failed(error)
+                  : TestRedisFuture.completed(reply);
+            });
+    when(connection.getNativeConnection()).thenReturn(async);
+    when(redisTemplate.execute(any(RedisCallback.class)))
+        .thenAnswer(
+            invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+    store = new VerificationCodeStore(redisTemplate, Duration.ofSeconds(2));
+  }
+
+  private static List<String> strings(byte[][] values) {
+    List<String> result = new ArrayList<>();
+    for (byte[] value : values) {
+      result.add(new String(value, StandardCharsets.UTF_8));
+    }
+    return result;
+  }
+
+  @Nested
+  @DisplayName("단건 명령 테스트")
+  class SingleCommandTests {
+
+    @Test
+    @DisplayName("[성공] 발급은 EVALSHA 한 번으로 처리하고 TTL 을 초 단위로 전달")
+    void issue_singleRoundTrip() {
+      replies.add(1L);
+
+      boolean issued = store.issue(KEY, "123456", Duration.ofSeconds(290));
+
+      assertThat(issued).isTrue();
+      assertThat(calls).hasSize(1);
+      assertThat(calls.get(0).command()).isEqualTo("evalsha");
+      assertThat(calls.get(0).keys()).containsExactly(KEY);
+      assertThat(calls.get(0).values()).containsExactly("123456", "290");
+    }
+
+    @Test
+    @DisplayName("[실패] 이미 발급된 코드가 있으면 false")
+    void issue_existing_false() {
+      replies.add(0L);
+
+      assertThat(store.issue(KEY, "123456", Duration.ofSeconds(290))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 검증 결과 0/1/2/3 을 MISSING/MISMATCH/VERIFIED/EXHAUSTED 로 해석")
+    void verify_resultMapping() {
+      replies.addAll(List.of(0L, 1L, 2L, 3L));
+
+      assertThat(store.verify(KEY, "123456", Duration.ofMinutes(10), 5))
+          .isEqualTo(VerifyResult.MISSING);
+      assertThat(store.verify(KEY, "123456", Duration.ofMinutes(10), 5))
+          .isEqualTo(VerifyResult.MISMATCH);
+      assertThat(store.verify(KEY, "123456", Duration.ofMinutes(10), 5))
+          .isEqualTo(VerifyResult.VERIFIED);
+      assertThat(store.verify(KEY, "123456", Duration.ofMinutes(10), 5))
+          .isEqualTo(VerifyResult.EXHAUSTED);
+      assertThat(calls).hasSize(4);
+      assertThat(calls.get(0).values()).containsExactly("123456", "600", "5");
+    }
+
+    @Test
+    @DisplayName("[성공] 확인 소비는 검증 완료일 때만 삭제 (한 번의 명령)")
+    void consumeConfirmed_singleRoundTrip() {
+      replies.addAll(List.of(1L, 0L));
+
+      assertThat(store.consumeConfirmed(KEY)).isTrue();
+      assertThat(store.consumeConfirmed(KEY)).isFalse();
+      assertThat(calls).extracting(Call::command).containsExactly("evalsha", "evalsha");
+      assertThat(calls.get(0).keys()).containsExactly(KEY);
+    }
+
+    @Test
+    @DisplayName("[성공] 스크립트 캐시가 비어 있으면(NOSCRIPT) 본문으로 다시 실행")
+    void noScript_fallsBackToEval() {
+      replies.add(new RedisNoScriptException("NOSCRIPT No matching script"));
+      replies.add(1L);
+
+      assertThat(store.issue(KEY, "123456", Duration.ofSeconds(290))).isTrue();
+      assertThat(calls).extracting(Call::command).containsExactly("evalsha", "eval");
+      assertThat(calls.get(1).values()).containsExactly("123456", "290");
+    }
+
+    @Test
+    @DisplayName("[실패] 그 밖의 Redis 오류는 호출자에게 그대로 전달")
+    void commandError_propagates() {
+      replies.add(new RedisCommandExecutionException("ERR boom"));
+
+      assertThatThrownBy(() -> store.exists(KEY))
+          .isInstanceOf(RedisCommandExecutionException.class);
+      assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[성공] async 메서드는 기다리지 않고 future 반환")
+    void async_returnsFuture() {
+      replies.add(2L);
+
+      CompletableFuture<VerifyResult> future =
+          store.verifyAsync(KEY, "123456", Duration.ofMinutes(10), 5);
+
+      assertThat(future).isCompletedWithValue(VerifyResult.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("[성공] Lettuce 가 아닌 연결이면 RedisTemplate 스크립트 실행으로 대체")
+    @SuppressWarnings("unchecked")
+    void nonLettuceConnection_usesTemplate() {
+      when(connection.getNativeConnection()).thenReturn(new Object());
+      when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+          .thenReturn(1L);
+
+      assertThat(store.delete(KEY)).isTrue();
+      verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class));
+    }
+  }
+
+  @Nested
+  @DisplayName("파이프라인 테스트")
+  class PipelineTests {
+
+    @Test
+    @DisplayName("[성공] 여러 건 발급은 SCRIPT LOAD 후 EVALSHA 들을 한 파이프라인으로 보냄")
+    @SuppressWarnings("unchecked")
+    void issueAll_pipelined() {
+      RedisConnection pipelineConnection = mock(RedisConnection.class);
+      RedisScriptingCommands scripting = mock(RedisScriptingCommands.class);
+      when(pipelineConnection.scriptingCommands()).thenReturn(scripting);
+      when(redisTemplate.executePipelined(any(RedisCallback.class)))
+          .thenAnswer(
+              invocation -> {
+                ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(pipelineConnection);
+                return List.of("sha", 1L, 0L);
+              });
+      Map<String, String> codes = new LinkedHashMap<>();
+      codes.put("sms:a", "111111");
+      codes.put("sms:b", "222222");
+
+      Map<String, Boolean> issued = store.issueAll(codes, Duration.ofMinutes(5));
+
+      assertThat(issued).containsExactly(Map.entry("sms:a", true), Map.entry("sms:b", false));
+      verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+      InOrder inOrder = inOrder(scripting);
+      inOrder.verify(scripting).scriptLoad(any(byte[].class));
+      inOrder
+          .verify(scripting, times(2))
+          .evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any(byte[][].class));
+      assertThat(calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 건 삭제는 삭제된 수를 합산")
+    @SuppressWarnings("unchecked")
+    void deleteAll_sumsDeleted() {
+      RedisConnection pipelineConnection = mock(RedisConnection.class);
+      when(pipelineConnection.scriptingCommands()).thenReturn(mock(RedisScriptingCommands.class));
+      when(redisTemplate.executePipelined(any(RedisCallback.class)))
+          .thenAnswer(
+              invocation -> {
+                ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(pipelineConnection);
+                return List.of("sha", 1L, 0L, 1L);
+              });
+
+      assertThat(store.deleteAll(List.of("sms:a", "sms:b", "sms:c"))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 빈 입력은 Redis 를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void empty_noCall() {
+      assertThat(store.issueAll(Map.of(), Duration.ofMinutes(5))).isEmpty();
+      verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+  }
+
+  /** 이미 완료된 RedisFuture */
+  private static final class TestRedisFuture<T> extends CompletableFuture<T>
+      implements RedisFuture<T> {
+
+    static <T> TestRedisFuture<T> completed(T value) {
+      TestRedisFuture<T> future = new TestRedisFuture<>();
+      future.complete(value);
+      return future;
+    }
+
+    static <T> TestRedisFuture<T> failed(Throwable error) {
+      TestRedisFuture<T> future = new TestRedisFuture<>();
+      future.completeExceptionally(error);
+      return future;
+    }
+
+    @Override
+    public String getError() {
+      return null;
+    }
+
+    @Override
+    public boolean await(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,495 @@
+package com.teambiund.bander.auth_server.util.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.teambiund.bander.auth_server.auth.enums.Role;
+import com.teambiund.bander.auth_server.auth.util.generator.token.TokenClaims;
+import com.teambiund.bander.auth_server.auth.util.generator.token.impl.JWTTokenUtil;
+import com.teambiund.bander.auth_server.auth.util.generator.token.impl.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("JWTTokenUtil 테스트")
+class JWTTokenUtilTest {
+
+  private static final String SECRET =
+      "test-jwt-secret-key-for-testing-purpose-only-min-256-bits-required";
+
+  private JWTTokenUtil tokenUtil;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    tokenUtil =
+        newTokenUtil(
+            SECRET, new VerifiedTokenCache(true, 1_000, Duration.ofHours(1), meterRegistry));
+  }
+
+  private static JWTTokenUtil newTokenUtil(String secret) {
+    return newTokenUtil(secret, VerifiedTokenCache.disabled());
+  }
+
+  private static JWTTokenUtil newTokenUtil(String secret, VerifiedTokenCache cache) {
+    JWTTokenUtil util = new JWTTokenUtil(cache);
+    ReflectionTestUtils.setField(util, "accessTokenTTL", 60L);
+    ReflectionTestUtils.setField(util, "refreshTokenTTL", 60L * 24);
+    ReflectionTestUtils.setField(util, "jwtSecret", secret);
+    util.init();
+    return util;
+  }
+
+  private static JWTTokenUtil newAsymmetricTokenUtil(
+      String algorithm, String kid, KeyPair pair, String... previousPublicKeys) {
+    JWTTokenUtil util = new JWTTokenUtil(VerifiedTokenCache.disabled());
+    ReflectionTestUtils.setField(util, "accessTokenTTL", 60L);
+    ReflectionTestUtils.setField(util, "refreshTokenTTL", 60L * 24);
+    ReflectionTestUtils.setField(util, "jwtSecret", SECRET);
+    ReflectionTestUtils.setField(util, "algorithm", algorithm);
+    ReflectionTestUtils.setField(util, "keyId", kid);
+    ReflectionTestUtils.setField(util, "privateKey", base64(pair.getPrivate().getEncoded()));
+    ReflectionTestUtils.setField(util, "publicKey", base64(pair.getPublic().getEncoded()));
+    ReflectionTestUtils.setField(util, "previousPublicKeys", previousPublicKeys);
+    util.init();
+    return util;
+  }
+
+  private static KeyPair ecKeyPair() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp256r1"));
+    return generator.generateKeyPair();
+  }
+
+  private static KeyPair ed25519KeyPair() throws Exception {
+    return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+  }
+
+  private static String base64(byte[] bytes) {
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  private static String decodeSegment(String token, int index) {
+    return new String(
+        Base64.getUrlDecoder().decode(token.split("\\.")[index]), StandardCharsets.UTF_8);
+  }
+
+  /** 다운스트림 서비스처럼 JDK 만으로 공개키 검증 */
+  private static boolean verifyWithPublicKey(String jcaAlgorithm, KeyPair pair, String token)
+      throws Exception {
+    int dot = token.lastIndexOf('.');
+    Signature verifier = Signature.getInstance(jcaAlgorithm);
+    verifier.initVerify(pair.getPublic());
+    verifier.update(token.substring(0, dot).getBytes(StandardCharsets.US_ASCII));
+    return verifier.verify(Base64.getUrlDecoder().decode(token.substring(dot + 1)));
+  }
+
+  /** 이전 Map 기반 구현과 동일한 방식(Mac/SecretKeySpec 매번 생성)으로 서명한 토큰 */
+  private static String signLegacy(String headerJson, String payloadJson) throws Exception {
+    Base64.Encoder enc = Base64.getUrlEncoder().withoutPadding();
+    String unsigned =
+        enc.encodeToString(headerJson.getBytes(StandardCharsets.UTF_8))
+            + "."
+            + enc.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    return unsigned
+        + "."
+        + enc.encodeToString(mac.doFinal(unsigned.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Nested
+  @DisplayName("토큰 생성/검증 테스트")
+  class RoundTripTests {
+
+    @Test
+    @DisplayName("[성공] 액세스 토큰 생성 후 검증 및 클레임 추출")
+    void accessToken_roundTrip_success() {
+      String token = tokenUtil.generateAccessToken("228398453472505856", Role.USER, "a1b2");
+
+      assertThat(token.split("\\.")).hasSize(3);
+      assertThat(token).startsWith("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.");
+      assertThat(tokenUtil.isValid(token)).isTrue();
+      assertThat(tokenUtil.extractUserId(token)).isEqualTo("228398453472505856");
+      assertThat(tokenUtil.extractRole(token)).isEqualTo(Role.USER);
+      assertThat(tokenUtil.extractDeviceId(token)).isEqualTo("a1b2");
+      assertThat(tokenUtil.extractExpiration(token)).isBetween(3590L, 3600L);
+    }
+
+    @Test
+    @DisplayName("[성공] 리프레시 토큰은 더 긴 만료 시간을 가짐")
+    void refreshToken_longerExpiration() {
+      String token = tokenUtil.generateRefreshToken("user-1", Role.ADMIN, "dev1");
+
+      assertThat(tokenUtil.isValid(token)).isTrue();
+      assertThat(tokenUtil.extractRole(token)).isEqualTo(Role.ADMIN);
+      assertThat(tokenUtil.extractExpiration(token)).isBetween(86390L, 86400L);
+    }
+
+    @Test
+    @DisplayName("[성공] 특수문자/비ASCII 문자가 포함된 클레임도 그대로 복원")
+    void specialCharacters_roundTrip() {
+      String userId = "us\"er\\아이디😀";
+      String token = tokenUtil.generateAccessToken(userId, null, "d\"1");
+
+      assertThat(tokenUtil.isValid(token)).isTrue();
+      assertThat(tokenUtil.extractUserId(token)).isEqualTo(userId);
+      assertThat(tokenUtil.extractDeviceId(token)).isEqualTo("d\"1");
+      assertThat(tokenUtil.extractRole(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 이전 구현으로 발급된 토큰(헤더/클레임 순서 상이)도 검증")
+    void legacyIssuedToken_stillValid() throws Exception {
+      long exp = Instant.now().getEpochSecond() + 600;
+      String token =
+          signLegacy(
+              "{\"typ\":\"JWT\",\"alg\":\"HS256\"}",
+              "{\"role\":\"USER\",\"exp\":"
+                  + exp
+                  + ",\"sub\":\"user-1\",\"iat\":"
+                  + (exp - 600)
+                  + ",\"deviceId\":\"ab12\"}");
+
+      assertThat(tokenUtil.isValid(token)).isTrue();
+      assertThat(tokenUtil.extractUserId(token)).isEqualTo("user-1");
+      assertThat(tokenUtil.extractDeviceId(token)).isEqualTo("ab12");
+      assertThat(tokenUtil.extractRole(token)).isEqualTo(Role.USER);
+    }
+  }
+
+  @Nested
+  @DisplayName("verify (단일 파싱 클레임) 테스트")
+  class VerifyTests {
+
+    @Test
+    @DisplayName("[성공] 한 번의 검증으로 모든 클레임 반환")
+    void verify_validToken_returnsAllClaims() {
+      String token = tokenUtil.generateRefreshToken("user-1", Role.PLACE_OWNER, "ab12");
+
+      Optional<TokenClaims> claims = tokenUtil.verify(token);
+
+      assertThat(claims).isPresent();
+      assertThat(claims.get().userId()).isEqualTo("user-1");
+      assertThat(claims.get().role()).isEqualTo(Role.PLACE_OWNER);
+      assertThat(claims.get().deviceId()).isEqualTo("ab12");
+      assertThat(claims.get().expiresAt() - claims.get().issuedAt()).isEqualTo(86400L);
+    }
+
+    @Test
+    @DisplayName("[성공] 이전 구현으로 발급된 토큰도 동일한 클레임 반환")
+    void verify_legacyIssuedToken() throws Exception {
+      long exp = Instant.now().getEpochSecond() + 600;
+      String token =
+          signLegacy(
+              "{\"typ\":\"JWT\",\"alg\":\"HS256\"}",
+              "{\"role\":\"GUEST\",\"exp\":" + exp + ",\"deviceId\":null,\"sub\":\"u-9\"}");
+
+      TokenClaims claims = tokenUtil.verify(token).orElseThrow();
+
+      assertThat(claims.userId()).isEqualTo("u-9");
+      assertThat(claims.role()).isEqualTo(Role.GUEST);
+      assertThat(claims.deviceId()).isNull();
+      assertThat(claims.issuedAt()).isZero();
+      assertThat(claims.expiresAt()).isEqualTo(exp);
+    }
+
+    @Test
+    @DisplayName("[실패] 변조/만료/형식 오류 토큰은 빈 Optional")
+    void verify_invalidToken_empty() throws Exception {
+      String token = tokenUtil.generateAccessToken("user-1", Role.USER, "ab12");
+      String expired =
+          signLegacy(
+              "{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+              "{\"sub\":\"user-1\",\"exp\":" + (Instant.now().getEpochSecond() - 31) + "}");
+
+      assertThat(tokenUtil.verify(token + "x")).isEmpty();
+      assertThat(tokenUtil.verify(expired)).isEmpty();
+      assertThat(tokenUtil.verify("a.b.c")).isEmpty();
+      assertThat(tokenUtil.verify(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[실패] 닫히지 않은(잘린) 페이로드나 객체 뒤에 내용이 붙은 페이로드는 서명이 맞아도 빈 Optional")
+    void verify_truncatedPayload_empty() throws Exception {
+      long exp = Instant.now().getEpochSecond() + 600;
+      String header = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+
+      assertThat(tokenUtil.verify(signLegacy(header, "{\"sub\":\"user-1\",\"exp\":" + exp)))
+          .isEmpty();
+      assertThat(tokenUtil.verify(signLegacy(header, "{\"exp\":" + exp + ",\"sub\":\"user-1\"")))
+          .isEmpty();
+      assertThat(
+              tokenUtil.verify(
+                  signLegacy(header, "{\"sub\":\"user-1\",\"exp\":" + exp + "}{\"sub\":\"x\"}")))
+          .isEmpty();
+      assertThat(tokenUtil.verify(signLegacy(header, "{\"sub\":\"user-1\",\"exp\":" + exp + "} ")))
+          .isPresent();
+    }
+  }
+
+  @Nested
+  @DisplayName("검증 결과 캐시 테스트")
+  class VerifiedTokenCacheTests {
+
+    private double cacheGets(String result) {
+      return meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", result)
+          .functionCounter()
+          .count();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 토큰의 반복 검증은 캐시에서 응답")
+    void repeatedVerify_hitsCache() {
+      String token = tokenUtil.generateRefreshToken("user-1", Role.USER, "ab12");
+
+      TokenClaims first = tokenUtil.verify(token).orElseThrow();
+      TokenClaims second = tokenUtil.verify(token).orElseThrow();
+      assertThat(tokenUtil.isValid(token)).isTrue();
+      assertThat(tokenUtil.extractUserId(token)).isEqualTo("user-1");
+
+      assertThat(second).isSameAs(first);
+      assertThat(cacheGets("miss")).isEqualTo(1);
+      assertThat(cacheGets("hit")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[실패] 캐시된 서명에 다른 페이로드를 붙인 토큰은 거부")
+    void cachedSignatureWithOtherPayload_rejected() {
+      String token = tokenUtil.generateAccessToken("user-1", Role.USER, "ab12");
+      String other = tokenUtil.generateAccessToken("admin-1", Role.ADMIN, "ab12");
+      String[] a = token.split("\\.");
+      String[] b = other.split("\\.");
+      assertThat(tokenUtil.isValid(token)).isTrue();
+
+      assertThat(tokenUtil.verify(a[0] + "." + b[1] + "." + a[2])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[실패] 캐시된 토큰과 ASCII 하위 바이트만 같은 토큰은 캐시에서 응답하지 않음")
+    void nonAsciiVariantOfCachedToken_rejected() {
+      String token = tokenUtil.generateAccessToken("user-1", Role.USER, "ab12");
+      assertThat(tokenUtil.isValid(token)).isTrue();
+      char last = token.charAt(token.length() - 1);
+      String variant = token.substring(0, token.length() - 1) + (char) (last + 0x100);
+
+      assertThat(tokenUtil.verify(variant)).isEmpty();
+      assertThat(cacheGets("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 유효하지 않은 토큰은 캐시에 저장하지 않음")
+    void invalidToken_notCached() {
+      for (int i = 0; i < 10; i++) {
+        assertThat(tokenUtil.isValid("eyJ.eyJ.invalid-" + i)).isFalse();
+      }
+
+      assertThat(meterRegistry.get("cache.size").tag("cache", "verifiedTokens").gauge().value())
+          .isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 만료된 토큰은 캐시되지 않고 거부")
+    void expiredToken_notServedFromCache() throws Exception {
+      String expired =
+          signLegacy(
+              "{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+              "{\"sub\":\"user-1\",\"exp\":" + (Instant.now().getEpochSecond() - 31) + "}");
+
+      assertThat(tokenUtil.isValid(expired)).isFalse();
+      assertThat(tokenUtil.isValid(expired)).isFalse();
+      assertThat(cacheGets("hit")).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("비대칭 서명 모드 테스트")
+  class AsymmetricSigningTests {
+
+    @Test
+    @DisplayName("[성공] ES256 토큰은 kid 헤더를 갖고 공개키만으로 검증 가능")
+    void es256_verifiableWithPublicKey() throws Exception {
+      KeyPair pair = ecKeyPair();
+      JWTTokenUtil es256 = newAsymmetricTokenUtil("ES256", "2025-01", pair);
+
+      String token = es256.generateAccessToken("user-1", Role.USER, "ab12");
+
+      assertThat(decodeSegment(token, 0))
+          .isEqualTo("{\"alg\":\"ES256\",\"typ\":\"JWT\",\"kid\":\"2025-01\"}");
+      assertThat(verifyWithPublicKey("SHA256withECDSAinP1363Format", pair, token)).isTrue();
+      TokenClaims claims = es256.verify(token).orElseThrow();
+      assertThat(claims.userId()).isEqualTo("user-1");
+      assertThat(claims.role()).isEqualTo(Role.USER);
+      assertThat(claims.deviceId()).isEqualTo("ab12");
+    }
+
+    @Test
+    @DisplayName("[성공] EdDSA(Ed25519) 토큰 발급/검증")
+    void eddsa_roundTrip() throws Exception {
+      KeyPair pair = ed25519KeyPair();
+      JWTTokenUtil eddsa = newAsymmetricTokenUtil("EdDSA", "ed-1", pair);
+
+      String token = eddsa.generateRefreshToken("user-1", Role.ADMIN, "ab12");
+
+      assertThat(verifyWithPublicKey("Ed25519", pair, token)).isTrue();
+      assertThat(eddsa.isValid(token)).isTrue();
+      assertThat(eddsa.extractRole(token)).isEqualTo(Role.ADMIN);
+      int i = token.lastIndexOf('.') + 5;
+      String tampered =
+          token.substring(0, i) + (token.charAt(i) == 'A' ? 'B' : 'A') + token.substring(i + 1);
+      assertThat(eddsa.isValid(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] JWKS 에 공개키만 노출되고 HS256 모드에서는 빈 목록")
+    void publicJwks_exposesOnlyPublicKeys() throws Exception {
+      JWTTokenUtil es256 = newAsymmetricTokenUtil("ES256", "2025-01", ecKeyPair());
+      JWTTokenUtil eddsa = newAsymmetricTokenUtil("EdDSA", "ed-1", ed25519KeyPair());
+
+      assertThat(es256.publicJwks())
+          .contains("\"kty\":\"EC\"", "\"crv\":\"P-256\"", "\"kid\":\"2025-01\"", "\"y\":")
+          .doesNotContain("\"d\":", "\"k\":");
+      assertThat(eddsa.publicJwks())
+          .contains("\"kty\":\"OKP\"", "\"crv\":\"Ed25519\"", "\"alg\":\"EdDSA\"");
+      assertThat(tokenUtil.publicJwks()).isEqualTo("{\"keys\":[]}");
+    }
+
+    @Test
+    @DisplayName("[성공] 키 교체 후에도 이전 키로 발급된 토큰은 이전 공개키로 검증")
+    void rotatedKey_stillVerifies() throws Exception {
+      KeyPair oldPair = ecKeyPair();
+      String oldToken =
+          newAsymmetricTokenUtil("ES256", "2024-12", oldPair)
+              .generateAccessToken("user-1", Role.USER, "ab12");
+
+      JWTTokenUtil rotated =
+          newAsymmetricTokenUtil(
+              "EdDSA",
+              "2025-01",
+              ed25519KeyPair(),
+              "2024-12=" + base64(oldPair.getPublic().getEncoded()));
+      JWTTokenUtil withoutOldKey = newAsymmetricTokenUtil("EdDSA", "2025-01", ed25519KeyPair());
+
+      assertThat(rotated.isValid(oldToken)).isTrue();
+      assertThat(rotated.publicJwks()).contains("\"kid\":\"2024-12\"", "\"kid\":\"2025-01\"");
+      assertThat(withoutOldKey.isValid(oldToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 같은 kid 라도 다른 키로 서명된 토큰은 거부")
+    void sameKidOtherKey_invalid() throws Exception {
+      JWTTokenUtil es256 = newAsymmetricTokenUtil("ES256", "2025-01", ecKeyPair());
+      String forged =
+          newAsymmetricTokenUtil("ES256", "2025-01", ecKeyPair())
+              .generateAccessToken("admin-1", Role.ADMIN, "ab12");
+
+      assertThat(es256.isValid(forged)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[성공] 전환 이전 HS256 토큰은 accept-hs256 설정에 따라 허용")
+    void legacyHs256Token_acceptedOnlyWhenEnabled() throws Exception {
+      String hs256Token = tokenUtil.generateAccessToken("user-1", Role.USER, "ab12");
+      KeyPair pair = ecKeyPair();
+
+      JWTTokenUtil accepting = newAsymmetricTokenUtil("ES256", "2025-01", pair);
+      assertThat(accepting.isValid(hs256Token)).isTrue();
+
+      JWTTokenUtil strict = new JWTTokenUtil(VerifiedTokenCache.disabled());
+      ReflectionTestUtils.setField(strict, "jwtSecret", SECRET);
+      ReflectionTestUtils.setField(strict, "algorithm", "ES256");
+      ReflectionTestUtils.setField(strict, "privateKey", base64(pair.getPrivate().getEncoded()));
+      ReflectionTestUtils.setField(strict, "publicKey", base64(pair.getPublic().getEncoded()));
+      ReflectionTestUtils.setField(strict, "acceptHs256", false);
+      strict.init();
+      assertThat(strict.isValid(hs256Token)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("유효하지 않은 토큰 테스트")
+  class InvalidTokenTests {
+
+    @Test
+    @DisplayName("[실패] 서명이 변조된 토큰")
+    void tamperedSignature_invalid() {
+      String token = tokenUtil.generateAccessToken("user-1", Role.USER, "ab12");
+      char last = token.charAt(token.length() - 1);
+      String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+      assertThat(tokenUtil.isValid(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 페이로드가 변조된 토큰")
+    void tamperedPayload_invalid() {
+      String token = tokenUtil.generateAccessToken("user-1", Role.USER, "ab12");
+      String other = tokenUtil.generateAccessToken("admin-1", Role.ADMIN, "ab12");
+      String[] a = token.split("\\.");
+      String[] b = other.split("\\.");
+
+      assertThat(tokenUtil.isValid(a[0] + "." + b[1] + "." + a[2])).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 다른 시크릿으로 서명된 토큰")
+    void otherSecret_invalid() {
+      String token =
+          newTokenUtil("another-secret-key-for-testing-purpose-only")
+              .generateAccessToken("user-1", Role.USER, "ab12");
+
+      assertThat(tokenUtil.isValid(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("[실패] 만료 시간(허용 오차 30초 포함)이 지난 토큰")
+    void expiredToken_invalid() throws Exception {
+      long exp = Instant.now().getEpochSecond() - 31;
+      String token =
+          signLegacy(
+              "{\"alg\":\"HS256\",\"typ\":\"JWT\"}",
+              "{\"sub\":\"user-1\",\"exp\":" + exp + "}");
+
+      assertThat(tokenUtil.isValid(token)).isFalse();
+      assertThat(tokenUtil.extractUserId(token)).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("[실패] exp 클레임이 없는 토큰")
+    void missingExp_invalid() throws Exception {
+      String token = signLegacy("{\"alg\":\"HS256\",\"typ\":\"JWT\"}", "{\"sub\":\"user-1\"}");
+
+      assertThat(tokenUtil.isValid(token)).isFalse();
+      assertThat(tokenUtil.extractExpiration(token)).isZero();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"abc", "a.b", "a.b.c.d", "###.$$$.%%%", "토큰.토큰.토큰"})
+    @DisplayName("[실패] 형식이 잘못된 토큰은 예외 없이 false/null 반환")
+    void malformedToken_noException(String token) {
+      assertThat(tokenUtil.isValid(token)).isFalse();
+      assertThat(tokenUtil.extractUserId(token)).isNull();
+      assertThat(tokenUtil.extractRole(token)).isNull();
+      assertThat(tokenUtil.extractDeviceId(token)).isNull();
+      assertThat(tokenUtil.extractExpiration(token)).isZero();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.teambiund.bander.auth_server.util.verification;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.teambiund.bander.auth_server.auth.exception.CustomException;
+import com.teambiund.bander.auth_server.auth.exception.ErrorCode.AuthErrorCode;
+import com.teambiund.bander.auth_server.auth.exception.RateLimitExceededException;
+import com.teambiund.bander.auth_server.auth.util.generator.generate_code.VerificationCodeGenerator;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimitProperties;
+import com.teambiund.bander.auth_server.auth.util.ratelimit.RateLimiter;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore;
+import com.teambiund.bander.auth_server.auth.util.redis.VerificationCodeStore.VerifyResult;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationChannel;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationCodeService;
+import com.teambiund.bander.auth_server.auth.util.verification.VerificationProperties;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VerificationCodeService 테스트")
+class VerificationCodeServiceTest {
+  private static final String EMAIL = "user@example.com";
+
+  private VerificationCodeStore codeStore;
+  private RateLimiter rateLimiter;
+  private VerificationCodeService service;
+
+  @BeforeEach
+  void setUp() {
+    codeStore = mock(VerificationCodeStore.class);
+    rateLimiter = mock(RateLimiter.class);
+    service =
+        new VerificationCodeService(
+            codeStore, new VerificationCodeGenerator(), rateLimiter, new VerificationProperties());
+  }
+
+  @Nested
+  @DisplayName("코드 생성 테스트")
+  class GeneratorTests {
+
+    @Test
+    @DisplayName("[성공] 요청한 길이의 숫자만 생성하고 앞자리 0 도 유지")
+    void next_fixedLengthDigits() {
+      VerificationCodeGenerator generator = new VerificationCodeGenerator();
+      Set<Character> firstDigits = new HashSet<>();
+
+      for (int i = 0; i < 2_000; i++) {
+        String code = generator.next(6);
+        assertThat(code).hasSize(6).containsOnlyDigits();
+        firstDigits.add(code.charAt(0));
+      }
+
+      assertThat(firstDigits).contains('0');
+      assertThat(generator.next(18)).hasSize(18).containsOnlyDigits();
+    }
+
+    @Test
+    @DisplayName("[실패] 지원하지 않는 길이는 IllegalArgumentException")
+    void next_invalidLength_throws() {
+      VerificationCodeGenerator generator = new VerificationCodeGenerator();
+
+      assertThatThrownBy(() -> generator.next(0)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> generator.next(19)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("발급/확인 테스트")
+  class ChallengeTests {
+
+    @Test
+    @DisplayName("[성공] 채널 정책의 길이/TTL 로 채널별 키에 발급")
+    void issue_usesChannelPolicy() {
+      when(codeStore.issue(anyString(), anyString(), any())).thenReturn(true);
+
+      String code = service.issue(VerificationChannel.EMAIL, EMAIL);
+
+      assertThat(code).hasSize(6).containsOnlyDigits();
+      verify(codeStore).issue("code:email:" + EMAIL, code, Duration.ofSeconds(290));
+    }
+
+    @Test
+    @DisplayName("[실패] 진행 중인 challenge 가 있으면 ALREADY_GENERATE_CODE")
+    void issue_existing_throws() {
+      when(codeStore.issue(anyString(), anyString(), any())).thenReturn(false);
+
+      assertThatThrownBy(() -> service.issue(VerificationChannel.SMS, "user-1:01012345678"))
+          .isInstanceOf(CustomException.class)
+          .extracting("errorcode")
+          .isEqualTo(AuthErrorCode.ALREADY_GENERATE_CODE);
+    }
+
+    @Test
+    @DisplayName("[성공] 확인은 시도 제한을 먼저 거치고 채널의 확인 유지 시간/시도 횟수를 전달")
+    void verify_rateLimitedThenStore() {
+      when(codeStore.verify(anyString(), anyString(), any(), anyInt()))
+          .thenReturn(VerifyResult.VERIFIED);
+
+      VerifyResult result = service.verify(VerificationChannel.EMAIL, EMAIL, "123456");
+
+      assertThat(result).isEqualTo(VerifyResult.VERIFIED);
+      var inOrder = inOrder(rateLimiter, codeStore);
+      inOrder.verify(rateLimiter).acquire(RateLimitProperties.EMAIL_VERIFY, EMAIL);
+      inOrder.verify(codeStore).verify("code:email:" + EMAIL, "123456", Duration.ofMinutes(30), 5);
+    }
+
+    @Test
+    @DisplayName("[실패] 시도 제한에 걸리면 Redis 를 조회하지 않음")
+    void verify_rateLimited_noStoreCall() {
+      doThrow(new RateLimitExceededException(30))
+          .when(rateLimiter)
+          .acquire(anyString(), anyString());
+
+      assertThatThrownBy(() -> service.verify(VerificationChannel.SMS, "user-1:010", "123456"))
+          .isInstanceOf(RateLimitExceededException.class);
+      verifyNoInteractions(codeStore);
+    }
+
+    @Test
+    @DisplayName("[실패] 정책이 없는 채널은 IllegalStateException")
+    void unknownChannel_throws() {
+      VerificationChannel push = new VerificationChannel("push", "push-verify");
+
+      assertThatThrownBy(() -> service.issue(push, "user-1"))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+}
@@ -17,13 +17,15 @@ CREATE TABLE IF NOT EXISTS auth
     created_at   TIMESTAMP    NULL,
     deleted_at   TIMESTAMP    NULL,
     email        VARCHAR(255) NOT NULL,
+    email_hash   CHAR(43)     NULL,
     password     VARCHAR(255) NULL,
     provider     VARCHAR(20)  NOT NULL,
     phone_number VARCHAR(255) NULL,
     status       VARCHAR(20)  NOT NULL,
     updated_at   TIMESTAMP    NULL,
     version      INT          NULL,
-    user_role    VARCHAR(20)  NOT NULL
+    user_role    VARCHAR(20)  NOT NULL,
+    CONSTRAINT uk_auth_email_hash UNIQUE (email_hash)
 );
 
 -- auth 생성 후 history 생성 (컬럼 타입/길이 일치)
@@ -80,6 +82,56 @@ CREATE TABLE IF NOT EXISTS login_status
     CONSTRAINT fk_login_status_user FOREIGN KEY (user_id) REFERENCES auth (id)
 );
 
+-- 배치 마이그레이션 진행 상황 (이름별 keyset 체크포인트)
+CREATE TABLE IF NOT EXISTS migration_checkpoint
+(
+    name          VARCHAR(64)  NOT NULL PRIMARY KEY,
+    last_key      VARCHAR(255) NOT NULL,
+    migrated      BIGINT       NOT NULL DEFAULT 0,
+    skipped       BIGINT       NOT NULL DEFAULT 0,
+    pass_migrated BIGINT       NOT NULL DEFAULT 0,
+    completed_at  TIMESTAMP    NULL,
+    updated_at    TIMESTAMP    NULL
+);
+
+-- 이벤트 outbox
+CREATE TABLE IF NOT EXISTS event_outbox
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    topic        VARCHAR(255) NOT NULL,
+    message_key  VARCHAR(255) NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    published_at TIMESTAMP    NULL,
+    attempts     INT          NOT NULL DEFAULT 0
+);
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending ON event_outbox (published_at, id);
+
+-- 리프레시 토큰 세션 스냅샷
+CREATE TABLE IF NOT EXISTS refresh_token_session
+(
+    user_id    VARCHAR(255) NOT NULL,
+    device_id  VARCHAR(64)  NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL,
+    issued_at  BIGINT       NOT NULL,
+    expires_at BIGINT       NOT NULL,
+    updated_at TIMESTAMP    NOT NULL,
+    PRIMARY KEY (user_id, device_id)
+);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_session_expires ON refresh_token_session (expires_at);
+
+-- 리프레시 토큰 폐기 기록
+CREATE TABLE IF NOT EXISTS refresh_token_revocation
+(
+    user_id    VARCHAR(255) NOT NULL,
+    device_id  VARCHAR(64)  NOT NULL,
+    revoked_at BIGINT       NOT NULL,
+    expires_at BIGINT       NOT NULL,
+    PRIMARY KEY (user_id, device_id)
+);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_revocation_expires ON refresh_token_revocation (expires_at);
+
 -- auth.shedlock definition (must be preserved)
 CREATE TABLE IF NOT EXISTS shedlock
 (